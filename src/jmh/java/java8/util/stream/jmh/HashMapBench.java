@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream.jmh;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java8.util.stream.Collectors;
+import java8.util.stream.Stream;
+import java8.util.stream.StreamSupport;
+
+/**
+ * Benchmarks {@code ReferencePipeline} operations over the entry set of a
+ * {@code HashMap} against their {@code java.util.stream} equivalents.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2, jvmArgsAppend = { "-Xms4g", "-Xmx12g" })
+@State(Scope.Benchmark)
+public class HashMapBench {
+
+    /** number of distinct keys for groupingBy() */
+    private static final int KEYS = 1 << 10;
+
+    @Param({ "10", "1000", "100000", "10000000", "100000000" })
+    public int size;
+
+    @Param({ "false", "true" })
+    public boolean parallel;
+
+    private Map<Integer, Integer> map;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        map = new HashMap<>(Math.max((int) (size / .75f) + 1, 16));
+        for (int i = 0; i < size; ++i) {
+            map.put(i, size - i);
+        }
+    }
+
+    private Stream<Map.Entry<Integer, Integer>> j8() {
+        return parallel ? StreamSupport.parallelStream(map.entrySet()) : StreamSupport.stream(map.entrySet());
+    }
+
+    private java.util.stream.Stream<Map.Entry<Integer, Integer>> jdk() {
+        return parallel ? map.entrySet().parallelStream() : map.entrySet().stream();
+    }
+
+    @Benchmark
+    public List<Integer> mapFilterCollect_j8() {
+        return j8().filter(e -> (e.getKey() & 1) == 0).map(Map.Entry::getValue).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> mapFilterCollect_jdk() {
+        return jdk().filter(e -> (e.getKey() & 1) == 0).map(Map.Entry::getValue)
+                .collect(java.util.stream.Collectors.toList());
+    }
+
+    @Benchmark
+    public long sum_j8() {
+        return j8().mapToLong(Map.Entry::getValue).sum();
+    }
+
+    @Benchmark
+    public long sum_jdk() {
+        return jdk().mapToLong(Map.Entry::getValue).sum();
+    }
+
+    @Benchmark
+    public Map<Integer, Long> groupingBy_j8() {
+        return j8().collect(Collectors.groupingBy(e -> e.getValue() & (KEYS - 1), Collectors.counting()));
+    }
+
+    @Benchmark
+    public Map<Integer, Long> groupingBy_jdk() {
+        return jdk().collect(java.util.stream.Collectors.groupingBy(e -> e.getValue() & (KEYS - 1),
+                java.util.stream.Collectors.counting()));
+    }
+}
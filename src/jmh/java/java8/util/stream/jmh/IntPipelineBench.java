@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream.jmh;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java8.util.J8Arrays;
+import java8.util.stream.Collectors;
+import java8.util.stream.IntStream;
+import java8.util.stream.IntStreams;
+
+/**
+ * Benchmarks {@code IntPipeline} operations over {@code IntStreams.range}
+ * and {@code int[]} sources against their {@code java.util.stream}
+ * equivalents.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2, jvmArgsAppend = { "-Xms4g", "-Xmx8g" })
+@State(Scope.Benchmark)
+public class IntPipelineBench {
+
+    /** number of distinct keys for distinct() and groupingBy() */
+    private static final int KEYS = 1 << 16;
+
+    @Param({ "10", "1000", "100000", "10000000", "100000000" })
+    public int size;
+
+    @Param({ "range", "array" })
+    public String source;
+
+    @Param({ "false", "true" })
+    public boolean parallel;
+
+    private int[] array;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // random values so that sorted() has work to do
+        array = new SplittableRandom(42L).ints(size).toArray();
+    }
+
+    private IntStream j8() {
+        IntStream s = "array".equals(source) ? J8Arrays.stream(array) : IntStreams.range(0, size);
+        return parallel ? s.parallel() : s;
+    }
+
+    private java.util.stream.IntStream jdk() {
+        java.util.stream.IntStream s = "array".equals(source) ? java.util.Arrays.stream(array)
+                : java.util.stream.IntStream.range(0, size);
+        return parallel ? s.parallel() : s;
+    }
+
+    @Benchmark
+    public long sum_j8() {
+        return j8().asLongStream().sum();
+    }
+
+    @Benchmark
+    public long sum_jdk() {
+        return jdk().asLongStream().sum();
+    }
+
+    @Benchmark
+    public int[] mapFilterCollect_j8() {
+        return j8().map(i -> i * 3).filter(i -> (i & 1) == 0).toArray();
+    }
+
+    @Benchmark
+    public int[] mapFilterCollect_jdk() {
+        return jdk().map(i -> i * 3).filter(i -> (i & 1) == 0).toArray();
+    }
+
+    @Benchmark
+    public int[] sorted_j8() {
+        return j8().sorted().toArray();
+    }
+
+    @Benchmark
+    public int[] sorted_jdk() {
+        return jdk().sorted().toArray();
+    }
+
+    @Benchmark
+    public long distinct_j8() {
+        return j8().map(i -> i & (KEYS - 1)).distinct().count();
+    }
+
+    @Benchmark
+    public long distinct_jdk() {
+        return jdk().map(i -> i & (KEYS - 1)).distinct().count();
+    }
+
+    @Benchmark
+    public long flatMap_j8() {
+        return j8().flatMap(i -> IntStreams.of(i, -i)).count();
+    }
+
+    @Benchmark
+    public long flatMap_jdk() {
+        return jdk().flatMap(i -> java.util.stream.IntStream.of(i, -i)).count();
+    }
+
+    @Benchmark
+    public int[] limit_j8() {
+        return j8().filter(i -> (i & 1) == 0).limit(size >>> 2).toArray();
+    }
+
+    @Benchmark
+    public int[] limit_jdk() {
+        return jdk().filter(i -> (i & 1) == 0).limit(size >>> 2).toArray();
+    }
+
+    @Benchmark
+    public List<Integer> boxedCollect_j8() {
+        return j8().boxed().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> boxedCollect_jdk() {
+        return jdk().boxed().collect(java.util.stream.Collectors.toList());
+    }
+
+    @Benchmark
+    public Map<Integer, Long> groupingBy_j8() {
+        return j8().boxed().collect(Collectors.groupingBy(i -> i & (KEYS - 1), Collectors.counting()));
+    }
+
+    @Benchmark
+    public Map<Integer, Long> groupingBy_jdk() {
+        return jdk().boxed().collect(java.util.stream.Collectors.groupingBy(i -> i & (KEYS - 1),
+                java.util.stream.Collectors.counting()));
+    }
+}
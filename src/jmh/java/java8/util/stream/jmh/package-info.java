@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+/**
+ * JMH benchmarks that compare the {@code java8.util.stream} pipeline with
+ * the native {@code java.util.stream} implementation.
+ *
+ * <p>Each benchmark method comes in two flavors that only differ in their
+ * suffix: {@code _j8} runs the streamsupport pipeline and {@code _jdk} runs
+ * the equivalent {@code java.util.stream} pipeline over the very same source
+ * data. All benchmarks are parameterized by {@code size} (the number of
+ * source elements, 10 to 10<sup>8</sup>) and by {@code parallel}, so that
+ * both the fixed cost of setting up a pipeline and the per-element cost
+ * become visible.
+ *
+ * <p>Build the core streamsupport.jar first, then build and run the
+ * benchmarks from the command line:
+ * <pre>{@code
+ *     mvn install
+ *     mvn -f src/jmh/pom.xml package
+ *     java -jar src/jmh/target/benchmarks.jar
+ * }</pre>
+ * A subset can be selected by the usual JMH options, e.g.
+ * <pre>{@code
+ *     java -jar src/jmh/target/benchmarks.jar "IntPipelineBench.sum" -p size=10,100000 -p parallel=false
+ * }</pre>
+ * The boxed sources for the largest sizes need a large heap; the default
+ * {@code -Xmx} of the forked JVMs can be overridden with {@code -jvmArgs}.
+ */
+package java8.util.stream.jmh;
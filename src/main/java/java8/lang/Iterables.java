@@ -133,8 +133,9 @@ public final class Iterables {
      * inherits the <em>fail-fast</em> properties of the iterable's iterator.
      * The spliterator returned for {@code non-Collection} sources has poor
      * splitting capabilities, is unsized, and does not report any spliterator
-     * characteristics.  Implementing classes could nearly always provide
-     * a better implementation.
+     * characteristics.  It splits off batches of elements whose sizes are
+     * determined by {@link Spliterators.BatchPolicy#ADAPTIVE}.  Implementing
+     * classes could nearly always provide a better implementation.
      *
      * @param <T> the type of elements of the Iterable.
      * @param it the Iterable for which the Spliterator should be created. 
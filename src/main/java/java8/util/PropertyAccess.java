@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+
+/**
+ * Reads the system properties that configure the implementation, for the
+ * classes of all packages of the library.  Not part of the public API.
+ */
+public final class PropertyAccess {
+
+    // Suppresses default constructor, ensuring non-instantiability.
+    private PropertyAccess() {}
+
+    /**
+     * Reads the boolean system property {@code prop}, returning
+     * {@code defVal} if the property isn't set or can't be read.
+     *
+     * @param prop the name of the system property
+     * @param defVal the default value
+     * @return the value of the property or {@code defVal}
+     */
+    public static boolean getBooleanPropVal(String prop, boolean defVal) {
+        return AccessController.doPrivileged(new PrivilegedAction<Boolean>() {
+            @Override
+            public Boolean run() {
+                boolean val = defVal;
+                try {
+                    String s = System.getProperty(prop, Boolean.toString(defVal));
+                    val = Boolean.parseBoolean(s.trim());
+                } catch (IllegalArgumentException ignore) {
+                } catch (NullPointerException ignore) {
+                }
+                return val;
+            }
+        });
+    }
+
+    /**
+     * Reads the int system property {@code prop}, returning {@code defVal}
+     * if the property isn't set or can't be parsed.
+     *
+     * @param prop the name of the system property
+     * @param defVal the default value
+     * @return the value of the property or {@code defVal}
+     */
+    public static int getIntPropVal(String prop, int defVal) {
+        return AccessController.doPrivileged(new PrivilegedAction<Integer>() {
+            @Override
+            public Integer run() {
+                int val = defVal;
+                try {
+                    String s = System.getProperty(prop);
+                    if (s != null) {
+                        val = Integer.parseInt(s.trim());
+                    }
+                } catch (IllegalArgumentException ignore) {
+                } catch (SecurityException ignore) {
+                }
+                return val;
+            }
+        });
+    }
+}
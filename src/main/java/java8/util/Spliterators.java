@@ -25,8 +25,9 @@
 package java8.util;
 
 import java.lang.reflect.Method;
-import java.security.AccessController;
-import java.security.PrivilegedAction;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
 import java.util.AbstractList;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -80,12 +81,12 @@ public final class Spliterators {
     private static final String RNDACC_SPLITER_ENABLED_P = Spliterators.class.getName() + ".randomaccess.spliterator.enabled";
 
     // defaults to true
-    static final boolean NATIVE_SPECIALIZATION = getBooleanPropVal(NATIVE_OPT_ENABLED_P, true);
+    static final boolean NATIVE_SPECIALIZATION = PropertyAccess.getBooleanPropVal(NATIVE_OPT_ENABLED_P, true);
     // defaults to true
-    static final boolean DELEGATION_ENABLED = getBooleanPropVal(DELEGATION_ENABLED_P, true);
+    static final boolean DELEGATION_ENABLED = PropertyAccess.getBooleanPropVal(DELEGATION_ENABLED_P, true);
 
     // introduced in 1.4.3 - just in case something gets wrong (defaults to true)
-    private static final boolean ALLOW_RNDACC_SPLITER_OPT = getBooleanPropVal(RNDACC_SPLITER_ENABLED_P, true);
+    private static final boolean ALLOW_RNDACC_SPLITER_OPT = PropertyAccess.getBooleanPropVal(RNDACC_SPLITER_ENABLED_P, true);
     // is this RoboVM? (defaults to false)
     private static final boolean IS_ROBOVM = isRoboVm();
 
@@ -826,6 +827,99 @@ public final class Spliterators {
         return new DoubleArraySpliterator(array, fromIndex, toIndex, additionalCharacteristics);
     }
 
+    /**
+     * Creates a {@code Spliterator.OfInt} covering the remaining elements of a
+     * given {@code IntBuffer}, that is the elements between its position and
+     * its limit, using a customized set of spliterator characteristics.
+     *
+     * <p>The elements are read with the absolute {@link IntBuffer#get(int)}
+     * method, in place; neither creating nor traversing the spliterator
+     * changes the position of the buffer.  The buffer may be a direct buffer,
+     * or a view of a {@code ByteBuffer} such as a
+     * {@link java.nio.MappedByteBuffer}, created by
+     * {@link java.nio.ByteBuffer#asIntBuffer()}, in which case the elements are
+     * read from memory outside of the heap without being copied.
+     *
+     * <p>The returned spliterator always reports the characteristics
+     * {@code SIZED} and {@code SUBSIZED}, and splits by index.  The caller may
+     * provide additional characteristics for the spliterator to report; it is
+     * common to additionally specify {@code IMMUTABLE} and {@code ORDERED}.
+     *
+     * @param buffer The buffer, assumed to be unmodified during use
+     * @param additionalCharacteristics Additional spliterator characteristics
+     *        of this spliterator's source or elements beyond {@code SIZED} and
+     *        {@code SUBSIZED} which are are always reported
+     * @return A spliterator for the remaining elements of a buffer
+     * @throws NullPointerException if the given buffer is {@code null}
+     */
+    public static Spliterator.OfInt spliterator(IntBuffer buffer,
+                                                int additionalCharacteristics) {
+        return new BufferSpliterators.IntBufferSpliterator(buffer, buffer.position(), buffer.limit(),
+                                                           additionalCharacteristics);
+    }
+
+    /**
+     * Creates a {@code Spliterator.OfLong} covering the remaining elements of a
+     * given {@code LongBuffer}, that is the elements between its position and
+     * its limit, using a customized set of spliterator characteristics.
+     *
+     * <p>The elements are read with the absolute {@link LongBuffer#get(int)}
+     * method, in place; neither creating nor traversing the spliterator
+     * changes the position of the buffer.  The buffer may be a direct buffer,
+     * or a view of a {@code ByteBuffer} such as a
+     * {@link java.nio.MappedByteBuffer}, created by
+     * {@link java.nio.ByteBuffer#asLongBuffer()}, in which case the elements are
+     * read from memory outside of the heap without being copied.
+     *
+     * <p>The returned spliterator always reports the characteristics
+     * {@code SIZED} and {@code SUBSIZED}, and splits by index.  The caller may
+     * provide additional characteristics for the spliterator to report; it is
+     * common to additionally specify {@code IMMUTABLE} and {@code ORDERED}.
+     *
+     * @param buffer The buffer, assumed to be unmodified during use
+     * @param additionalCharacteristics Additional spliterator characteristics
+     *        of this spliterator's source or elements beyond {@code SIZED} and
+     *        {@code SUBSIZED} which are are always reported
+     * @return A spliterator for the remaining elements of a buffer
+     * @throws NullPointerException if the given buffer is {@code null}
+     */
+    public static Spliterator.OfLong spliterator(LongBuffer buffer,
+                                                 int additionalCharacteristics) {
+        return new BufferSpliterators.LongBufferSpliterator(buffer, buffer.position(), buffer.limit(),
+                                                            additionalCharacteristics);
+    }
+
+    /**
+     * Creates a {@code Spliterator.OfDouble} covering the remaining elements of a
+     * given {@code DoubleBuffer}, that is the elements between its position and
+     * its limit, using a customized set of spliterator characteristics.
+     *
+     * <p>The elements are read with the absolute {@link DoubleBuffer#get(int)}
+     * method, in place; neither creating nor traversing the spliterator
+     * changes the position of the buffer.  The buffer may be a direct buffer,
+     * or a view of a {@code ByteBuffer} such as a
+     * {@link java.nio.MappedByteBuffer}, created by
+     * {@link java.nio.ByteBuffer#asDoubleBuffer()}, in which case the elements are
+     * read from memory outside of the heap without being copied.
+     *
+     * <p>The returned spliterator always reports the characteristics
+     * {@code SIZED} and {@code SUBSIZED}, and splits by index.  The caller may
+     * provide additional characteristics for the spliterator to report; it is
+     * common to additionally specify {@code IMMUTABLE} and {@code ORDERED}.
+     *
+     * @param buffer The buffer, assumed to be unmodified during use
+     * @param additionalCharacteristics Additional spliterator characteristics
+     *        of this spliterator's source or elements beyond {@code SIZED} and
+     *        {@code SUBSIZED} which are are always reported
+     * @return A spliterator for the remaining elements of a buffer
+     * @throws NullPointerException if the given buffer is {@code null}
+     */
+    public static Spliterator.OfDouble spliterator(DoubleBuffer buffer,
+                                                   int additionalCharacteristics) {
+        return new BufferSpliterators.DoubleBufferSpliterator(buffer, buffer.position(), buffer.limit(),
+                                                              additionalCharacteristics);
+    }
+
     /**
      * Validate inclusive start index and exclusive end index against the length
      * of an array.
@@ -1160,6 +1254,9 @@ public final class Spliterators {
      * The behaviour of splitting and traversal is undefined if the iterator is
      * operated on after the spliterator is returned.
      *
+     * <p>The sizes of the batches of elements split off by {@code trySplit}
+     * are determined by {@link BatchPolicy#ADAPTIVE}.
+     *
      * @param <T> Type of elements
      * @param iterator The iterator for the source
      * @param characteristics Characteristics of this spliterator's source
@@ -1170,7 +1267,40 @@ public final class Spliterators {
      */
     public static <T> Spliterator<T> spliteratorUnknownSize(Iterator<? extends T> iterator,
                                                             int characteristics) {
-        return new IteratorSpliterator<>(Objects.requireNonNull(iterator), characteristics);
+        return spliteratorUnknownSize(iterator, characteristics, BatchPolicy.ADAPTIVE);
+    }
+
+    /**
+     * Creates a {@code Spliterator} using a given {@code Iterator}
+     * as the source of elements, with no initial size estimate.
+     *
+     * <p>The spliterator is not
+     * <em><a href="Spliterator.html#binding">late-binding</a></em>, inherits
+     * the <em>fail-fast</em> properties of the iterator, and implements
+     * {@code trySplit} to permit limited parallelism.
+     *
+     * <p>Traversal of elements should be accomplished through the spliterator.
+     * The behaviour of splitting and traversal is undefined if the iterator is
+     * operated on after the spliterator is returned.
+     *
+     * <p>The sizes of the batches of elements split off by {@code trySplit}
+     * are determined by the given policy.
+     *
+     * @param <T> Type of elements
+     * @param iterator The iterator for the source
+     * @param characteristics Characteristics of this spliterator's source
+     *        or elements ({@code SIZED} and {@code SUBSIZED}, if supplied, are
+     *        ignored and are not reported.)
+     * @param policy The policy for the sizes of the batches split off
+     * @return A spliterator from an iterator
+     * @throws NullPointerException if the given iterator or policy is
+     *         {@code null}
+     */
+    public static <T> Spliterator<T> spliteratorUnknownSize(Iterator<? extends T> iterator,
+                                                            int characteristics,
+                                                            BatchPolicy policy) {
+        return new IteratorSpliterator<>(Objects.requireNonNull(iterator), characteristics,
+                                         Objects.requireNonNull(policy));
     }
 
     /**
@@ -1218,6 +1348,9 @@ public final class Spliterators {
      * The behaviour of splitting and traversal is undefined if the iterator is
      * operated on after the spliterator is returned.
      *
+     * <p>The sizes of the batches of elements split off by {@code trySplit}
+     * are determined by {@link BatchPolicy#ADAPTIVE}.
+     *
      * @param iterator The iterator for the source
      * @param characteristics Characteristics of this spliterator's source
      *        or elements ({@code SIZED} and {@code SUBSIZED}, if supplied, are
@@ -1227,7 +1360,40 @@ public final class Spliterators {
      */
     public static Spliterator.OfInt spliteratorUnknownSize(java8.util.PrimitiveIterator.OfInt iterator,
                                                            int characteristics) {
-        return new IntIteratorSpliterator(Objects.requireNonNull(iterator), characteristics);
+        return spliteratorUnknownSize(iterator, characteristics, BatchPolicy.ADAPTIVE);
+    }
+
+    /**
+     * Creates a {@code Spliterator.OfInt} using a given
+     * {@code IntStream.IntIterator} as the source of elements, with no initial
+     * size estimate.
+     *
+     * <p>The spliterator is not
+     * <em><a href="Spliterator.html#binding">late-binding</a></em>, inherits
+     * the <em>fail-fast</em> properties of the iterator, and implements
+     * {@code trySplit} to permit limited parallelism.
+     *
+     * <p>Traversal of elements should be accomplished through the spliterator.
+     * The behaviour of splitting and traversal is undefined if the iterator is
+     * operated on after the spliterator is returned.
+     *
+     * <p>The sizes of the batches of elements split off by {@code trySplit}
+     * are determined by the given policy.
+     *
+     * @param iterator The iterator for the source
+     * @param characteristics Characteristics of this spliterator's source
+     *        or elements ({@code SIZED} and {@code SUBSIZED}, if supplied, are
+     *        ignored and are not reported.)
+     * @param policy The policy for the sizes of the batches split off
+     * @return A spliterator from an iterator
+     * @throws NullPointerException if the given iterator or policy is
+     *         {@code null}
+     */
+    public static Spliterator.OfInt spliteratorUnknownSize(java8.util.PrimitiveIterator.OfInt iterator,
+                                                           int characteristics,
+                                                           BatchPolicy policy) {
+        return new IntIteratorSpliterator(Objects.requireNonNull(iterator), characteristics,
+                                          Objects.requireNonNull(policy));
     }
 
     /**
@@ -1275,6 +1441,9 @@ public final class Spliterators {
      * The behaviour of splitting and traversal is undefined if the iterator is
      * operated on after the spliterator is returned.
      *
+     * <p>The sizes of the batches of elements split off by {@code trySplit}
+     * are determined by {@link BatchPolicy#ADAPTIVE}.
+     *
      * @param iterator The iterator for the source
      * @param characteristics Characteristics of this spliterator's source
      *        or elements ({@code SIZED} and {@code SUBSIZED}, if supplied, are
@@ -1284,7 +1453,40 @@ public final class Spliterators {
      */
     public static Spliterator.OfLong spliteratorUnknownSize(java8.util.PrimitiveIterator.OfLong iterator,
                                                             int characteristics) {
-        return new LongIteratorSpliterator(Objects.requireNonNull(iterator), characteristics);
+        return spliteratorUnknownSize(iterator, characteristics, BatchPolicy.ADAPTIVE);
+    }
+
+    /**
+     * Creates a {@code Spliterator.OfLong} using a given
+     * {@code LongStream.LongIterator} as the source of elements, with no
+     * initial size estimate.
+     *
+     * <p>The spliterator is not
+     * <em><a href="Spliterator.html#binding">late-binding</a></em>, inherits
+     * the <em>fail-fast</em> properties of the iterator, and implements
+     * {@code trySplit} to permit limited parallelism.
+     *
+     * <p>Traversal of elements should be accomplished through the spliterator.
+     * The behaviour of splitting and traversal is undefined if the iterator is
+     * operated on after the spliterator is returned.
+     *
+     * <p>The sizes of the batches of elements split off by {@code trySplit}
+     * are determined by the given policy.
+     *
+     * @param iterator The iterator for the source
+     * @param characteristics Characteristics of this spliterator's source
+     *        or elements ({@code SIZED} and {@code SUBSIZED}, if supplied, are
+     *        ignored and are not reported.)
+     * @param policy The policy for the sizes of the batches split off
+     * @return A spliterator from an iterator
+     * @throws NullPointerException if the given iterator or policy is
+     *         {@code null}
+     */
+    public static Spliterator.OfLong spliteratorUnknownSize(java8.util.PrimitiveIterator.OfLong iterator,
+                                                            int characteristics,
+                                                            BatchPolicy policy) {
+        return new LongIteratorSpliterator(Objects.requireNonNull(iterator), characteristics,
+                                           Objects.requireNonNull(policy));
     }
 
     /**
@@ -1332,6 +1534,9 @@ public final class Spliterators {
      * The behaviour of splitting and traversal is undefined if the iterator is
      * operated on after the spliterator is returned.
      *
+     * <p>The sizes of the batches of elements split off by {@code trySplit}
+     * are determined by {@link BatchPolicy#ADAPTIVE}.
+     *
      * @param iterator The iterator for the source
      * @param characteristics Characteristics of this spliterator's source
      *        or elements ({@code SIZED} and {@code SUBSIZED}, if supplied, are
@@ -1341,7 +1546,40 @@ public final class Spliterators {
      */
     public static Spliterator.OfDouble spliteratorUnknownSize(java8.util.PrimitiveIterator.OfDouble iterator,
                                                               int characteristics) {
-        return new DoubleIteratorSpliterator(Objects.requireNonNull(iterator), characteristics);
+        return spliteratorUnknownSize(iterator, characteristics, BatchPolicy.ADAPTIVE);
+    }
+
+    /**
+     * Creates a {@code Spliterator.OfDouble} using a given
+     * {@code DoubleStream.DoubleIterator} as the source of elements, with no
+     * initial size estimate.
+     *
+     * <p>The spliterator is not
+     * <em><a href="Spliterator.html#binding">late-binding</a></em>, inherits
+     * the <em>fail-fast</em> properties of the iterator, and implements
+     * {@code trySplit} to permit limited parallelism.
+     *
+     * <p>Traversal of elements should be accomplished through the spliterator.
+     * The behaviour of splitting and traversal is undefined if the iterator is
+     * operated on after the spliterator is returned.
+     *
+     * <p>The sizes of the batches of elements split off by {@code trySplit}
+     * are determined by the given policy.
+     *
+     * @param iterator The iterator for the source
+     * @param characteristics Characteristics of this spliterator's source
+     *        or elements ({@code SIZED} and {@code SUBSIZED}, if supplied, are
+     *        ignored and are not reported.)
+     * @param policy The policy for the sizes of the batches split off
+     * @return A spliterator from an iterator
+     * @throws NullPointerException if the given iterator or policy is
+     *         {@code null}
+     */
+    public static Spliterator.OfDouble spliteratorUnknownSize(java8.util.PrimitiveIterator.OfDouble iterator,
+                                                              int characteristics,
+                                                              BatchPolicy policy) {
+        return new DoubleIteratorSpliterator(Objects.requireNonNull(iterator), characteristics,
+                                             Objects.requireNonNull(policy));
     }
 
     // Iterators from Spliterators
@@ -2126,6 +2364,124 @@ public final class Spliterators {
 
     //
 
+    /**
+     * A policy for the sizes of the batches that the spliterators of sources
+     * which cannot be split efficiently, such as iterators, copy into arrays
+     * when they are split.
+     *
+     * <p>{@link #ARITHMETIC} increases the batch size by a constant
+     * {@code 1024} elements per split, which is the behavior of Java 8.  A
+     * parallel computation over a large source therefore starts with many
+     * small batches, and the potential speedup grows only with the square
+     * root of the number of elements.
+     *
+     * <p>{@link #ADAPTIVE} hands out rounds of equally sized batches, one per
+     * thread of the {@link java8.util.concurrent.ForkJoinPool#commonPool()
+     * common pool}, and doubles the batch size after each round, so that all
+     * threads get work early and the number of splits is logarithmic in the
+     * number of elements.  It also measures the rate at which the source
+     * delivers elements while filling a batch: if a batch is filled very
+     * quickly, the overhead of a split dominates and the batch size is
+     * doubled without waiting for the round to complete; if filling a batch
+     * takes long, the other threads wait for the sequential source and the
+     * batch size is no longer increased.
+     *
+     * <p>A policy is selected when a spliterator is created, see
+     * {@link #spliteratorUnknownSize(Iterator, int, BatchPolicy)} and
+     * {@link AbstractSpliterator#AbstractSpliterator(long, int, BatchPolicy)}.
+     * Policies are stateless; the state of the batching is kept by the
+     * spliterators.
+     */
+    public abstract static class BatchPolicy {
+        static final int BATCH_UNIT = 1 << 10;  // batch array size increment
+        static final int MAX_BATCH = 1 << 25;  // max batch array size;
+
+        /**
+         * The policy increasing the batch size arithmetically by a constant.
+         * This is the default policy of spliterators created from an iterator
+         * of known size and of the abstract spliterators.
+         */
+        public static final BatchPolicy ARITHMETIC = new BatchPolicy() {
+            @Override
+            int batchSize(int batch, int splits, long fillNanos) {
+                return batch + BATCH_UNIT;
+            }
+        };
+
+        /**
+         * The policy increasing the batch size geometrically per round of
+         * batches for the threads of the common pool, adjusted by the rate at
+         * which the source delivers elements.  This is the default policy of
+         * spliterators created from an iterator of unknown size.
+         */
+        public static final BatchPolicy ADAPTIVE = new Adaptive();
+
+        // Suppresses public default constructor, only the above policies exist
+        BatchPolicy() {
+        }
+
+        /**
+         * Returns the size of the next batch.
+         *
+         * @param batch the size of the previous batch, {@code 0} for the first
+         * @param splits the number of previous splits
+         * @param fillNanos the time taken to fill the previous batch, or
+         *        {@code 0} if this policy isn't timed
+         * @return the size of the next batch, may be larger than the number
+         *         of remaining elements or than {@code MAX_BATCH}
+         */
+        abstract int batchSize(int batch, int splits, long fillNanos);
+
+        /**
+         * Returns the start time of filling a batch, if this policy is timed.
+         */
+        long startFill() {
+            return 0L;
+        }
+
+        /**
+         * Returns the time since the given start time of filling a batch, if
+         * this policy is timed.
+         */
+        long fillNanos(long start) {
+            return 0L;
+        }
+
+        static final class Adaptive extends BatchPolicy {
+            /** Batches filled faster than this are doubled immediately */
+            static final long MIN_FILL_NANOS = 20_000L;
+            /** Batches filled slower than this aren't increased */
+            static final long MAX_FILL_NANOS = 1_000_000L;
+
+            static final int PARALLELISM =
+                    java8.util.concurrent.ForkJoinPool.getCommonPoolParallelism();
+
+            @Override
+            int batchSize(int batch, int splits, long fillNanos) {
+                if (splits == 0) {
+                    return BATCH_UNIT;
+                }
+                if (fillNanos > MAX_FILL_NANOS || batch >= MAX_BATCH) {
+                    return batch;
+                }
+                if (fillNanos < MIN_FILL_NANOS || splits % PARALLELISM == 0) {
+                    return batch << 1;
+                }
+                return batch;
+            }
+
+            @Override
+            long startFill() {
+                return System.nanoTime();
+            }
+
+            @Override
+            long fillNanos(long start) {
+                return System.nanoTime() - start;
+            }
+        }
+    }
+
     /**
      * An abstract {@code Spliterator} that implements {@code trySplit} to
      * permit limited parallelism.
@@ -2152,11 +2508,13 @@ public final class Spliterators {
      * @since 1.8
      */
     public abstract static class AbstractSpliterator<T> implements Spliterator<T> {
-        static final int BATCH_UNIT = 1 << 10;  // batch array size increment
-        static final int MAX_BATCH = 1 << 25;  // max batch array size;
+        static final int MAX_BATCH = BatchPolicy.MAX_BATCH;
         private final int characteristics;
         private long est;             // size estimate
         private int batch;            // batch size for splits
+        private final BatchPolicy policy;
+        private int splits;           // number of splits
+        private long fillNanos;       // time taken to fill the last batch
 
         /**
          * Creates a spliterator reporting the given estimated size and
@@ -2169,10 +2527,28 @@ public final class Spliterators {
          *        spliterator will additionally report {@code SUBSIZED}.
          */
         protected AbstractSpliterator(long est, int additionalCharacteristics) {
+            this(est, additionalCharacteristics, BatchPolicy.ARITHMETIC);
+        }
+
+        /**
+         * Creates a spliterator reporting the given estimated size and
+         * additionalCharacteristics, which splits off batches of the sizes determined
+         * by the given policy.
+         *
+         * @param est the estimated size of this spliterator if known, otherwise
+         *        {@code Long.MAX_VALUE}.
+         * @param additionalCharacteristics properties of this spliterator's
+         *        source or elements.  If {@code SIZED} is reported then this
+         *        spliterator will additionally report {@code SUBSIZED}.
+         * @param policy the policy for the sizes of the batches split off
+         * @throws NullPointerException if the given policy is {@code null}
+         */
+        protected AbstractSpliterator(long est, int additionalCharacteristics, BatchPolicy policy) {
             this.est = est;
             this.characteristics = ((additionalCharacteristics & Spliterator.SIZED) != 0)
                                    ? additionalCharacteristics | Spliterator.SUBSIZED
                                    : additionalCharacteristics;
+            this.policy = Objects.requireNonNull(policy);
         }
 
         static final class HoldingConsumer<T> implements Consumer<T> {
@@ -2207,15 +2583,17 @@ public final class Spliterators {
             HoldingConsumer<T> holder = new HoldingConsumer<>();
             long s = est;
             if (s > 1 && tryAdvance(holder)) {
-                int n = batch + BATCH_UNIT;
+                int n = policy.batchSize(batch, splits++, fillNanos);
                 if (n > s)
                     n = (int) s;
                 if (n > MAX_BATCH)
                     n = MAX_BATCH;
                 Object[] a = new Object[n];
+                long start = policy.startFill();
                 int j = 0;
                 do { a[j] = holder.value; } while (++j < n && tryAdvance(holder));
                 batch = j;
+                fillNanos = policy.fillNanos(start);
                 if (est != Long.MAX_VALUE)
                     est -= j;
                 return new ArraySpliterator<>(a, 0, j, characteristics());
@@ -2308,10 +2686,12 @@ public final class Spliterators {
      */
     public abstract static class AbstractIntSpliterator implements Spliterator.OfInt {
         static final int MAX_BATCH = AbstractSpliterator.MAX_BATCH;
-        static final int BATCH_UNIT = AbstractSpliterator.BATCH_UNIT;
         private final int characteristics;
         private long est;             // size estimate
         private int batch;            // batch size for splits
+        private final BatchPolicy policy;
+        private int splits;           // number of splits
+        private long fillNanos;       // time taken to fill the last batch
 
         /**
          * Creates a spliterator reporting the given estimated size and
@@ -2324,10 +2704,28 @@ public final class Spliterators {
          *        spliterator will additionally report {@code SUBSIZED}.
          */
         protected AbstractIntSpliterator(long est, int additionalCharacteristics) {
+            this(est, additionalCharacteristics, BatchPolicy.ARITHMETIC);
+        }
+
+        /**
+         * Creates a spliterator reporting the given estimated size and
+         * characteristics, which splits off batches of the sizes determined
+         * by the given policy.
+         *
+         * @param est the estimated size of this spliterator if known, otherwise
+         *        {@code Long.MAX_VALUE}.
+         * @param additionalCharacteristics properties of this spliterator's
+         *        source or elements.  If {@code SIZED} is reported then this
+         *        spliterator will additionally report {@code SUBSIZED}.
+         * @param policy the policy for the sizes of the batches split off
+         * @throws NullPointerException if the given policy is {@code null}
+         */
+        protected AbstractIntSpliterator(long est, int additionalCharacteristics, BatchPolicy policy) {
             this.est = est;
             this.characteristics = ((additionalCharacteristics & Spliterator.SIZED) != 0)
                                    ? additionalCharacteristics | Spliterator.SUBSIZED
                                    : additionalCharacteristics;
+            this.policy = Objects.requireNonNull(policy);
         }
 
         static final class HoldingIntConsumer implements IntConsumer {
@@ -2349,15 +2747,17 @@ public final class Spliterators {
             HoldingIntConsumer holder = new HoldingIntConsumer();
             long s = est;
             if (s > 1 && tryAdvance(holder)) {
-                int n = batch + BATCH_UNIT;
+                int n = policy.batchSize(batch, splits++, fillNanos);
                 if (n > s)
                     n = (int) s;
                 if (n > MAX_BATCH)
                     n = MAX_BATCH;
                 int[] a = new int[n];
+                long start = policy.startFill();
                 int j = 0;
                 do { a[j] = holder.value; } while (++j < n && tryAdvance(holder));
                 batch = j;
+                fillNanos = policy.fillNanos(start);
                 if (est != Long.MAX_VALUE)
                     est -= j;
                 return new IntArraySpliterator(a, 0, j, characteristics());
@@ -2466,10 +2866,12 @@ public final class Spliterators {
      */
     public abstract static class AbstractLongSpliterator implements Spliterator.OfLong {
         static final int MAX_BATCH = AbstractSpliterator.MAX_BATCH;
-        static final int BATCH_UNIT = AbstractSpliterator.BATCH_UNIT;
         private final int characteristics;
         private long est;             // size estimate
         private int batch;            // batch size for splits
+        private final BatchPolicy policy;
+        private int splits;           // number of splits
+        private long fillNanos;       // time taken to fill the last batch
 
         /**
          * Creates a spliterator reporting the given estimated size and
@@ -2482,10 +2884,28 @@ public final class Spliterators {
          *        spliterator will additionally report {@code SUBSIZED}.
          */
         protected AbstractLongSpliterator(long est, int additionalCharacteristics) {
+            this(est, additionalCharacteristics, BatchPolicy.ARITHMETIC);
+        }
+
+        /**
+         * Creates a spliterator reporting the given estimated size and
+         * characteristics, which splits off batches of the sizes determined
+         * by the given policy.
+         *
+         * @param est the estimated size of this spliterator if known, otherwise
+         *        {@code Long.MAX_VALUE}.
+         * @param additionalCharacteristics properties of this spliterator's
+         *        source or elements.  If {@code SIZED} is reported then this
+         *        spliterator will additionally report {@code SUBSIZED}.
+         * @param policy the policy for the sizes of the batches split off
+         * @throws NullPointerException if the given policy is {@code null}
+         */
+        protected AbstractLongSpliterator(long est, int additionalCharacteristics, BatchPolicy policy) {
             this.est = est;
             this.characteristics = ((additionalCharacteristics & Spliterator.SIZED) != 0)
                                    ? additionalCharacteristics | Spliterator.SUBSIZED
                                    : additionalCharacteristics;
+            this.policy = Objects.requireNonNull(policy);
         }
 
         static final class HoldingLongConsumer implements LongConsumer {
@@ -2507,15 +2927,17 @@ public final class Spliterators {
             HoldingLongConsumer holder = new HoldingLongConsumer();
             long s = est;
             if (s > 1 && tryAdvance(holder)) {
-                int n = batch + BATCH_UNIT;
+                int n = policy.batchSize(batch, splits++, fillNanos);
                 if (n > s)
                     n = (int) s;
                 if (n > MAX_BATCH)
                     n = MAX_BATCH;
                 long[] a = new long[n];
+                long start = policy.startFill();
                 int j = 0;
                 do { a[j] = holder.value; } while (++j < n && tryAdvance(holder));
                 batch = j;
+                fillNanos = policy.fillNanos(start);
                 if (est != Long.MAX_VALUE)
                     est -= j;
                 return new LongArraySpliterator(a, 0, j, characteristics());
@@ -2624,10 +3046,12 @@ public final class Spliterators {
      */
     public abstract static class AbstractDoubleSpliterator implements Spliterator.OfDouble {
         static final int MAX_BATCH = AbstractSpliterator.MAX_BATCH;
-        static final int BATCH_UNIT = AbstractSpliterator.BATCH_UNIT;
         private final int characteristics;
         private long est;             // size estimate
         private int batch;            // batch size for splits
+        private final BatchPolicy policy;
+        private int splits;           // number of splits
+        private long fillNanos;       // time taken to fill the last batch
 
         /**
          * Creates a spliterator reporting the given estimated size and
@@ -2640,10 +3064,28 @@ public final class Spliterators {
          *        spliterator will additionally report {@code SUBSIZED}.
          */
         protected AbstractDoubleSpliterator(long est, int additionalCharacteristics) {
+            this(est, additionalCharacteristics, BatchPolicy.ARITHMETIC);
+        }
+
+        /**
+         * Creates a spliterator reporting the given estimated size and
+         * characteristics, which splits off batches of the sizes determined
+         * by the given policy.
+         *
+         * @param est the estimated size of this spliterator if known, otherwise
+         *        {@code Long.MAX_VALUE}.
+         * @param additionalCharacteristics properties of this spliterator's
+         *        source or elements.  If {@code SIZED} is reported then this
+         *        spliterator will additionally report {@code SUBSIZED}.
+         * @param policy the policy for the sizes of the batches split off
+         * @throws NullPointerException if the given policy is {@code null}
+         */
+        protected AbstractDoubleSpliterator(long est, int additionalCharacteristics, BatchPolicy policy) {
             this.est = est;
             this.characteristics = ((additionalCharacteristics & Spliterator.SIZED) != 0)
                                    ? additionalCharacteristics | Spliterator.SUBSIZED
                                    : additionalCharacteristics;
+            this.policy = Objects.requireNonNull(policy);
         }
 
         static final class HoldingDoubleConsumer implements DoubleConsumer {
@@ -2665,15 +3107,17 @@ public final class Spliterators {
             HoldingDoubleConsumer holder = new HoldingDoubleConsumer();
             long s = est;
             if (s > 1 && tryAdvance(holder)) {
-                int n = batch + BATCH_UNIT;
+                int n = policy.batchSize(batch, splits++, fillNanos);
                 if (n > s)
                     n = (int) s;
                 if (n > MAX_BATCH)
                     n = MAX_BATCH;
                 double[] a = new double[n];
+                long start = policy.startFill();
                 int j = 0;
                 do { a[j] = holder.value; } while (++j < n && tryAdvance(holder));
                 batch = j;
+                fillNanos = policy.fillNanos(start);
                 if (est != Long.MAX_VALUE)
                     est -= j;
                 return new DoubleArraySpliterator(a, 0, j, characteristics());
@@ -2763,13 +3207,15 @@ public final class Spliterators {
      * permit limited parallelism.
      */
     static class IteratorSpliterator<T> implements Spliterator<T> {
-        static final int BATCH_UNIT = 1 << 10;  // batch array size increment
-        static final int MAX_BATCH = 1 << 25;  // max batch array size;
+        static final int MAX_BATCH = BatchPolicy.MAX_BATCH;
         private final Collection<? extends T> collection; // null OK
         private Iterator<? extends T> it;
         private final int characteristics;
         private long est;             // size estimate
         private int batch;            // batch size for splits
+        private final BatchPolicy policy;
+        private int splits;           // number of splits
+        private long fillNanos;       // time taken to fill the last batch
 
         /**
          * Creates a spliterator using the given given
@@ -2787,6 +3233,7 @@ public final class Spliterators {
             this.characteristics = (characteristics & Spliterator.CONCURRENT) == 0
                                    ? characteristics | Spliterator.SIZED | Spliterator.SUBSIZED
                                    : characteristics;
+            this.policy = BatchPolicy.ARITHMETIC;
         }
 
         /**
@@ -2806,6 +3253,7 @@ public final class Spliterators {
             this.characteristics = (characteristics & Spliterator.CONCURRENT) == 0
                                    ? characteristics | Spliterator.SIZED | Spliterator.SUBSIZED
                                    : characteristics;
+            this.policy = BatchPolicy.ARITHMETIC;
         }
 
         /**
@@ -2816,12 +3264,15 @@ public final class Spliterators {
          * @param iterator the iterator for the source
          * @param characteristics properties of this spliterator's
          * source or elements.
+         * @param policy the policy for the sizes of the batches split off
          */
-        public IteratorSpliterator(Iterator<? extends T> iterator, int characteristics) {
+        public IteratorSpliterator(Iterator<? extends T> iterator, int characteristics,
+                                   BatchPolicy policy) {
             this.collection = null;
             this.it = iterator;
             this.est = Long.MAX_VALUE;
             this.characteristics = characteristics & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+            this.policy = policy;
         }
 
         @Override
@@ -2848,7 +3299,7 @@ public final class Spliterators {
                 s = est;
             }
             if (s > 1 && i.hasNext()) {
-                int n = batch + BATCH_UNIT;
+                int n = policy.batchSize(batch, splits++, fillNanos);
                 if (n > s) {
                     n = (int) s;
                 }
@@ -2856,11 +3307,13 @@ public final class Spliterators {
                     n = MAX_BATCH;
                 }
                 Object[] a = new Object[n];
+                long start = policy.startFill();
                 int j = 0;
                 do {
                     a[j] = i.next();
                 } while (++j < n && i.hasNext());
                 batch = j;
+                fillNanos = policy.fillNanos(start);
                 if (est != Long.MAX_VALUE) {
                     est -= j;
                 }
@@ -2931,12 +3384,14 @@ public final class Spliterators {
      * permit limited parallelism.
      */
     static final class IntIteratorSpliterator implements Spliterator.OfInt {
-        static final int BATCH_UNIT = IteratorSpliterator.BATCH_UNIT;
         static final int MAX_BATCH = IteratorSpliterator.MAX_BATCH;
         private java8.util.PrimitiveIterator.OfInt it;
         private final int characteristics;
         private long est;             // size estimate
         private int batch;            // batch size for splits
+        private final BatchPolicy policy;
+        private int splits;           // number of splits
+        private long fillNanos;       // time taken to fill the last batch
 
         /**
          * Creates a spliterator using the given iterator
@@ -2954,6 +3409,7 @@ public final class Spliterators {
             this.characteristics = (characteristics & Spliterator.CONCURRENT) == 0
                                    ? characteristics | Spliterator.SIZED | Spliterator.SUBSIZED
                                    : characteristics;
+            this.policy = BatchPolicy.ARITHMETIC;
         }
 
         /**
@@ -2964,11 +3420,14 @@ public final class Spliterators {
          * @param iterator the iterator for the source
          * @param characteristics properties of this spliterator's
          * source or elements.
+         * @param policy the policy for the sizes of the batches split off
          */
-        public IntIteratorSpliterator(java8.util.PrimitiveIterator.OfInt iterator, int characteristics) {
+        public IntIteratorSpliterator(java8.util.PrimitiveIterator.OfInt iterator, int characteristics,
+                                      BatchPolicy policy) {
             this.it = iterator;
             this.est = Long.MAX_VALUE;
             this.characteristics = characteristics & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+            this.policy = policy;
         }
 
         @Override
@@ -2976,15 +3435,17 @@ public final class Spliterators {
             java8.util.PrimitiveIterator.OfInt i = it;
             long s = est;
             if (s > 1 && i.hasNext()) {
-                int n = batch + BATCH_UNIT;
+                int n = policy.batchSize(batch, splits++, fillNanos);
                 if (n > s)
                     n = (int) s;
                 if (n > MAX_BATCH)
                     n = MAX_BATCH;
                 int[] a = new int[n];
+                long start = policy.startFill();
                 int j = 0;
                 do { a[j] = i.nextInt(); } while (++j < n && i.hasNext());
                 batch = j;
+                fillNanos = policy.fillNanos(start);
                 if (est != Long.MAX_VALUE)
                     est -= j;
                 return new IntArraySpliterator(a, 0, j, characteristics);
@@ -3045,12 +3506,14 @@ public final class Spliterators {
     }
 
     static final class LongIteratorSpliterator implements Spliterator.OfLong {
-        static final int BATCH_UNIT = IteratorSpliterator.BATCH_UNIT;
         static final int MAX_BATCH = IteratorSpliterator.MAX_BATCH;
         private java8.util.PrimitiveIterator.OfLong it;
         private final int characteristics;
         private long est;             // size estimate
         private int batch;            // batch size for splits
+        private final BatchPolicy policy;
+        private int splits;           // number of splits
+        private long fillNanos;       // time taken to fill the last batch
 
         /**
          * Creates a spliterator using the given iterator
@@ -3068,6 +3531,7 @@ public final class Spliterators {
             this.characteristics = (characteristics & Spliterator.CONCURRENT) == 0
                                    ? characteristics | Spliterator.SIZED | Spliterator.SUBSIZED
                                    : characteristics;
+            this.policy = BatchPolicy.ARITHMETIC;
         }
 
         /**
@@ -3078,11 +3542,14 @@ public final class Spliterators {
          * @param iterator the iterator for the source
          * @param characteristics properties of this spliterator's
          * source or elements.
+         * @param policy the policy for the sizes of the batches split off
          */
-        public LongIteratorSpliterator(java8.util.PrimitiveIterator.OfLong iterator, int characteristics) {
+        public LongIteratorSpliterator(java8.util.PrimitiveIterator.OfLong iterator, int characteristics,
+                                       BatchPolicy policy) {
             this.it = iterator;
             this.est = Long.MAX_VALUE;
             this.characteristics = characteristics & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+            this.policy = policy;
         }
 
         @Override
@@ -3090,15 +3557,17 @@ public final class Spliterators {
             java8.util.PrimitiveIterator.OfLong i = it;
             long s = est;
             if (s > 1 && i.hasNext()) {
-                int n = batch + BATCH_UNIT;
+                int n = policy.batchSize(batch, splits++, fillNanos);
                 if (n > s)
                     n = (int) s;
                 if (n > MAX_BATCH)
                     n = MAX_BATCH;
                 long[] a = new long[n];
+                long start = policy.startFill();
                 int j = 0;
                 do { a[j] = i.nextLong(); } while (++j < n && i.hasNext());
                 batch = j;
+                fillNanos = policy.fillNanos(start);
                 if (est != Long.MAX_VALUE)
                     est -= j;
                 return new LongArraySpliterator(a, 0, j, characteristics);
@@ -3159,12 +3628,14 @@ public final class Spliterators {
     }
 
     static final class DoubleIteratorSpliterator implements Spliterator.OfDouble {
-        static final int BATCH_UNIT = IteratorSpliterator.BATCH_UNIT;
         static final int MAX_BATCH = IteratorSpliterator.MAX_BATCH;
         private java8.util.PrimitiveIterator.OfDouble it;
         private final int characteristics;
         private long est;             // size estimate
         private int batch;            // batch size for splits
+        private final BatchPolicy policy;
+        private int splits;           // number of splits
+        private long fillNanos;       // time taken to fill the last batch
 
         /**
          * Creates a spliterator using the given iterator
@@ -3182,6 +3653,7 @@ public final class Spliterators {
             this.characteristics = (characteristics & Spliterator.CONCURRENT) == 0
                                    ? characteristics | Spliterator.SIZED | Spliterator.SUBSIZED
                                    : characteristics;
+            this.policy = BatchPolicy.ARITHMETIC;
         }
 
         /**
@@ -3192,11 +3664,14 @@ public final class Spliterators {
          * @param iterator the iterator for the source
          * @param characteristics properties of this spliterator's
          * source or elements.
+         * @param policy the policy for the sizes of the batches split off
          */
-        public DoubleIteratorSpliterator(java8.util.PrimitiveIterator.OfDouble iterator, int characteristics) {
+        public DoubleIteratorSpliterator(java8.util.PrimitiveIterator.OfDouble iterator, int characteristics,
+                                         BatchPolicy policy) {
             this.it = iterator;
             this.est = Long.MAX_VALUE;
             this.characteristics = characteristics & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+            this.policy = policy;
         }
 
         @Override
@@ -3204,15 +3679,17 @@ public final class Spliterators {
             java8.util.PrimitiveIterator.OfDouble i = it;
             long s = est;
             if (s > 1 && i.hasNext()) {
-                int n = batch + BATCH_UNIT;
+                int n = policy.batchSize(batch, splits++, fillNanos);
                 if (n > s)
                     n = (int) s;
                 if (n > MAX_BATCH)
                     n = MAX_BATCH;
                 double[] a = new double[n];
+                long start = policy.startFill();
                 int j = 0;
                 do { a[j] = i.nextDouble(); } while (++j < n && i.hasNext());
                 batch = j;
+                fillNanos = policy.fillNanos(start);
                 if (est != Long.MAX_VALUE)
                     est -= j;
                 return new DoubleArraySpliterator(a, 0, j, characteristics);
@@ -3272,22 +3749,6 @@ public final class Spliterators {
         }
     }
 
-    private static boolean getBooleanPropVal(String prop, boolean defVal) {
-        return AccessController.doPrivileged(new PrivilegedAction<Boolean>() {
-            @Override
-            public Boolean run() {
-                boolean val = defVal;
-                try {
-                    String s = System.getProperty(prop, Boolean.toString(defVal));
-                    val = Boolean.parseBoolean(s.trim());
-                } catch (IllegalArgumentException ignore) {
-                } catch (NullPointerException ignore) {
-                }
-                return val;
-            }
-        });
-    }
-
     /**
      * Used to detect the presence or absence of android.util.DisplayMetrics
      * and other classes. Gets employed when we need to establish whether we
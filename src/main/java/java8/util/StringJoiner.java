@@ -24,6 +24,7 @@
  */
 package java8.util;
 
+import java.util.Arrays;
 
 /**
  * {@code StringJoiner} is used to construct a sequence of characters separated
@@ -68,13 +69,14 @@ public final class StringJoiner {
     private final String delimiter;
     private final String suffix;
 
-    /*
-     * StringBuilder value -- at any time, the characters constructed from the
-     * prefix, the added element separated by the delimiter, but without the
-     * suffix, so that we can more easily add elements without having to jigger
-     * the suffix each time.
-     */
-    private StringBuilder value;
+    /** Contains all the string components added so far. */
+    private String[] elts;
+
+    /** The number of string components added so far. */
+    private int size;
+
+    /** Total length in chars so far, excluding prefix and suffix. */
+    private int len;
 
     /*
      * By default, the string consisting of prefix+suffix, returned by
@@ -159,19 +161,27 @@ public final class StringJoiner {
      */
     @Override
     public String toString() {
-        if (value == null) {
+        final String[] elts = this.elts;
+        if (elts == null) {
             return emptyValue;
-        } else {
-            if (suffix.equals("")) {
-                return value.toString();
-            } else {
-                int initialLength = value.length();
-                String result = value.append(suffix).toString();
-                // reset value to pre-append initialLength
-                value.setLength(initialLength);
-                return result;
-            }
         }
+        final int size = this.size;
+        final int addLen = prefix.length() + suffix.length();
+        if (addLen == 0) {
+            compactElts();
+            return elts[0];
+        }
+        final String delimiter = this.delimiter;
+        // the exact length is known, the characters are copied only once
+        final char[] chars = new char[len + addLen];
+        int k = getChars(prefix, chars, 0);
+        k += getChars(elts[0], chars, k);
+        for (int i = 1; i < size; i++) {
+            k += getChars(delimiter, chars, k);
+            k += getChars(elts[i], chars, k);
+        }
+        k += getChars(suffix, chars, k);
+        return new String(chars);
     }
 
     /**
@@ -183,7 +193,17 @@ public final class StringJoiner {
      * @return a reference to this {@code StringJoiner}
      */
     public StringJoiner add(CharSequence newElement) {
-        prepareBuilder().append(newElement);
+        final String elt = String.valueOf(newElement);
+        if (elts == null) {
+            elts = new String[8];
+        } else {
+            if (size == elts.length) {
+                elts = Arrays.copyOf(elts, 2 * size);
+            }
+            len += delimiter.length();
+        }
+        len += elt.length();
+        elts[size++] = elt;
         return this;
     }
 
@@ -208,24 +228,51 @@ public final class StringJoiner {
      */
     public StringJoiner merge(StringJoiner other) {
         Objects.requireNonNull(other);
-        if (other.value != null) {
-            int length = other.value.length();
-            // lock the length so that we can seize the data to be appended
-            // before initiate copying to avoid interference, especially when
-            // merge 'this'
-            StringBuilder builder = prepareBuilder();
-            builder.append(other.value, other.prefix.length(), length);
+        if (other.elts == null) {
+            return this;
+        }
+        if (!other.delimiter.equals(delimiter)) {
+            other.compactElts();
+            return add(other.elts[0]);
         }
+        // With the same delimiter, the elements of the other joiner can be
+        // appended as they are, without copying any characters.  Read the
+        // other's state first, in case it is 'this'
+        final String[] otherElts = other.elts;
+        final int otherSize = other.size;
+        final int otherLen = other.len;
+        if (elts == null) {
+            elts = Arrays.copyOf(otherElts, Math.max(8, otherSize));
+        } else {
+            if (size + otherSize > elts.length) {
+                elts = Arrays.copyOf(elts, Math.max(2 * elts.length, size + otherSize));
+            }
+            System.arraycopy(otherElts, 0, elts, size, otherSize);
+            len += delimiter.length();
+        }
+        size += otherSize;
+        len += otherLen;
         return this;
     }
 
-    private StringBuilder prepareBuilder() {
-        if (value != null) {
-            value.append(delimiter);
-        } else {
-            value = new StringBuilder().append(prefix);
+    private void compactElts() {
+        if (size > 1) {
+            final char[] chars = new char[len];
+            int i = 1, k = getChars(elts[0], chars, 0);
+            do {
+                k += getChars(delimiter, chars, k);
+                k += getChars(elts[i], chars, k);
+                elts[i] = null;
+            } while (++i < size);
+            size = 1;
+            elts[0] = new String(chars);
         }
-        return value;
+    }
+
+    private static int getChars(String s, char[] chars, int start) {
+        int len = s.length();
+        s.getChars(0, len, chars, start);
+        return len;
     }
 
     /**
@@ -239,10 +286,7 @@ public final class StringJoiner {
      * @return the length of the current value of {@code StringJoiner}
      */
     public int length() {
-        // Remember that we never actually append the suffix unless we return
-        // the full (present) value or some sub-string or length of it, so that
-        // we can add on more if we need to.
-        return (value != null ? value.length() + suffix.length() :
+        return (elts != null ? len + prefix.length() + suffix.length() :
                 emptyValue.length());
     }
 }
@@ -25,6 +25,9 @@
 package java8.util.stream;
 
 import java8.util.Objects;
+import java8.util.concurrent.ForkJoinPool;
+import java8.util.concurrent.ForkJoinWorkerThread;
+import java8.util.concurrent.RecursiveTask;
 import java8.util.function.Consumer;
 import java8.util.function.IntFunction;
 import java8.util.function.Supplier;
@@ -149,6 +152,24 @@ abstract class AbstractPipeline<E_IN, E_OUT, S extends BaseStream<E_OUT, S>>
      */
     private boolean parallel;
 
+    /**
+     * The pool a parallel pipeline is evaluated in, null for the pool of the
+     * calling thread or the common pool; only valid for the source stage.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * The listener receiving the metrics of each evaluation, null if the
+     * pipeline is not instrumented; only valid for the source stage.
+     */
+    private PipelineMetrics.Listener listener;
+
+    /**
+     * The recorder of the evaluation in progress if the pipeline is
+     * instrumented; only valid for the source stage.
+     */
+    private MetricsRecorder recorder;
+
     /**
      * Constructor for the head of a stream pipeline.
      *
@@ -168,6 +189,7 @@ abstract class AbstractPipeline<E_IN, E_OUT, S extends BaseStream<E_OUT, S>>
         this.combinedFlags = (~(sourceOrOpFlags << 1)) & StreamOpFlag.INITIAL_OPS_VALUE;
         this.depth = 0;
         this.parallel = parallel;
+        this.listener = MetricsRecorder.GLOBAL_LISTENER;
     }
 
     /**
@@ -189,6 +211,7 @@ abstract class AbstractPipeline<E_IN, E_OUT, S extends BaseStream<E_OUT, S>>
         this.combinedFlags = (~(sourceOrOpFlags << 1)) & StreamOpFlag.INITIAL_OPS_VALUE;
         this.depth = 0;
         this.parallel = parallel;
+        this.listener = MetricsRecorder.GLOBAL_LISTENER;
     }
 
     /**
@@ -229,24 +252,112 @@ abstract class AbstractPipeline<E_IN, E_OUT, S extends BaseStream<E_OUT, S>>
             throw new IllegalStateException(MSG_STREAM_LINKED);
         linkedOrConsumed = true;
 
+        PipelineMetrics.Listener l = sourceStage.listener;
+        if (l != null) {
+            return evaluateInstrumented(l, MetricsRecorder.nameOf(terminalOp.getClass()),
+                                        () -> doEvaluate(terminalOp));
+        }
+        return doEvaluate(terminalOp);
+    }
+
+    private <R> R doEvaluate(TerminalOp<E_OUT, R> terminalOp) {
         return isParallel()
-               ? terminalOp.evaluateParallel(this, sourceSpliterator(terminalOp.getOpFlags()))
+               ? evaluateInPool(() -> terminalOp.evaluateParallel(this, sourceSpliterator(terminalOp.getOpFlags())))
                : terminalOp.evaluateSequential(this, sourceSpliterator(terminalOp.getOpFlags()));
     }
 
+    /**
+     * Runs an evaluation with a {@code MetricsRecorder} attached to the source
+     * stage, and reports the metrics to the listener if the evaluation
+     * completes normally.
+     *
+     * @param <R> the type of result
+     * @param l the listener
+     * @param terminalName the name of the terminal operation
+     * @param evaluation the evaluation
+     * @return the result
+     */
+    private <R> R evaluateInstrumented(PipelineMetrics.Listener l, String terminalName,
+                                       Supplier<R> evaluation) {
+        int n = stageIndex();
+        String[] names = new String[n + 2];
+        names[0] = "source";
+        names[n + 1] = terminalName;
+        for (AbstractPipeline<?, ?, ?> p = this; p.previousStage != null; p = p.previousStage) {
+            names[n--] = MetricsRecorder.nameOf(p.getClass());
+        }
+        MetricsRecorder r = new MetricsRecorder(names);
+        sourceStage.recorder = r;
+        R result;
+        try {
+            result = evaluation.get();
+        } finally {
+            sourceStage.recorder = null;
+        }
+        r.report(l, isParallel());
+        return result;
+    }
+
+    /**
+     * Returns the index of this stage in the pipeline, the source stage has
+     * index 0.
+     */
+    private int stageIndex() {
+        int index = 0;
+        for (AbstractPipeline<?, ?, ?> p = previousStage; p != null; p = p.previousStage) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Runs a parallel evaluation in the pool this pipeline is bound to, unless
+     * there is none or the calling thread is a worker of that pool already.
+     * The tasks of the evaluation are then forked into that pool and size
+     * their leaves from its parallelism.
+     *
+     * @param <R> the type of result
+     * @param evaluation the parallel evaluation
+     * @return the result
+     */
+    private <R> R evaluateInPool(Supplier<R> evaluation) {
+        ForkJoinPool p = sourceStage.pool;
+        Thread t;
+        if (p == null || ((t = Thread.currentThread()) instanceof ForkJoinWorkerThread
+                && ((ForkJoinWorkerThread) t).getPool() == p)) {
+            return evaluation.get();
+        }
+        @SuppressWarnings("serial")
+        RecursiveTask<R> task = new RecursiveTask<R>() {
+            @Override
+            protected R compute() {
+                return evaluation.get();
+            }
+        };
+        return p.invoke(task);
+    }
+
     /**
      * Collect the elements output from the pipeline stage.
      *
      * @param generator the array generator to be used to create array instances
      * @return a flat array-backed Node that holds the collected output elements
      */
-    @SuppressWarnings("unchecked")
     final Node<E_OUT> evaluateToArrayNode(IntFunction<E_OUT[]> generator) {
         if (linkedOrConsumed) {
             throw new IllegalStateException(MSG_STREAM_LINKED);
         }
         linkedOrConsumed = true;
 
+        PipelineMetrics.Listener l = sourceStage.listener;
+        if (l != null) {
+            return evaluateInstrumented(l, "toArray", () -> doEvaluateToArrayNode(generator));
+        }
+        return doEvaluateToArrayNode(generator);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<E_OUT> doEvaluateToArrayNode(IntFunction<E_OUT[]> generator) {
         // If the last intermediate operation is stateful then
         // evaluate directly to avoid an extra collection step
         if (isParallel() && previousStage != null && opIsStateful()) {
@@ -255,7 +366,7 @@ abstract class AbstractPipeline<E_IN, E_OUT, S extends BaseStream<E_OUT, S>>
             // upstream slice and upstream operations will not be included
             // in this slice
             depth = 0;
-            return opEvaluateParallel(previousStage, previousStage.sourceSpliterator(0), generator);
+            return evaluateInPool(() -> opEvaluateParallel(previousStage, previousStage.sourceSpliterator(0), generator));
         }
         else {
             return evaluate(sourceSpliterator(0), true, generator);
@@ -311,6 +422,58 @@ abstract class AbstractPipeline<E_IN, E_OUT, S extends BaseStream<E_OUT, S>>
         return (S) this;
     }
 
+    /**
+     * Makes the pipeline parallel and binds its parallel evaluation to the
+     * given pool.
+     *
+     * @param pool the pool to evaluate in
+     * @return this stream
+     */
+    @SuppressWarnings("unchecked")
+    final S parallel(ForkJoinPool pool) {
+        Objects.requireNonNull(pool);
+        if (linkedOrConsumed)
+            throw new IllegalStateException(MSG_STREAM_LINKED);
+        sourceStage.pool = pool;
+        sourceStage.parallel = true;
+        return (S) this;
+    }
+
+    /**
+     * Instruments the pipeline such that the metrics of its evaluation are
+     * passed to the given listener.
+     *
+     * @param l the listener
+     * @return this stream
+     */
+    @SuppressWarnings("unchecked")
+    final S instrument(PipelineMetrics.Listener l) {
+        Objects.requireNonNull(l);
+        if (linkedOrConsumed)
+            throw new IllegalStateException(MSG_STREAM_LINKED);
+        sourceStage.listener = l;
+        return (S) this;
+    }
+
+    /**
+     * Returns the stages of the pipeline, from the source stage up to and
+     * including this stage, and marks this stage as consumed such that the
+     * pipeline can only be evaluated through a {@link PipelineTemplate}.
+     *
+     * @return the stages of the pipeline, the source stage first
+     */
+    final AbstractPipeline<?, ?, ?>[] compileStages() {
+        if (linkedOrConsumed)
+            throw new IllegalStateException(MSG_STREAM_LINKED);
+        linkedOrConsumed = true;
+        int i = stageIndex();
+        AbstractPipeline<?, ?, ?>[] stages = new AbstractPipeline<?, ?, ?>[i + 1];
+        for (AbstractPipeline<?, ?, ?> p = this; p != null; p = p.previousStage) {
+            stages[i--] = p;
+        }
+        return stages;
+    }
+
     @Override
     public void close() {
         linkedOrConsumed = true;
@@ -435,6 +598,8 @@ abstract class AbstractPipeline<E_IN, E_OUT, S extends BaseStream<E_OUT, S>>
                     thisOpFlags = spliterator.hasCharacteristics(Spliterator.SIZED)
                             ? (thisOpFlags & ~StreamOpFlag.NOT_SIZED) | StreamOpFlag.IS_SIZED
                             : (thisOpFlags & ~StreamOpFlag.IS_SIZED) | StreamOpFlag.NOT_SIZED;
+                    // Any size adjustment is reflected by the stage's spliterator
+                    thisOpFlags &= ~StreamOpFlag.IS_SIZE_ADJUSTING;
                 }
                 p.depth = depth++;
                 p.combinedFlags = StreamOpFlag.combineOpFlags(thisOpFlags, u.combinedFlags);
@@ -464,7 +629,21 @@ abstract class AbstractPipeline<E_IN, E_OUT, S extends BaseStream<E_OUT, S>>
 
     @Override
     final <P_IN> long exactOutputSizeIfKnown(Spliterator<P_IN> spliterator) {
-        return StreamOpFlag.SIZED.isKnown(getStreamAndOpFlags()) ? spliterator.getExactSizeIfKnown() : -1L;
+        int flags = getStreamAndOpFlags();
+        long size = StreamOpFlag.SIZED.isKnown(flags) ? spliterator.getExactSizeIfKnown() : -1L;
+        // There are no stateless SIZE_ADJUSTING operations, so a parallel
+        // pipeline can ignore SIZE_ADJUSTING since the stateful stages have
+        // already been evaluated into the spliterator (see sourceSpliterator)
+        if (size != -1L && StreamOpFlag.SIZE_ADJUSTING.isKnown(flags) && !isParallel()) {
+            // The source stage is never SIZE_ADJUSTING
+            for (AbstractPipeline<?, ?, ?> p = sourceStage.nextStage; p != null; p = p.nextStage) {
+                size = p.exactOutputSize(size);
+                if (p == this) {
+                    break;
+                }
+            }
+        }
+        return size;
     }
 
     @Override
@@ -507,11 +686,24 @@ abstract class AbstractPipeline<E_IN, E_OUT, S extends BaseStream<E_OUT, S>>
         return cancelled;
     }
 
+    @Override
+    final MetricsRecorder metricsRecorder() {
+        return sourceStage.recorder;
+    }
+
     @Override
     final int getStreamAndOpFlags() {
         return combinedFlags;
     }
 
+    /**
+     * Returns true if this stage has been linked to a downstream stage or
+     * consumed by a terminal operation.
+     */
+    final boolean isLinkedOrConsumed() {
+        return linkedOrConsumed;
+    }
+
     final boolean isOrdered() {
         return StreamOpFlag.ORDERED.isKnown(combinedFlags);
     }
@@ -521,19 +713,24 @@ abstract class AbstractPipeline<E_IN, E_OUT, S extends BaseStream<E_OUT, S>>
     final <P_IN> Sink<P_IN> wrapSink(Sink<E_OUT> sink) {
         Objects.requireNonNull(sink);
 
-        for (@SuppressWarnings("rawtypes") AbstractPipeline p = AbstractPipeline.this; p.depth > 0; p = p.previousStage) {
-            sink = p.opWrapSink(p.previousStage.combinedFlags, sink);
-        }
-        return (Sink<P_IN>) sink;
+        return (Sink<P_IN>) wrapOps(sink);
     }
 
     @Override
-    final <P_IN> Sink<P_IN> wrapSink(final Consumer<E_OUT> sink) {
+    final <P_IN> Sink<P_IN> wrapSink(Consumer<E_OUT> sink) {
         Objects.requireNonNull(sink);
 
-        Sink<E_OUT> trampoline = new Sink<E_OUT>() {
+        return (Sink<P_IN>) wrapOps(trampoline(sink));
+    }
+
+    /**
+     * Adapts a {@code Consumer} to a reference {@code Sink} that neither
+     * observes the size nor requests cancellation.
+     */
+    static <T> Sink<T> trampoline(final Consumer<T> sink) {
+        return new Sink<T>() {
             @Override
-            public void accept(E_OUT t) {
+            public void accept(T t) {
                 sink.accept(t);
             }
             @Override
@@ -559,11 +756,53 @@ abstract class AbstractPipeline<E_IN, E_OUT, S extends BaseStream<E_OUT, S>>
                 SinkDefaults.reject();
             }
         };
+    }
 
-        for (@SuppressWarnings("rawtypes") AbstractPipeline p = AbstractPipeline.this; p.depth > 0; p = p.previousStage) {
-            trampoline = p.opWrapSink(p.previousStage.combinedFlags, trampoline);
+    /**
+     * Wraps the sink with the sinks of all intermediate operations of the
+     * current pipeline segment.  Runs of adjacent stateless operations that
+     * are fusible (see {@link FusedOps}) are wrapped by a single fused sink.
+     * If the pipeline is instrumented, each sink is wrapped by a counting
+     * sink of its stage instead, and no operations are fused.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Sink wrapOps(Sink sink) {
+        MetricsRecorder r = sourceStage.recorder;
+        if (r != null) {
+            // the sink receives the output of this stage
+            MetricsRecorder.CountingSink down = r.wrap(stageIndex() + 1, sink, null);
+            for (AbstractPipeline p = AbstractPipeline.this; p.depth > 0; p = p.previousStage) {
+                down = r.wrap(p.stageIndex(), p.opWrapSink(p.previousStage.combinedFlags, down), down);
+            }
+            return down;
+        }
+        for (AbstractPipeline p = AbstractPipeline.this; p.depth > 0; p = p.previousStage) {
+            if (FusedOps.ENABLED && p.opFusedKind() != FusedOps.NONE) {
+                AbstractPipeline first = p;
+                int count = 1;
+                while (first.previousStage.depth > 0
+                        && first.previousStage.opFusedKind() != FusedOps.NONE
+                        && first.previousStage.getOutputShape() == p.getOutputShape()) {
+                    first = first.previousStage;
+                    count++;
+                }
+                if (count > 1) {
+                    int[] kinds = new int[count];
+                    Object[] fns = new Object[count];
+                    AbstractPipeline q = p;
+                    for (int i = count - 1; i >= 0; --i, q = q.previousStage) {
+                        kinds[i] = q.opFusedKind();
+                        fns[i] = q.opFusedFunction();
+                    }
+                    sink = FusedOps.makeSink(p.getOutputShape(), kinds, fns, sink);
+                    // continue with the stage upstream of the run
+                    p = first;
+                    continue;
+                }
+            }
+            sink = p.opWrapSink(p.previousStage.combinedFlags, sink);
         }
-        return (Sink<P_IN>) trampoline;
+        return sink;
     }
 
     @Override
@@ -704,6 +943,48 @@ abstract class AbstractPipeline<E_IN, E_OUT, S extends BaseStream<E_OUT, S>>
      */
     abstract Sink<E_IN> opWrapSink(int flags, Sink<E_OUT> sink);
 
+    /**
+     * Returns the exact output size of this stage given the exact size of
+     * its input.  Only called on operations whose flags inject
+     * {@link StreamOpFlag#SIZE_ADJUSTING}, and only for sequential pipelines.
+     *
+     * <p><b>Implementation Requirements:</b><br> The default implementation
+     * returns {@code previousSize}.
+     *
+     * @param previousSize the exact size of the input to this stage, must
+     *        be non-negative
+     * @return the exact size of the output of this stage
+     */
+    long exactOutputSize(long previousSize) {
+        return previousSize;
+    }
+
+    /**
+     * Returns the kind of stateless operation this stage performs if it can
+     * be fused with adjacent stages of the same shape into a single
+     * {@code Sink}, one of {@link FusedOps#FILTER}, {@link FusedOps#MAP} or
+     * {@link FusedOps#PEEK}.
+     *
+     * <p><b>Implementation Requirements:</b><br> The default implementation
+     * returns {@link FusedOps#NONE}, the stage is then always wrapped by the
+     * {@code Sink} returned from {@link #opWrapSink(int, Sink)}.
+     *
+     * @return the fusible step kind of this operation
+     */
+    int opFusedKind() {
+        return FusedOps.NONE;
+    }
+
+    /**
+     * Returns the predicate, operator or consumer of a fusible stage, that is,
+     * a stage whose {@link #opFusedKind()} is not {@link FusedOps#NONE}.
+     *
+     * @return the function of this operation, or {@code null}
+     */
+    Object opFusedFunction() {
+        return null;
+    }
+
     /**
      * Performs a parallel evaluation of the operation using the specified
      * {@code PipelineHelper} which describes the upstream intermediate
@@ -106,14 +106,19 @@ abstract class AbstractShortCircuitTask<P_IN, P_OUT, R,
         boolean forkRight = false;
         @SuppressWarnings("unchecked") K task = (K) this;
         AtomicReference<R> sr = sharedResult;
+        MetricsRecorder mr = helper.metricsRecorder();
+        int splits = 0;
         R result;
         while ((result = sr.get()) == null) {
             if (task.taskCanceled()) {
                 result = task.getEmptyResult();
                 break;
             }
-            if (sizeEstimate <= sizeThreshold || (ls = rs.trySplit()) == null) {
-                result = task.doLeaf();
+            if (!task.shouldSplit(sizeEstimate, sizeThreshold) || (ls = rs.trySplit()) == null) {
+                if (mr != null) {
+                    mr.leaf(splits, sizeEstimate);
+                }
+                result = task.computeLeaf(sizeEstimate);
                 break;
             }
             K leftChild, rightChild, taskToFork;
@@ -133,12 +138,24 @@ abstract class AbstractShortCircuitTask<P_IN, P_OUT, R,
             }
             taskToFork.fork();
             sizeEstimate = rs.estimateSize();
+            splits++;
         }
         task.setLocalResult(result);
         task.tryComplete();
     }
 
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A leaf that found a result or was canceled may have stopped before
+     * traversing all of its elements.
+     */
+    @Override
+    boolean isSampleValid() {
+        return sharedResult.get() == null && !canceled;
+    }
+
     /**
      * Declares that a globally valid result has been found.  If another task has
      * not already found the answer, the result is installed in
@@ -28,6 +28,7 @@ import java8.util.concurrent.CountedCompleter;
 import java8.util.concurrent.ForkJoinPool;
 import java8.util.concurrent.ForkJoinWorkerThread;
 
+import java8.util.PropertyAccess;
 import java8.util.Spliterator;
 
 /**
@@ -75,6 +76,13 @@ import java8.util.Spliterator;
  *     }
  * }</pre>
  *
+ * <p>If the system property {@code java8.util.stream.AbstractTask.adaptive.enabled}
+ * is set to {@code true} the first few leaves of a computation are timed and
+ * the observed cost per element adjusts the splitting of the remaining tasks:
+ * cheap elements lead to larger leaves, whereas for expensive elements tasks
+ * below the target size continue to be split as long as the current worker
+ * has only few surplus queued tasks (see {@link #shouldSplit}).
+ *
  * <p>Serialization is not supported as there is no intention to serialize
  * tasks managed by stream ops.
  *
@@ -92,6 +100,18 @@ abstract class AbstractTask<P_IN, P_OUT, R,
 
     private static final int LEAF_TARGET = ForkJoinPool.getCommonPoolParallelism() << 2;
 
+    private static final String ADAPTIVE_ENABLED_P = AbstractTask.class.getName() + ".adaptive.enabled";
+
+    // defaults to false
+    static final boolean ADAPTIVE = PropertyAccess.getBooleanPropVal(ADAPTIVE_ENABLED_P, false);
+
+    /**
+     * The leaf costs of the computations whose root task is created by the
+     * current thread, overriding {@link #ADAPTIVE} if non-null.  This is a
+     * hook for tests.
+     */
+    static final ThreadLocal<LeafCost> LEAF_COST = new ThreadLocal<LeafCost>();
+
     /** The pipeline helper, common to all tasks in a computation */
     protected final PipelineHelper<P_OUT> helper;
 
@@ -104,6 +124,12 @@ abstract class AbstractTask<P_IN, P_OUT, R,
     /** Target leaf size, common to all tasks in a computation */
     protected long targetSize; // may be lazily initialized
 
+    /**
+     * Observed leaf costs, common to all tasks in a computation, null unless
+     * leaf sizes are adaptive
+     */
+    final LeafCost leafCost;
+
     /**
      * The left child.
      * null if no children
@@ -135,6 +161,8 @@ abstract class AbstractTask<P_IN, P_OUT, R,
         this.helper = helper;
         this.spliterator = spliterator;
         this.targetSize = 0L;
+        LeafCost lc = LEAF_COST.get();
+        this.leafCost = lc != null ? lc : ADAPTIVE ? new LeafCost() : null;
     }
 
     /**
@@ -150,6 +178,7 @@ abstract class AbstractTask<P_IN, P_OUT, R,
         this.spliterator = spliterator;
         this.helper = parent.helper;
         this.targetSize = parent.targetSize;
+        this.leafCost = parent.leafCost;
     }
 
     /**
@@ -207,6 +236,110 @@ abstract class AbstractTask<P_IN, P_OUT, R,
                 (targetSize = suggestTargetSize(sizeEstimate)));
     }
 
+    /**
+     * Decides whether a task whose {@code Spliterator} has the given size
+     * estimate should be split further.  Without adaptive leaf sizing this
+     * is the case if the estimate exceeds the target size.  Otherwise, once
+     * the cost per element is known, tasks are never split below the size
+     * needed to amortize the cost of a task.  Beyond that they're split if
+     * the estimate exceeds the target size, or if the current thread is a
+     * worker with at most {@link LeafCost#SURPLUS} surplus queued tasks, i.e.,
+     * if other workers are likely to be idle.
+     *
+     * @param sizeEstimate the size estimate of the task's spliterator
+     * @param sizeThreshold the target size
+     * @return {@code true} if the task should be split
+     */
+    protected final boolean shouldSplit(long sizeEstimate, long sizeThreshold) {
+        LeafCost lc = leafCost;
+        if (lc == null) {
+            return sizeEstimate > sizeThreshold;
+        }
+        long minSize = lc.minLeafSize;
+        if (minSize == Long.MAX_VALUE) {
+            // not sampled yet
+            return sizeEstimate > sizeThreshold;
+        }
+        if (sizeEstimate <= minSize) {
+            return false;
+        }
+        if (sizeEstimate > sizeThreshold) {
+            return true;
+        }
+        // the surplus is 0 outside of a worker (e.g. for the root task of
+        // invoke()), which tells nothing about the other workers
+        return Thread.currentThread() instanceof ForkJoinWorkerThread
+                && getSurplusQueuedTaskCount() <= LeafCost.SURPLUS;
+    }
+
+    /**
+     * Computes the result of a leaf node via {@code doLeaf()}, timing it if
+     * the per-element cost is still being sampled.
+     *
+     * @param sizeEstimate the size estimate of the leaf's spliterator
+     * @return the computed result of the leaf node
+     */
+    final R computeLeaf(long sizeEstimate) {
+        LeafCost lc = leafCost;
+        if (lc == null || !lc.isSampling()) {
+            return doLeaf();
+        }
+        long start = System.nanoTime();
+        R result = doLeaf();
+        if (isSampleValid()) {
+            lc.sample(sizeEstimate, System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether the duration of the leaf that just completed reflects
+     * the cost of all of its elements.
+     *
+     * @return {@code true} if the leaf traversed all of its elements
+     */
+    boolean isSampleValid() {
+        return true;
+    }
+
+    /**
+     * Per-element cost of the leaves of a computation, sampled from its first
+     * leaves.
+     */
+    static final class LeafCost {
+        /** Min. duration of a leaf to amortize the cost of its task */
+        static final long MIN_LEAF_NANOS = 50_000L;
+        /** Number of leaves sampled */
+        static final int SAMPLES = 4;
+        /** Tasks are split below the target size up to this surplus */
+        static final int SURPLUS = 3;
+
+        /**
+         * Min. size of a leaf, {@code Long.MAX_VALUE} until the first sample
+         * has been taken
+         */
+        volatile long minLeafSize = Long.MAX_VALUE;
+        private volatile int samples;
+        private long sampledElements;
+        private long sampledNanos;
+
+        boolean isSampling() {
+            return samples < SAMPLES;
+        }
+
+        synchronized void sample(long elements, long nanos) {
+            if (elements <= 0L || elements == Long.MAX_VALUE || samples >= SAMPLES) {
+                // nothing to learn from an empty leaf or an unknown size
+                return;
+            }
+            sampledElements += elements;
+            sampledNanos += Math.max(1L, nanos);
+            double perElement = (double) sampledNanos / sampledElements;
+            minLeafSize = Math.max(1L, (long) Math.ceil(MIN_LEAF_NANOS / perElement));
+            samples++;
+        }
+    }
+
     /**
      * Returns the local result, if any. Subclasses should use
      * {@link #setLocalResult(Object)} and {@link #getLocalResult()} to manage
@@ -306,7 +439,8 @@ abstract class AbstractTask<P_IN, P_OUT, R,
         long sizeThreshold = getTargetSize(sizeEstimate);
         boolean forkRight = false;
         @SuppressWarnings("unchecked") K task = (K) this;
-        while (sizeEstimate > sizeThreshold && (ls = rs.trySplit()) != null) {
+        int splits = 0;
+        while (task.shouldSplit(sizeEstimate, sizeThreshold) && (ls = rs.trySplit()) != null) {
             K leftChild, rightChild, taskToFork;
             task.leftChild  = leftChild = task.makeChild(ls);
             task.rightChild = rightChild = task.makeChild(rs);
@@ -324,8 +458,13 @@ abstract class AbstractTask<P_IN, P_OUT, R,
             }
             taskToFork.fork();
             sizeEstimate = rs.estimateSize();
+            splits++;
+        }
+        MetricsRecorder mr = helper.metricsRecorder();
+        if (mr != null) {
+            mr.leaf(splits, sizeEstimate);
         }
-        task.setLocalResult(task.doLeaf());
+        task.setLocalResult(task.computeLeaf(sizeEstimate));
         task.tryComplete();
     }
 
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import java8.util.function.Consumer;
+import java8.util.function.DoubleConsumer;
+import java8.util.function.IntConsumer;
+import java8.util.function.LongConsumer;
+
+/**
+ * A state object for estimating the number of distinct values, using the
+ * HyperLogLog algorithm.
+ *
+ * <p>The sketch has a fixed size of 2<sup>precision</sup> bytes, regardless
+ * of the number of values, and estimates the number of distinct values with
+ * a relative standard error of about 1.04 / sqrt(2<sup>precision</sup>),
+ * which is 0.81% for the default precision of 14 (16 KB).  Two sketches
+ * with the same precision can be combined, which makes it cheap to estimate
+ * distinct counts in parallel:
+ * <pre> {@code
+ * long distinct = longStream.parallel()
+ *                           .collect(CardinalitySketch::new,
+ *                                    CardinalitySketch::accept,
+ *                                    CardinalitySketch::combine)
+ *                           .estimate();
+ * }</pre>
+ *
+ * <p>or, for a stream of objects, with
+ * {@link Collectors#toCardinalitySketch()}.
+ *
+ * <p>Boxed primitive values are counted like the corresponding primitive
+ * values.  Other objects are counted by their {@code hashCode}, so distinct
+ * objects with equal hash codes are counted once; for very large numbers of
+ * distinct objects the estimate becomes too low unless the objects are
+ * mapped to well-distributed {@code long} keys first.
+ *
+ * <p><b>Implementation Note:</b><br> This implementation is not thread safe.
+ * However, it is safe to use {@link Collectors#toCardinalitySketch()} on a
+ * parallel stream, because the parallel implementation of
+ * {@link Stream#collect Stream.collect()} provides the necessary partitioning,
+ * isolation, and merging of results for safe and efficient parallel execution.
+ */
+public final class CardinalitySketch implements IntConsumer, LongConsumer, DoubleConsumer, Consumer<Object> {
+
+    /** The default precision */
+    public static final int DEFAULT_PRECISION = 14;
+
+    /** The minimum precision */
+    public static final int MIN_PRECISION = 4;
+
+    /** The maximum precision */
+    public static final int MAX_PRECISION = 18;
+
+    private final int precision;
+    /** The maximum rank observed in each bucket */
+    private final byte[] registers;
+
+    /**
+     * Constructs an empty sketch with the default precision.
+     */
+    public CardinalitySketch() {
+        this(DEFAULT_PRECISION);
+    }
+
+    /**
+     * Constructs an empty sketch with the given precision.
+     *
+     * @param precision the base 2 logarithm of the number of buckets
+     * @throws IllegalArgumentException if {@code precision} is less than
+     *         {@link #MIN_PRECISION} or greater than {@link #MAX_PRECISION}
+     */
+    public CardinalitySketch(int precision) {
+        checkPrecision(precision);
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    static void checkPrecision(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("precision: " + precision);
+        }
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value the value
+     */
+    @Override
+    public void accept(int value) {
+        add(Sketches.hash((long) value));
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value the value
+     */
+    @Override
+    public void accept(long value) {
+        add(Sketches.hash(value));
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value the value
+     */
+    @Override
+    public void accept(double value) {
+        add(Sketches.hash(value));
+    }
+
+    /**
+     * Records a value, which may be {@code null}.
+     *
+     * @param value the value
+     */
+    @Override
+    public void accept(Object value) {
+        add(Sketches.hash(value));
+    }
+
+    private void add(long hash) {
+        int p = precision;
+        int index = (int) (hash >>> (64 - p));
+        // the guard bit bounds the rank by 64 - p + 1
+        int rank = Long.numberOfLeadingZeros((hash << p) | (1L << (p - 1))) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    /**
+     * Combines the state of another sketch into this one.
+     *
+     * @param other another {@code CardinalitySketch}
+     * @throws NullPointerException if {@code other} is null
+     * @throws IllegalArgumentException if {@code other} has another precision
+     */
+    public void combine(CardinalitySketch other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("precision " + other.precision + " != " + precision);
+        }
+        byte[] regs = registers;
+        byte[] otherRegs = other.registers;
+        for (int i = 0; i < regs.length; i++) {
+            if (otherRegs[i] > regs[i]) {
+                regs[i] = otherRegs[i];
+            }
+        }
+    }
+
+    /**
+     * Returns the estimated number of distinct values recorded.
+     *
+     * @return the estimated number of distinct values
+     */
+    public long estimate() {
+        byte[] regs = registers;
+        int m = regs.length;
+        double sum = 0.0;
+        int zeros = 0;
+        for (byte r : regs) {
+            sum += Double.longBitsToDouble((1023L - r) << 52); // 2^-r
+            if (r == 0) {
+                zeros++;
+            }
+        }
+        double alpha = m == 16 ? 0.673 : m == 32 ? 0.697 : m == 64 ? 0.709 : 0.7213 / (1.0 + 1.079 / m);
+        double estimate = alpha * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            // linear counting is more accurate for small cardinalities
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * Returns the precision of this sketch.
+     *
+     * @return the base 2 logarithm of the number of buckets
+     */
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Returns a non-empty string representation of this object suitable for
+     * debugging. The exact presentation format is unspecified and may vary
+     * between implementations and versions.
+     */
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{precision=" + precision + ", estimate=" + estimate() + "}";
+    }
+}
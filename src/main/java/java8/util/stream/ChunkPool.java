@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import java8.util.PropertyAccess;
+
+/**
+ * An opt-in pool of {@link SpinedBuffer} chunks. When enabled, the chunks of
+ * {@code SpinedBuffer}s and of the spined {@code Node} builders are borrowed
+ * from this pool and given back once the buffer's contents have been copied
+ * out at the end of an operation (e.g., by {@code toArray()}, by a parallel
+ * collect that flattens its result or by the sorting sinks), which reduces the
+ * allocation rate of unsized stateful operations under sustained load.
+ *
+ * <p>Pooling is disabled by default and can be enabled by setting the system
+ * property {@code java8.util.stream.ChunkPool.enabled} to {@code true}.
+ * Only chunks of up to {@code 2^maxChunkPower} elements are retained (the
+ * default power is 14, it can be changed by the system property
+ * {@code java8.util.stream.ChunkPool.maxChunkPower}) and at most
+ * {@link #MAX_PER_CLASS} chunks per element type and size class are kept in
+ * each of the (at most 8) stripes, so the retained memory stays bounded.
+ * Threads are mapped to stripes by their id, a thread that finds its own
+ * stripe empty looks into the other stripes before allocating.
+ *
+ * @since 1.8
+ */
+final class ChunkPool {
+
+    private static final String POOL_ENABLED_P = ChunkPool.class.getName() + ".enabled";
+    private static final String MAX_CHUNK_POWER_P = ChunkPool.class.getName() + ".maxChunkPower";
+
+    // defaults to false
+    static final boolean ENABLED = PropertyAccess.getBooleanPropVal(POOL_ENABLED_P, false);
+
+    /** Element type of reference chunks */
+    static final int REF = 0;
+    /** Element type of int chunks */
+    static final int INT = 1;
+    /** Element type of long chunks */
+    static final int LONG = 2;
+    /** Element type of double chunks */
+    static final int DOUBLE = 3;
+
+    /**
+     * log2 of the largest pooled chunk size, larger chunks are never pooled
+     */
+    static final int MAX_POOLED_POWER = Math.max(AbstractSpinedBuffer.MIN_CHUNK_POWER,
+            Math.min(20, PropertyAccess.getIntPropVal(MAX_CHUNK_POWER_P, 14)));
+
+    /**
+     * Max. number of free chunks per stripe, element type and size class
+     */
+    static final int MAX_PER_CLASS = 2;
+
+    private static final int SIZE_CLASSES = MAX_POOLED_POWER - AbstractSpinedBuffer.MIN_CHUNK_POWER + 1;
+
+    private static final Stripe[] STRIPES;
+    private static final int STRIPE_MASK;
+
+    static {
+        int n = 1;
+        int ncpu = Math.min(8, Runtime.getRuntime().availableProcessors());
+        while (n < ncpu) {
+            n <<= 1;
+        }
+        Stripe[] stripes = new Stripe[n];
+        for (int i = 0; i < n; ++i) {
+            stripes[i] = new Stripe();
+        }
+        STRIPES = stripes;
+        STRIPE_MASK = n - 1;
+    }
+
+    private ChunkPool() { }
+
+    /**
+     * Free chunks of one stripe, indexed by element type and size class
+     */
+    private static final class Stripe {
+        private final Object[][][] free = new Object[4][SIZE_CLASSES][MAX_PER_CLASS];
+        private final int[][] count = new int[4][SIZE_CLASSES];
+
+        synchronized Object poll(int type, int sizeClass) {
+            int n = count[type][sizeClass];
+            if (n == 0) {
+                return null;
+            }
+            Object[] chunks = free[type][sizeClass];
+            Object chunk = chunks[--n];
+            chunks[n] = null;
+            count[type][sizeClass] = n;
+            return chunk;
+        }
+
+        synchronized void offer(int type, int sizeClass, Object chunk) {
+            int n = count[type][sizeClass];
+            if (n < MAX_PER_CLASS) {
+                free[type][sizeClass][n] = chunk;
+                count[type][sizeClass] = n + 1;
+            }
+        }
+    }
+
+    /**
+     * Returns the size class of a chunk of the given length, or -1 if such
+     * chunks aren't pooled.
+     */
+    private static int sizeClass(int length) {
+        if ((length & (length - 1)) != 0) {
+            return -1;
+        }
+        int power = Integer.numberOfTrailingZeros(length);
+        return (power >= AbstractSpinedBuffer.MIN_CHUNK_POWER && power <= MAX_POOLED_POWER)
+                ? power - AbstractSpinedBuffer.MIN_CHUNK_POWER : -1;
+    }
+
+    private static int stripeIndex() {
+        long id = Thread.currentThread().getId();
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & STRIPE_MASK;
+    }
+
+    /**
+     * Takes a free chunk of the given element type and length from the pool.
+     *
+     * @param type one of {@link #REF}, {@link #INT}, {@link #LONG} or
+     *        {@link #DOUBLE}
+     * @param length the chunk length
+     * @return a pooled chunk or {@code null} if there is none
+     */
+    static Object borrow(int type, int length) {
+        int sizeClass = sizeClass(length);
+        if (sizeClass < 0) {
+            return null;
+        }
+        Stripe[] stripes = STRIPES;
+        for (int i = stripeIndex(), n = stripes.length; n > 0; --n, i = (i + 1) & STRIPE_MASK) {
+            Object chunk = stripes[i].poll(type, sizeClass);
+            if (chunk != null) {
+                return chunk;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gives a chunk back to the pool, the chunk is silently dropped if it
+     * isn't poolable or its size class is full. Reference chunks must have
+     * been cleared by the caller.
+     *
+     * @param type one of {@link #REF}, {@link #INT}, {@link #LONG} or
+     *        {@link #DOUBLE}
+     * @param chunk the chunk
+     * @param length the chunk length
+     */
+    static void giveBack(int type, Object chunk, int length) {
+        int sizeClass = sizeClass(length);
+        if (sizeClass >= 0) {
+            STRIPES[stripeIndex()].offer(type, sizeClass, chunk);
+        }
+    }
+}
@@ -55,6 +55,7 @@ import java8.util.function.BinaryOperators;
 import java8.util.function.Consumer;
 import java8.util.function.Function;
 import java8.util.function.Functions;
+import java8.util.function.LongFunction;
 import java8.util.function.Predicate;
 import java8.util.function.Supplier;
 import java8.util.function.ToDoubleFunction;
@@ -154,6 +155,39 @@ public final class Collectors {
         return HashSet::new;
     }
 
+    private static <K, V> LongFunction<Map<K, V>> hashMapNewSized() {
+        return size -> new HashMap<K, V>(hashCapacity(size));
+    }
+
+    private static <T> LongFunction<List<T>> arrayListNewSized() {
+        return size -> new ArrayList<T>((int) Math.min(size, MAX_ARRAY_SIZE));
+    }
+
+    /**
+     * The maximum size of array to allocate (some VMs reserve some header
+     * words in an array)
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * Returns the initial capacity of a {@code HashMap} that holds the given
+     * number of mappings without being resized.
+     */
+    static int hashCapacity(long size) {
+        return size < 3L ? (int) size + 1
+                         : (int) Math.min(size / 0.75f + 1.0f, (float) (1 << 30));
+    }
+
+    /**
+     * Returns the sized supplier of the given collector if it is a
+     * {@link SizedCollector}, otherwise {@code null}.
+     */
+    static <A> LongFunction<A> sizedSupplier(Collector<?, A, ?> collector) {
+        return collector instanceof SizedCollector
+               ? ((SizedCollector<?, A, ?>) collector).sizedSupplier()
+               : null;
+    }
+
     @SuppressWarnings("unchecked")
     private static final Function<Map<?, ?>, Map<?, ?>> UNMOD_MAP_FINISHER = map -> Maps
             .ofEntries(map.entrySet().toArray(new Map.Entry[0]));
@@ -376,6 +410,57 @@ public final class Collectors {
         }
     }
 
+    /**
+     * Simple implementation class for {@code SizedCollector}.
+     *
+     * @param <T> the type of elements to be collected
+     * @param <A> the type of the mutable accumulation
+     * @param <R> the type of the result
+     */
+    static class SizedCollectorImpl<T, A, R> extends CollectorImpl<T, A, R>
+            implements SizedCollector<T, A, R> {
+        private final LongFunction<A> sizedSupplier;
+
+        SizedCollectorImpl(Supplier<A> supplier,
+                           LongFunction<A> sizedSupplier,
+                           BiConsumer<A, T> accumulator,
+                           BinaryOperator<A> combiner,
+                           Function<A,R> finisher,
+                           Set<Characteristics> characteristics) {
+            super(supplier, accumulator, combiner, finisher, characteristics);
+            this.sizedSupplier = sizedSupplier;
+        }
+
+        @SuppressWarnings("unchecked")
+        SizedCollectorImpl(Supplier<A> supplier,
+                           LongFunction<A> sizedSupplier,
+                           BiConsumer<A, T> accumulator,
+                           BinaryOperator<A> combiner,
+                           Set<Characteristics> characteristics) {
+            this(supplier, sizedSupplier, accumulator, combiner, a -> (R)a/*castingIdentity()*/, characteristics);
+        }
+
+        @Override
+        public LongFunction<A> sizedSupplier() {
+            return sizedSupplier;
+        }
+    }
+
+    /**
+     * Creates a {@code SizedCollector} if {@code sizedSupplier} is non-null,
+     * otherwise a {@code Collector}.
+     */
+    private static <T, A, R> Collector<T, A, R> collector(Supplier<A> supplier,
+                                                          LongFunction<A> sizedSupplier,
+                                                          BiConsumer<A, T> accumulator,
+                                                          BinaryOperator<A> combiner,
+                                                          Function<A, R> finisher,
+                                                          Set<Characteristics> characteristics) {
+        return sizedSupplier != null
+               ? new SizedCollectorImpl<>(supplier, sizedSupplier, accumulator, combiner, finisher, characteristics)
+               : new CollectorImpl<>(supplier, accumulator, combiner, finisher, characteristics);
+    }
+
     /**
      * Returns a {@code Collector} that accumulates the input elements into a
      * new {@code Collection}, in encounter order.  The {@code Collection} is
@@ -407,7 +492,7 @@ public final class Collectors {
      */
     public static <T>
     Collector<T, ?, List<T>> toList() {
-        return new CollectorImpl<>(arrayListNew(), listAdd(),
+        return new SizedCollectorImpl<>(arrayListNew(), arrayListNewSized(), listAdd(),
                                    (left, right) -> { left.addAll(right); return left; },
                                    CH_ID);
     }
@@ -426,7 +511,7 @@ public final class Collectors {
     @SuppressWarnings("unchecked")
     public static <T>
     Collector<T, ?, List<T>> toUnmodifiableList() {
-        return new CollectorImpl<>(arrayListNew(), listAdd(),
+        return new SizedCollectorImpl<>(arrayListNew(), arrayListNewSized(), listAdd(),
                                    (left, right) -> { left.addAll(right); return left; },
                                    list -> (List<T>) Lists.of(list.toArray()),
                                    CH_NOID);
@@ -497,10 +582,8 @@ public final class Collectors {
      * {@code String}, in encounter order
      */
     public static Collector<CharSequence, ?, String> joining() {
-        return new CollectorImpl<CharSequence, StringBuilder, String>(
-                StringBuilder::new, StringBuilder::append,
-                (r1, r2) -> { r1.append(r2); return r1; },
-                StringBuilder::toString, CH_NOID);
+        // a StringJoiner merges partial results without copying characters
+        return joining("", "", "");
     }
 
     /**
@@ -598,10 +681,10 @@ public final class Collectors {
     Collector<T, ?, R> mapping(Function<? super T, ? extends U> mapper,
                                Collector<? super U, A, R> downstream) {
         BiConsumer<A, ? super U> downstreamAccumulator = downstream.accumulator();
-        return new CollectorImpl<>(downstream.supplier(),
-                                   (r, t) -> downstreamAccumulator.accept(r, mapper.apply(t)),
-                                   downstream.combiner(), downstream.finisher(),
-                                   downstream.characteristics());
+        return collector(downstream.supplier(), sizedSupplier(downstream),
+                         (r, t) -> downstreamAccumulator.accept(r, mapper.apply(t)),
+                         downstream.combiner(), downstream.finisher(),
+                         downstream.characteristics());
     }
 
     /**
@@ -739,11 +822,12 @@ public final class Collectors {
                 characteristics = Collections.unmodifiableSet(characteristics);
             }
         }
-        return new CollectorImpl<>(downstream.supplier(),
-                                   downstream.accumulator(),
-                                   downstream.combiner(),
-                                   Functions.andThen(downstream.finisher(), finisher),
-                                   characteristics);
+        return collector(downstream.supplier(),
+                         sizedSupplier(downstream),
+                         downstream.accumulator(),
+                         downstream.combiner(),
+                         Functions.andThen(downstream.finisher(), finisher),
+                         characteristics);
     }
 
     /**
@@ -1451,6 +1535,101 @@ public final class Collectors {
         }
     }
 
+    /**
+     * Returns a {@code Collector} implementing a "group by" operation on
+     * input elements of type {@code T}, grouping elements according to a
+     * classification function, whose parallel evaluation merges the groups of
+     * the subtasks shard by shard.
+     *
+     * <p>This produces the same mapping as {@link #groupingBy(Function)}.
+     *
+     * @param <T> the type of the input elements
+     * @param <K> the type of the keys
+     * @param classifier the classifier function mapping input elements to keys
+     * @return a {@code Collector} implementing the group-by operation
+     *
+     * @see #groupingByPartitioned(Function, Collector)
+     * @see #groupingBy(Function)
+     */
+    public static <T, K> Collector<T, ?, Map<K, List<T>>>
+    groupingByPartitioned(Function<? super T, ? extends K> classifier) {
+        return groupingByPartitioned(classifier, toList());
+    }
+
+    /**
+     * Returns a {@code Collector} implementing a cascaded "group by"
+     * operation on input elements of type {@code T}, grouping elements
+     * according to a classification function, and then performing a
+     * reduction operation on the values associated with a given key using
+     * the specified downstream {@code Collector}.  Unlike
+     * {@link #groupingBy(Function, Collector)}, a parallel evaluation merges
+     * the groups of its subtasks shard by shard.
+     *
+     * <p>Each subtask hash-partitions the keys into a fixed number of
+     * {@code HashMap} shards, a small multiple of the parallelism of the
+     * {@link java8.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     * When the results of two subtasks are combined, their corresponding
+     * shards are merged; if the results are large, the shards are merged by
+     * separate tasks in parallel, instead of by a single sequential map merge
+     * near the root of the computation.  Each shard of the final result is
+     * thus built by exactly one task, and the downstream finisher, if any, is
+     * applied to the shards in parallel as well.  This is most beneficial
+     * for large numbers of distinct keys, for which
+     * {@code groupingBy} spends much of the time merging maps and
+     * {@link #groupingByConcurrent(Function, Collector)} contends on a
+     * single map.
+     *
+     * <p>The resulting {@code Map} is a view of the shards.  It is mutable
+     * and permits a {@code null} key, but there are no guarantees on its
+     * type, serializability, thread-safety or iteration order.  As for
+     * {@code groupingBy}, the values of a key are accumulated in encounter
+     * order.
+     *
+     * @param <T> the type of the input elements
+     * @param <K> the type of the keys
+     * @param <A> the intermediate accumulation type of the downstream collector
+     * @param <D> the result type of the downstream reduction
+     * @param classifier a classifier function mapping input elements to keys
+     * @param downstream a {@code Collector} implementing the downstream reduction
+     * @return a {@code Collector} implementing the cascaded group-by operation
+     *
+     * @see #groupingByPartitioned(Function)
+     * @see #groupingBy(Function, Collector)
+     * @see #groupingByConcurrent(Function, Collector)
+     */
+    public static <T, K, A, D> Collector<T, ?, Map<K, D>>
+    groupingByPartitioned(Function<? super T, ? extends K> classifier,
+                          Collector<? super T, A, D> downstream) {
+        Objects.requireNonNull(classifier);
+        Supplier<A> downstreamSupplier = downstream.supplier();
+        BiConsumer<A, ? super T> downstreamAccumulator = downstream.accumulator();
+        BinaryOperator<A> downstreamCombiner = downstream.combiner();
+        BiConsumer<ShardedHashMap<K, A>, T> accumulator = (m, t) -> {
+            K key = Objects.requireNonNull(classifier.apply(t), "element cannot be mapped to a null key");
+            A container = Maps.computeIfAbsent(m.shard(key), key, k -> downstreamSupplier.get());
+            downstreamAccumulator.accept(container, t);
+        };
+        BinaryOperator<ShardedHashMap<K, A>> merger = (m1, m2) -> m1.mergeAll(m2, downstreamCombiner);
+        Supplier<ShardedHashMap<K, A>> supplier = ShardedHashMap::new;
+
+        if (downstream.characteristics().contains(Collector.Characteristics.IDENTITY_FINISH)) {
+            @SuppressWarnings({ "rawtypes", "unchecked" })
+            Collector<T, ?, Map<K, D>> c = new CollectorImpl(supplier, accumulator, merger, CH_ID);
+            return c;
+        }
+        else {
+            @SuppressWarnings("unchecked")
+            Function<A, A> downstreamFinisher = (Function<A, A>) downstream.finisher();
+            Function<ShardedHashMap<K, A>, Map<K, D>> finisher = intermediate -> {
+                intermediate.replaceAllValues((k, v) -> downstreamFinisher.apply(v));
+                @SuppressWarnings("unchecked")
+                Map<K, D> castResult = (Map<K, D>) (Map<K, ?>) intermediate;
+                return castResult;
+            };
+            return new CollectorImpl<>(supplier, accumulator, merger, finisher, CH_NOID);
+        }
+    }
+
     /**
      * Returns a {@code Collector} which partitions the input elements according
      * to a {@code Predicate}, and organizes them into a
@@ -1587,7 +1766,7 @@ public final class Collectors {
     public static <T, K, U>
     Collector<T, ?, Map<K,U>> toMap(Function<? super T, ? extends K> keyMapper,
                                     Function<? super T, ? extends U> valueMapper) {
-        return new CollectorImpl<>(hashMapNew(),
+        return new SizedCollectorImpl<>(hashMapNew(), hashMapNewSized(),
                 uniqKeysMapAccumulator((Function<T, K>) keyMapper, (Function<T, U>) valueMapper),
                 uniqKeysMapMerger(),
                 CH_ID);
@@ -2006,6 +2185,134 @@ public final class Collectors {
                 (l, r) -> { l.combine(r); return l; }, CH_ID);
     }
 
+    /**
+     * Returns a {@code Collector} which estimates the number of distinct input
+     * elements with a {@link CardinalitySketch} of the default precision.  The
+     * sketch has a fixed size of 16 KB, regardless of the number of elements.
+     *
+     * <p>For example, to estimate the number of distinct visitors:
+     * <pre>{@code
+     *     long visitors = StreamSupport.stream(hits).map(Hit::visitorId)
+     *                                  .collect(toCardinalitySketch()).estimate();
+     * }</pre>
+     *
+     * @param <T> the type of the input elements
+     * @return a {@code Collector} implementing the distinct count estimation
+     * @see #toCardinalitySketch(int)
+     */
+    public static <T>
+    Collector<T, ?, CardinalitySketch> toCardinalitySketch() {
+        return toCardinalitySketch(CardinalitySketch.DEFAULT_PRECISION);
+    }
+
+    /**
+     * Returns a {@code Collector} which estimates the number of distinct input
+     * elements with a {@link CardinalitySketch} of the given precision.
+     *
+     * @param <T> the type of the input elements
+     * @param precision the base 2 logarithm of the number of buckets of the
+     *        sketch
+     * @return a {@code Collector} implementing the distinct count estimation
+     * @throws IllegalArgumentException if {@code precision} is out of the range
+     *         supported by {@code CardinalitySketch}
+     */
+    public static <T>
+    Collector<T, ?, CardinalitySketch> toCardinalitySketch(int precision) {
+        CardinalitySketch.checkPrecision(precision);
+        return new CollectorImpl<T, CardinalitySketch, CardinalitySketch>(
+                () -> new CardinalitySketch(precision),
+                CardinalitySketch::accept,
+                (l, r) -> { l.combine(r); return l; }, CH_UNORDERED_ID);
+    }
+
+    /**
+     * Returns a {@code Collector} which applies a {@code double}-producing
+     * mapping function to each input element, and estimates quantiles of the
+     * resulting values with a {@link QuantileSketch}.
+     *
+     * <p>For example, to estimate the 99th percentile of the response times:
+     * <pre>{@code
+     *     double p99 = StreamSupport.stream(requests)
+     *                               .collect(toQuantileSketch(Request::millis))
+     *                               .quantile(0.99);
+     * }</pre>
+     *
+     * @param <T> the type of the input elements
+     * @param mapper a mapping function to apply to each element
+     * @return a {@code Collector} implementing the quantile estimation
+     * @see #toQuantileSketch(ToDoubleFunction, int)
+     */
+    public static <T>
+    Collector<T, ?, QuantileSketch> toQuantileSketch(ToDoubleFunction<? super T> mapper) {
+        return toQuantileSketch(mapper, QuantileSketch.DEFAULT_K);
+    }
+
+    /**
+     * Returns a {@code Collector} which applies a {@code double}-producing
+     * mapping function to each input element, and estimates quantiles of the
+     * resulting values with a {@link QuantileSketch} with the given parameter
+     * {@code k}.
+     *
+     * @param <T> the type of the input elements
+     * @param mapper a mapping function to apply to each element
+     * @param k the capacity of the largest compactor of the sketch
+     * @return a {@code Collector} implementing the quantile estimation
+     * @throws IllegalArgumentException if {@code k} is less than 8
+     */
+    public static <T>
+    Collector<T, ?, QuantileSketch> toQuantileSketch(ToDoubleFunction<? super T> mapper, int k) {
+        Objects.requireNonNull(mapper, "mapper");
+        QuantileSketch.checkK(k);
+        return new CollectorImpl<T, QuantileSketch, QuantileSketch>(
+                () -> new QuantileSketch(k),
+                (r, t) -> r.accept(mapper.applyAsDouble(t)),
+                (l, r) -> { l.combine(r); return l; }, CH_UNORDERED_ID);
+    }
+
+    /**
+     * Returns a {@code Collector} which estimates the frequencies of the input
+     * elements and tracks the most frequent ones with a {@link FrequencySketch}
+     * of the default dimensions.
+     *
+     * <p>For example, to find the most requested URLs:
+     * <pre>{@code
+     *     Map<Object, Long> top = StreamSupport.stream(requests).map(Request::url)
+     *                                          .collect(toFrequencySketch())
+     *                                          .heavyHitters();
+     * }</pre>
+     *
+     * @param <T> the type of the input elements
+     * @return a {@code Collector} implementing the frequency estimation
+     * @see #toFrequencySketch(int, int, int)
+     */
+    public static <T>
+    Collector<T, ?, FrequencySketch> toFrequencySketch() {
+        return toFrequencySketch(FrequencySketch.DEFAULT_WIDTH, FrequencySketch.DEFAULT_DEPTH,
+                                 FrequencySketch.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns a {@code Collector} which estimates the frequencies of the input
+     * elements and tracks the most frequent ones with a {@link FrequencySketch}
+     * of the given dimensions.
+     *
+     * @param <T> the type of the input elements
+     * @param width the number of counters per row of the sketch
+     * @param depth the number of rows of the sketch
+     * @param capacity the maximum number of heavy hitters to track
+     * @return a {@code Collector} implementing the frequency estimation
+     * @throws IllegalArgumentException if the dimensions are not supported by
+     *         {@code FrequencySketch}
+     */
+    public static <T>
+    Collector<T, ?, FrequencySketch> toFrequencySketch(int width, int depth, int capacity) {
+        FrequencySketch.checkDimensions(width, depth, capacity);
+        return new CollectorImpl<T, FrequencySketch, FrequencySketch>(
+                () -> new FrequencySketch(width, depth, capacity),
+                FrequencySketch::accept,
+                (l, r) -> { l.combine(r); return l; }, CH_UNORDERED_ID);
+    }
+
     /**
      * Returns a {@code Collector} that is a composite of two downstream collectors.
      * Every element passed to the resulting collector is processed by both downstream
@@ -2102,6 +2409,142 @@ public final class Collectors {
         return new CollectorImpl<>(PairBox::new, PairBox::add, PairBox::combine, PairBox::get, characteristics);
     }
 
+    /**
+     * Returns a {@code Collector} that is a composite of any number of
+     * downstream collectors.  Every element passed to the resulting collector
+     * is processed by all downstream collectors, then their results are merged
+     * using the specified merge function into the final result.
+     *
+     * <p>This is the n-ary form of {@link #teeing(Collector, Collector, BiFunction)}.
+     * Unlike nested {@code teeing} collectors, the result container holds the
+     * result containers of all downstream collectors in a single array, which
+     * is visited in one loop for every element, and two result containers are
+     * combined in a single step.
+     *
+     * <p>For example, the following computes several statistics of the
+     * transactions in one pass:
+     * <pre>{@code
+     *     Stats stats = StreamSupport.stream(transactions)
+     *         .collect(teeing(Arrays.asList(counting(),
+     *                                       summingLong(Transaction::amount),
+     *                                       minBy(BY_AMOUNT),
+     *                                       maxBy(BY_AMOUNT)),
+     *                         results -> new Stats(results)));
+     * }</pre>
+     *
+     * <p>The resulting collector is {@link Collector.Characteristics#UNORDERED} if all
+     * downstream collectors are unordered and {@link Collector.Characteristics#CONCURRENT}
+     * if all downstream collectors are concurrent.  It is a {@link SizedCollector}
+     * if any downstream collector is one.
+     *
+     * @param <T>         the type of the input elements
+     * @param <R>         the final result type
+     * @param downstreams the downstream collectors
+     * @param merger      the function which merges the results of the downstream
+     *                    collectors, in the order of {@code downstreams}, into the
+     *                    single one
+     * @return a {@code Collector} which aggregates the results of the supplied collectors
+     * @throws NullPointerException if {@code downstreams}, any of its elements
+     *         or {@code merger} is null
+     */
+    public static <T, R>
+    Collector<T, ?, R> teeing(List<? extends Collector<? super T, ?, ?>> downstreams,
+                              Function<? super List<Object>, R> merger) {
+        Objects.requireNonNull(downstreams, "downstreams");
+        Objects.requireNonNull(merger, "merger");
+        return new Tee<T, R>(downstreams.toArray(new Collector<?, ?, ?>[0]), merger).asCollector();
+    }
+
+    /**
+     * Implementation class used by the n-ary teeing.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static final class Tee<T, R> {
+        private final Supplier[] suppliers;
+        private final LongFunction[] sizedSuppliers;
+        private final BiConsumer[] accumulators;
+        private final BinaryOperator[] combiners;
+        private final Function[] finishers;
+        private final Function<? super List<Object>, R> merger;
+        private final Set<Collector.Characteristics> characteristics;
+        /** Whether any downstream collector is a {@code SizedCollector} */
+        private final boolean sized;
+
+        Tee(Collector<?, ?, ?>[] downstreams, Function<? super List<Object>, R> merger) {
+            int n = downstreams.length;
+            suppliers = new Supplier[n];
+            sizedSuppliers = new LongFunction[n];
+            accumulators = new BiConsumer[n];
+            combiners = new BinaryOperator[n];
+            finishers = new Function[n];
+            this.merger = merger;
+
+            EnumSet<Collector.Characteristics> c = EnumSet.of(Collector.Characteristics.CONCURRENT,
+                                                              Collector.Characteristics.UNORDERED);
+            boolean anySized = false;
+            for (int i = 0; i < n; i++) {
+                Collector<?, ?, ?> downstream = Objects.requireNonNull(downstreams[i], "downstream");
+                suppliers[i] = Objects.requireNonNull(downstream.supplier(), "downstream supplier");
+                accumulators[i] = Objects.requireNonNull(downstream.accumulator(), "downstream accumulator");
+                combiners[i] = Objects.requireNonNull(downstream.combiner(), "downstream combiner");
+                finishers[i] = Objects.requireNonNull(downstream.finisher(), "downstream finisher");
+                sizedSuppliers[i] = sizedSupplier(downstream);
+                anySized |= sizedSuppliers[i] != null;
+                c.retainAll(downstream.characteristics());
+            }
+            characteristics = c.isEmpty() ? CH_NOID : Collections.unmodifiableSet(c);
+            sized = anySized;
+        }
+
+        Collector<T, Object[], R> asCollector() {
+            LongFunction<Object[]> sizedSupplier = sized ? this::newContainers : null;
+            return collector(this::newContainers, sizedSupplier,
+                             this::accumulate, this::combine, this::finish, characteristics);
+        }
+
+        Object[] newContainers() {
+            Supplier[] suppliers = this.suppliers;
+            Object[] containers = new Object[suppliers.length];
+            for (int i = 0; i < containers.length; i++) {
+                containers[i] = suppliers[i].get();
+            }
+            return containers;
+        }
+
+        Object[] newContainers(long size) {
+            Object[] containers = new Object[suppliers.length];
+            for (int i = 0; i < containers.length; i++) {
+                LongFunction sizedSupplier = sizedSuppliers[i];
+                containers[i] = sizedSupplier != null ? sizedSupplier.apply(size) : suppliers[i].get();
+            }
+            return containers;
+        }
+
+        void accumulate(Object[] containers, T t) {
+            BiConsumer[] accumulators = this.accumulators;
+            for (int i = 0; i < accumulators.length; i++) {
+                accumulators[i].accept(containers[i], t);
+            }
+        }
+
+        Object[] combine(Object[] left, Object[] right) {
+            BinaryOperator[] combiners = this.combiners;
+            for (int i = 0; i < combiners.length; i++) {
+                left[i] = combiners[i].apply(left[i], right[i]);
+            }
+            return left;
+        }
+
+        R finish(Object[] containers) {
+            Function[] finishers = this.finishers;
+            Object[] results = new Object[finishers.length];
+            for (int i = 0; i < results.length; i++) {
+                results[i] = finishers[i].apply(containers[i]);
+            }
+            return merger.apply(Arrays.asList(results));
+        }
+    }
+
     /**
      * Implementation class used by partitioningBy.
      */
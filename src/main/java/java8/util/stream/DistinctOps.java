@@ -25,13 +25,14 @@
 package java8.util.stream;
 
 import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import java8.util.Objects;
 import java8.util.concurrent.ForkJoinPool;
@@ -41,6 +42,9 @@ import java8.util.Spliterator;
 /**
  * Factory methods for transforming streams into duplicate-free streams, using
  * {@link Object#equals(Object)} to determine equality.
+ * The primitive variants use open-addressing hash sets over the primitive
+ * values and never box elements (for {@code double} values equality is
+ * determined the same way as {@link Double#equals(Object)} does).
  *
  * @since 1.8
  */
@@ -60,13 +64,43 @@ final class DistinctOps {
         return new ReferencePipeline.StatefulOp<T, T>(upstream, StreamShape.REFERENCE,
                                                       StreamOpFlag.IS_DISTINCT | StreamOpFlag.NOT_SIZED) {
 
-            <P_IN> Node<T> reduce(PipelineHelper<T> helper, Spliterator<P_IN> spliterator) {
-                // If the stream is SORTED then it should also be ORDERED so the following will also
-                // preserve the sort order
-                TerminalOp<T, LinkedHashSet<T>> reduceOp
-                        = ReduceOps.<T, LinkedHashSet<T>>makeRef(LinkedHashSet::new, LinkedHashSet::add,
-                                                                 LinkedHashSet::addAll);
-                return Nodes.node(reduceOp.evaluateParallel(helper, spliterator));
+            <P_IN> Node<T> reduce(PipelineHelper<T> helper, Spliterator<P_IN> spliterator,
+                                  IntFunction<T[]> generator) {
+                // Rather than reducing into LinkedHashSets (whose merges copy
+                // the right set at each level and serialize on the final
+                // merges) the elements are materialized in encounter order,
+                // the first encounter index of each element is recorded
+                // concurrently and the first occurrences are then compacted,
+                // again in parallel. If the stream is SORTED then it should
+                // also be ORDERED so this will also preserve the sort order.
+                T[] elements = helper.evaluate(spliterator, true, generator).asArray(generator);
+                int size = elements.length;
+                ConcurrentMap<T, AtomicInteger> firstSeen = new ConcurrentHashMap<T, AtomicInteger>(
+                        Math.max(16, Math.min(size, 1 << 20)), 0.75f,
+                        ForkJoinPool.getCommonPoolParallelism() + 1);
+                // Holder of the first null index since ConcurrentHashMap does not support null keys
+                AtomicInteger firstNull = new AtomicInteger(size);
+                IntStreams.range(0, size).parallel().forEach(i -> {
+                    T t = elements[i];
+                    AtomicInteger first;
+                    if (t == null) {
+                        first = firstNull;
+                    } else if ((first = firstSeen.get(t)) == null
+                            && (first = firstSeen.putIfAbsent(t, new AtomicInteger(i))) == null) {
+                        return;
+                    }
+                    for (int f; i < (f = first.get()) && !first.compareAndSet(f, i); ) {
+                        // retry
+                    }
+                });
+                T[] distinct = IntStreams.range(0, size).parallel()
+                        .filter(i -> {
+                            T t = elements[i];
+                            return i == (t == null ? firstNull : firstSeen.get(t)).get();
+                        })
+                        .mapToObj(i -> elements[i])
+                        .toArray(generator);
+                return Nodes.node(distinct);
             }
 
             @Override
@@ -78,7 +112,7 @@ final class DistinctOps {
                     return helper.evaluate(spliterator, false, generator);
                 }
                 else if (StreamOpFlag.ORDERED.isKnown(helper.getStreamAndOpFlags())) {
-                    return reduce(helper, spliterator);
+                    return reduce(helper, spliterator, generator);
                 }
                 else {
                     // Holder of null state since ConcurrentHashMap does not support null values
@@ -122,7 +156,7 @@ final class DistinctOps {
                 }
                 else if (StreamOpFlag.ORDERED.isKnown(helper.getStreamAndOpFlags())) {
                     // Not lazy, barrier required to preserve order
-                    return reduce(helper, spliterator).spliterator();
+                    return reduce(helper, spliterator, Nodes.castingArray()).spliterator();
                 }
                 else {
                     // Lazy
@@ -195,6 +229,571 @@ final class DistinctOps {
         };
     }
 
+    /**
+     * Appends a "distinct" operation to the provided {@code IntStream}, and
+     * returns the new stream.
+     *
+     * @param upstream an int stream
+     * @return the new stream
+     */
+    static IntStream makeInt(AbstractPipeline<?, Integer, ?> upstream) {
+        return new IntPipeline.StatefulOp<Integer>(upstream, StreamShape.INT_VALUE,
+                                                   StreamOpFlag.IS_DISTINCT | StreamOpFlag.NOT_SIZED) {
+
+            <P_IN> Node<Integer> reduce(PipelineHelper<Integer> helper, Spliterator<P_IN> spliterator) {
+                // Ordered streams (this includes SORTED streams) append the
+                // right set in encounter order, otherwise the larger set
+                // absorbs the smaller one
+                boolean ordered = StreamOpFlag.ORDERED.isKnown(helper.getStreamAndOpFlags());
+                TerminalOp<Integer, IntSet> reduceOp
+                        = ReduceOps.<IntSet>makeInt(IntSet::new, IntSet::add,
+                                                    ordered ? IntSet::addAll : IntSet::union);
+                return Nodes.node(reduceOp.evaluateParallel(helper, spliterator).toArray());
+            }
+
+            @Override
+            <P_IN> Node<Integer> opEvaluateParallel(PipelineHelper<Integer> helper,
+                                                    Spliterator<P_IN> spliterator,
+                                                    IntFunction<Integer[]> generator) {
+                if (StreamOpFlag.DISTINCT.isKnown(helper.getStreamAndOpFlags())) {
+                    // No-op
+                    return helper.evaluate(spliterator, false, generator);
+                }
+                return reduce(helper, spliterator);
+            }
+
+            @Override
+            <P_IN> Spliterator<Integer> opEvaluateParallelLazy(PipelineHelper<Integer> helper,
+                                                               Spliterator<P_IN> spliterator) {
+                if (StreamOpFlag.DISTINCT.isKnown(helper.getStreamAndOpFlags())) {
+                    // No-op
+                    return helper.wrapSpliterator(spliterator);
+                }
+                // Not lazy, barrier required
+                return reduce(helper, spliterator).spliterator();
+            }
+
+            @Override
+            Sink<Integer> opWrapSink(int flags, Sink<Integer> sink) {
+                Objects.requireNonNull(sink);
+
+                if (StreamOpFlag.DISTINCT.isKnown(flags)) {
+                    return sink;
+                } else if (StreamOpFlag.SORTED.isKnown(flags)) {
+                    return new Sink.ChainedInt<Integer>(sink) {
+                        boolean seenAny;
+                        int lastSeen;
+
+                        @Override
+                        public void begin(long size) {
+                            seenAny = false;
+                            downstream.begin(-1);
+                        }
+
+                        @Override
+                        public void end() {
+                            seenAny = false;
+                            downstream.end();
+                        }
+
+                        @Override
+                        public void accept(int t) {
+                            if (!seenAny || t != lastSeen) {
+                                seenAny = true;
+                                downstream.accept(lastSeen = t);
+                            }
+                        }
+                    };
+                } else {
+                    return new Sink.ChainedInt<Integer>(sink) {
+                        IntSet seen;
+
+                        @Override
+                        public void begin(long size) {
+                            seen = new IntSet();
+                            downstream.begin(-1);
+                        }
+
+                        @Override
+                        public void end() {
+                            seen = null;
+                            downstream.end();
+                        }
+
+                        @Override
+                        public void accept(int t) {
+                            if (seen.add(t)) {
+                                downstream.accept(t);
+                            }
+                        }
+                    };
+                }
+            }
+        };
+    }
+
+    /**
+     * Appends a "distinct" operation to the provided {@code LongStream}, and
+     * returns the new stream.
+     *
+     * @param upstream a long stream
+     * @return the new stream
+     */
+    static LongStream makeLong(AbstractPipeline<?, Long, ?> upstream) {
+        return new LongPipeline.StatefulOp<Long>(upstream, StreamShape.LONG_VALUE,
+                                                 StreamOpFlag.IS_DISTINCT | StreamOpFlag.NOT_SIZED) {
+
+            <P_IN> Node<Long> reduce(PipelineHelper<Long> helper, Spliterator<P_IN> spliterator) {
+                boolean ordered = StreamOpFlag.ORDERED.isKnown(helper.getStreamAndOpFlags());
+                TerminalOp<Long, LongSet> reduceOp
+                        = ReduceOps.<LongSet>makeLong(LongSet::new, LongSet::add,
+                                                      ordered ? LongSet::addAll : LongSet::union);
+                return Nodes.node(reduceOp.evaluateParallel(helper, spliterator).toArray());
+            }
+
+            @Override
+            <P_IN> Node<Long> opEvaluateParallel(PipelineHelper<Long> helper,
+                                                 Spliterator<P_IN> spliterator,
+                                                 IntFunction<Long[]> generator) {
+                if (StreamOpFlag.DISTINCT.isKnown(helper.getStreamAndOpFlags())) {
+                    // No-op
+                    return helper.evaluate(spliterator, false, generator);
+                }
+                return reduce(helper, spliterator);
+            }
+
+            @Override
+            <P_IN> Spliterator<Long> opEvaluateParallelLazy(PipelineHelper<Long> helper,
+                                                            Spliterator<P_IN> spliterator) {
+                if (StreamOpFlag.DISTINCT.isKnown(helper.getStreamAndOpFlags())) {
+                    // No-op
+                    return helper.wrapSpliterator(spliterator);
+                }
+                // Not lazy, barrier required
+                return reduce(helper, spliterator).spliterator();
+            }
+
+            @Override
+            Sink<Long> opWrapSink(int flags, Sink<Long> sink) {
+                Objects.requireNonNull(sink);
+
+                if (StreamOpFlag.DISTINCT.isKnown(flags)) {
+                    return sink;
+                } else if (StreamOpFlag.SORTED.isKnown(flags)) {
+                    return new Sink.ChainedLong<Long>(sink) {
+                        boolean seenAny;
+                        long lastSeen;
+
+                        @Override
+                        public void begin(long size) {
+                            seenAny = false;
+                            downstream.begin(-1);
+                        }
+
+                        @Override
+                        public void end() {
+                            seenAny = false;
+                            downstream.end();
+                        }
+
+                        @Override
+                        public void accept(long t) {
+                            if (!seenAny || t != lastSeen) {
+                                seenAny = true;
+                                downstream.accept(lastSeen = t);
+                            }
+                        }
+                    };
+                } else {
+                    return new Sink.ChainedLong<Long>(sink) {
+                        LongSet seen;
+
+                        @Override
+                        public void begin(long size) {
+                            seen = new LongSet();
+                            downstream.begin(-1);
+                        }
+
+                        @Override
+                        public void end() {
+                            seen = null;
+                            downstream.end();
+                        }
+
+                        @Override
+                        public void accept(long t) {
+                            if (seen.add(t)) {
+                                downstream.accept(t);
+                            }
+                        }
+                    };
+                }
+            }
+        };
+    }
+
+    /**
+     * Appends a "distinct" operation to the provided {@code DoubleStream}, and
+     * returns the new stream.
+     *
+     * @param upstream a double stream
+     * @return the new stream
+     */
+    static DoubleStream makeDouble(AbstractPipeline<?, Double, ?> upstream) {
+        return new DoublePipeline.StatefulOp<Double>(upstream, StreamShape.DOUBLE_VALUE,
+                                                     StreamOpFlag.IS_DISTINCT | StreamOpFlag.NOT_SIZED) {
+
+            <P_IN> Node<Double> reduce(PipelineHelper<Double> helper, Spliterator<P_IN> spliterator) {
+                boolean ordered = StreamOpFlag.ORDERED.isKnown(helper.getStreamAndOpFlags());
+                TerminalOp<Double, DoubleSet> reduceOp
+                        = ReduceOps.<DoubleSet>makeDouble(DoubleSet::new, DoubleSet::add,
+                                                          ordered ? DoubleSet::addAll : DoubleSet::union);
+                return Nodes.node(reduceOp.evaluateParallel(helper, spliterator).toArray());
+            }
+
+            @Override
+            <P_IN> Node<Double> opEvaluateParallel(PipelineHelper<Double> helper,
+                                                   Spliterator<P_IN> spliterator,
+                                                   IntFunction<Double[]> generator) {
+                if (StreamOpFlag.DISTINCT.isKnown(helper.getStreamAndOpFlags())) {
+                    // No-op
+                    return helper.evaluate(spliterator, false, generator);
+                }
+                return reduce(helper, spliterator);
+            }
+
+            @Override
+            <P_IN> Spliterator<Double> opEvaluateParallelLazy(PipelineHelper<Double> helper,
+                                                              Spliterator<P_IN> spliterator) {
+                if (StreamOpFlag.DISTINCT.isKnown(helper.getStreamAndOpFlags())) {
+                    // No-op
+                    return helper.wrapSpliterator(spliterator);
+                }
+                // Not lazy, barrier required
+                return reduce(helper, spliterator).spliterator();
+            }
+
+            @Override
+            Sink<Double> opWrapSink(int flags, Sink<Double> sink) {
+                Objects.requireNonNull(sink);
+
+                if (StreamOpFlag.DISTINCT.isKnown(flags)) {
+                    return sink;
+                } else if (StreamOpFlag.SORTED.isKnown(flags)) {
+                    return new Sink.ChainedDouble<Double>(sink) {
+                        boolean seenAny;
+                        long lastSeenBits;
+
+                        @Override
+                        public void begin(long size) {
+                            seenAny = false;
+                            downstream.begin(-1);
+                        }
+
+                        @Override
+                        public void end() {
+                            seenAny = false;
+                            downstream.end();
+                        }
+
+                        @Override
+                        public void accept(double t) {
+                            long bits = Double.doubleToLongBits(t);
+                            if (!seenAny || bits != lastSeenBits) {
+                                seenAny = true;
+                                lastSeenBits = bits;
+                                downstream.accept(t);
+                            }
+                        }
+                    };
+                } else {
+                    return new Sink.ChainedDouble<Double>(sink) {
+                        DoubleSet seen;
+
+                        @Override
+                        public void begin(long size) {
+                            seen = new DoubleSet();
+                            downstream.begin(-1);
+                        }
+
+                        @Override
+                        public void end() {
+                            seen = null;
+                            downstream.end();
+                        }
+
+                        @Override
+                        public void accept(double t) {
+                            if (seen.add(t)) {
+                                downstream.accept(t);
+                            }
+                        }
+                    };
+                }
+            }
+        };
+    }
+
+    /** Initial number of elements of the primitive sets (a power of 2) */
+    private static final int INITIAL_SET_CAPACITY = 16;
+    /** Max. number of elements of the primitive sets (a power of 2) */
+    private static final int MAX_SET_CAPACITY = 1 << 29;
+
+    /**
+     * Spreads the bits of an {@code int} hash so that the low order bits used
+     * for indexing into a power of 2 sized table depend on all input bits.
+     */
+    static int mix(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Spreads the bits of a {@code long} into an {@code int} hash.
+     */
+    static int mix(long h) {
+        h *= 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    static int grownCapacity(int capacity) {
+        if (capacity >= MAX_SET_CAPACITY) {
+            throw new IllegalArgumentException(Nodes.BAD_SIZE);
+        }
+        return capacity << 1;
+    }
+
+    /**
+     * An insertion ordered, open-addressing (linear probing) hash set of
+     * {@code int} values. The elements are kept in encounter order in a dense
+     * array and the hash table only stores (1-based) indexes into that array,
+     * so a slot value of {@code 0} denotes a free slot and no value needs to
+     * be reserved. The table is kept at most half full.
+     */
+    static final class IntSet {
+        private int[] elements;
+        private int[] slots;
+        private int size;
+
+        IntSet() {
+            elements = new int[INITIAL_SET_CAPACITY];
+            slots = new int[INITIAL_SET_CAPACITY << 1];
+        }
+
+        /**
+         * Adds the value if not already present.
+         *
+         * @return {@code true} if the value was added
+         */
+        boolean add(int value) {
+            int[] slots = this.slots;
+            int mask = slots.length - 1;
+            int i = mix(value) & mask;
+            for (int s; (s = slots[i]) != 0; i = (i + 1) & mask) {
+                if (elements[s - 1] == value) {
+                    return false;
+                }
+            }
+            if (size == elements.length) {
+                resize();
+                i = freeSlot(value);
+            }
+            elements[size] = value;
+            this.slots[i] = ++size;
+            return true;
+        }
+
+        private int freeSlot(int value) {
+            int[] slots = this.slots;
+            int mask = slots.length - 1;
+            int i = mix(value) & mask;
+            while (slots[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            return i;
+        }
+
+        private void resize() {
+            int capacity = grownCapacity(elements.length);
+            elements = Arrays.copyOf(elements, capacity);
+            slots = new int[capacity << 1];
+            for (int i = 0; i < size; ++i) {
+                slots[freeSlot(elements[i])] = i + 1;
+            }
+        }
+
+        /**
+         * Adds the elements of {@code other} in their encounter order
+         * (combiner for ordered streams).
+         */
+        IntSet addAll(IntSet other) {
+            int[] e = other.elements;
+            for (int i = 0, n = other.size; i < n; ++i) {
+                add(e[i]);
+            }
+            return this;
+        }
+
+        /**
+         * Merges the smaller of the two sets into the larger one (combiner for
+         * unordered streams).
+         */
+        IntSet union(IntSet other) {
+            return (size >= other.size) ? addAll(other) : other.addAll(this);
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(elements, size);
+        }
+    }
+
+    /**
+     * An insertion ordered, open-addressing hash set of {@code long} values.
+     *
+     * @see IntSet
+     */
+    static final class LongSet {
+        private long[] elements;
+        private int[] slots;
+        private int size;
+
+        LongSet() {
+            elements = new long[INITIAL_SET_CAPACITY];
+            slots = new int[INITIAL_SET_CAPACITY << 1];
+        }
+
+        boolean add(long value) {
+            int[] slots = this.slots;
+            int mask = slots.length - 1;
+            int i = mix(value) & mask;
+            for (int s; (s = slots[i]) != 0; i = (i + 1) & mask) {
+                if (elements[s - 1] == value) {
+                    return false;
+                }
+            }
+            if (size == elements.length) {
+                resize();
+                i = freeSlot(value);
+            }
+            elements[size] = value;
+            this.slots[i] = ++size;
+            return true;
+        }
+
+        private int freeSlot(long value) {
+            int[] slots = this.slots;
+            int mask = slots.length - 1;
+            int i = mix(value) & mask;
+            while (slots[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            return i;
+        }
+
+        private void resize() {
+            int capacity = grownCapacity(elements.length);
+            elements = Arrays.copyOf(elements, capacity);
+            slots = new int[capacity << 1];
+            for (int i = 0; i < size; ++i) {
+                slots[freeSlot(elements[i])] = i + 1;
+            }
+        }
+
+        LongSet addAll(LongSet other) {
+            long[] e = other.elements;
+            for (int i = 0, n = other.size; i < n; ++i) {
+                add(e[i]);
+            }
+            return this;
+        }
+
+        LongSet union(LongSet other) {
+            return (size >= other.size) ? addAll(other) : other.addAll(this);
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(elements, size);
+        }
+    }
+
+    /**
+     * An insertion ordered, open-addressing hash set of {@code double} values.
+     * Two values are considered equal if their {@link Double#doubleToLongBits}
+     * representations are equal (i.e., {@code NaN} equals {@code NaN} and
+     * {@code 0.0} does not equal {@code -0.0}), consistent with
+     * {@link Double#equals(Object)}.
+     *
+     * @see IntSet
+     */
+    static final class DoubleSet {
+        private double[] elements;
+        private long[] bits;
+        private int[] slots;
+        private int size;
+
+        DoubleSet() {
+            elements = new double[INITIAL_SET_CAPACITY];
+            bits = new long[INITIAL_SET_CAPACITY];
+            slots = new int[INITIAL_SET_CAPACITY << 1];
+        }
+
+        boolean add(double value) {
+            long b = Double.doubleToLongBits(value);
+            int[] slots = this.slots;
+            int mask = slots.length - 1;
+            int i = mix(b) & mask;
+            for (int s; (s = slots[i]) != 0; i = (i + 1) & mask) {
+                if (bits[s - 1] == b) {
+                    return false;
+                }
+            }
+            if (size == elements.length) {
+                resize();
+                i = freeSlot(b);
+            }
+            elements[size] = value;
+            bits[size] = b;
+            this.slots[i] = ++size;
+            return true;
+        }
+
+        private int freeSlot(long b) {
+            int[] slots = this.slots;
+            int mask = slots.length - 1;
+            int i = mix(b) & mask;
+            while (slots[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            return i;
+        }
+
+        private void resize() {
+            int capacity = grownCapacity(elements.length);
+            elements = Arrays.copyOf(elements, capacity);
+            bits = Arrays.copyOf(bits, capacity);
+            slots = new int[capacity << 1];
+            for (int i = 0; i < size; ++i) {
+                slots[freeSlot(bits[i])] = i + 1;
+            }
+        }
+
+        DoubleSet addAll(DoubleSet other) {
+            double[] e = other.elements;
+            for (int i = 0, n = other.size; i < n; ++i) {
+                add(e[i]);
+            }
+            return this;
+        }
+
+        DoubleSet union(DoubleSet other) {
+            return (size >= other.size) ? addAll(other) : other.addAll(this);
+        }
+
+        double[] toArray() {
+            return Arrays.copyOf(elements, size);
+        }
+    }
+
     static final class KeysAndNullSet<E> extends AbstractSet<E> {
 
         final Set<E> keys;
@@ -198,6 +198,16 @@ abstract class DoublePipeline<E_IN>
         Objects.requireNonNull(mapper);
         return new StatelessOp<Double>(this, StreamShape.DOUBLE_VALUE,
                                        StreamOpFlag.NOT_SORTED | StreamOpFlag.NOT_DISTINCT) {
+            @Override
+            int opFusedKind() {
+                return FusedOps.MAP;
+            }
+
+            @Override
+            Object opFusedFunction() {
+                return mapper;
+            }
+
             @Override
             Sink<Double> opWrapSink(int flags, Sink<Double> sink) {
                 return new Sink.ChainedDouble<Double>(sink) {
@@ -304,6 +314,31 @@ abstract class DoublePipeline<E_IN>
         };
     }
 
+    @Override
+    public final DoubleStream mapMulti(DoubleStream.DoubleMapMultiConsumer mapper) {
+        Objects.requireNonNull(mapper);
+        return new StatelessOp<Double>(this, StreamShape.DOUBLE_VALUE,
+                                        StreamOpFlag.NOT_SORTED | StreamOpFlag.NOT_DISTINCT | StreamOpFlag.NOT_SIZED) {
+            @Override
+            Sink<Double> opWrapSink(int flags, Sink<Double> sink) {
+                return new Sink.ChainedDouble<Double>(sink) {
+                    // cache the consumer to avoid creation on every accepted element
+                    DoubleConsumer downstreamAsDouble = downstream::accept;
+
+                    @Override
+                    public void begin(long size) {
+                        downstream.begin(-1);
+                    }
+
+                    @Override
+                    public void accept(double t) {
+                        mapper.accept(t, downstreamAsDouble);
+                    }
+                };
+            }
+        };
+    }
+
     @Override
     public DoubleStream unordered() {
         if (!isOrdered())
@@ -321,6 +356,16 @@ abstract class DoublePipeline<E_IN>
         Objects.requireNonNull(predicate);
         return new StatelessOp<Double>(this, StreamShape.DOUBLE_VALUE,
                                        StreamOpFlag.NOT_SIZED) {
+            @Override
+            int opFusedKind() {
+                return FusedOps.FILTER;
+            }
+
+            @Override
+            Object opFusedFunction() {
+                return predicate;
+            }
+
             @Override
             Sink<Double> opWrapSink(int flags, Sink<Double> sink) {
                 return new Sink.ChainedDouble<Double>(sink) {
@@ -344,6 +389,16 @@ abstract class DoublePipeline<E_IN>
         Objects.requireNonNull(action);
         return new StatelessOp<Double>(this, StreamShape.DOUBLE_VALUE,
                                        0) {
+            @Override
+            int opFusedKind() {
+                return FusedOps.PEEK;
+            }
+
+            @Override
+            Object opFusedFunction() {
+                return action;
+            }
+
             @Override
             Sink<Double> opWrapSink(int flags, Sink<Double> sink) {
                 return new Sink.ChainedDouble<Double>(sink) {
@@ -395,9 +450,7 @@ abstract class DoublePipeline<E_IN>
 
     @Override
     public final DoubleStream distinct() {
-        // While functional and quick to implement, this approach is not very efficient.
-        // An efficient version requires a double-specific map/set implementation.
-        return boxed().distinct().mapToDouble(i -> (double) i);
+        return DistinctOps.makeDouble(this);
     }
 
     // Terminal ops from DoubleStream
@@ -541,8 +594,10 @@ abstract class DoublePipeline<E_IN>
 
     @Override
     public final double[] toArray() {
-        return Nodes.flattenDouble((Node.OfDouble) evaluateToArrayNode(WhileOps.DOUBLE_ARR_GEN))
-                        .asPrimitiveArray();
+        Node.OfDouble node = (Node.OfDouble) evaluateToArrayNode(WhileOps.DOUBLE_ARR_GEN);
+        double[] array = Nodes.flattenDouble(node).asPrimitiveArray();
+        Nodes.release(node);
+        return array;
     }
 
     //
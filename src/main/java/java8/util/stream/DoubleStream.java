@@ -160,6 +160,33 @@ public interface DoubleStream extends BaseStream<Double, DoubleStream> {
      */
     DoubleStream flatMap(DoubleFunction<? extends DoubleStream> mapper);
 
+    /**
+     * Returns a stream consisting of the results of replacing each element of
+     * this stream with multiple elements, specifically zero or more elements.
+     * Replacement is performed by applying the provided mapping function to each
+     * element in conjunction with a {@linkplain DoubleConsumer consumer} argument
+     * that accepts replacement elements.  The mapping function calls the consumer
+     * zero or more times to provide the replacement elements.
+     *
+     * <p>This is an <a href="package-summary.html#StreamOps">intermediate
+     * operation</a>.
+     *
+     * <p>If the {@linkplain DoubleConsumer consumer} argument is used outside the scope of
+     * its application to the mapping function, the results are undefined.
+     *
+     * <p><b>Implementation Note:</b><br>
+     * The consumer passed to the mapping function pushes the replacement
+     * elements directly into the downstream stages of the pipeline.
+     *
+     * @param mapper a <a href="package-summary.html#NonInterference">non-interfering</a>,
+     *               <a href="package-summary.html#Statelessness">stateless</a>
+     *               function that generates replacement elements
+     * @return the new stream
+     * @see Stream#mapMulti Stream.mapMulti
+     * @since 16
+     */
+    DoubleStream mapMulti(DoubleMapMultiConsumer mapper);
+
     /**
      * Returns a stream consisting of the distinct elements of this stream. The
      * elements are compared for equality according to
@@ -937,4 +964,29 @@ public interface DoubleStream extends BaseStream<Double, DoubleStream> {
          */
         DoubleStream build();
     }
+
+    /**
+     * Represents an operation that accepts a {@code double}-valued argument
+     * and a DoubleConsumer, and returns no result.  This functional interface is
+     * used by {@link DoubleStream#mapMulti(DoubleStream.DoubleMapMultiConsumer) DoubleStream.mapMulti}
+     * to replace a double value with zero or more double values.
+     *
+     * <p>This is a functional interface whose functional method is
+     * {@link #accept(double, DoubleConsumer)}.
+     *
+     * @see DoubleStream#mapMulti(DoubleStream.DoubleMapMultiConsumer)
+     *
+     * @since 16
+     */
+    public interface DoubleMapMultiConsumer {
+
+        /**
+         * Replaces the given {@code value} with zero or more values by feeding
+         * the mapped values to the {@code dc} consumer.
+         *
+         * @param value the double value coming from upstream
+         * @param dc the {@code DoubleConsumer} accepting the mapped values
+         */
+        void accept(double value, DoubleConsumer dc);
+    }
 }
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import java8.io.UncheckedIOException;
+import java8.util.Objects;
+import java8.util.Spliterator;
+import java8.util.function.Consumer;
+
+/**
+ * A file-based lines spliterator, leveraging a shared file channel and
+ * positional reads, that splits on line boundaries.
+ *
+ * <p>A split finds the middle byte of the remaining range and reads forward
+ * from it to the end of the line containing it, such that both halves
+ * consist of whole lines.  Splitting only reads the bytes up to that line
+ * end; the lines of a range are decoded lazily, by the leaf that traverses
+ * it.  Once traversal has started, the spliterator no longer splits.
+ *
+ * <p>This is only correct for charsets in which the bytes of {@code '\n'}
+ * and {@code '\r'} are single bytes that never occur in the encoding of
+ * another character, see {@link #isSupported(Charset)}.
+ *
+ * <p>Positional reads are used instead of mapping the file into memory, so
+ * that files larger than 2 GiB can be split, and no mapping outlives the
+ * closing of the stream.
+ */
+final class FileChannelLinesSpliterator implements Spliterator<String> {
+
+    private static final Set<String> SUPPORTED_CHARSET_NAMES = new HashSet<String>();
+    static {
+        SUPPORTED_CHARSET_NAMES.add("UTF-8");
+        SUPPORTED_CHARSET_NAMES.add("ISO-8859-1");
+        SUPPORTED_CHARSET_NAMES.add("US-ASCII");
+    }
+
+    // The number of bytes read at a time when searching for a line end
+    private static final int SCAN_SIZE = 8192;
+
+    private final FileChannel fc;
+    private final Charset cs;
+    private long index;
+    private final long fence;
+
+    // Non-null when traversing
+    private BufferedReader reader;
+
+    FileChannelLinesSpliterator(FileChannel fc, Charset cs, long index, long fence) {
+        this.fc = fc;
+        this.cs = cs;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    /**
+     * Returns whether files encoded with the given charset can be split on
+     * line boundaries by examining their bytes.
+     */
+    static boolean isSupported(Charset cs) {
+        return SUPPORTED_CHARSET_NAMES.contains(cs.name());
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super String> action) {
+        Objects.requireNonNull(action);
+        String line = readLine();
+        if (line != null) {
+            action.accept(line);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super String> action) {
+        Objects.requireNonNull(action);
+        String line;
+        while ((line = readLine()) != null) {
+            action.accept(line);
+        }
+    }
+
+    private BufferedReader getBufferedReader() {
+        /**
+         * A readable byte channel that reads bytes from an underlying
+         * file channel over a specified range.
+         */
+        ReadableByteChannel rrbc = new ReadableByteChannel() {
+            @Override
+            public int read(ByteBuffer dst) throws IOException {
+                long bytesToRead = fence - index;
+                if (bytesToRead == 0L)
+                    return -1;
+
+                int bytesRead;
+                if (bytesToRead < dst.remaining()) {
+                    // The number of bytes to read is less than remaining
+                    // bytes in the buffer
+                    // Snapshot the limit, reduce it, read, then restore
+                    int oldLimit = dst.limit();
+                    dst.limit(dst.position() + (int) bytesToRead);
+                    bytesRead = fc.read(dst, index);
+                    dst.limit(oldLimit);
+                } else {
+                    bytesRead = fc.read(dst, index);
+                }
+                if (bytesRead == -1) {
+                    index = fence;
+                    return bytesRead;
+                }
+
+                index += bytesRead;
+                return bytesRead;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return fc.isOpen();
+            }
+
+            @Override
+            public void close() throws IOException {
+                fc.close();
+            }
+        };
+        return new BufferedReader(Channels.newReader(rrbc, cs.newDecoder(), -1));
+    }
+
+    private String readLine() {
+        if (reader == null) {
+            reader = getBufferedReader();
+        }
+
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Spliterator<String> trySplit() {
+        // Cannot split after partial traverse
+        if (reader != null)
+            return null;
+
+        long lo = index, hi = fence;
+        long mid;
+        try {
+            mid = lineEnd((lo + hi) >>> 1, hi);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // Only split if both halves contain at least one line
+        if (mid > lo && mid < hi) {
+            return new FileChannelLinesSpliterator(fc, cs, lo, index = mid);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the position just after the first line terminator that
+     * starts at or after {@code pos}, or {@code hi} if there is none before
+     * {@code hi}.  A {@code "\r\n"} sequence counts as one terminator.
+     */
+    private long lineEnd(long pos, long hi) throws IOException {
+        ByteBuffer b = ByteBuffer.allocate((int) Math.min(SCAN_SIZE, hi - pos + 1));
+        boolean cr = false;
+        while (pos < hi) {
+            b.clear();
+            if (hi - pos < b.capacity()) {
+                b.limit((int) (hi - pos));
+            }
+            int n = fc.read(b, pos);
+            if (n <= 0) {
+                return hi;
+            }
+            for (int i = 0; i < n; i++) {
+                byte c = b.get(i);
+                if (cr) {
+                    // the '\r' ended the line, possibly followed by '\n'
+                    return c == '\n' ? pos + i + 1 : pos + i;
+                }
+                if (c == '\n') {
+                    return pos + i + 1;
+                }
+                cr = c == '\r';
+            }
+            pos += n;
+        }
+        return hi;
+    }
+
+    @Override
+    public long estimateSize() {
+        // Use the number of bytes as an estimate.
+        // We could divide by a constant that is the average number of
+        // characters per-line, but that constant will be factored out.
+        return fence - index;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return -1L;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.NONNULL;
+    }
+
+    @Override
+    public boolean hasCharacteristics(int characteristics) {
+        return (characteristics() & characteristics) == characteristics;
+    }
+
+    @Override
+    public java.util.Comparator<? super String> getComparator() {
+        throw new IllegalStateException();
+    }
+
+    /**
+     * Returns an iterator over the lines of a {@code BufferedReader}, for
+     * charsets that are not supported by this spliterator.
+     */
+    static Iterator<String> linesIterator(final BufferedReader br) {
+        return new Iterator<String>() {
+            String nextLine = null;
+
+            @Override
+            public boolean hasNext() {
+                if (nextLine != null) {
+                    return true;
+                } else {
+                    try {
+                        nextLine = br.readLine();
+                        return (nextLine != null);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }
+
+            @Override
+            public String next() {
+                if (nextLine != null || hasNext()) {
+                    String line = nextLine;
+                    nextLine = null;
+                    return line;
+                } else {
+                    throw new NoSuchElementException();
+                }
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("remove");
+            }
+        };
+    }
+}
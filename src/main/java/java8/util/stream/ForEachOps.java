@@ -26,8 +26,10 @@ package java8.util.stream;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import java8.util.Objects;
+import java8.util.PropertyAccess;
 import java8.util.Spliterator;
 import java8.util.concurrent.CountedCompleter;
 import java8.util.concurrent.ForkJoinPool;
@@ -57,6 +59,15 @@ import java8.util.function.LongConsumer;
  */
 final class ForEachOps {
 
+    private static final String ORDERED_BUFFER_LIMIT_P = ForEachOps.class.getName() + ".ordered.bufferLimit";
+
+    /**
+     * Max. number of elements a parallel ordered for-each buffers for leaves
+     * whose left predecessors have not completed yet.  Zero or a negative
+     * value (the default) means no limit.
+     */
+    static final long ORDERED_BUFFER_LIMIT = PropertyAccess.getIntPropVal(ORDERED_BUFFER_LIMIT_P, 0);
+
     private ForEachOps() { }
 
     /**
@@ -192,7 +203,7 @@ final class ForEachOps {
             if (ordered) {
                 new ForEachOrderedTask<>(helper, spliterator, this).invoke();
             } else {
-                new ForEachTask<>(helper, spliterator, helper.wrapSink(this)).invoke();
+                new ForEachTask<>(helper, spliterator, this).invoke();
             }
             return null;
         }
@@ -305,14 +316,16 @@ final class ForEachOps {
     static final class ForEachTask<S, T> extends CountedCompleter<Void> {
         private Spliterator<S> spliterator;
         private final Sink<S> sink;
+        private final Sink<T> terminalSink;
         private final PipelineHelper<T> helper;
         private long targetSize;
 
         ForEachTask(PipelineHelper<T> helper,
                     Spliterator<S> spliterator,
-                    Sink<S> sink) {
+                    Sink<T> terminalSink) {
             super(null);
-            this.sink = sink;
+            this.sink = helper.wrapSink(terminalSink);
+            this.terminalSink = terminalSink;
             this.helper = helper;
             this.spliterator = spliterator;
             this.targetSize = 0L;
@@ -322,6 +335,7 @@ final class ForEachOps {
             super(parent);
             this.spliterator = spliterator;
             this.sink = parent.sink;
+            this.terminalSink = parent.terminalSink;
             this.targetSize = parent.targetSize;
             this.helper = parent.helper;
         }
@@ -337,12 +351,23 @@ final class ForEachOps {
             boolean forkRight = false;
             Sink<S> taskSink = sink;
             ForEachTask<S, T> task = this;
+            MetricsRecorder mr = helper.metricsRecorder();
+            if (mr != null) {
+                // the counting sinks are confined to a thread, so they must
+                // not be shared between tasks
+                taskSink = helper.wrapSink(terminalSink);
+            }
+            int splits = 0;
             while (!isShortCircuit || !taskSink.cancellationRequested()) {
                 if (sizeEstimate <= sizeThreshold ||
                     (leftSplit = rightSplit.trySplit()) == null) {
+                    if (mr != null) {
+                        mr.leaf(splits, sizeEstimate);
+                    }
                     task.helper.copyInto(taskSink, rightSplit);
                     break;
                 }
+                splits++;
                 ForEachTask<S, T> leftTask = new ForEachTask<>(task, leftSplit);
                 task.addToPendingCount(1);
                 ForEachTask<S, T> taskToFork;
@@ -359,6 +384,10 @@ final class ForEachOps {
                 taskToFork.fork();
                 sizeEstimate = rightSplit.estimateSize();
             }
+            if (mr != null) {
+                // the checks of a cancelled task were not flushed by end()
+                MetricsRecorder.flush(taskSink);
+            }
             task.spliterator = null;
             task.propagateCompletion();
         }
@@ -412,6 +441,17 @@ final class ForEachOps {
          * Thus overall the "happens-before" relationship holds for the
          * reporting of elements, covered by tasks d, e, f and g, as specified
          * by the forEachOrdered operation.
+         *
+         * A leaf that cannot complete yet buffers its output into a Node.  If
+         * a buffer limit is set, all leaves share a budget of buffered
+         * elements.  A leaf stops buffering once it can't reserve further room
+         * and leaves the rest of its spliterator to be traversed straight into
+         * the action when it completes, on whatever thread completes its
+         * left predecessor.  The budget is released as buffered nodes are
+         * dumped, and no further splitting is done while it is exhausted since
+         * the additional leaves could only defer their work.  The limit is
+         * soft in that a single upstream element that expands into many
+         * elements (flatMap) is always buffered completely.
          */
 
         private final PipelineHelper<T> helper;
@@ -420,11 +460,22 @@ final class ForEachOps {
         private final ConcurrentMap<ForEachOrderedTask<S, T>, ForEachOrderedTask<S, T>> completionMap;
         private final Sink<T> action;
         private final ForEachOrderedTask<S, T> leftPredecessor;
+        // null if the number of buffered elements isn't limited
+        private final AtomicLong bufferBudget;
         private Node<T> node;
+        // number of elements in node that are charged to bufferBudget
+        private long reserved;
 
         protected ForEachOrderedTask(PipelineHelper<T> helper,
                                      Spliterator<S> spliterator,
                                      Sink<T> action) {
+            this(helper, spliterator, action, ORDERED_BUFFER_LIMIT);
+        }
+
+        ForEachOrderedTask(PipelineHelper<T> helper,
+                           Spliterator<S> spliterator,
+                           Sink<T> action,
+                           long bufferLimit) {
             super(null);
             this.helper = helper;
             this.spliterator = spliterator;
@@ -434,6 +485,7 @@ final class ForEachOps {
                     0.75f, ForkJoinPool.getCommonPoolParallelism() + 1);
             this.action = action;
             this.leftPredecessor = null;
+            this.bufferBudget = bufferLimit > 0L ? new AtomicLong(bufferLimit) : null;
         }
 
         ForEachOrderedTask(ForEachOrderedTask<S, T> parent,
@@ -446,6 +498,7 @@ final class ForEachOps {
             this.completionMap = parent.completionMap;
             this.action = parent.action;
             this.leftPredecessor = leftPredecessor;
+            this.bufferBudget = parent.bufferBudget;
         }
 
         @Override
@@ -457,7 +510,10 @@ final class ForEachOps {
             Spliterator<S> rightSplit = task.spliterator, leftSplit;
             long sizeThreshold = task.targetSize;
             boolean forkRight = false;
+            int splits = 0;
+            AtomicLong budget = task.bufferBudget;
             while (rightSplit.estimateSize() > sizeThreshold &&
+                   (budget == null || budget.get() > 0L) &&
                    (leftSplit = rightSplit.trySplit()) != null) {
                 ForEachOrderedTask<S, T> leftChild =
                     new ForEachOrderedTask<>(task, leftSplit, task.leftPredecessor);
@@ -512,6 +568,11 @@ final class ForEachOps {
                     taskToFork = leftChild;
                 }
                 taskToFork.fork();
+                splits++;
+            }
+            MetricsRecorder mr = task.helper.metricsRecorder();
+            if (mr != null) {
+                mr.leaf(splits, rightSplit.estimateSize());
             }
 
             /*
@@ -527,11 +588,28 @@ final class ForEachOps {
                 // for use when completion occurs
                 @SuppressWarnings("unchecked")
                 IntFunction<T[]> generator = size -> (T[]) new Object[size];
-                Node.Builder<T> nb = task.helper.makeNodeBuilder(
-                        task.helper.exactOutputSizeIfKnown(rightSplit),
-                        generator);
-                task.node = task.helper.wrapAndCopyInto(nb, rightSplit).build();
-                task.spliterator = null;
+                if (budget == null) {
+                    Node.Builder<T> nb = task.helper.makeNodeBuilder(
+                            task.helper.exactOutputSizeIfKnown(rightSplit),
+                            generator);
+                    task.node = task.helper.wrapAndCopyInto(nb, rightSplit).build();
+                    task.spliterator = null;
+                } else {
+                    BoundedBuffer<T> buffer = new BoundedBuffer<>(
+                            task.helper.makeNodeBuilder(-1, generator), budget);
+                    // If the budget is exhausted defer the whole leaf,
+                    // otherwise buffer as much as the budget allows and
+                    // defer the remainder
+                    if (!buffer.cancellationRequested()) {
+                        boolean cancelled = task.helper.copyIntoWithCancel(
+                                task.helper.wrapSink(buffer), rightSplit);
+                        task.node = buffer.build();
+                        task.reserved = task.node.count();
+                        if (!cancelled) {
+                            task.spliterator = null;
+                        }
+                    }
+                }
             }
             task.tryComplete();
         }
@@ -542,8 +620,12 @@ final class ForEachOps {
                 // Dump buffered elements from this leaf into the sink
                 node.forEach(action);
                 node = null;
+                if (reserved != 0L) {
+                    bufferBudget.addAndGet(reserved);
+                    reserved = 0L;
+                }
             }
-            else if (spliterator != null) {
+            if (spliterator != null) {
                 // Dump elements output from this leaf's pipeline into the sink
                 helper.wrapAndCopyInto(action, spliterator);
                 spliterator = null;
@@ -558,5 +640,88 @@ final class ForEachOps {
                 leftDescendant.tryComplete();
             }
         }
+
+        /**
+         * A {@code Sink} that buffers elements into a {@code Node.Builder}
+         * and requests cancellation as soon as it can't reserve room for
+         * further elements from the shared buffer budget.
+         */
+        private static final class BoundedBuffer<T> implements Sink<T> {
+            // max. number of elements reserved at once
+            private static final long BATCH = 1L << 10;
+
+            private final Node.Builder<T> builder;
+            private final AtomicLong budget;
+            // reserved but not yet used room, negative if overdrawn
+            private long allowance;
+
+            BoundedBuffer(Node.Builder<T> builder, AtomicLong budget) {
+                this.builder = builder;
+                this.budget = budget;
+            }
+
+            /**
+             * Builds the node and settles the reservation such that exactly
+             * the node's count stays charged to the budget.
+             */
+            Node<T> build() {
+                if (allowance != 0L) {
+                    budget.addAndGet(allowance);
+                    allowance = 0L;
+                }
+                return builder.build();
+            }
+
+            @Override
+            public void begin(long size) {
+                // don't pre-size for elements that may never be buffered
+                builder.begin(-1);
+            }
+
+            @Override
+            public void end() {
+                builder.end();
+            }
+
+            @Override
+            public boolean cancellationRequested() {
+                if (allowance > 0L) {
+                    return false;
+                }
+                long available, take;
+                do {
+                    if ((available = budget.get()) <= 0L) {
+                        return true;
+                    }
+                    take = Math.min(available, BATCH);
+                } while (!budget.compareAndSet(available, available - take));
+                allowance += take;
+                return false;
+            }
+
+            @Override
+            public void accept(T t) {
+                allowance--;
+                builder.accept(t);
+            }
+
+            @Override
+            public void accept(int value) {
+                allowance--;
+                builder.accept(value);
+            }
+
+            @Override
+            public void accept(long value) {
+                allowance--;
+                builder.accept(value);
+            }
+
+            @Override
+            public void accept(double value) {
+                allowance--;
+                builder.accept(value);
+            }
+        }
     }
 }
@@ -0,0 +1,364 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import java8.lang.Longs;
+import java8.util.function.Consumer;
+import java8.util.function.DoubleConsumer;
+import java8.util.function.IntConsumer;
+import java8.util.function.LongConsumer;
+
+/**
+ * A state object for estimating the frequencies of values and finding the
+ * most frequent values (the heavy hitters), using a count-min sketch.
+ *
+ * <p>The sketch has a fixed size of {@code width * depth} counters.  The
+ * estimated frequency of a value is never too low, and with probability
+ * 1 - e<sup>-depth</sup> it is too high by at most {@code e / width} times
+ * the number of values; with the default width of 2048 and depth of 5 that
+ * is 0.13% of the values with 99.3% probability.  In addition, the sketch
+ * tracks up to {@code capacity} candidates for the most frequent values.
+ * Two sketches with the same dimensions can be combined, which makes it
+ * cheap to find heavy hitters in parallel:
+ * <pre> {@code
+ * Map<Object, Long> top = intStream.parallel()
+ *                                  .collect(FrequencySketch::new,
+ *                                           FrequencySketch::accept,
+ *                                           FrequencySketch::combine)
+ *                                  .heavyHitters();
+ * }</pre>
+ *
+ * <p>or, for a stream of objects, with {@link Collectors#toFrequencySketch()}.
+ *
+ * <p>Boxed primitive values are counted like the corresponding primitive
+ * values, and primitive values are reported as heavy hitters boxed.  Other
+ * objects are counted by their {@code hashCode}, so objects with equal hash
+ * codes share their estimated frequency.  The heavy hitter candidates are
+ * distinguished by {@code equals}, though: an {@code Integer} and a
+ * {@code Long} of the same value share their counters, but occupy two
+ * candidates with the same estimated frequency.  Values of mixed numeric
+ * types should be converted to one type before they are recorded.
+ *
+ * <p><b>Implementation Note:</b><br> This implementation is not thread safe.
+ * However, it is safe to use {@link Collectors#toFrequencySketch()} on a
+ * parallel stream, because the parallel implementation of
+ * {@link Stream#collect Stream.collect()} provides the necessary partitioning,
+ * isolation, and merging of results for safe and efficient parallel execution.
+ */
+public final class FrequencySketch implements IntConsumer, LongConsumer, DoubleConsumer, Consumer<Object> {
+
+    /** The default number of counters per row */
+    public static final int DEFAULT_WIDTH = 2048;
+
+    /** The default number of rows */
+    public static final int DEFAULT_DEPTH = 5;
+
+    /** The default number of heavy hitter candidates */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private final int width;
+    private final int depth;
+    private final int capacity;
+    /** The counters, row by row */
+    private final long[] table;
+    private long count;
+    /** The heavy hitter candidates, with their estimated frequencies when last seen */
+    private final HashMap<Object, Long> candidates;
+    /**
+     * A lower bound of the estimated frequencies of the candidates, if there
+     * are {@code capacity} candidates
+     */
+    private long threshold;
+
+    /**
+     * Constructs an empty sketch with the default dimensions.
+     */
+    public FrequencySketch() {
+        this(DEFAULT_WIDTH, DEFAULT_DEPTH, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty sketch with the given dimensions.
+     *
+     * @param width the number of counters per row
+     * @param depth the number of rows
+     * @param capacity the maximum number of heavy hitters to track, which may
+     *        be zero
+     * @throws IllegalArgumentException if {@code width} or {@code depth} is
+     *         not positive, if {@code capacity} is negative or if the sketch
+     *         would have more than {@code Integer.MAX_VALUE} counters
+     */
+    public FrequencySketch(int width, int depth, int capacity) {
+        checkDimensions(width, depth, capacity);
+        this.width = width;
+        this.depth = depth;
+        this.capacity = capacity;
+        this.table = new long[width * depth];
+        this.candidates = new HashMap<Object, Long>();
+    }
+
+    static void checkDimensions(int width, int depth, int capacity) {
+        if (width <= 0 || depth <= 0 || capacity < 0 || (long) width * depth > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("width: " + width + ", depth: " + depth
+                    + ", capacity: " + capacity);
+        }
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value the value
+     */
+    @Override
+    public void accept(int value) {
+        long estimate = add(Sketches.hash((long) value));
+        if (isCandidate(estimate)) {
+            track(value, estimate);
+        }
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value the value
+     */
+    @Override
+    public void accept(long value) {
+        long estimate = add(Sketches.hash(value));
+        if (isCandidate(estimate)) {
+            track(value, estimate);
+        }
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value the value
+     */
+    @Override
+    public void accept(double value) {
+        long estimate = add(Sketches.hash(value));
+        if (isCandidate(estimate)) {
+            track(value, estimate);
+        }
+    }
+
+    /**
+     * Records a value, which may be {@code null}.
+     *
+     * @param value the value
+     */
+    @Override
+    public void accept(Object value) {
+        long estimate = add(Sketches.hash(value));
+        if (isCandidate(estimate)) {
+            track(value, estimate);
+        }
+    }
+
+    /**
+     * Increments the counters of the given hash and returns the estimated
+     * frequency.
+     */
+    private long add(long hash) {
+        ++count;
+        long[] t = table;
+        int w = width;
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0, offset = 0; row < depth; row++, offset += w) {
+            int i = offset + ((h1 + row * h2) & Integer.MAX_VALUE) % w;
+            estimate = Math.min(estimate, ++t[i]);
+        }
+        return estimate;
+    }
+
+    private long estimateHash(long hash) {
+        long[] t = table;
+        int w = width;
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0, offset = 0; row < depth; row++, offset += w) {
+            estimate = Math.min(estimate, t[offset + ((h1 + row * h2) & Integer.MAX_VALUE) % w]);
+        }
+        return estimate;
+    }
+
+    private boolean isCandidate(long estimate) {
+        return capacity > 0 && (candidates.size() < capacity || estimate > threshold);
+    }
+
+    private void track(Object value, long estimate) {
+        HashMap<Object, Long> c = candidates;
+        c.put(value, estimate);
+        if (c.size() > capacity) {
+            evict();
+        }
+    }
+
+    /**
+     * Removes the candidate with the lowest estimated frequency and updates
+     * the threshold.
+     */
+    private void evict() {
+        Object lowest = null;
+        long first = Long.MAX_VALUE;
+        long second = Long.MAX_VALUE;
+        for (Map.Entry<Object, Long> e : candidates.entrySet()) {
+            long estimate = e.getValue();
+            if (estimate < first) {
+                second = first;
+                first = estimate;
+                lowest = e.getKey();
+            } else if (estimate < second) {
+                second = estimate;
+            }
+        }
+        candidates.remove(lowest);
+        threshold = second;
+    }
+
+    /**
+     * Combines the state of another sketch into this one.
+     *
+     * @param other another {@code FrequencySketch}
+     * @throws NullPointerException if {@code other} is null
+     * @throws IllegalArgumentException if {@code other} has other dimensions
+     */
+    public void combine(FrequencySketch other) {
+        if (other.width != width || other.depth != depth || other.capacity != capacity) {
+            throw new IllegalArgumentException("incompatible dimensions");
+        }
+        long[] t = table;
+        long[] otherTable = other.table;
+        for (int i = 0; i < t.length; i++) {
+            t[i] += otherTable[i];
+        }
+        count += other.count;
+        // other may be this sketch
+        List<Object> values = new ArrayList<Object>(other.candidates.keySet());
+        values.addAll(candidates.keySet());
+        candidates.clear();
+        threshold = 0L;
+        for (Object value : values) {
+            long estimate = estimateHash(Sketches.hash(value));
+            if (isCandidate(estimate)) {
+                track(value, estimate);
+            }
+        }
+    }
+
+    /**
+     * Returns the estimated number of times the given value was recorded.
+     *
+     * @param value the value
+     * @return the estimated frequency, which is never less than the actual one
+     */
+    public long estimate(int value) {
+        return estimateHash(Sketches.hash((long) value));
+    }
+
+    /**
+     * Returns the estimated number of times the given value was recorded.
+     *
+     * @param value the value
+     * @return the estimated frequency, which is never less than the actual one
+     */
+    public long estimate(long value) {
+        return estimateHash(Sketches.hash(value));
+    }
+
+    /**
+     * Returns the estimated number of times the given value was recorded.
+     *
+     * @param value the value
+     * @return the estimated frequency, which is never less than the actual one
+     */
+    public long estimate(double value) {
+        return estimateHash(Sketches.hash(value));
+    }
+
+    /**
+     * Returns the estimated number of times the given value was recorded.
+     *
+     * @param value the value, which may be {@code null}
+     * @return the estimated frequency, which is never less than the actual one
+     */
+    public long estimate(Object value) {
+        return estimateHash(Sketches.hash(value));
+    }
+
+    /**
+     * Returns the most frequent values with their estimated frequencies, in
+     * descending order of frequency.  A value that is more frequent than
+     * {@code count / capacity} is very likely to be included.  Values that are
+     * not {@code equal}, like an {@code Integer} and a {@code Long} of the
+     * same value, are separate entries.
+     *
+     * @return an unmodifiable map of at most {@code capacity} values to their
+     *         estimated frequencies, in descending order of frequency
+     */
+    public Map<Object, Long> heavyHitters() {
+        List<Map.Entry<Object, Long>> entries = new ArrayList<Map.Entry<Object, Long>>(candidates.size());
+        for (Object value : candidates.keySet()) {
+            entries.add(new SimpleImmutableEntry<Object, Long>(value, estimateHash(Sketches.hash(value))));
+        }
+        Collections.sort(entries, (e1, e2) -> Longs.compare(e2.getValue(), e1.getValue()));
+        Map<Object, Long> result = new LinkedHashMap<Object, Long>();
+        for (Map.Entry<Object, Long> e : entries) {
+            result.put(e.getKey(), e.getValue());
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Returns the number of values recorded.
+     *
+     * @return the number of values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns a non-empty string representation of this object suitable for
+     * debugging. The exact presentation format is unspecified and may vary
+     * between implementations and versions.
+     */
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{count=" + count + ", heavyHitters=" + heavyHitters() + "}";
+    }
+}
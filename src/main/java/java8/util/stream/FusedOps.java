@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import java8.util.PropertyAccess;
+import java8.util.function.Consumer;
+import java8.util.function.DoubleConsumer;
+import java8.util.function.DoublePredicate;
+import java8.util.function.DoubleUnaryOperator;
+import java8.util.function.Function;
+import java8.util.function.IntConsumer;
+import java8.util.function.IntPredicate;
+import java8.util.function.IntUnaryOperator;
+import java8.util.function.LongConsumer;
+import java8.util.function.LongPredicate;
+import java8.util.function.LongUnaryOperator;
+import java8.util.function.Predicate;
+
+/**
+ * Factory for sinks that collapse a run of adjacent stateless {@code filter},
+ * {@code map} and {@code peek} stages of the same stream shape into a single
+ * {@code Sink}.
+ *
+ * <p>Without fusion, every intermediate stage contributes its own
+ * {@code Sink.ChainedXxx} wrapper and each element travels through a chain of
+ * virtual {@code accept} calls, one per stage.  A fused sink instead applies
+ * the functions of all stages of the run in a flat loop and only calls the
+ * downstream {@code Sink} once per surviving element.
+ *
+ * <p>A stage takes part in fusion if it reports a step kind other than
+ * {@link #NONE} from {@link AbstractPipeline#opFusedKind()}.  Runs never cross
+ * a stateful stage, a shape-changing stage or the boundary of a parallel
+ * evaluation segment.  Fusion can be turned off by setting the system
+ * property {@code java8.util.stream.FusedOps.enabled} to {@code false}.
+ *
+ * @since 1.8
+ */
+final class FusedOps {
+
+    private static final String FUSION_ENABLED_P = FusedOps.class.getName() + ".enabled";
+
+    // defaults to true
+    static final boolean ENABLED = PropertyAccess.getBooleanPropVal(FUSION_ENABLED_P, true);
+
+    /** Not a fusible stage */
+    static final int NONE = 0;
+    /** A {@code filter} stage, the function is a predicate of the stage shape */
+    static final int FILTER = 1;
+    /** A same-shape {@code map} stage, the function is a (unary) operator */
+    static final int MAP = 2;
+    /** A {@code peek} stage, the function is a consumer of the stage shape */
+    static final int PEEK = 3;
+
+    private FusedOps() {
+    }
+
+    /**
+     * Returns a single fused sink that applies the given steps, in order, to
+     * every element and passes the surviving elements to {@code sink}.
+     *
+     * @param shape the (common) shape of all stages of the run
+     * @param kinds the step kinds of the stages, most upstream stage first
+     * @param fns the functions of the stages, most upstream stage first
+     * @param sink the sink that receives the output of the last stage
+     * @return a sink that accepts the input of the first stage
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    static Sink makeSink(StreamShape shape, int[] kinds, Object[] fns, Sink sink) {
+        boolean sizePreserving = true;
+        for (int kind : kinds) {
+            sizePreserving &= kind != FILTER;
+        }
+        switch (shape) {
+            case REFERENCE:
+                return new OfRef(kinds, fns, sizePreserving, sink);
+            case INT_VALUE:
+                return new OfInt(kinds, fns, sizePreserving, sink);
+            case LONG_VALUE:
+                return new OfLong(kinds, fns, sizePreserving, sink);
+            case DOUBLE_VALUE:
+                return new OfDouble(kinds, fns, sizePreserving, sink);
+            default:
+                throw new IllegalStateException("Unknown shape " + shape);
+        }
+    }
+
+    /** Fused sink for a run of reference stages */
+    private static final class OfRef extends Sink.ChainedReference<Object, Object> {
+        private final int[] kinds;
+        private final Object[] fns;
+        private final boolean sizePreserving;
+
+        OfRef(int[] kinds, Object[] fns, boolean sizePreserving, Sink<Object> downstream) {
+            super(downstream);
+            this.kinds = kinds;
+            this.fns = fns;
+            this.sizePreserving = sizePreserving;
+        }
+
+        @Override
+        public void begin(long size) {
+            downstream.begin(sizePreserving ? size : -1L);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void accept(Object t) {
+            int[] kinds = this.kinds;
+            Object[] fns = this.fns;
+            for (int i = 0; i < kinds.length; ++i) {
+                switch (kinds[i]) {
+                    case FILTER:
+                        if (!((Predicate<Object>) fns[i]).test(t)) {
+                            return;
+                        }
+                        break;
+                    case MAP:
+                        t = ((Function<Object, Object>) fns[i]).apply(t);
+                        break;
+                    default:
+                        ((Consumer<Object>) fns[i]).accept(t);
+                }
+            }
+            downstream.accept(t);
+        }
+    }
+
+    /** Fused sink for a run of int stages */
+    private static final class OfInt extends Sink.ChainedInt<Integer> {
+        private final int[] kinds;
+        private final Object[] fns;
+        private final boolean sizePreserving;
+
+        OfInt(int[] kinds, Object[] fns, boolean sizePreserving, Sink<Integer> downstream) {
+            super(downstream);
+            this.kinds = kinds;
+            this.fns = fns;
+            this.sizePreserving = sizePreserving;
+        }
+
+        @Override
+        public void begin(long size) {
+            downstream.begin(sizePreserving ? size : -1L);
+        }
+
+        @Override
+        public void accept(int t) {
+            int[] kinds = this.kinds;
+            Object[] fns = this.fns;
+            for (int i = 0; i < kinds.length; ++i) {
+                switch (kinds[i]) {
+                    case FILTER:
+                        if (!((IntPredicate) fns[i]).test(t)) {
+                            return;
+                        }
+                        break;
+                    case MAP:
+                        t = ((IntUnaryOperator) fns[i]).applyAsInt(t);
+                        break;
+                    default:
+                        ((IntConsumer) fns[i]).accept(t);
+                }
+            }
+            downstream.accept(t);
+        }
+    }
+
+    /** Fused sink for a run of long stages */
+    private static final class OfLong extends Sink.ChainedLong<Long> {
+        private final int[] kinds;
+        private final Object[] fns;
+        private final boolean sizePreserving;
+
+        OfLong(int[] kinds, Object[] fns, boolean sizePreserving, Sink<Long> downstream) {
+            super(downstream);
+            this.kinds = kinds;
+            this.fns = fns;
+            this.sizePreserving = sizePreserving;
+        }
+
+        @Override
+        public void begin(long size) {
+            downstream.begin(sizePreserving ? size : -1L);
+        }
+
+        @Override
+        public void accept(long t) {
+            int[] kinds = this.kinds;
+            Object[] fns = this.fns;
+            for (int i = 0; i < kinds.length; ++i) {
+                switch (kinds[i]) {
+                    case FILTER:
+                        if (!((LongPredicate) fns[i]).test(t)) {
+                            return;
+                        }
+                        break;
+                    case MAP:
+                        t = ((LongUnaryOperator) fns[i]).applyAsLong(t);
+                        break;
+                    default:
+                        ((LongConsumer) fns[i]).accept(t);
+                }
+            }
+            downstream.accept(t);
+        }
+    }
+
+    /** Fused sink for a run of double stages */
+    private static final class OfDouble extends Sink.ChainedDouble<Double> {
+        private final int[] kinds;
+        private final Object[] fns;
+        private final boolean sizePreserving;
+
+        OfDouble(int[] kinds, Object[] fns, boolean sizePreserving, Sink<Double> downstream) {
+            super(downstream);
+            this.kinds = kinds;
+            this.fns = fns;
+            this.sizePreserving = sizePreserving;
+        }
+
+        @Override
+        public void begin(long size) {
+            downstream.begin(sizePreserving ? size : -1L);
+        }
+
+        @Override
+        public void accept(double t) {
+            int[] kinds = this.kinds;
+            Object[] fns = this.fns;
+            for (int i = 0; i < kinds.length; ++i) {
+                switch (kinds[i]) {
+                    case FILTER:
+                        if (!((DoublePredicate) fns[i]).test(t)) {
+                            return;
+                        }
+                        break;
+                    case MAP:
+                        t = ((DoubleUnaryOperator) fns[i]).applyAsDouble(t);
+                        break;
+                    default:
+                        ((DoubleConsumer) fns[i]).accept(t);
+                }
+            }
+            downstream.accept(t);
+        }
+    }
+}
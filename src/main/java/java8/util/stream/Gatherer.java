@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import java8.util.function.BiConsumer;
+import java8.util.function.BinaryOperator;
+import java8.util.function.Supplier;
+
+/**
+ * An intermediate operation that transforms a stream of input elements into a
+ * stream of output elements, optionally applying a final action when the end
+ * of the upstream is reached.  The transformation may be stateless or
+ * stateful, and may buffer input before producing any output.
+ *
+ * <p>Gatherer operations can be performed either sequentially, or be
+ * parallelized -- if a combiner function is supplied.
+ *
+ * <p>There are many examples of gathering operations, including but not
+ * limited to: grouping elements into batches (windowing functions);
+ * de-duplicating consecutively similar elements; incremental accumulation
+ * functions (prefix scan); incremental reordering functions, etc.  The class
+ * {@link Gatherers} provides implementations of common gathering operations.
+ *
+ * <p>A {@code Gatherer} is specified by four functions that work together to
+ * process input elements, optionally using intermediate state, and optionally
+ * perform a final action at the end of input.  They are: <ul>
+ *     <li>creating a new, potentially mutable, state ({@link #initializer()})</li>
+ *     <li>integrating a new input element ({@link #integrator()})</li>
+ *     <li>combining two states into one ({@link #combiner()})</li>
+ *     <li>performing an optional final action ({@link #finisher()})</li>
+ * </ul>
+ *
+ * <p>Implementations of Gatherer must not capture, retain, or expose to
+ * other threads, the references to the state instance, or the downstream
+ * {@link Downstream} for longer than the invocation duration of the method
+ * which they are passed to.
+ *
+ * <p>Performing a gathering operation with a {@code Gatherer} should produce a
+ * result equivalent to:
+ *
+ * <pre>{@code
+ *     Gatherer.Downstream<? super R> downstream = ...;
+ *     A state = gatherer.initializer().get();
+ *     for (T t : data) {
+ *         gatherer.integrator().integrate(state, t, downstream);
+ *     }
+ *     gatherer.finisher().accept(state, downstream);
+ * }</pre>
+ *
+ * <p>However, the library is free to partition the input, perform the
+ * integrations on the partitions, and then use the combiner function to
+ * combine the partial results to achieve a gathering operation.  A gatherer
+ * whose combiner is {@link Gatherers#defaultCombiner()} is evaluated
+ * sequentially, even in a parallel stream.
+ *
+ * <p>The functions of a gatherer that does not need some of them can be
+ * obtained from {@link Gatherers#defaultInitializer()},
+ * {@link Gatherers#defaultCombiner()} and {@link Gatherers#defaultFinisher()}.
+ *
+ * @see Stream#gather(Gatherer)
+ * @see Gatherers
+ *
+ * @param <T> the type of input elements to the gatherer operation
+ * @param <A> the potentially mutable state type of the gatherer operation
+ *            (often hidden as an implementation detail)
+ * @param <R> the type of output elements from the gatherer operation
+ * @since 24
+ */
+public interface Gatherer<T, A, R> {
+    /**
+     * A function that produces an instance of the intermediate state used for
+     * this gathering operation.
+     *
+     * @return A function that produces an instance of the intermediate state
+     * used for this gathering operation
+     */
+    Supplier<A> initializer();
+
+    /**
+     * A function which integrates provided elements, potentially using
+     * the provided intermediate state, optionally producing output to the
+     * provided {@link Downstream}.
+     *
+     * @return a function which integrates provided elements, potentially using
+     * the provided state, optionally producing output to the provided
+     * Downstream
+     */
+    Integrator<A, T, R> integrator();
+
+    /**
+     * A function which accepts two intermediate states and combines them into
+     * one.  {@link Gatherers#defaultCombiner()} signals that the gatherer
+     * can only be evaluated sequentially.
+     *
+     * @return a function which accepts two intermediate states and combines
+     * them into one
+     */
+    BinaryOperator<A> combiner();
+
+    /**
+     * A function which accepts the final intermediate state and a
+     * {@link Downstream} object, allowing to perform a final action at the end
+     * of input elements.
+     *
+     * @return a function which transforms the intermediate result to the final
+     * result(s) which are then passed on to the provided Downstream
+     */
+    BiConsumer<A, Downstream<? super R>> finisher();
+
+    /**
+     * A Downstream object is the next stage in a pipeline of operations, to
+     * which elements can be sent.
+     *
+     * @param <T> the type of elements this downstream accepts
+     * @since 24
+     */
+    interface Downstream<T> {
+
+        /**
+         * Pushes, if possible, the provided element downstream -- to the next
+         * stage in the pipeline.
+         *
+         * @param element the element to push downstream
+         * @return {@code true} if more elements can be sent, and {@code false}
+         * if not
+         */
+        boolean push(T element);
+
+        /**
+         * Checks whether the next stage is known to not want any more
+         * elements sent to it.
+         *
+         * <p><b>API Note:</b><br>
+         * This is best-effort only, once this returns {@code true} it should
+         * never return {@code false} again for the same instance.
+         *
+         * @return {@code true} if this Downstream is known not to want any
+         * more elements sent to it, {@code false} if otherwise
+         */
+        boolean isRejecting();
+    }
+
+    /**
+     * An Integrator receives elements and processes them, optionally using
+     * the supplied state, and optionally sends incremental results downstream.
+     *
+     * @param <A> the type of state used by this integrator
+     * @param <T> the type of elements this integrator consumes
+     * @param <R> the type of results this integrator can produce
+     * @since 24
+     */
+    interface Integrator<A, T, R> {
+        /**
+         * Performs an action given: the current state, the next element, and
+         * a downstream object; potentially inspecting and/or updating
+         * the state, optionally sending any number of elements downstream
+         * -- and then returns whether more elements are to be consumed or not.
+         *
+         * @param state the state
+         * @param element the element
+         * @param downstream the downstream object
+         * @return {@code true} if subsequent integration is desired,
+         * {@code false} if not
+         */
+        boolean integrate(A state, T element, Downstream<? super R> downstream);
+
+        /**
+         * Greedy Integrators consume all their input, and may only relay that
+         * the downstream does not want more elements.
+         *
+         * <p><b>Implementation Requirements:</b><br>
+         * This interface is used to communicate that no short-circuiting will
+         * be <em>initiated</em> by this Integrator, and that information can
+         * then be used to optimize evaluation.  Use
+         * {@link Gatherers#greedy(Gatherer.Integrator)} to mark a lambda as
+         * greedy.
+         *
+         * @param <A> the type of state used by this integrator
+         * @param <T> the type of elements this greedy integrator receives
+         * @param <R> the type of results this greedy integrator can produce
+         * @since 24
+         */
+        interface Greedy<A, T, R> extends Integrator<A, T, R> { }
+    }
+}
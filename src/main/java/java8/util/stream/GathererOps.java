@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import java8.util.Objects;
+import java8.util.Spliterator;
+import java8.util.concurrent.CountedCompleter;
+import java8.util.function.BinaryOperator;
+import java8.util.function.IntFunction;
+
+/**
+ * Factory for instances of a stateful intermediate operation that applies a
+ * {@link Gatherer} to the elements of a stream.
+ *
+ * <p>Sequential evaluation pushes each element through a single state into
+ * the downstream {@code Sink}.  Parallel evaluation of a gatherer that has a
+ * combiner integrates each leaf of an {@link AbstractShortCircuitTask} with
+ * its own state, concatenates the outputs of the leaves in encounter order
+ * and combines their states before applying the finisher once.  A leaf
+ * whose integrator short-circuits cancels all later leaves.  A gatherer
+ * with {@link Gatherers#defaultCombiner()} is applied sequentially, after the
+ * upstream has been evaluated in parallel if its integrator is greedy.
+ *
+ * @since 24
+ */
+final class GathererOps {
+
+    private GathererOps() { }
+
+    /**
+     * Appends a "gather" operation to the provided stream.
+     *
+     * @param <T> the type of both input elements
+     * @param <A> the type of the state of the gatherer
+     * @param <R> the type of output elements
+     * @param upstream a reference stream with element type T
+     * @param gatherer the gatherer to apply
+     */
+    static <T, A, R> Stream<R> makeRef(AbstractPipeline<?, T, ?> upstream,
+                                       Gatherer<? super T, A, R> gatherer) {
+        Objects.requireNonNull(gatherer);
+        final boolean greedy = gatherer.integrator() instanceof Gatherer.Integrator.Greedy;
+        final boolean sequential = gatherer.combiner() == Gatherers.<A>defaultCombiner();
+        int flags = StreamOpFlag.NOT_SORTED | StreamOpFlag.NOT_DISTINCT | StreamOpFlag.NOT_SIZED
+                | (greedy ? 0 : StreamOpFlag.IS_SHORT_CIRCUIT);
+
+        return new ReferencePipeline.StatefulOp<T, R>(upstream, StreamShape.REFERENCE, flags) {
+            @Override
+            Sink<T> opWrapSink(int flags, Sink<R> sink) {
+                return new GatherSink<>(gatherer, sink, true);
+            }
+
+            @Override
+            <P_IN> Node<R> opEvaluateParallel(PipelineHelper<R> helper,
+                                              Spliterator<P_IN> spliterator,
+                                              IntFunction<R[]> generator) {
+                // The helper describes the upstream stages, whose output
+                // type is T rather than R
+                @SuppressWarnings("unchecked")
+                PipelineHelper<T> upstreamHelper = (PipelineHelper<T>) (PipelineHelper<?>) helper;
+                Node.Builder<R> nb = makeNodeBuilder(-1, generator);
+                GatherSink<T, A, R> sink = new GatherSink<>(gatherer, nb, true);
+                if (sequential) {
+                    if (greedy) {
+                        // Evaluate the upstream in parallel, then gather sequentially
+                        Node<T> input = upstreamHelper.evaluate(spliterator, false, Nodes.<T>castingArray());
+                        sink.begin(input.count());
+                        input.forEach(sink);
+                        sink.end();
+                        Nodes.release(input);
+                    } else {
+                        upstreamHelper.copyIntoWithCancel(upstreamHelper.wrapSink(sink), spliterator);
+                    }
+                    return nb.build();
+                }
+
+                GatherTask<P_IN, T, A, R> task = new GatherTask<>(this, upstreamHelper, spliterator,
+                                                                  gatherer, greedy, generator);
+                Node<R> gathered = task.invoke();
+                // Apply the finisher once, to the combined state of all leaves
+                nb.begin(-1);
+                if (task.integrated) {
+                    sink.state = task.state;
+                    gatherer.finisher().accept(sink.state, sink);
+                }
+                nb.end();
+                Node<R> finished = nb.build();
+                return finished.count() == 0 ? gathered
+                       : Nodes.conc(StreamShape.REFERENCE, gathered, finished);
+            }
+        };
+    }
+
+    /**
+     * A {@code Sink} that integrates elements into the state of a gatherer
+     * and acts as the {@code Downstream} of the gatherer.
+     */
+    static final class GatherSink<T, A, R> extends Sink.ChainedReference<T, R>
+            implements Gatherer.Downstream<R> {
+        private final Gatherer<? super T, A, R> gatherer;
+        private final Gatherer.Integrator<A, ? super T, R> integrator;
+        // Whether the finisher is applied at the end of the input
+        private final boolean finish;
+        A state;
+        // Whether the integrator still accepts elements
+        boolean proceed;
+
+        GatherSink(Gatherer<? super T, A, R> gatherer, Sink<? super R> downstream, boolean finish) {
+            super(downstream);
+            this.gatherer = gatherer;
+            this.integrator = gatherer.integrator();
+            this.finish = finish;
+        }
+
+        @Override
+        public void begin(long size) {
+            state = gatherer.initializer().get();
+            proceed = true;
+            downstream.begin(-1);
+        }
+
+        @Override
+        public void accept(T t) {
+            if (proceed) {
+                proceed = integrator.integrate(state, t, this);
+            }
+        }
+
+        @Override
+        public void end() {
+            if (finish) {
+                gatherer.finisher().accept(state, this);
+                state = null;
+            }
+            downstream.end();
+        }
+
+        @Override
+        public boolean cancellationRequested() {
+            return !proceed || downstream.cancellationRequested();
+        }
+
+        @Override
+        public boolean push(R r) {
+            Sink<? super R> d = downstream;
+            if (d.cancellationRequested()) {
+                return false;
+            }
+            d.accept(r);
+            return !d.cancellationRequested();
+        }
+
+        @Override
+        public boolean isRejecting() {
+            return downstream.cancellationRequested();
+        }
+    }
+
+    /**
+     * {@code ForkJoinTask} implementing the parallel gathering of a
+     * gatherer that has a combiner.  The result of each task is the output
+     * of its leaves, the combined state is kept in {@link #state}.
+     *
+     * @param <P_IN> Input element type to the stream pipeline
+     * @param <T> Input element type to the gatherer
+     * @param <A> State type of the gatherer
+     * @param <R> Output element type of the gatherer
+     */
+    @SuppressWarnings("serial")
+    private static final class GatherTask<P_IN, T, A, R>
+            extends AbstractShortCircuitTask<P_IN, T, Node<R>, GatherTask<P_IN, T, A, R>> {
+        private final AbstractPipeline<?, R, ?> op;
+        private final Gatherer<? super T, A, R> gatherer;
+        private final boolean greedy;
+        private final IntFunction<R[]> generator;
+        // The (combined) state of the leaves of this task
+        A state;
+        // Whether state holds the state of at least one leaf
+        boolean integrated;
+
+        GatherTask(AbstractPipeline<?, R, ?> op,
+                   PipelineHelper<T> helper,
+                   Spliterator<P_IN> spliterator,
+                   Gatherer<? super T, A, R> gatherer,
+                   boolean greedy,
+                   IntFunction<R[]> generator) {
+            super(helper, spliterator);
+            this.op = op;
+            this.gatherer = gatherer;
+            this.greedy = greedy;
+            this.generator = generator;
+        }
+
+        GatherTask(GatherTask<P_IN, T, A, R> parent, Spliterator<P_IN> spliterator) {
+            super(parent, spliterator);
+            this.op = parent.op;
+            this.gatherer = parent.gatherer;
+            this.greedy = parent.greedy;
+            this.generator = parent.generator;
+        }
+
+        @Override
+        protected GatherTask<P_IN, T, A, R> makeChild(Spliterator<P_IN> spliterator) {
+            return new GatherTask<>(this, spliterator);
+        }
+
+        @Override
+        protected Node<R> getEmptyResult() {
+            return Nodes.emptyNode(StreamShape.REFERENCE);
+        }
+
+        @Override
+        protected Node<R> doLeaf() {
+            Node.Builder<R> nb = op.makeNodeBuilder(-1, generator);
+            GatherSink<T, A, R> sink = new GatherSink<>(gatherer, nb, false);
+            if (greedy) {
+                helper.wrapAndCopyInto(sink, spliterator);
+            } else {
+                helper.copyIntoWithCancel(helper.wrapSink(sink), spliterator);
+            }
+            state = sink.state;
+            integrated = true;
+            if (!sink.proceed) {
+                // Elements later in encounter order must not be integrated
+                cancelLaterNodes();
+            }
+            return nb.build();
+        }
+
+        @Override
+        public void onCompletion(CountedCompleter<?> caller) {
+            if (!isLeaf()) {
+                GatherTask<P_IN, T, A, R> left = leftChild, right = rightChild;
+                Node<R> result;
+                if (taskCanceled()) {
+                    result = getEmptyResult();
+                } else if (right.canceled || !right.integrated) {
+                    state = left.state;
+                    integrated = left.integrated;
+                    result = left.getLocalResult();
+                } else if (!left.integrated) {
+                    state = right.state;
+                    integrated = true;
+                    result = right.getLocalResult();
+                } else {
+                    BinaryOperator<A> combiner = gatherer.combiner();
+                    state = combiner.apply(left.state, right.state);
+                    integrated = true;
+                    Node<R> l = left.getLocalResult(), r = right.getLocalResult();
+                    result = l.count() == 0 ? r
+                             : r.count() == 0 ? l
+                             : Nodes.conc(StreamShape.REFERENCE, l, r);
+                }
+                setLocalResult(result);
+            }
+            super.onCompletion(caller);
+        }
+    }
+}
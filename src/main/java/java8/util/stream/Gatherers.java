@@ -0,0 +1,425 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import java.util.List;
+
+import java8.util.Objects;
+import java8.util.function.BiConsumer;
+import java8.util.function.BinaryOperator;
+import java8.util.function.Supplier;
+
+/**
+ * Implementations of {@link Gatherer} that provide useful intermediate
+ * operations, such as windowing functions, as well as factories for
+ * {@code Gatherer}s described by their functions.
+ *
+ * <p>Unless otherwise noted, passing a {@code null} argument to a method in
+ * this class will cause a {@link NullPointerException} to be thrown.
+ *
+ * @since 24
+ */
+public final class Gatherers {
+
+    private static final Supplier<Object> DEFAULT_INITIALIZER = () -> null;
+
+    private static final BinaryOperator<Object> DEFAULT_COMBINER = (l, r) -> {
+        throw new UnsupportedOperationException("This Gatherer can only be evaluated sequentially");
+    };
+
+    private static final BiConsumer<Object, Gatherer.Downstream<?>> DEFAULT_FINISHER = (s, d) -> {};
+
+    private static final BinaryOperator<Object> STATELESS_COMBINER = (l, r) -> null;
+
+    private Gatherers() { }
+
+    /**
+     * Returns an initializer which is the default initializer of a Gatherer.
+     * The returned initializer identifies that the owner Gatherer is stateless.
+     *
+     * @param <A> the type of the state of the returned initializer
+     * @return the instance of the default initializer
+     */
+    @SuppressWarnings("unchecked")
+    public static <A> Supplier<A> defaultInitializer() {
+        return (Supplier<A>) DEFAULT_INITIALIZER;
+    }
+
+    /**
+     * Returns a combiner which is the default combiner of a Gatherer.
+     * The returned combiner identifies that the owning Gatherer must only
+     * be evaluated sequentially.
+     *
+     * @param <A> the type of the state of the returned combiner
+     * @return the instance of the default combiner
+     */
+    @SuppressWarnings("unchecked")
+    public static <A> BinaryOperator<A> defaultCombiner() {
+        return (BinaryOperator<A>) DEFAULT_COMBINER;
+    }
+
+    /**
+     * Returns a finisher which is the default finisher of a Gatherer.
+     * The returned finisher identifies that the owning Gatherer performs
+     * no additional actions at the end of input.
+     *
+     * @param <A> the type of the state of the returned finisher
+     * @param <R> the type of the Downstream of the returned finisher
+     * @return the instance of the default finisher
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, R> BiConsumer<A, Gatherer.Downstream<? super R>> defaultFinisher() {
+        return (BiConsumer<A, Gatherer.Downstream<? super R>>) (BiConsumer<?, ?>) DEFAULT_FINISHER;
+    }
+
+    /**
+     * Marks the given {@code Integrator} as greedy, that is, as one that
+     * never initiates short-circuiting.  This allows the stream to evaluate
+     * the owning Gatherer more efficiently.
+     *
+     * @param greedy the integrator to mark as greedy
+     * @param <A> the type of state used by this integrator
+     * @param <T> the type of elements this integrator receives
+     * @param <R> the type of results this integrator can produce
+     * @return a greedy integrator delegating to {@code greedy}
+     */
+    public static <A, T, R> Gatherer.Integrator.Greedy<A, T, R> greedy(
+            Gatherer.Integrator.Greedy<A, T, R> greedy) {
+        return Objects.requireNonNull(greedy);
+    }
+
+    /**
+     * Returns a new, sequential, and stateless {@code Gatherer} described by
+     * the given integrator.
+     *
+     * @param integrator the integrator function for the new gatherer
+     * @param <T> the type of input elements for the new gatherer
+     * @param <R> the type of results for the new gatherer
+     * @return the new {@code Gatherer}
+     */
+    public static <T, R> Gatherer<T, Void, R> ofSequential(
+            Gatherer.Integrator<Void, T, R> integrator) {
+        return of(Gatherers.<Void>defaultInitializer(), integrator,
+                  Gatherers.<Void>defaultCombiner(), Gatherers.<Void, R>defaultFinisher());
+    }
+
+    /**
+     * Returns a new, sequential, and stateless {@code Gatherer} described by
+     * the given integrator and finisher.
+     *
+     * @param integrator the integrator function for the new gatherer
+     * @param finisher the finisher function for the new gatherer
+     * @param <T> the type of input elements for the new gatherer
+     * @param <R> the type of results for the new gatherer
+     * @return the new {@code Gatherer}
+     */
+    public static <T, R> Gatherer<T, Void, R> ofSequential(
+            Gatherer.Integrator<Void, T, R> integrator,
+            BiConsumer<Void, Gatherer.Downstream<? super R>> finisher) {
+        return of(Gatherers.<Void>defaultInitializer(), integrator,
+                  Gatherers.<Void>defaultCombiner(), finisher);
+    }
+
+    /**
+     * Returns a new, sequential, {@code Gatherer} described by the given
+     * initializer and integrator.
+     *
+     * @param initializer the supplier of state for the new gatherer
+     * @param integrator the integrator function for the new gatherer
+     * @param <T> the type of input elements for the new gatherer
+     * @param <A> the type of state for the new gatherer
+     * @param <R> the type of results for the new gatherer
+     * @return the new {@code Gatherer}
+     */
+    public static <T, A, R> Gatherer<T, A, R> ofSequential(
+            Supplier<A> initializer,
+            Gatherer.Integrator<A, T, R> integrator) {
+        return of(initializer, integrator,
+                  Gatherers.<A>defaultCombiner(), Gatherers.<A, R>defaultFinisher());
+    }
+
+    /**
+     * Returns a new, sequential, {@code Gatherer} described by the given
+     * initializer, integrator, and finisher.
+     *
+     * @param initializer the supplier of state for the new gatherer
+     * @param integrator the integrator function for the new gatherer
+     * @param finisher the finisher function for the new gatherer
+     * @param <T> the type of input elements for the new gatherer
+     * @param <A> the type of state for the new gatherer
+     * @param <R> the type of results for the new gatherer
+     * @return the new {@code Gatherer}
+     */
+    public static <T, A, R> Gatherer<T, A, R> ofSequential(
+            Supplier<A> initializer,
+            Gatherer.Integrator<A, T, R> integrator,
+            BiConsumer<A, Gatherer.Downstream<? super R>> finisher) {
+        return of(initializer, integrator, Gatherers.<A>defaultCombiner(), finisher);
+    }
+
+    /**
+     * Returns a new, parallelizable, and stateless {@code Gatherer} described
+     * by the given integrator.
+     *
+     * @param integrator the integrator function for the new gatherer
+     * @param <T> the type of input elements for the new gatherer
+     * @param <R> the type of results for the new gatherer
+     * @return the new {@code Gatherer}
+     */
+    public static <T, R> Gatherer<T, Void, R> of(Gatherer.Integrator<Void, T, R> integrator) {
+        return of(integrator, Gatherers.<Void, R>defaultFinisher());
+    }
+
+    /**
+     * Returns a new, parallelizable, and stateless {@code Gatherer} described
+     * by the given integrator and finisher.
+     *
+     * @param integrator the integrator function for the new gatherer
+     * @param finisher the finisher function for the new gatherer
+     * @param <T> the type of input elements for the new gatherer
+     * @param <R> the type of results for the new gatherer
+     * @return the new {@code Gatherer}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> Gatherer<T, Void, R> of(
+            Gatherer.Integrator<Void, T, R> integrator,
+            BiConsumer<Void, Gatherer.Downstream<? super R>> finisher) {
+        return of(Gatherers.<Void>defaultInitializer(), integrator,
+                  (BinaryOperator<Void>) (BinaryOperator<?>) STATELESS_COMBINER, finisher);
+    }
+
+    /**
+     * Returns a new, parallelizable, {@code Gatherer} described by the given
+     * initializer, integrator, combiner, and finisher.
+     *
+     * @param initializer the supplier of state for the new gatherer
+     * @param integrator the integrator function for the new gatherer
+     * @param combiner the function for combining two states
+     * @param finisher the finisher function for the new gatherer
+     * @param <T> the type of input elements for the new gatherer
+     * @param <A> the type of state for the new gatherer
+     * @param <R> the type of results for the new gatherer
+     * @return the new {@code Gatherer}
+     */
+    public static <T, A, R> Gatherer<T, A, R> of(
+            Supplier<A> initializer,
+            Gatherer.Integrator<A, T, R> integrator,
+            BinaryOperator<A> combiner,
+            BiConsumer<A, Gatherer.Downstream<? super R>> finisher) {
+        return new GathererImpl<>(Objects.requireNonNull(initializer),
+                                  Objects.requireNonNull(integrator),
+                                  Objects.requireNonNull(combiner),
+                                  Objects.requireNonNull(finisher));
+    }
+
+    /**
+     * Returns a Gatherer that gathers elements into windows -- encounter-ordered
+     * groups of elements -- of a fixed size.  If the stream is empty then no
+     * window will be produced.  The last window may contain fewer elements
+     * than the supplied window size.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * // will contain: [[1, 2, 3], [4, 5, 6], [7, 8]]
+     * List<List<Integer>> windows =
+     *     RefStreams.of(1,2,3,4,5,6,7,8).gather(Gatherers.windowFixed(3)).toList();
+     * }</pre>
+     *
+     * <p><b>Implementation Note:</b><br>
+     * Each window produced is an unmodifiable List; calls to any mutator
+     * method will always cause {@code UnsupportedOperationException} to be
+     * thrown.  The elements are collected straight into the array backing
+     * the emitted window, so no intermediate lists are created.  The
+     * returned Gatherer is sequential and greedy.
+     *
+     * @param windowSize the size of the windows
+     * @param <TR> the type of elements the returned gatherer consumes
+     *             and the contents of the windows it produces
+     * @return a new gatherer which groups elements into fixed-size windows
+     * @throws IllegalArgumentException when {@code windowSize} is less than 1
+     */
+    public static <TR> Gatherer<TR, ?, List<TR>> windowFixed(final int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("'windowSize' must be greater than zero");
+        }
+        return Gatherers.<TR, FixedWindow<TR>, List<TR>>ofSequential(
+                () -> new FixedWindow<TR>(windowSize),
+                Gatherers.<FixedWindow<TR>, TR, List<TR>>greedy((w, e, d) -> w.integrate(e, d)),
+                (w, d) -> w.finish(d));
+    }
+
+    /**
+     * Returns a Gatherer that gathers elements into windows -- encounter-ordered
+     * groups of elements -- of a given size, where each subsequent window
+     * includes all elements of the previous window except for the least recent,
+     * and adds the next element in the stream.  If the stream is empty then no
+     * window will be produced.  If the size of the stream is smaller than the
+     * window size then only one window will be produced, containing all
+     * elements in the stream.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * // will contain: [[1, 2], [2, 3], [3, 4], [4, 5], [5, 6], [6, 7], [7, 8]]
+     * List<List<Integer>> windows2 =
+     *     RefStreams.of(1,2,3,4,5,6,7,8).gather(Gatherers.windowSliding(2)).toList();
+     * }</pre>
+     *
+     * <p><b>Implementation Note:</b><br>
+     * Each window produced is an unmodifiable List; calls to any mutator
+     * method will always cause {@code UnsupportedOperationException} to be
+     * thrown.  Every window is filled from the array backing the previous
+     * one, so an element is copied once per window it appears in and no
+     * intermediate lists are created.  The returned Gatherer is sequential
+     * and greedy.
+     *
+     * @param windowSize the size of the windows
+     * @param <TR> the type of elements the returned gatherer consumes
+     *             and the contents of the windows it produces
+     * @return a new gatherer which groups elements into sliding windows
+     * @throws IllegalArgumentException when {@code windowSize} is less than 1
+     */
+    public static <TR> Gatherer<TR, ?, List<TR>> windowSliding(final int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("'windowSize' must be greater than zero");
+        }
+        return Gatherers.<TR, SlidingWindow<TR>, List<TR>>ofSequential(
+                () -> new SlidingWindow<TR>(windowSize),
+                Gatherers.<SlidingWindow<TR>, TR, List<TR>>greedy((w, e, d) -> w.integrate(e, d)),
+                (w, d) -> w.finish(d));
+    }
+
+    static final class FixedWindow<TR> {
+        private final int windowSize;
+        private Object[] window;
+        private int at;
+
+        FixedWindow(int windowSize) {
+            this.windowSize = windowSize;
+            this.window = new Object[windowSize];
+        }
+
+        boolean integrate(TR element, Gatherer.Downstream<? super List<TR>> downstream) {
+            window[at++] = element;
+            if (at < windowSize) {
+                return true;
+            }
+            Object[] full = window;
+            window = new Object[windowSize];
+            at = 0;
+            return downstream.push(new ImmutableArrayList<TR>(full));
+        }
+
+        void finish(Gatherer.Downstream<? super List<TR>> downstream) {
+            if (at > 0 && !downstream.isRejecting()) {
+                Object[] last = new Object[at];
+                System.arraycopy(window, 0, last, 0, at);
+                window = null;
+                at = 0;
+                downstream.push(new ImmutableArrayList<TR>(last));
+            }
+        }
+    }
+
+    static final class SlidingWindow<TR> {
+        private final int windowSize;
+        private Object[] window;
+        private int at;
+        private boolean firstWindow = true;
+
+        SlidingWindow(int windowSize) {
+            this.windowSize = windowSize;
+            this.window = new Object[windowSize];
+        }
+
+        boolean integrate(TR element, Gatherer.Downstream<? super List<TR>> downstream) {
+            window[at++] = element;
+            if (at < windowSize) {
+                return true;
+            }
+            // The full window is handed out as is, the next one starts
+            // as a copy of its most recent windowSize - 1 elements
+            Object[] full = window;
+            window = new Object[windowSize];
+            System.arraycopy(full, 1, window, 0, windowSize - 1);
+            at = windowSize - 1;
+            firstWindow = false;
+            return downstream.push(new ImmutableArrayList<TR>(full));
+        }
+
+        void finish(Gatherer.Downstream<? super List<TR>> downstream) {
+            if (firstWindow && at > 0 && !downstream.isRejecting()) {
+                Object[] last = new Object[at];
+                System.arraycopy(window, 0, last, 0, at);
+                window = null;
+                at = 0;
+                downstream.push(new ImmutableArrayList<TR>(last));
+            }
+        }
+    }
+
+    /**
+     * Simple implementation class for {@code Gatherer}.
+     *
+     * @param <T> the type of input elements
+     * @param <A> the type of the state
+     * @param <R> the type of output elements
+     */
+    static final class GathererImpl<T, A, R> implements Gatherer<T, A, R> {
+        private final Supplier<A> initializer;
+        private final Gatherer.Integrator<A, T, R> integrator;
+        private final BinaryOperator<A> combiner;
+        private final BiConsumer<A, Gatherer.Downstream<? super R>> finisher;
+
+        GathererImpl(Supplier<A> initializer,
+                     Gatherer.Integrator<A, T, R> integrator,
+                     BinaryOperator<A> combiner,
+                     BiConsumer<A, Gatherer.Downstream<? super R>> finisher) {
+            this.initializer = initializer;
+            this.integrator = integrator;
+            this.combiner = combiner;
+            this.finisher = finisher;
+        }
+
+        @Override
+        public Supplier<A> initializer() {
+            return initializer;
+        }
+
+        @Override
+        public Gatherer.Integrator<A, T, R> integrator() {
+            return integrator;
+        }
+
+        @Override
+        public BinaryOperator<A> combiner() {
+            return combiner;
+        }
+
+        @Override
+        public BiConsumer<A, Gatherer.Downstream<? super R>> finisher() {
+            return finisher;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.RandomAccess;
+
+import java8.util.Spliterator;
+import java8.util.Spliterators;
+
+/**
+ * An unmodifiable, {@code RandomAccess} list that is directly backed by an
+ * array which is exclusively owned by the list (the array that results from
+ * the evaluation of a stream pipeline in {@link Stream#toList()}), so no
+ * further copy is required. Unlike the lists returned by
+ * {@code java8.util.Lists.of} the list permits {@code null} elements. All
+ * mutator methods throw {@code UnsupportedOperationException}.
+ *
+ * <p>{@link #arraySpliterator()} reports {@code ORDERED}, {@code SIZED},
+ * {@code SUBSIZED} and {@code IMMUTABLE}, it is used by
+ * {@link StreamSupport#stream(Collection)} and
+ * {@link StreamSupport#parallelStream(Collection)} for streams over such a
+ * list.
+ *
+ * @param <E> the type of elements in this list
+ */
+final class ImmutableArrayList<E> extends AbstractList<E>
+        implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Object[] elements;
+
+    /**
+     * Creates a list that takes ownership of {@code elements}, the array
+     * must not be modified afterwards.
+     */
+    ImmutableArrayList(Object[] elements) {
+        this.elements = elements;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        return (E) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return elements.length == 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(elements, elements.length);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] a) {
+        int size = elements.length;
+        if (a.length < size) {
+            return (T[]) Arrays.copyOf(elements, size, a.getClass());
+        }
+        System.arraycopy(elements, 0, a, 0, size);
+        if (a.length > size) {
+            a[size] = null;
+        }
+        return a;
+    }
+
+    /**
+     * Returns an {@code ORDERED}, {@code SIZED}, {@code SUBSIZED} and
+     * {@code IMMUTABLE} spliterator over the elements of this list.
+     *
+     * @return a spliterator over the elements of this list
+     */
+    Spliterator<E> arraySpliterator() {
+        return Spliterators.<E>spliterator(elements, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    // all mutating methods throw UnsupportedOperationException, even if they
+    // would not change the list
+
+    @Override
+    public boolean add(E e) {
+        throw uoe();
+    }
+
+    @Override
+    public void add(int index, E element) {
+        throw uoe();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw uoe();
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        throw uoe();
+    }
+
+    @Override
+    public void clear() {
+        throw uoe();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw uoe();
+    }
+
+    @Override
+    public E remove(int index) {
+        throw uoe();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw uoe();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw uoe();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        throw uoe();
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        throw uoe();
+    }
+
+    private static UnsupportedOperationException uoe() {
+        return new UnsupportedOperationException();
+    }
+
+    /**
+     * Serializes as an unmodifiable copy so that the class doesn't become
+     * part of the serial form.
+     */
+    private Object writeReplace() {
+        return Collections.unmodifiableList(new ArrayList<Object>(Arrays.asList(elements)));
+    }
+}
@@ -233,6 +233,16 @@ abstract class IntPipeline<E_IN>
         Objects.requireNonNull(mapper);
         return new StatelessOp<Integer>(this, StreamShape.INT_VALUE,
                                         StreamOpFlag.NOT_SORTED | StreamOpFlag.NOT_DISTINCT) {
+            @Override
+            int opFusedKind() {
+                return FusedOps.MAP;
+            }
+
+            @Override
+            Object opFusedFunction() {
+                return mapper;
+            }
+
             @Override
             Sink<Integer> opWrapSink(int flags, Sink<Integer> sink) {
                 return new Sink.ChainedInt<Integer>(sink) {
@@ -339,6 +349,31 @@ abstract class IntPipeline<E_IN>
         };
     }
 
+    @Override
+    public final IntStream mapMulti(IntStream.IntMapMultiConsumer mapper) {
+        Objects.requireNonNull(mapper);
+        return new StatelessOp<Integer>(this, StreamShape.INT_VALUE,
+                                        StreamOpFlag.NOT_SORTED | StreamOpFlag.NOT_DISTINCT | StreamOpFlag.NOT_SIZED) {
+            @Override
+            Sink<Integer> opWrapSink(int flags, Sink<Integer> sink) {
+                return new Sink.ChainedInt<Integer>(sink) {
+                    // cache the consumer to avoid creation on every accepted element
+                    IntConsumer downstreamAsInt = downstream::accept;
+
+                    @Override
+                    public void begin(long size) {
+                        downstream.begin(-1);
+                    }
+
+                    @Override
+                    public void accept(int t) {
+                        mapper.accept(t, downstreamAsInt);
+                    }
+                };
+            }
+        };
+    }
+
     @Override
     public IntStream unordered() {
         if (!isOrdered())
@@ -356,6 +391,16 @@ abstract class IntPipeline<E_IN>
         Objects.requireNonNull(predicate);
         return new StatelessOp<Integer>(this, StreamShape.INT_VALUE,
                                         StreamOpFlag.NOT_SIZED) {
+            @Override
+            int opFusedKind() {
+                return FusedOps.FILTER;
+            }
+
+            @Override
+            Object opFusedFunction() {
+                return predicate;
+            }
+
             @Override
             Sink<Integer> opWrapSink(int flags, Sink<Integer> sink) {
                 return new Sink.ChainedInt<Integer>(sink) {
@@ -379,6 +424,16 @@ abstract class IntPipeline<E_IN>
         Objects.requireNonNull(action);
         return new StatelessOp<Integer>(this, StreamShape.INT_VALUE,
                                         0) {
+            @Override
+            int opFusedKind() {
+                return FusedOps.PEEK;
+            }
+
+            @Override
+            Object opFusedFunction() {
+                return action;
+            }
+
             @Override
             Sink<Integer> opWrapSink(int flags, Sink<Integer> sink) {
                 return new Sink.ChainedInt<Integer>(sink) {
@@ -428,9 +483,7 @@ abstract class IntPipeline<E_IN>
 
     @Override
     public final IntStream distinct() {
-        // While functional and quick to implement, this approach is not very efficient.
-        // An efficient version requires an int-specific map/set implementation.
-        return boxed().distinct().mapToInt(i -> i);
+        return DistinctOps.makeInt(this);
     }
 
     // Terminal ops from IntStream
@@ -536,8 +589,10 @@ abstract class IntPipeline<E_IN>
 
     @Override
     public final int[] toArray() {
-        return Nodes.flattenInt((Node.OfInt) evaluateToArrayNode(WhileOps.INT_ARR_GEN))
-                        .asPrimitiveArray();
+        Node.OfInt node = (Node.OfInt) evaluateToArrayNode(WhileOps.INT_ARR_GEN);
+        int[] array = Nodes.flattenInt(node).asPrimitiveArray();
+        Nodes.release(node);
+        return array;
     }
 
     //
@@ -161,6 +161,33 @@ public interface IntStream extends BaseStream<Integer, IntStream> {
      */
     IntStream flatMap(IntFunction<? extends IntStream> mapper);
 
+    /**
+     * Returns a stream consisting of the results of replacing each element of
+     * this stream with multiple elements, specifically zero or more elements.
+     * Replacement is performed by applying the provided mapping function to each
+     * element in conjunction with a {@linkplain IntConsumer consumer} argument
+     * that accepts replacement elements.  The mapping function calls the consumer
+     * zero or more times to provide the replacement elements.
+     *
+     * <p>This is an <a href="package-summary.html#StreamOps">intermediate
+     * operation</a>.
+     *
+     * <p>If the {@linkplain IntConsumer consumer} argument is used outside the scope of
+     * its application to the mapping function, the results are undefined.
+     *
+     * <p><b>Implementation Note:</b><br>
+     * The consumer passed to the mapping function pushes the replacement
+     * elements directly into the downstream stages of the pipeline.
+     *
+     * @param mapper a <a href="package-summary.html#NonInterference">non-interfering</a>,
+     *               <a href="package-summary.html#Statelessness">stateless</a>
+     *               function that generates replacement elements
+     * @return the new stream
+     * @see Stream#mapMulti Stream.mapMulti
+     * @since 16
+     */
+    IntStream mapMulti(IntMapMultiConsumer mapper);
+
     /**
      * Returns a stream consisting of the distinct elements of this stream.
      *
@@ -878,4 +905,29 @@ public interface IntStream extends BaseStream<Integer, IntStream> {
          */
         IntStream build();
     }
+
+    /**
+     * Represents an operation that accepts a {@code int}-valued argument
+     * and a IntConsumer, and returns no result.  This functional interface is
+     * used by {@link IntStream#mapMulti(IntStream.IntMapMultiConsumer) IntStream.mapMulti}
+     * to replace a int value with zero or more int values.
+     *
+     * <p>This is a functional interface whose functional method is
+     * {@link #accept(int, IntConsumer)}.
+     *
+     * @see IntStream#mapMulti(IntStream.IntMapMultiConsumer)
+     *
+     * @since 16
+     */
+    public interface IntMapMultiConsumer {
+
+        /**
+         * Replaces the given {@code value} with zero or more values by feeding
+         * the mapped values to the {@code ic} consumer.
+         *
+         * @param value the int value coming from upstream
+         * @param ic the {@code IntConsumer} accepting the mapped values
+         */
+        void accept(int value, IntConsumer ic);
+    }
 }
@@ -215,6 +215,16 @@ abstract class LongPipeline<E_IN>
         Objects.requireNonNull(mapper);
         return new StatelessOp<Long>(this, StreamShape.LONG_VALUE,
                                      StreamOpFlag.NOT_SORTED | StreamOpFlag.NOT_DISTINCT) {
+            @Override
+            int opFusedKind() {
+                return FusedOps.MAP;
+            }
+
+            @Override
+            Object opFusedFunction() {
+                return mapper;
+            }
+
             @Override
             Sink<Long> opWrapSink(int flags, Sink<Long> sink) {
                 return new Sink.ChainedLong<Long>(sink) {
@@ -321,6 +331,31 @@ abstract class LongPipeline<E_IN>
         };
     }
 
+    @Override
+    public final LongStream mapMulti(LongStream.LongMapMultiConsumer mapper) {
+        Objects.requireNonNull(mapper);
+        return new StatelessOp<Long>(this, StreamShape.LONG_VALUE,
+                                        StreamOpFlag.NOT_SORTED | StreamOpFlag.NOT_DISTINCT | StreamOpFlag.NOT_SIZED) {
+            @Override
+            Sink<Long> opWrapSink(int flags, Sink<Long> sink) {
+                return new Sink.ChainedLong<Long>(sink) {
+                    // cache the consumer to avoid creation on every accepted element
+                    LongConsumer downstreamAsLong = downstream::accept;
+
+                    @Override
+                    public void begin(long size) {
+                        downstream.begin(-1);
+                    }
+
+                    @Override
+                    public void accept(long t) {
+                        mapper.accept(t, downstreamAsLong);
+                    }
+                };
+            }
+        };
+    }
+
     @Override
     public LongStream unordered() {
         if (!isOrdered()) {
@@ -339,6 +374,16 @@ abstract class LongPipeline<E_IN>
         Objects.requireNonNull(predicate);
         return new StatelessOp<Long>(this, StreamShape.LONG_VALUE,
                                      StreamOpFlag.NOT_SIZED) {
+            @Override
+            int opFusedKind() {
+                return FusedOps.FILTER;
+            }
+
+            @Override
+            Object opFusedFunction() {
+                return predicate;
+            }
+
             @Override
             Sink<Long> opWrapSink(int flags, Sink<Long> sink) {
                 return new Sink.ChainedLong<Long>(sink) {
@@ -362,6 +407,16 @@ abstract class LongPipeline<E_IN>
         Objects.requireNonNull(action);
         return new StatelessOp<Long>(this, StreamShape.LONG_VALUE,
                                      0) {
+            @Override
+            int opFusedKind() {
+                return FusedOps.PEEK;
+            }
+
+            @Override
+            Object opFusedFunction() {
+                return action;
+            }
+
             @Override
             Sink<Long> opWrapSink(int flags, Sink<Long> sink) {
                 return new Sink.ChainedLong<Long>(sink) {
@@ -411,9 +466,7 @@ abstract class LongPipeline<E_IN>
 
     @Override
     public final LongStream distinct() {
-        // While functional and quick to implement, this approach is not very efficient.
-        // An efficient version requires a long-specific map/set implementation.
-        return boxed().distinct().mapToLong(i -> (long) i);
+        return DistinctOps.makeLong(this);
     }
 
     // Terminal ops from LongStream
@@ -520,8 +573,10 @@ abstract class LongPipeline<E_IN>
 
     @Override
     public final long[] toArray() {
-        return Nodes.flattenLong((Node.OfLong) evaluateToArrayNode(WhileOps.LONG_ARR_GEN))
-                .asPrimitiveArray();
+        Node.OfLong node = (Node.OfLong) evaluateToArrayNode(WhileOps.LONG_ARR_GEN);
+        long[] array = Nodes.flattenLong(node).asPrimitiveArray();
+        Nodes.release(node);
+        return array;
     }
 
 
@@ -161,6 +161,33 @@ public interface LongStream extends BaseStream<Long, LongStream> {
      */
     LongStream flatMap(LongFunction<? extends LongStream> mapper);
 
+    /**
+     * Returns a stream consisting of the results of replacing each element of
+     * this stream with multiple elements, specifically zero or more elements.
+     * Replacement is performed by applying the provided mapping function to each
+     * element in conjunction with a {@linkplain LongConsumer consumer} argument
+     * that accepts replacement elements.  The mapping function calls the consumer
+     * zero or more times to provide the replacement elements.
+     *
+     * <p>This is an <a href="package-summary.html#StreamOps">intermediate
+     * operation</a>.
+     *
+     * <p>If the {@linkplain LongConsumer consumer} argument is used outside the scope of
+     * its application to the mapping function, the results are undefined.
+     *
+     * <p><b>Implementation Note:</b><br>
+     * The consumer passed to the mapping function pushes the replacement
+     * elements directly into the downstream stages of the pipeline.
+     *
+     * @param mapper a <a href="package-summary.html#NonInterference">non-interfering</a>,
+     *               <a href="package-summary.html#Statelessness">stateless</a>
+     *               function that generates replacement elements
+     * @return the new stream
+     * @see Stream#mapMulti Stream.mapMulti
+     * @since 16
+     */
+    LongStream mapMulti(LongMapMultiConsumer mapper);
+
     /**
      * Returns a stream consisting of the distinct elements of this stream.
      *
@@ -868,4 +895,29 @@ public interface LongStream extends BaseStream<Long, LongStream> {
          */
         LongStream build();
     }
+
+    /**
+     * Represents an operation that accepts a {@code long}-valued argument
+     * and a LongConsumer, and returns no result.  This functional interface is
+     * used by {@link LongStream#mapMulti(LongStream.LongMapMultiConsumer) LongStream.mapMulti}
+     * to replace a long value with zero or more long values.
+     *
+     * <p>This is a functional interface whose functional method is
+     * {@link #accept(long, LongConsumer)}.
+     *
+     * @see LongStream#mapMulti(LongStream.LongMapMultiConsumer)
+     *
+     * @since 16
+     */
+    public interface LongMapMultiConsumer {
+
+        /**
+         * Replaces the given {@code value} with zero or more values by feeding
+         * the mapped values to the {@code lc} consumer.
+         *
+         * @param value the long value coming from upstream
+         * @param lc the {@code LongConsumer} accepting the mapped values
+         */
+        void accept(long value, LongConsumer lc);
+    }
 }
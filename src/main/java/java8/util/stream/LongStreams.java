@@ -24,6 +24,9 @@
  */
 package java8.util.stream;
 
+import java.nio.LongBuffer;
+import java.util.Collection;
+
 import java8.lang.Longs;
 import java8.util.Objects;
 import java8.util.Spliterator;
@@ -134,6 +137,31 @@ public final class LongStreams {
         return java8.util.J8Arrays.stream(values);
     }
 
+    /**
+     * Returns a sequential ordered stream whose elements are the remaining
+     * elements of the specified buffer, that is the elements between its
+     * position and its limit.
+     *
+     * <p>The elements are read in place, without copying them to an array,
+     * and without changing the position of the buffer.  The buffer may be a
+     * view of a direct or memory-mapped {@code ByteBuffer}, created by
+     * {@link java.nio.ByteBuffer#asLongBuffer()}, in which case a parallel
+     * stream evaluates directly over the memory outside of the heap.  The
+     * stream's spliterator is {@code SIZED} and {@code SUBSIZED}, and splits
+     * by index.
+     *
+     * <p>The contents of the buffer should not be modified while the stream
+     * is evaluated.
+     *
+     * @param buffer the buffer
+     * @return the new stream
+     * @see Spliterators#spliterator(LongBuffer, int)
+     */
+    public static LongStream of(LongBuffer buffer) {
+        return StreamSupport.longStream(Spliterators.spliterator(buffer,
+                Spliterator.ORDERED | Spliterator.IMMUTABLE), false);
+    }
+
     /**
      * Returns an infinite sequential ordered {@code LongStream} produced by iterative
      * application of a function {@code f} to an initial element {@code seed},
@@ -359,7 +387,8 @@ public final class LongStreams {
      * <p><b>Implementation Note:</b><br>
      * Use caution when constructing streams from repeated concatenation.
      * Accessing an element of a deeply concatenated stream can result in deep
-     * call chains, or even {@code StackOverflowError}.
+     * call chains, or even {@code StackOverflowError}.  To concatenate many
+     * streams, use {@link #concat(LongStream...)} instead.
      * <p>Subsequent changes to the sequential/parallel execution mode of the
      * returned stream are not guaranteed to be propagated to the input streams.
      * 
@@ -389,6 +418,59 @@ public final class LongStreams {
         return stream.onClose(Streams.composedClose(a, b));
     }
 
+    /**
+     * Creates a lazily concatenated stream whose elements are all the
+     * elements of the given streams, in the order of the streams.  The
+     * resulting stream is ordered if all of the input streams are ordered,
+     * and parallel if any of the input streams is parallel.  When the
+     * resulting stream is closed, the close handlers of all input streams are
+     * invoked.
+     *
+     * <p>This method operates on the input streams and binds each stream to
+     * its source, like {@link #concat(LongStream, LongStream)}.  The exact size of
+     * the concatenated stream source is known if the exact size of each input
+     * stream source is known.
+     *
+     * <p><b>Implementation Note:</b><br>
+     * Unlike repeated calls of {@link #concat(LongStream, LongStream)}, the
+     * concatenation is flat: the cost of accessing an element does not grow
+     * with the number of input streams, and a parallel evaluation first
+     * splits the input streams into halves of equal count.
+     *
+     * @param streams the streams to concatenate
+     * @return the concatenation of the input streams
+     */
+    public static LongStream concat(LongStream... streams) {
+        Objects.requireNonNull(streams);
+        int n = streams.length;
+        for (LongStream s : streams) {
+            Objects.requireNonNull(s);
+        }
+
+        Spliterator.OfLong[] parts = new Spliterator.OfLong[n];
+        boolean parallel = false;
+        for (int i = 0; i < n; i++) {
+            parts[i] = streams[i].spliterator();
+            parallel |= streams[i].isParallel();
+        }
+        Spliterator.OfLong split = new Streams.MultiConcatSpliterator.OfLong(parts, 0, n);
+        LongStream stream = StreamSupport.longStream(split, parallel);
+        return n == 0 ? stream : stream.onClose(Streams.composedClose(streams.clone()));
+    }
+
+    /**
+     * Creates a lazily concatenated stream whose elements are all the
+     * elements of the streams in the given collection, in the iteration order
+     * of the collection.  This is equivalent to
+     * {@code concat(streams.toArray(...))}, see {@link #concat(LongStream...)}.
+     *
+     * @param streams the streams to concatenate
+     * @return the concatenation of the input streams
+     */
+    public static LongStream concat(Collection<? extends LongStream> streams) {
+        return concat(streams.toArray(new LongStream[0]));
+    }
+
     private LongStreams() {
     }
 }
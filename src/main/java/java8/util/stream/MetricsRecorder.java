@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import java.lang.reflect.Method;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import java8.util.LongSummaryStatistics;
+
+/**
+ * Collects the {@link PipelineMetrics} of one evaluation of an instrumented
+ * pipeline.  The recorder is attached to the source stage for the duration of
+ * the terminal operation: {@link AbstractPipeline} then places a
+ * {@link CountingSink} on top of the sink of every stage and on top of the
+ * sink that receives the output of the pipeline (segment), and parallel tasks
+ * report their splits and leaves.
+ *
+ * <p>Counting sinks are confined to the thread that wrapped them (as the
+ * sink chains of the pipeline stages are) and add their counts to the
+ * recorder's totals in {@code end()}.
+ */
+final class MetricsRecorder {
+
+    private static final String LISTENER_P = PipelineMetrics.class.getName() + ".listener";
+
+    /** The listener of all pipelines, null unless configured */
+    static final PipelineMetrics.Listener GLOBAL_LISTENER = loadListener();
+
+    private final String[] names;
+    private final AtomicLongArray elementsIn;
+    private final AtomicLongArray cancellationChecks;
+    private final AtomicLongArray nanos;
+    private final AtomicLong splits = new AtomicLong();
+    private final AtomicLong leafCount = new AtomicLong();
+    private final LongSummaryStatistics leafSizes = new LongSummaryStatistics();
+    private final long start = System.nanoTime();
+
+    /**
+     * @param names the names of the stages, from the source to the terminal
+     *        operation
+     */
+    MetricsRecorder(String[] names) {
+        this.names = names;
+        elementsIn = new AtomicLongArray(names.length);
+        cancellationChecks = new AtomicLongArray(names.length);
+        nanos = new AtomicLongArray(names.length);
+    }
+
+    /**
+     * Describes an operation by the class implementing it or, for an
+     * anonymous class, by the method that created it.
+     */
+    static String nameOf(Class<?> c) {
+        try {
+            Class<?> outer = c.getEnclosingClass();
+            if (outer != null) {
+                Method m = c.getEnclosingMethod();
+                return outer.getSimpleName() + "." + (m != null ? m.getName() : c.getSimpleName());
+            }
+        } catch (SecurityException ignore) {
+        }
+        return c.getName();
+    }
+
+    /**
+     * Wraps a sink for the stage with the given index.
+     *
+     * @param index the index of the stage receiving the elements
+     * @param sink the sink to wrap
+     * @param downstream the counting sink downstream of {@code sink}, null if
+     *        {@code sink} is the last sink of the chain
+     * @return the counting sink
+     */
+    <T> CountingSink<T> wrap(int index, Sink<T> sink, CountingSink<?> downstream) {
+        return new CountingSink<>(this, index, sink, downstream);
+    }
+
+    /**
+     * Records a leaf task of a parallel evaluation.
+     *
+     * @param taskSplits the number of splits done by the task before it
+     *        became a leaf
+     * @param sizeEstimate the estimated size of the leaf
+     */
+    void leaf(int taskSplits, long sizeEstimate) {
+        if (taskSplits != 0) {
+            splits.addAndGet(taskSplits);
+        }
+        leafCount.incrementAndGet();
+        if (sizeEstimate >= 0L && sizeEstimate < Long.MAX_VALUE) {
+            synchronized (leafSizes) {
+                leafSizes.accept(sizeEstimate);
+            }
+        }
+    }
+
+    /**
+     * Adds the counts of the given sink chain that were not yet added by
+     * {@code end()} to the totals of their recorder.
+     *
+     * @param sink the first sink of a chain, which is ignored unless it is a
+     *        {@code CountingSink}
+     */
+    static void flush(Sink<?> sink) {
+        if (sink instanceof CountingSink) {
+            for (CountingSink<?> c = (CountingSink<?>) sink; c != null; c = c.downstream) {
+                c.flush();
+            }
+        }
+    }
+
+    /**
+     * Delivers the metrics to the listener.
+     */
+    void report(PipelineMetrics.Listener listener, boolean parallel) {
+        long elapsed = System.nanoTime() - start;
+        int n = names.length;
+        List<PipelineMetrics.Stage> stages = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            long out = i < n - 1 ? elementsIn.get(i + 1) : 0L;
+            stages.add(new PipelineMetrics.Stage(names[i], elementsIn.get(i), out,
+                    cancellationChecks.get(i), nanos.get(i)));
+        }
+        LongSummaryStatistics sizes = new LongSummaryStatistics();
+        synchronized (leafSizes) {
+            sizes.combine(leafSizes);
+        }
+        listener.onEvaluated(new PipelineMetrics(stages, parallel, elapsed,
+                splits.get(), leafCount.get(), sizes));
+    }
+
+    private static PipelineMetrics.Listener loadListener() {
+        return AccessController.doPrivileged(new PrivilegedAction<PipelineMetrics.Listener>() {
+            @Override
+            public PipelineMetrics.Listener run() {
+                return newListener(System.getProperty(LISTENER_P));
+            }
+        });
+    }
+
+    /**
+     * Creates an instance of the named listener class with its no-arg
+     * constructor.
+     *
+     * @param name the class name, may be null
+     * @return the listener, or null if the class can't be instantiated
+     */
+    static PipelineMetrics.Listener newListener(String name) {
+        try {
+            if (name != null && !name.trim().isEmpty()) {
+                return (PipelineMetrics.Listener) Class.forName(name.trim())
+                        .getDeclaredConstructor().newInstance();
+            }
+        } catch (Exception ignore) {
+        } catch (LinkageError ignore) {
+        }
+        return null;
+    }
+
+    /**
+     * A {@code Sink} that counts the elements and cancellation checks of the
+     * sink it wraps and the time spent in it.  The time of the counting sink
+     * downstream (if any) is subtracted, so that each stage is charged for
+     * its own time only.
+     */
+    static final class CountingSink<T> implements Sink<T> {
+        private final MetricsRecorder recorder;
+        private final int index;
+        private final Sink<T> sink;
+        private final CountingSink<?> downstream;
+        // running totals, including downstream time
+        private long in, checks, nanos;
+        // the totals already added to the recorder
+        private long flushedIn, flushedChecks, flushedSelfNanos;
+
+        CountingSink(MetricsRecorder recorder, int index, Sink<T> sink, CountingSink<?> downstream) {
+            this.recorder = recorder;
+            this.index = index;
+            this.sink = sink;
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void begin(long size) {
+            long t = System.nanoTime();
+            sink.begin(size);
+            nanos += System.nanoTime() - t;
+        }
+
+        @Override
+        public void end() {
+            long t = System.nanoTime();
+            sink.end();
+            nanos += System.nanoTime() - t;
+            flush();
+        }
+
+        private void flush() {
+            long selfNanos = nanos - (downstream != null ? downstream.nanos : 0L);
+            recorder.elementsIn.addAndGet(index, in - flushedIn);
+            recorder.cancellationChecks.addAndGet(index, checks - flushedChecks);
+            recorder.nanos.addAndGet(index, selfNanos - flushedSelfNanos);
+            flushedIn = in;
+            flushedChecks = checks;
+            flushedSelfNanos = selfNanos;
+        }
+
+        @Override
+        public boolean cancellationRequested() {
+            checks++;
+            return sink.cancellationRequested();
+        }
+
+        @Override
+        public void accept(T t) {
+            in++;
+            long start = System.nanoTime();
+            sink.accept(t);
+            nanos += System.nanoTime() - start;
+        }
+
+        @Override
+        public void accept(int value) {
+            in++;
+            long start = System.nanoTime();
+            sink.accept(value);
+            nanos += System.nanoTime() - start;
+        }
+
+        @Override
+        public void accept(long value) {
+            in++;
+            long start = System.nanoTime();
+            sink.accept(value);
+            nanos += System.nanoTime() - start;
+        }
+
+        @Override
+        public void accept(double value) {
+            in++;
+            long start = System.nanoTime();
+            sink.accept(value);
+            nanos += System.nanoTime() - start;
+        }
+    }
+}
@@ -627,7 +627,14 @@ final class Nodes {
             return node(array);
         } else {
             Node<P_OUT> node = new CollectorTask.OfRef<>(helper, generator, spliterator).invoke();
-            return flattenTree ? flatten(node, generator) : node;
+            if (flattenTree) {
+                Node<P_OUT> flattened = flatten(node, generator);
+                if (flattened != node) {
+                    release(node);
+                }
+                return flattened;
+            }
+            return node;
         }
     }
 
@@ -665,7 +672,14 @@ final class Nodes {
         }
         else {
             Node.OfInt node = new CollectorTask.OfInt<>(helper, spliterator).invoke();
-            return flattenTree ? flattenInt(node) : node;
+            if (flattenTree) {
+                Node.OfInt flattened = flattenInt(node);
+                if (flattened != node) {
+                    release(node);
+                }
+                return flattened;
+            }
+            return node;
         }
     }
 
@@ -703,7 +717,14 @@ final class Nodes {
         }
         else {
             Node.OfLong node = new CollectorTask.OfLong<>(helper, spliterator).invoke();
-            return flattenTree ? flattenLong(node) : node;
+            if (flattenTree) {
+                Node.OfLong flattened = flattenLong(node);
+                if (flattened != node) {
+                    release(node);
+                }
+                return flattened;
+            }
+            return node;
         }
     }
 
@@ -741,7 +762,36 @@ final class Nodes {
         }
         else {
             Node.OfDouble node = new CollectorTask.OfDouble<>(helper, spliterator).invoke();
-            return flattenTree ? flattenDouble(node) : node;
+            if (flattenTree) {
+                Node.OfDouble flattened = flattenDouble(node);
+                if (flattened != node) {
+                    release(node);
+                }
+                return flattened;
+            }
+            return node;
+        }
+    }
+
+    /**
+     * Gives the chunks of the spined node builders contained in a node tree
+     * back to the {@link ChunkPool}, if chunk pooling is enabled. Must only be
+     * called once the elements of the node have been copied out, the node
+     * must not be used afterwards.
+     *
+     * @param node the node tree to release
+     */
+    static void release(Node<?> node) {
+        if (ChunkPool.ENABLED) {
+            if (node instanceof SpinedBuffer) {
+                ((SpinedBuffer<?>) node).release();
+            } else if (node instanceof SpinedBuffer.OfPrimitive) {
+                ((SpinedBuffer.OfPrimitive<?, ?, ?>) node).release();
+            } else {
+                for (int i = 0, n = node.getChildCount(); i < n; i++) {
+                    release(node.getChild(i));
+                }
+            }
         }
     }
 
@@ -2783,6 +2833,7 @@ final class Nodes {
         public void compute() {
             SizedCollectorTask<P_IN, P_OUT, T_SINK, K> task = this;
             Spliterator<P_IN> rightSplit = spliterator, leftSplit;
+            int splits = 0;
             while (rightSplit.estimateSize() > task.targetSize &&
                    (leftSplit = rightSplit.trySplit()) != null) {
                 task.setPendingCount(1);
@@ -2790,8 +2841,12 @@ final class Nodes {
                 task.makeChild(leftSplit, task.offset, leftSplitSize).fork();
                 task = task.makeChild(rightSplit, task.offset + leftSplitSize,
                                       task.length - leftSplitSize);
+                splits++;
+            }
+            MetricsRecorder mr = helper.metricsRecorder();
+            if (mr != null) {
+                mr.leaf(splits, task.length);
             }
-
 
             @SuppressWarnings("unchecked")
             T_SINK sink = (T_SINK) task;
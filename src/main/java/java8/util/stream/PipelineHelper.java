@@ -83,7 +83,9 @@ abstract class PipelineHelper<P_OUT> {
      * The exact output size is known if the {@code Spliterator} has the
      * {@code SIZED} characteristic, and the operation flags
      * {@link StreamOpFlag#SIZED} is known on the combined stream and operation
-     * flags.
+     * flags.  Sequential stages that inject
+     * {@link StreamOpFlag#SIZE_ADJUSTING}, such as {@code skip} and
+     * {@code limit}, adjust that size by a fixed amount.
      *
      * @param spliterator the spliterator describing the relevant portion of the
      *        source data
@@ -231,4 +233,13 @@ abstract class PipelineHelper<P_OUT> {
     abstract<P_IN> Node<P_OUT> evaluate(Spliterator<P_IN> spliterator,
                                         boolean flatten,
                                         IntFunction<P_OUT[]> generator);
+
+    /**
+     * Returns the recorder of the evaluation in progress if the pipeline is
+     * instrumented.
+     *
+     * @return the {@code MetricsRecorder}, or null if the pipeline is not
+     *         instrumented
+     */
+    abstract MetricsRecorder metricsRecorder();
 }
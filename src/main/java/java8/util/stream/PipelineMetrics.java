@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import java8.util.LongSummaryStatistics;
+
+/**
+ * Per-stage metrics of one evaluation of a stream pipeline.
+ *
+ * <p>Pipelines are instrumented either one by one, through
+ * {@link StreamSupport#instrument(BaseStream, PipelineMetrics.Listener)}, or
+ * all of them, by setting the system property
+ * {@code java8.util.stream.PipelineMetrics.listener} to the name of a
+ * {@link Listener} class that has a public no-arg constructor.  When a
+ * terminal operation of an instrumented pipeline completes normally, its
+ * listener receives a {@code PipelineMetrics} instance on the thread that
+ * invoked the terminal operation.  Pipelines that aren't instrumented don't
+ * pay for it beyond a null check per terminal operation.
+ *
+ * <p>The stages are the source, each intermediate operation in encounter
+ * order, and the terminal operation.  Each stage reports the elements it
+ * received, the elements it passed downstream, the number of times it was
+ * asked whether to cancel further traversal, and the time spent in the stage
+ * itself, excluding the stages downstream of it.  An instrumented pipeline
+ * is evaluated without fusing adjacent operations so that every operation
+ * can be observed separately, and the time measurement itself adds to the
+ * time of each stage.  Elements produced lazily through
+ * {@link BaseStream#iterator()} or {@link BaseStream#spliterator()} are not
+ * reported, and neither is work a parallel stateful operation does outside
+ * of its sink, such as sorting its buffered input.
+ *
+ * <p>For parallel evaluation the metrics also report how often the source
+ * was split and the sizes of the resulting leaves.
+ */
+public final class PipelineMetrics {
+
+    /**
+     * Receives the metrics of instrumented pipelines.  Implementations must
+     * be thread-safe if they are shared between pipelines that may be
+     * evaluated concurrently.
+     */
+    public interface Listener {
+        /**
+         * Called after the terminal operation of an instrumented pipeline
+         * completed normally.
+         *
+         * @param metrics the metrics of the evaluation
+         */
+        void onEvaluated(PipelineMetrics metrics);
+    }
+
+    /**
+     * The metrics of a single pipeline stage.
+     */
+    public static final class Stage {
+        private final String name;
+        private final long elementsIn;
+        private final long elementsOut;
+        private final long cancellationChecks;
+        private final long nanos;
+
+        Stage(String name, long elementsIn, long elementsOut,
+              long cancellationChecks, long nanos) {
+            this.name = name;
+            this.elementsIn = elementsIn;
+            this.elementsOut = elementsOut;
+            this.cancellationChecks = cancellationChecks;
+            this.nanos = nanos;
+        }
+
+        /**
+         * Returns a description of the stage, such as the operation that
+         * created it.
+         *
+         * @return the name of the stage
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the number of elements the stage received, always zero
+         * for the source.
+         *
+         * @return the number of elements received
+         */
+        public long getElementsIn() {
+            return elementsIn;
+        }
+
+        /**
+         * Returns the number of elements the stage passed downstream,
+         * always zero for the terminal operation.
+         *
+         * @return the number of elements passed downstream
+         */
+        public long getElementsOut() {
+            return elementsOut;
+        }
+
+        /**
+         * Returns how often the stage was asked whether traversal should
+         * be cancelled.
+         *
+         * @return the number of cancellation checks
+         */
+        public long getCancellationChecks() {
+            return cancellationChecks;
+        }
+
+        /**
+         * Returns the time spent in the stage, excluding the stages
+         * downstream of it, summed over all threads.
+         *
+         * @return the time spent in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        @Override
+        public String toString() {
+            return name + "[in=" + elementsIn + ", out=" + elementsOut
+                    + ", cancellationChecks=" + cancellationChecks
+                    + ", nanos=" + nanos + "]";
+        }
+    }
+
+    private final List<Stage> stages;
+    private final boolean parallel;
+    private final long elapsedNanos;
+    private final long splits;
+    private final long leafCount;
+    private final LongSummaryStatistics leafSizes;
+
+    PipelineMetrics(List<Stage> stages, boolean parallel, long elapsedNanos,
+                    long splits, long leafCount, LongSummaryStatistics leafSizes) {
+        this.stages = Collections.unmodifiableList(new ArrayList<>(stages));
+        this.parallel = parallel;
+        this.elapsedNanos = elapsedNanos;
+        this.splits = splits;
+        this.leafCount = leafCount;
+        this.leafSizes = leafSizes;
+    }
+
+    /**
+     * Returns the metrics of the stages, starting with the source and ending
+     * with the terminal operation.
+     *
+     * @return an unmodifiable list of the stage metrics
+     */
+    public List<Stage> getStages() {
+        return stages;
+    }
+
+    /**
+     * Returns whether the pipeline was evaluated in parallel.
+     *
+     * @return {@code true} if the evaluation was parallel
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Returns the elapsed time of the terminal operation.
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns how often a parallel evaluation split its input, zero for a
+     * sequential evaluation.
+     *
+     * @return the number of splits
+     */
+    public long getSplits() {
+        return splits;
+    }
+
+    /**
+     * Returns the number of leaf tasks of a parallel evaluation, zero for a
+     * sequential evaluation.
+     *
+     * @return the number of leaf tasks
+     */
+    public long getLeafCount() {
+        return leafCount;
+    }
+
+    /**
+     * Returns statistics of the estimated sizes of the leaf tasks of a
+     * parallel evaluation.  Leaves of unknown size are not included.
+     *
+     * @return the leaf size statistics
+     */
+    public LongSummaryStatistics getLeafSizes() {
+        return leafSizes;
+    }
+
+    @Override
+    public String toString() {
+        return "PipelineMetrics[parallel=" + parallel + ", elapsedNanos="
+                + elapsedNanos + ", splits=" + splits + ", leafCount="
+                + leafCount + ", leafSizes=" + leafSizes + ", stages="
+                + stages + "]";
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import java8.util.Objects;
+import java8.util.Spliterator;
+import java8.util.function.Consumer;
+import java8.util.function.IntFunction;
+
+/**
+ * The intermediate operations of a sequential reference pipeline, compiled
+ * once and then evaluated over any number of sources.
+ *
+ * <p>A template is created by {@link StreamSupport#compile(java8.util.function.Function)}
+ * from a function that appends the intermediate operations to a stream.
+ * The stages of the pipeline are built and the fusible runs of stateless
+ * operations are determined only once.  The combined stream and operation
+ * flags depend on the characteristics of the source and on the terminal
+ * operation; they are computed on the first evaluation with a given
+ * combination and reused while it doesn't change.  An evaluation therefore
+ * only allocates the sinks of the operations and of the terminal operation.
+ *
+ * <p>A template is safe for use by multiple threads, and each evaluation is
+ * sequential.  Close handlers registered while building the template are
+ * never run, and evaluations of a template are not instrumented (see
+ * {@link PipelineMetrics}).
+ *
+ * <p>For example, the following evaluates the same pipeline over many lists:
+ * <pre>{@code
+ *     PipelineTemplate<Order, Order> bigOrders = StreamSupport.compile(
+ *             s -> s.filter(o -> o.amount() > 1000).sorted(BY_AMOUNT));
+ *     for (List<Order> orders : batches) {
+ *         List<Order> result = bigOrders.collect(Spliterators.spliterator(orders),
+ *                                                Collectors.toList());
+ *         ...
+ *     }
+ * }</pre>
+ *
+ * @param <T> the type of the source elements
+ * @param <R> the type of the elements the terminal operation receives
+ */
+public final class PipelineTemplate<T, R> {
+
+    /** The stages of the pipeline, the source stage first */
+    private final AbstractPipeline<?, ?, ?>[] stages;
+
+    /**
+     * For each stage, the kinds of the stages of the fused run that ends at
+     * this stage, or null if the stage is not the last stage of a run
+     */
+    private final int[][] fusedKinds;
+
+    /** The functions of the fused runs, indexed like {@link #fusedKinds} */
+    private final Object[][] fusedFns;
+
+    /** The helper of the most recent evaluation */
+    private volatile Helper last;
+
+    PipelineTemplate(AbstractPipeline<?, ?, ?>[] stages) {
+        this.stages = stages;
+        int n = stages.length;
+        fusedKinds = new int[n][];
+        fusedFns = new Object[n][];
+        if (FusedOps.ENABLED) {
+            for (int i = n - 1; i > 0; --i) {
+                AbstractPipeline<?, ?, ?> p = stages[i];
+                if (p.opFusedKind() == FusedOps.NONE) {
+                    continue;
+                }
+                int first = i;
+                while (first > 1
+                        && stages[first - 1].opFusedKind() != FusedOps.NONE
+                        && stages[first - 1].getOutputShape() == p.getOutputShape()) {
+                    first--;
+                }
+                int count = i - first + 1;
+                if (count > 1) {
+                    int[] kinds = new int[count];
+                    Object[] fns = new Object[count];
+                    for (int j = 0; j < count; j++) {
+                        kinds[j] = stages[first + j].opFusedKind();
+                        fns[j] = stages[first + j].opFusedFunction();
+                    }
+                    fusedKinds[i] = kinds;
+                    fusedFns[i] = fns;
+                }
+                // continue with the stage upstream of the run
+                i = first;
+            }
+        }
+    }
+
+    /**
+     * Performs a mutable reduction operation on the elements of the source
+     * after they passed the operations of this template, using a
+     * {@code Collector}.  This is equivalent to, but cheaper than, applying
+     * the function the template was compiled from to
+     * {@code StreamSupport.stream(source, false)} and collecting the
+     * resulting stream.
+     *
+     * @param <A> the intermediate accumulation type of the {@code Collector}
+     * @param <C> the type of the result
+     * @param source the source, which is traversed by this call
+     * @param collector the {@code Collector} describing the reduction
+     * @return the result of the reduction
+     */
+    @SuppressWarnings("unchecked")
+    public <A, C> C collect(Spliterator<T> source, Collector<? super R, A, C> collector) {
+        A container = evaluate(source, ReduceOps.makeRef(collector));
+        return collector.characteristics().contains(Collector.Characteristics.IDENTITY_FINISH)
+               ? (C) container
+               : collector.finisher().apply(container);
+    }
+
+    /**
+     * Performs an action for each element of the source after it passed the
+     * operations of this template, in encounter order.
+     *
+     * @param source the source, which is traversed by this call
+     * @param action the action to perform on the elements
+     */
+    public void forEach(Spliterator<T> source, Consumer<? super R> action) {
+        evaluate(source, ForEachOps.makeRef(action, true));
+    }
+
+    private <X> X evaluate(Spliterator<T> source, TerminalOp<R, X> terminalOp) {
+        Objects.requireNonNull(source);
+        return terminalOp.evaluateSequential(
+                helper(StreamOpFlag.fromCharacteristics(source), terminalOp.getOpFlags()), source);
+    }
+
+    /**
+     * Returns the combined stream and operation flags of an evaluation over a
+     * source with the given stream flags by a terminal operation with the
+     * given operation flags.
+     */
+    int getStreamAndOpFlags(int sourceFlags, int terminalFlags) {
+        return helper(sourceFlags, terminalFlags).streamAndOpFlags;
+    }
+
+    private Helper helper(int sourceFlags, int terminalFlags) {
+        Helper h = last;
+        if (h == null || h.sourceFlags != sourceFlags || h.terminalFlags != terminalFlags) {
+            last = h = new Helper(sourceFlags, terminalFlags);
+        }
+        return h;
+    }
+
+    /**
+     * The immutable {@code PipelineHelper} of the template for a combination
+     * of source and terminal operation flags.
+     */
+    private final class Helper extends PipelineHelper<R> {
+        final int sourceFlags;
+        final int terminalFlags;
+        /** The combined flags of each stage, the source stage first */
+        private final int[] combinedFlags;
+        private final int streamAndOpFlags;
+
+        Helper(int sourceFlags, int terminalFlags) {
+            this.sourceFlags = sourceFlags;
+            this.terminalFlags = terminalFlags;
+            int n = stages.length;
+            combinedFlags = new int[n];
+            combinedFlags[0] = StreamOpFlag.combineOpFlags(sourceFlags & StreamOpFlag.STREAM_MASK,
+                                                           StreamOpFlag.INITIAL_OPS_VALUE);
+            for (int i = 1; i < n; i++) {
+                combinedFlags[i] = StreamOpFlag.combineOpFlags(stages[i].sourceOrOpFlags,
+                                                               combinedFlags[i - 1]);
+            }
+            streamAndOpFlags = terminalFlags != 0
+                    ? StreamOpFlag.combineOpFlags(terminalFlags, combinedFlags[n - 1])
+                    : combinedFlags[n - 1];
+        }
+
+        @Override
+        StreamShape getSourceShape() {
+            return stages[0].getOutputShape();
+        }
+
+        @Override
+        int getStreamAndOpFlags() {
+            return streamAndOpFlags;
+        }
+
+        @Override
+        <P_IN> long exactOutputSizeIfKnown(Spliterator<P_IN> spliterator) {
+            int flags = streamAndOpFlags;
+            long size = StreamOpFlag.SIZED.isKnown(flags) ? spliterator.getExactSizeIfKnown() : -1L;
+            if (size != -1L && StreamOpFlag.SIZE_ADJUSTING.isKnown(flags)) {
+                for (int i = 1; i < stages.length; i++) {
+                    size = stages[i].exactOutputSize(size);
+                }
+            }
+            return size;
+        }
+
+        @Override
+        <P_IN, S extends Sink<R>> S wrapAndCopyInto(S sink, Spliterator<P_IN> spliterator) {
+            copyInto(wrapSink(Objects.requireNonNull(sink)), spliterator);
+            return sink;
+        }
+
+        @Override
+        <P_IN, S extends Consumer<R>> S wrapAndCopyInto(S sink, Spliterator<P_IN> spliterator) {
+            copyInto(wrapSink(Objects.requireNonNull(sink)), spliterator);
+            return sink;
+        }
+
+        @Override
+        <P_IN> void copyInto(Sink<P_IN> wrappedSink, Spliterator<P_IN> spliterator) {
+            Objects.requireNonNull(wrappedSink);
+
+            if (!StreamOpFlag.SHORT_CIRCUIT.isKnown(streamAndOpFlags)) {
+                wrappedSink.begin(spliterator.getExactSizeIfKnown());
+                spliterator.forEachRemaining(wrappedSink);
+                wrappedSink.end();
+            }
+            else {
+                copyIntoWithCancel(wrappedSink, spliterator);
+            }
+        }
+
+        @Override
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        <P_IN> boolean copyIntoWithCancel(Sink<P_IN> wrappedSink, Spliterator<P_IN> spliterator) {
+            AbstractPipeline source = stages[0];
+            wrappedSink.begin(spliterator.getExactSizeIfKnown());
+            boolean cancelled = source.forEachWithCancel(spliterator, wrappedSink);
+            wrappedSink.end();
+            return cancelled;
+        }
+
+        @Override
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        <P_IN> Sink<P_IN> wrapSink(Sink<R> sink) {
+            Objects.requireNonNull(sink);
+
+            Sink s = sink;
+            for (int i = stages.length - 1; i > 0; --i) {
+                int[] kinds = fusedKinds[i];
+                if (kinds != null) {
+                    s = FusedOps.makeSink(stages[i].getOutputShape(), kinds, fusedFns[i], s);
+                    i -= kinds.length - 1;
+                } else {
+                    AbstractPipeline p = stages[i];
+                    s = p.opWrapSink(combinedFlags[i - 1], s);
+                }
+            }
+            return (Sink<P_IN>) s;
+        }
+
+        @Override
+        <P_IN> Sink<P_IN> wrapSink(Consumer<R> sink) {
+            Objects.requireNonNull(sink);
+
+            return wrapSink(AbstractPipeline.trampoline(sink));
+        }
+
+        @Override
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        <P_IN> Spliterator<R> wrapSpliterator(Spliterator<P_IN> spliterator) {
+            AbstractPipeline p = stages[stages.length - 1];
+            if (stages.length == 1) {
+                return (Spliterator<R>) spliterator;
+            }
+            return p.wrap(this, () -> spliterator, false);
+        }
+
+        @Override
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        Node.Builder<R> makeNodeBuilder(long exactSizeIfKnown, IntFunction<R[]> generator) {
+            AbstractPipeline p = stages[stages.length - 1];
+            return p.makeNodeBuilder(exactSizeIfKnown, generator);
+        }
+
+        @Override
+        <P_IN> Node<R> evaluate(Spliterator<P_IN> spliterator, boolean flatten,
+                                IntFunction<R[]> generator) {
+            Node.Builder<R> nb = makeNodeBuilder(exactOutputSizeIfKnown(spliterator), generator);
+            return wrapAndCopyInto(nb, spliterator).build();
+        }
+
+        @Override
+        MetricsRecorder metricsRecorder() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import java.util.Arrays;
+
+import java8.util.function.DoubleConsumer;
+import java8.util.function.IntConsumer;
+import java8.util.function.LongConsumer;
+
+/**
+ * A state object for estimating quantiles of a distribution of values,
+ * using the KLL algorithm (Karnin, Lang and Liberty).
+ *
+ * <p>The sketch retains a sample of the values in a hierarchy of compactors.
+ * Whenever a compactor is full, it sorts its values and promotes every other
+ * one, which then stands for two values, to the next compactor.  With the
+ * default parameter {@code k} of 200 the sketch retains fewer than 1,000 values
+ * for any realistic number of values, and the rank of an estimated quantile
+ * is typically within about 1% of the requested rank.  Two sketches with the
+ * same {@code k} can be combined, which makes it cheap to estimate quantiles
+ * in parallel:
+ * <pre> {@code
+ * QuantileSketch latencies = doubleStream.parallel()
+ *                                        .collect(QuantileSketch::new,
+ *                                                 QuantileSketch::accept,
+ *                                                 QuantileSketch::combine);
+ * double p99 = latencies.quantile(0.99);
+ * }</pre>
+ *
+ * <p>or, for a stream of objects, with
+ * {@link Collectors#toQuantileSketch(java8.util.function.ToDoubleFunction)}.
+ * {@code NaN} values are ignored.
+ *
+ * <p><b>Implementation Note:</b><br> This implementation is not thread safe.
+ * However, it is safe to use
+ * {@link Collectors#toQuantileSketch(java8.util.function.ToDoubleFunction)}
+ * on a parallel stream, because the parallel implementation of
+ * {@link Stream#collect Stream.collect()} provides the necessary partitioning,
+ * isolation, and merging of results for safe and efficient parallel execution.
+ */
+public final class QuantileSketch implements DoubleConsumer, IntConsumer, LongConsumer {
+
+    /** The default value of the parameter {@code k} */
+    public static final int DEFAULT_K = 200;
+
+    /** The minimum capacity of a compactor */
+    private static final int MIN_CAPACITY = 8;
+
+    /** The ratio of the capacities of two adjacent compactors */
+    private static final double DECAY = 2.0 / 3.0;
+
+    private final int k;
+    /** The values of each compactor; the values of level h have weight 2^h */
+    private double[][] levels = new double[1][];
+    private int[] sizes = new int[1];
+    /** The capacity of each level, which depends on the number of levels */
+    private int[] capacities = new int[1];
+    private int numLevels = 1;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    /** The state of the generator of the compaction offsets */
+    private long seed = 0x5deece66dL;
+
+    /**
+     * Constructs an empty sketch with the default parameter {@code k}.
+     */
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * Constructs an empty sketch with the given parameter {@code k}, the
+     * capacity of the largest compactor.  The error of the estimated
+     * quantiles is roughly proportional to {@code 1 / k}.
+     *
+     * @param k the capacity of the largest compactor
+     * @throws IllegalArgumentException if {@code k} is less than 8
+     */
+    public QuantileSketch(int k) {
+        checkK(k);
+        this.k = k;
+        levels[0] = new double[k];
+        capacities[0] = k;
+    }
+
+    static void checkK(int k) {
+        if (k < MIN_CAPACITY) {
+            throw new IllegalArgumentException("k: " + k);
+        }
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value the value
+     */
+    @Override
+    public void accept(int value) {
+        accept((double) value);
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value the value
+     */
+    @Override
+    public void accept(long value) {
+        accept((double) value);
+    }
+
+    /**
+     * Records a value.  {@code NaN} values are ignored.
+     *
+     * @param value the value
+     */
+    @Override
+    public void accept(double value) {
+        if (value != value) {
+            return;
+        }
+        ++count;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        int size = sizes[0];
+        double[] level = levels[0];
+        if (size == level.length) {
+            levels[0] = level = Arrays.copyOf(level, size * 2);
+        }
+        level[size] = value;
+        sizes[0] = size + 1;
+        if (size + 1 >= capacities[0]) {
+            compress();
+        }
+    }
+
+    /**
+     * Combines the state of another sketch into this one.
+     *
+     * @param other another {@code QuantileSketch}
+     * @throws NullPointerException if {@code other} is null
+     * @throws IllegalArgumentException if {@code other} has another parameter {@code k}
+     */
+    public void combine(QuantileSketch other) {
+        if (other.k != k) {
+            throw new IllegalArgumentException("k " + other.k + " != " + k);
+        }
+        int otherLevels = other.numLevels;
+        while (numLevels < otherLevels) {
+            addLevel();
+        }
+        for (int h = 0; h < otherLevels; h++) {
+            // read the size first, other may be this sketch
+            int n = other.sizes[h];
+            int size = sizes[h];
+            ensureCapacity(h, size + n);
+            System.arraycopy(other.levels[h], 0, levels[h], size, n);
+            sizes[h] = size + n;
+        }
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        compress();
+    }
+
+    /**
+     * Returns the estimated value at the given rank of the recorded values.
+     * The minimum and maximum are exact.
+     *
+     * @param rank the normalized rank, from 0 for the minimum to 1 for the
+     *        maximum; 0.5 for the median
+     * @return the estimated quantile, or {@code Double.NaN} if no values
+     *         have been recorded
+     * @throws IllegalArgumentException if {@code rank} is not between 0 and 1
+     */
+    public double quantile(double rank) {
+        if (!(rank >= 0.0 && rank <= 1.0)) {
+            throw new IllegalArgumentException("rank: " + rank);
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (rank == 0.0) {
+            return min;
+        }
+        if (rank == 1.0) {
+            return max;
+        }
+        int n = 0;
+        for (int h = 0; h < numLevels; h++) {
+            n += sizes[h];
+        }
+        double[] values = new double[n];
+        long[] weights = new long[n];
+        int size = 0;
+        for (int h = 0; h < numLevels; h++) {
+            int m = sizes[h];
+            Arrays.sort(levels[h], 0, m);
+            size = merge(values, weights, size, levels[h], m, 1L << h);
+        }
+        // the compactions preserve the total weight
+        double target = rank * count;
+        long cumulative = 0L;
+        for (int i = 0; i < size; i++) {
+            cumulative += weights[i];
+            if (cumulative >= target) {
+                return values[i];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Merges the sorted values of a level, each with the given weight, into
+     * the first {@code size} sorted values and weights, in place from the end.
+     */
+    private static int merge(double[] values, long[] weights, int size,
+                             double[] level, int m, long weight) {
+        int i = size - 1;
+        int j = m - 1;
+        for (int d = size + m - 1; j >= 0; d--) {
+            if (i >= 0 && values[i] > level[j]) {
+                values[d] = values[i];
+                weights[d] = weights[i--];
+            } else {
+                values[d] = level[j--];
+                weights[d] = weight;
+            }
+        }
+        return size + m;
+    }
+
+    /**
+     * Returns the number of values recorded.
+     *
+     * @return the number of values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the minimum value recorded, or {@code Double.POSITIVE_INFINITY}
+     * if no values have been recorded.
+     *
+     * @return the minimum value
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the maximum value recorded, or {@code Double.NEGATIVE_INFINITY}
+     * if no values have been recorded.
+     *
+     * @return the maximum value
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the number of values retained by this sketch.
+     *
+     * @return the number of retained values
+     */
+    public int getRetained() {
+        int n = 0;
+        for (int h = 0; h < numLevels; h++) {
+            n += sizes[h];
+        }
+        return n;
+    }
+
+    /**
+     * Adds a level on top and updates the capacities of all levels, which
+     * shrink geometrically from the top level down.
+     */
+    private void addLevel() {
+        if (numLevels == levels.length) {
+            levels = Arrays.copyOf(levels, numLevels * 2);
+            sizes = Arrays.copyOf(sizes, numLevels * 2);
+            capacities = Arrays.copyOf(capacities, numLevels * 2);
+        }
+        levels[numLevels] = new double[MIN_CAPACITY];
+        sizes[numLevels++] = 0;
+        for (int h = 0; h < numLevels; h++) {
+            int depth = numLevels - 1 - h;
+            capacities[h] = Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(DECAY, depth)));
+        }
+    }
+
+    private void ensureCapacity(int h, int capacity) {
+        double[] level = levels[h];
+        if (capacity > level.length) {
+            levels[h] = Arrays.copyOf(level, Math.max(capacity, level.length * 2));
+        }
+    }
+
+    /**
+     * Compacts the levels that reached their capacity, starting with the
+     * lowest; the promoted values may in turn fill the next level.
+     */
+    private void compress() {
+        for (int h = 0; h < numLevels; h++) {
+            int size = sizes[h];
+            if (size < capacities[h]) {
+                continue;
+            }
+            if (h + 1 == numLevels) {
+                addLevel();
+            }
+            double[] level = levels[h];
+            Arrays.sort(level, 0, size);
+            // an odd value out stays on this level
+            int even = size & ~1;
+            int offset = nextBit();
+            int up = sizes[h + 1];
+            ensureCapacity(h + 1, up + even / 2);
+            double[] next = levels[h + 1];
+            for (int i = offset; i < even; i += 2) {
+                next[up++] = level[i];
+            }
+            sizes[h + 1] = up;
+            if (even != size) {
+                level[0] = level[size - 1];
+            }
+            sizes[h] = size - even;
+        }
+    }
+
+    /** Returns the next pseudo-random bit (xorshift generator) */
+    private int nextBit() {
+        long x = seed;
+        x ^= x << 13;
+        x ^= x >>> 7;
+        x ^= x << 17;
+        seed = x;
+        return (int) (x >>> 63);
+    }
+
+    /**
+     * Returns a non-empty string representation of this object suitable for
+     * debugging. The exact presentation format is unspecified and may vary
+     * between implementations and versions.
+     */
+    @Override
+    public String toString() {
+        return String.format(
+            "%s{count=%d, min=%f, median=%f, max=%f}",
+            this.getClass().getSimpleName(),
+            getCount(),
+            getMin(),
+            quantile(0.5),
+            getMax());
+    }
+}
@@ -0,0 +1,575 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import java.util.Arrays;
+
+import java8.util.J8Arrays;
+import java8.util.PropertyAccess;
+import java8.util.concurrent.ForkJoinPool;
+import java8.util.concurrent.ForkJoinTask;
+import java8.util.concurrent.RecursiveAction;
+import java8.util.function.IntConsumer;
+
+/**
+ * Least significant digit radix sorts for {@code int}, {@code long} and
+ * {@code double} arrays that are used by {@link SortedOps} for large primitive
+ * streams instead of the comparison based {@code Arrays.sort} /
+ * {@code J8Arrays.parallelSort}.
+ *
+ * <p>Keys are sorted by 8-bit digits, all digit histograms are gathered in a
+ * single initial scan and passes for digits which are the same for all keys
+ * (e.g., the high order bytes of timestamps or of small ids) are skipped.
+ * The parallel variants split the array into chunks, histogram each chunk in
+ * its own {@code ForkJoinTask} and then scatter the chunks concurrently into
+ * disjoint, precomputed regions of the buffer.
+ *
+ * <p>The resulting order is the same as the one of {@link Arrays#sort(int[])},
+ * {@link Arrays#sort(long[])} and {@link Arrays#sort(double[])} (in particular
+ * {@code -0.0} sorts before {@code 0.0} and all {@code NaN} values are moved to
+ * the end).
+ *
+ * <p>Whether a radix sort is used is decided in {@link SortedOps}: it is chosen
+ * automatically for arrays of at least {@link #THRESHOLD} elements and can be
+ * turned off entirely by setting the system property
+ * {@code java8.util.stream.SortedOps.radix.enabled} to {@code false}. The
+ * threshold can be changed with the system property
+ * {@code java8.util.stream.SortedOps.radix.threshold}.
+ *
+ * @since 1.8
+ */
+final class RadixSort {
+
+    private static final String RADIX_ENABLED_P = SortedOps.class.getName() + ".radix.enabled";
+    private static final String RADIX_THRESHOLD_P = SortedOps.class.getName() + ".radix.threshold";
+
+    // defaults to true
+    static final boolean ENABLED = PropertyAccess.getBooleanPropVal(RADIX_ENABLED_P, true);
+
+    /**
+     * Minimum number of elements for which a radix sort is used, below that
+     * the comparison sorts are faster
+     */
+    static final int THRESHOLD = Math.max(0, PropertyAccess.getIntPropVal(RADIX_THRESHOLD_P, 1 << 14));
+
+    /**
+     * Minimum number of elements per chunk of a parallel radix sort
+     */
+    private static final int MIN_CHUNK = 1 << 13;
+
+    private static final int RADIX = 256;
+
+    private RadixSort() { }
+
+    static boolean useRadixSort(int length) {
+        return ENABLED && length >= THRESHOLD;
+    }
+
+    /**
+     * Sorts {@code a[from, to)}, using a radix sort if the range is large
+     * enough, otherwise {@code Arrays.sort}.
+     */
+    static void sort(int[] a, int from, int to) {
+        if (useRadixSort(to - from)) {
+            radixSort(a, from, to);
+        } else {
+            Arrays.sort(a, from, to);
+        }
+    }
+
+    /**
+     * Sorts {@code a[from, to)}, using a radix sort if the range is large
+     * enough, otherwise {@code Arrays.sort}.
+     */
+    static void sort(long[] a, int from, int to) {
+        if (useRadixSort(to - from)) {
+            radixSort(a, from, to);
+        } else {
+            Arrays.sort(a, from, to);
+        }
+    }
+
+    /**
+     * Sorts {@code a[from, to)}, using a radix sort if the range is large
+     * enough, otherwise {@code Arrays.sort}.
+     */
+    static void sort(double[] a, int from, int to) {
+        if (useRadixSort(to - from)) {
+            radixSort(a, from, to);
+        } else {
+            Arrays.sort(a, from, to);
+        }
+    }
+
+    /**
+     * Sorts {@code a}, using a (parallel) radix sort if the array is large
+     * enough, otherwise {@code J8Arrays.parallelSort}.
+     */
+    static void parallelSort(int[] a) {
+        if (useRadixSort(a.length)) {
+            int chunks = chunks(a.length);
+            if (chunks > 1) {
+                parallelRadixSort(a, 0, a.length, chunks);
+            } else {
+                radixSort(a, 0, a.length);
+            }
+        } else {
+            J8Arrays.parallelSort(a);
+        }
+    }
+
+    /**
+     * Sorts {@code a}, using a (parallel) radix sort if the array is large
+     * enough, otherwise {@code J8Arrays.parallelSort}.
+     */
+    static void parallelSort(long[] a) {
+        if (useRadixSort(a.length)) {
+            int chunks = chunks(a.length);
+            if (chunks > 1) {
+                parallelRadixSort(a, 0, a.length, chunks);
+            } else {
+                radixSort(a, 0, a.length);
+            }
+        } else {
+            J8Arrays.parallelSort(a);
+        }
+    }
+
+    /**
+     * Sorts {@code a}, using a (parallel) radix sort if the array is large
+     * enough, otherwise {@code J8Arrays.parallelSort}.
+     */
+    static void parallelSort(double[] a) {
+        if (useRadixSort(a.length)) {
+            int to = moveNaNsToEnd(a, 0, a.length);
+            int chunks = chunks(to);
+            if (chunks > 1) {
+                parallelRadixSort(a, 0, to, chunks);
+            } else {
+                radixSortNoNaNs(a, 0, to);
+            }
+        } else {
+            J8Arrays.parallelSort(a);
+        }
+    }
+
+    private static int chunks(int length) {
+        int p = ForkJoinPool.getCommonPoolParallelism();
+        if (p <= 1) {
+            return 1;
+        }
+        return Math.max(1, Math.min(p << 2, length / MIN_CHUNK));
+    }
+
+    // Keys mapped to unsigned order
+
+    private static int key(int v) {
+        return v ^ Integer.MIN_VALUE;
+    }
+
+    private static long key(long v) {
+        return v ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * Maps a (non-NaN) double onto a long whose unsigned order is the order
+     * of {@code Double.compare}, i.e., flip all bits of negative values and
+     * only the sign bit of positive values.
+     */
+    private static long key(double v) {
+        long bits = Double.doubleToRawLongBits(v);
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+
+    /**
+     * Moves all NaN values to the end of {@code a[from, to)}, in the same way
+     * as {@code Arrays.sort(double[])} does, and returns the end of the
+     * non-NaN prefix.
+     */
+    private static int moveNaNsToEnd(double[] a, int from, int to) {
+        while (from < to && Double.isNaN(a[to - 1])) {
+            --to;
+        }
+        for (int k = to; --k >= from; ) {
+            double ak = a[k];
+            if (ak != ak) { // NaN
+                a[k] = a[--to];
+                a[to] = ak;
+            }
+        }
+        return to;
+    }
+
+    /**
+     * Returns the exclusive prefix sums of {@code count} starting at
+     * {@code base}, or {@code null} if all elements fall into the same bucket
+     * (in which case the pass can be skipped).
+     */
+    private static int[] offsets(int[] count, int n, int base) {
+        int[] offsets = new int[RADIX];
+        for (int b = 0, sum = base; b < RADIX; ++b) {
+            int c = count[b];
+            if (c == n) {
+                return null;
+            }
+            offsets[b] = sum;
+            sum += c;
+        }
+        return offsets;
+    }
+
+    // Sequential sorts
+
+    static void radixSort(int[] a, int from, int to) {
+        int n = to - from;
+        int[][] counts = new int[4][RADIX];
+        for (int i = from; i < to; ++i) {
+            int k = key(a[i]);
+            counts[0][k & 0xFF]++;
+            counts[1][(k >>> 8) & 0xFF]++;
+            counts[2][(k >>> 16) & 0xFF]++;
+            counts[3][k >>> 24]++;
+        }
+        int[] src = a, dst = new int[n];
+        int srcOff = from, dstOff = 0;
+        for (int d = 0; d < 4; ++d) {
+            int[] offsets = offsets(counts[d], n, dstOff);
+            if (offsets == null) {
+                continue;
+            }
+            int shift = d << 3;
+            for (int i = srcOff, end = srcOff + n; i < end; ++i) {
+                int v = src[i];
+                dst[offsets[(key(v) >>> shift) & 0xFF]++] = v;
+            }
+            int[] t = src; src = dst; dst = t;
+            int o = srcOff; srcOff = dstOff; dstOff = o;
+        }
+        if (src != a) {
+            System.arraycopy(src, srcOff, a, from, n);
+        }
+    }
+
+    static void radixSort(long[] a, int from, int to) {
+        int n = to - from;
+        int[][] counts = new int[8][RADIX];
+        for (int i = from; i < to; ++i) {
+            long k = key(a[i]);
+            for (int d = 0; d < 8; ++d, k >>>= 8) {
+                counts[d][(int) k & 0xFF]++;
+            }
+        }
+        long[] src = a, dst = new long[n];
+        int srcOff = from, dstOff = 0;
+        for (int d = 0; d < 8; ++d) {
+            int[] offsets = offsets(counts[d], n, dstOff);
+            if (offsets == null) {
+                continue;
+            }
+            int shift = d << 3;
+            for (int i = srcOff, end = srcOff + n; i < end; ++i) {
+                long v = src[i];
+                dst[offsets[(int) (key(v) >>> shift) & 0xFF]++] = v;
+            }
+            long[] t = src; src = dst; dst = t;
+            int o = srcOff; srcOff = dstOff; dstOff = o;
+        }
+        if (src != a) {
+            System.arraycopy(src, srcOff, a, from, n);
+        }
+    }
+
+    static void radixSort(double[] a, int from, int to) {
+        radixSortNoNaNs(a, from, moveNaNsToEnd(a, from, to));
+    }
+
+    private static void radixSortNoNaNs(double[] a, int from, int to) {
+        int n = to - from;
+        int[][] counts = new int[8][RADIX];
+        for (int i = from; i < to; ++i) {
+            long k = key(a[i]);
+            for (int d = 0; d < 8; ++d, k >>>= 8) {
+                counts[d][(int) k & 0xFF]++;
+            }
+        }
+        double[] src = a, dst = new double[n];
+        int srcOff = from, dstOff = 0;
+        for (int d = 0; d < 8; ++d) {
+            int[] offsets = offsets(counts[d], n, dstOff);
+            if (offsets == null) {
+                continue;
+            }
+            int shift = d << 3;
+            for (int i = srcOff, end = srcOff + n; i < end; ++i) {
+                double v = src[i];
+                dst[offsets[(int) (key(v) >>> shift) & 0xFF]++] = v;
+            }
+            double[] t = src; src = dst; dst = t;
+            int o = srcOff; srcOff = dstOff; dstOff = o;
+        }
+        if (src != a) {
+            System.arraycopy(src, srcOff, a, from, n);
+        }
+    }
+
+    // Parallel sorts
+
+    static void parallelRadixSort(int[] a, int from, int to, int chunks) {
+        new IntSorter(a, from, to, chunks).sort();
+    }
+
+    static void parallelRadixSort(long[] a, int from, int to, int chunks) {
+        new LongSorter(a, from, to, chunks).sort();
+    }
+
+    static void parallelRadixSort(double[] a, int from, int to, int chunks) {
+        new DoubleSorter(a, from, to, chunks).sort();
+    }
+
+    /**
+     * Skeleton of a parallel LSD radix sort. For each digit every chunk of
+     * the source range is histogrammed in its own task, the start offsets of
+     * each (bucket, chunk) pair are computed sequentially (by bucket first
+     * and by chunk second, which keeps the passes stable) and then every
+     * chunk is scattered concurrently into its disjoint destination regions.
+     */
+    private abstract static class ParallelSorter {
+        final int from;
+        final int n;
+        final int chunks;
+        final int digits;
+        // offsets of the current source and destination ranges
+        int srcOff;
+        int dstOff;
+        // shift of the current digit
+        int shift;
+
+        ParallelSorter(int from, int to, int chunks, int digits) {
+            this.from = from;
+            this.n = to - from;
+            this.chunks = chunks;
+            this.digits = digits;
+            this.srcOff = from;
+        }
+
+        /** Counts the current digit of the source elements in [lo, hi) */
+        abstract void histogram(int lo, int hi, int[] count);
+
+        /** Moves the source elements in [lo, hi) to their destination */
+        abstract void scatter(int lo, int hi, int[] offsets);
+
+        /** Swaps source and destination arrays */
+        abstract void swap();
+
+        /** Copies the source back into the input array if necessary */
+        abstract void copyBack();
+
+        final void sort() {
+            for (int d = 0; d < digits; ++d) {
+                shift = d << 3;
+                int[][] counts = new int[chunks][RADIX];
+                forEachChunk(c -> histogram(chunkLo(c), chunkLo(c + 1), counts[c]));
+                int[][] offsets = offsets(counts);
+                if (offsets != null) {
+                    forEachChunk(c -> scatter(chunkLo(c), chunkLo(c + 1), offsets[c]));
+                    int o = srcOff; srcOff = dstOff; dstOff = o;
+                    swap();
+                }
+            }
+            copyBack();
+        }
+
+        private int chunkLo(int c) {
+            return srcOff + (int) ((long) n * c / chunks);
+        }
+
+        /**
+         * Returns the destination offsets per chunk and bucket or {@code null}
+         * if all elements fall into the same bucket (the pass can be skipped).
+         */
+        private int[][] offsets(int[][] counts) {
+            int[][] offsets = new int[chunks][RADIX];
+            for (int b = 0, sum = dstOff; b < RADIX; ++b) {
+                int start = sum;
+                for (int c = 0; c < chunks; ++c) {
+                    offsets[c][b] = sum;
+                    sum += counts[c][b];
+                }
+                if (sum - start == n) {
+                    return null;
+                }
+            }
+            return offsets;
+        }
+
+        private void forEachChunk(IntConsumer action) {
+            ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[chunks];
+            for (int c = 0; c < chunks; ++c) {
+                int chunk = c;
+                tasks[c] = new RecursiveAction() {
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    protected void compute() {
+                        action.accept(chunk);
+                    }
+                };
+            }
+            ForkJoinTask.invokeAll(tasks);
+        }
+    }
+
+    private static final class IntSorter extends ParallelSorter {
+        private final int[] a;
+        private int[] src;
+        private int[] dst;
+
+        IntSorter(int[] a, int from, int to, int chunks) {
+            super(from, to, chunks, 4);
+            this.a = src = a;
+            this.dst = new int[n];
+        }
+
+        @Override
+        void histogram(int lo, int hi, int[] count) {
+            int[] src = this.src;
+            int shift = this.shift;
+            for (int i = lo; i < hi; ++i) {
+                count[(key(src[i]) >>> shift) & 0xFF]++;
+            }
+        }
+
+        @Override
+        void scatter(int lo, int hi, int[] offsets) {
+            int[] src = this.src, dst = this.dst;
+            int shift = this.shift;
+            for (int i = lo; i < hi; ++i) {
+                int v = src[i];
+                dst[offsets[(key(v) >>> shift) & 0xFF]++] = v;
+            }
+        }
+
+        @Override
+        void swap() {
+            int[] t = src; src = dst; dst = t;
+        }
+
+        @Override
+        void copyBack() {
+            if (src != a) {
+                System.arraycopy(src, srcOff, a, from, n);
+            }
+        }
+    }
+
+    private static final class LongSorter extends ParallelSorter {
+        private final long[] a;
+        private long[] src;
+        private long[] dst;
+
+        LongSorter(long[] a, int from, int to, int chunks) {
+            super(from, to, chunks, 8);
+            this.a = src = a;
+            this.dst = new long[n];
+        }
+
+        @Override
+        void histogram(int lo, int hi, int[] count) {
+            long[] src = this.src;
+            int shift = this.shift;
+            for (int i = lo; i < hi; ++i) {
+                count[(int) (key(src[i]) >>> shift) & 0xFF]++;
+            }
+        }
+
+        @Override
+        void scatter(int lo, int hi, int[] offsets) {
+            long[] src = this.src, dst = this.dst;
+            int shift = this.shift;
+            for (int i = lo; i < hi; ++i) {
+                long v = src[i];
+                dst[offsets[(int) (key(v) >>> shift) & 0xFF]++] = v;
+            }
+        }
+
+        @Override
+        void swap() {
+            long[] t = src; src = dst; dst = t;
+        }
+
+        @Override
+        void copyBack() {
+            if (src != a) {
+                System.arraycopy(src, srcOff, a, from, n);
+            }
+        }
+    }
+
+    /**
+     * Sorts doubles which are known not to contain NaN values.
+     */
+    private static final class DoubleSorter extends ParallelSorter {
+        private final double[] a;
+        private double[] src;
+        private double[] dst;
+
+        DoubleSorter(double[] a, int from, int to, int chunks) {
+            super(from, to, chunks, 8);
+            this.a = src = a;
+            this.dst = new double[n];
+        }
+
+        @Override
+        void histogram(int lo, int hi, int[] count) {
+            double[] src = this.src;
+            int shift = this.shift;
+            for (int i = lo; i < hi; ++i) {
+                count[(int) (key(src[i]) >>> shift) & 0xFF]++;
+            }
+        }
+
+        @Override
+        void scatter(int lo, int hi, int[] offsets) {
+            double[] src = this.src, dst = this.dst;
+            int shift = this.shift;
+            for (int i = lo; i < hi; ++i) {
+                double v = src[i];
+                dst[offsets[(int) (key(v) >>> shift) & 0xFF]++] = v;
+            }
+        }
+
+        @Override
+        void swap() {
+            double[] t = src; src = dst; dst = t;
+        }
+
+        @Override
+        void copyBack() {
+            if (src != a) {
+                System.arraycopy(src, srcOff, a, from, n);
+            }
+        }
+    }
+}
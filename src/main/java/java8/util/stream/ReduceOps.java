@@ -32,6 +32,7 @@ import java8.util.function.BinaryOperator;
 import java8.util.function.DoubleBinaryOperator;
 import java8.util.function.IntBinaryOperator;
 import java8.util.function.LongBinaryOperator;
+import java8.util.function.LongFunction;
 import java8.util.function.ObjDoubleConsumer;
 import java8.util.function.ObjIntConsumer;
 import java8.util.function.ObjLongConsumer;
@@ -193,7 +194,9 @@ final class ReduceOps {
 
     /**
      * Constructs a {@code TerminalOp} that implements a mutable reduce on
-     * reference values.
+     * reference values.  If the collector is a {@link SizedCollector} and the
+     * number of elements reaching a sink is known when the sink begins, the
+     * result container is created for that number of elements.
      *
      * @param <T> the type of the input elements
      * @param <I> the type of the intermediate reduction result
@@ -203,13 +206,15 @@ final class ReduceOps {
     public static <T, I> TerminalOp<T, I>
     makeRef(Collector<? super T, I, ?> collector) {
         Supplier<I> supplier = Objects.requireNonNull(collector).supplier();
+        LongFunction<I> sizedSupplier = Collectors.sizedSupplier(collector);
         BiConsumer<I, ? super T> accumulator = collector.accumulator();
         BinaryOperator<I> combiner = collector.combiner();
         class ReducingSink extends Box<I>
                 implements AccumulatingSink<T, I, ReducingSink> {
             @Override
             public void begin(long size) {
-                state = supplier.get();
+                // presize the container if the number of elements is known
+                state = (size >= 0 && sizedSupplier != null) ? sizedSupplier.apply(size) : supplier.get();
             }
 
             @Override
@@ -348,16 +353,18 @@ final class ReduceOps {
             @Override
             public <P_IN> Long evaluateSequential(PipelineHelper<T> helper,
                                                   Spliterator<P_IN> spliterator) {
-                if (StreamOpFlag.SIZED.isKnown(helper.getStreamAndOpFlags()))
-                    return spliterator.getExactSizeIfKnown();
+                long size = helper.exactOutputSizeIfKnown(spliterator);
+                if (size != -1L)
+                    return size;
                 return super.evaluateSequential(helper, spliterator);
             }
 
             @Override
             public <P_IN> Long evaluateParallel(PipelineHelper<T> helper,
                                                 Spliterator<P_IN> spliterator) {
-                if (StreamOpFlag.SIZED.isKnown(helper.getStreamAndOpFlags()))
-                    return spliterator.getExactSizeIfKnown();
+                long size = helper.exactOutputSizeIfKnown(spliterator);
+                if (size != -1L)
+                    return size;
                 return super.evaluateParallel(helper, spliterator);
             }
 
@@ -594,16 +601,18 @@ final class ReduceOps {
             @Override
             public <P_IN> Long evaluateSequential(PipelineHelper<Integer> helper,
                                                   Spliterator<P_IN> spliterator) {
-                if (StreamOpFlag.SIZED.isKnown(helper.getStreamAndOpFlags()))
-                    return spliterator.getExactSizeIfKnown();
+                long size = helper.exactOutputSizeIfKnown(spliterator);
+                if (size != -1L)
+                    return size;
                 return super.evaluateSequential(helper, spliterator);
             }
 
             @Override
             public <P_IN> Long evaluateParallel(PipelineHelper<Integer> helper,
                                                 Spliterator<P_IN> spliterator) {
-                if (StreamOpFlag.SIZED.isKnown(helper.getStreamAndOpFlags()))
-                    return spliterator.getExactSizeIfKnown();
+                long size = helper.exactOutputSizeIfKnown(spliterator);
+                if (size != -1L)
+                    return size;
                 return super.evaluateParallel(helper, spliterator);
             }
 
@@ -840,16 +849,18 @@ final class ReduceOps {
             @Override
             public <P_IN> Long evaluateSequential(PipelineHelper<Long> helper,
                                                   Spliterator<P_IN> spliterator) {
-                if (StreamOpFlag.SIZED.isKnown(helper.getStreamAndOpFlags()))
-                    return spliterator.getExactSizeIfKnown();
+                long size = helper.exactOutputSizeIfKnown(spliterator);
+                if (size != -1L)
+                    return size;
                 return super.evaluateSequential(helper, spliterator);
             }
 
             @Override
             public <P_IN> Long evaluateParallel(PipelineHelper<Long> helper,
                                                 Spliterator<P_IN> spliterator) {
-                if (StreamOpFlag.SIZED.isKnown(helper.getStreamAndOpFlags()))
-                    return spliterator.getExactSizeIfKnown();
+                long size = helper.exactOutputSizeIfKnown(spliterator);
+                if (size != -1L)
+                    return size;
                 return super.evaluateParallel(helper, spliterator);
             }
 
@@ -1086,16 +1097,18 @@ final class ReduceOps {
             @Override
             public <P_IN> Long evaluateSequential(PipelineHelper<Double> helper,
                                                   Spliterator<P_IN> spliterator) {
-                if (StreamOpFlag.SIZED.isKnown(helper.getStreamAndOpFlags()))
-                    return spliterator.getExactSizeIfKnown();
+                long size = helper.exactOutputSizeIfKnown(spliterator);
+                if (size != -1L)
+                    return size;
                 return super.evaluateSequential(helper, spliterator);
             }
 
             @Override
             public <P_IN> Long evaluateParallel(PipelineHelper<Double> helper,
                                                 Spliterator<P_IN> spliterator) {
-                if (StreamOpFlag.SIZED.isKnown(helper.getStreamAndOpFlags()))
-                    return spliterator.getExactSizeIfKnown();
+                long size = helper.exactOutputSizeIfKnown(spliterator);
+                if (size != -1L)
+                    return size;
                 return super.evaluateParallel(helper, spliterator);
             }
 
@@ -24,6 +24,8 @@
  */
 package java8.util.stream;
 
+import java.util.Collection;
+
 import java8.util.Objects;
 import java8.util.Spliterator;
 import java8.util.Spliterators;
@@ -425,7 +427,8 @@ public final class RefStreams {
      * <p><b>Implementation Note:</b><br>
      * Use caution when constructing streams from repeated concatenation.
      * Accessing an element of a deeply concatenated stream can result in deep
-     * call chains, or even {@code StackOverflowError}.
+     * call chains, or even {@code StackOverflowError}.  To concatenate many
+     * streams, use {@link #concat(Stream...)} instead.
      * <p>Subsequent changes to the sequential/parallel execution mode of the
      * returned stream are not guaranteed to be propagated to the input streams.
      * 
@@ -457,6 +460,72 @@ public final class RefStreams {
         return stream.onClose(Streams.composedClose(a, b));
     }
 
+    /**
+     * Creates a lazily concatenated stream whose elements are all the
+     * elements of the given streams, in the order of the streams.  The
+     * resulting stream is ordered if all of the input streams are ordered,
+     * and parallel if any of the input streams is parallel.  When the
+     * resulting stream is closed, the close handlers of all input streams are
+     * invoked.
+     *
+     * <p>This method operates on the input streams and binds each stream to
+     * its source, like {@link #concat(Stream, Stream)}.  The exact size of
+     * the concatenated stream source is known if the exact size of each input
+     * stream source is known.
+     *
+     * <p><b>Implementation Note:</b><br>
+     * Unlike repeated calls of {@link #concat(Stream, Stream)}, the
+     * concatenation is flat: the cost of accessing an element does not grow
+     * with the number of input streams, and a parallel evaluation first
+     * splits the input streams into halves of equal count.
+     *
+     * @param <T> The type of stream elements
+     * @param streams the streams to concatenate
+     * @return the concatenation of the input streams
+     */
+    public static <T> Stream<T> concat(@SuppressWarnings("unchecked") Stream<? extends T>... streams) {
+        Objects.requireNonNull(streams);
+        int n = streams.length;
+        for (Stream<? extends T> s : streams) {
+            Objects.requireNonNull(s);
+        }
+
+        // the array only ever holds spliterators of the input streams and
+        // isn't exposed, so it can be typed as Spliterator<T>[]
+        @SuppressWarnings("unchecked")
+        Spliterator<T>[] parts = (Spliterator<T>[]) new Spliterator<?>[n];
+        // a copy of the streams, the varargs array may be changed by the caller
+        BaseStream<?, ?>[] closing = new BaseStream<?, ?>[n];
+        boolean parallel = false;
+        for (int i = 0; i < n; i++) {
+            @SuppressWarnings("unchecked")
+            Spliterator<T> part = (Spliterator<T>) streams[i].spliterator();
+            parts[i] = part;
+            closing[i] = streams[i];
+            parallel |= streams[i].isParallel();
+        }
+        Spliterator<T> split = new Streams.MultiConcatSpliterator.OfRef<>(parts, 0, n);
+        Stream<T> stream = StreamSupport.stream(split, parallel);
+        return n == 0 ? stream : stream.onClose(Streams.composedClose(closing));
+    }
+
+    /**
+     * Creates a lazily concatenated stream whose elements are all the
+     * elements of the streams in the given collection, in the iteration order
+     * of the collection.  This is equivalent to
+     * {@code concat(streams.toArray(...))}, see {@link #concat(Stream...)}.
+     *
+     * @param <T> The type of stream elements
+     * @param streams the streams to concatenate
+     * @return the concatenation of the input streams
+     */
+    public static <T> Stream<T> concat(Collection<? extends Stream<? extends T>> streams) {
+        // the array holds the streams of the collection only
+        @SuppressWarnings("unchecked")
+        Stream<? extends T>[] array = (Stream<? extends T>[]) streams.toArray(new Stream<?>[0]);
+        return concat(array);
+    }
+
     private RefStreams() {
     }
 }
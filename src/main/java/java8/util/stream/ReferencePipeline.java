@@ -26,6 +26,7 @@ package java8.util.stream;
 
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 
 import java8.util.Objects;
 import java8.util.function.BiConsumer;
@@ -165,6 +166,16 @@ abstract class ReferencePipeline<P_IN, P_OUT>
         Objects.requireNonNull(predicate);
         return new StatelessOp<P_OUT, P_OUT>(this, StreamShape.REFERENCE,
                                      StreamOpFlag.NOT_SIZED) {
+            @Override
+            int opFusedKind() {
+                return FusedOps.FILTER;
+            }
+
+            @Override
+            Object opFusedFunction() {
+                return predicate;
+            }
+
             @Override
             Sink<P_OUT> opWrapSink(int flags, Sink<P_OUT> sink) {
                 return new Sink.ChainedReference<P_OUT, P_OUT>(sink) {
@@ -188,6 +199,16 @@ abstract class ReferencePipeline<P_IN, P_OUT>
         Objects.requireNonNull(mapper);
         return new StatelessOp<P_OUT, R>(this, StreamShape.REFERENCE,
                                      StreamOpFlag.NOT_SORTED | StreamOpFlag.NOT_DISTINCT) {
+            @Override
+            int opFusedKind() {
+                return FusedOps.MAP;
+            }
+
+            @Override
+            Object opFusedFunction() {
+                return mapper;
+            }
+
             @Override
             Sink<P_OUT> opWrapSink(int flags, Sink<R> sink) {
                 return new Sink.ChainedReference<P_OUT, R>(sink) {
@@ -452,11 +473,120 @@ abstract class ReferencePipeline<P_IN, P_OUT>
         };
     }
 
+    @Override
+    public final <R> Stream<R> mapMulti(BiConsumer<? super P_OUT, ? super Consumer<R>> mapper) {
+        Objects.requireNonNull(mapper);
+        return new StatelessOp<P_OUT, R>(this, StreamShape.REFERENCE,
+                                     StreamOpFlag.NOT_SORTED | StreamOpFlag.NOT_DISTINCT | StreamOpFlag.NOT_SIZED) {
+            @Override
+            Sink<P_OUT> opWrapSink(int flags, Sink<R> sink) {
+                return new Sink.ChainedReference<P_OUT, R>(sink) {
+                    @Override
+                    public void begin(long size) {
+                        downstream.begin(-1);
+                    }
+
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public void accept(P_OUT u) {
+                        // the replacement elements go straight into the downstream sink
+                        mapper.accept(u, (Consumer<R>) downstream);
+                    }
+                };
+            }
+        };
+    }
+
+    @Override
+    public final IntStream mapMultiToInt(BiConsumer<? super P_OUT, ? super IntConsumer> mapper) {
+        Objects.requireNonNull(mapper);
+        return new IntPipeline.StatelessOp<P_OUT>(this, StreamShape.REFERENCE,
+                                              StreamOpFlag.NOT_SORTED | StreamOpFlag.NOT_DISTINCT | StreamOpFlag.NOT_SIZED) {
+            @Override
+            Sink<P_OUT> opWrapSink(int flags, Sink<Integer> sink) {
+                return new Sink.ChainedReference<P_OUT, Integer>(sink) {
+                    // cache the consumer to avoid creation on every accepted element
+                    IntConsumer downstreamAsInt = downstream::accept;
+
+                    @Override
+                    public void begin(long size) {
+                        downstream.begin(-1);
+                    }
+
+                    @Override
+                    public void accept(P_OUT u) {
+                        mapper.accept(u, downstreamAsInt);
+                    }
+                };
+            }
+        };
+    }
+
+    @Override
+    public final LongStream mapMultiToLong(BiConsumer<? super P_OUT, ? super LongConsumer> mapper) {
+        Objects.requireNonNull(mapper);
+        return new LongPipeline.StatelessOp<P_OUT>(this, StreamShape.REFERENCE,
+                                              StreamOpFlag.NOT_SORTED | StreamOpFlag.NOT_DISTINCT | StreamOpFlag.NOT_SIZED) {
+            @Override
+            Sink<P_OUT> opWrapSink(int flags, Sink<Long> sink) {
+                return new Sink.ChainedReference<P_OUT, Long>(sink) {
+                    // cache the consumer to avoid creation on every accepted element
+                    LongConsumer downstreamAsLong = downstream::accept;
+
+                    @Override
+                    public void begin(long size) {
+                        downstream.begin(-1);
+                    }
+
+                    @Override
+                    public void accept(P_OUT u) {
+                        mapper.accept(u, downstreamAsLong);
+                    }
+                };
+            }
+        };
+    }
+
+    @Override
+    public final DoubleStream mapMultiToDouble(BiConsumer<? super P_OUT, ? super DoubleConsumer> mapper) {
+        Objects.requireNonNull(mapper);
+        return new DoublePipeline.StatelessOp<P_OUT>(this, StreamShape.REFERENCE,
+                                              StreamOpFlag.NOT_SORTED | StreamOpFlag.NOT_DISTINCT | StreamOpFlag.NOT_SIZED) {
+            @Override
+            Sink<P_OUT> opWrapSink(int flags, Sink<Double> sink) {
+                return new Sink.ChainedReference<P_OUT, Double>(sink) {
+                    // cache the consumer to avoid creation on every accepted element
+                    DoubleConsumer downstreamAsDouble = downstream::accept;
+
+                    @Override
+                    public void begin(long size) {
+                        downstream.begin(-1);
+                    }
+
+                    @Override
+                    public void accept(P_OUT u) {
+                        mapper.accept(u, downstreamAsDouble);
+                    }
+                };
+            }
+        };
+    }
+
     @Override
     public final Stream<P_OUT> peek(Consumer<? super P_OUT> action) {
         Objects.requireNonNull(action);
         return new StatelessOp<P_OUT, P_OUT>(this, StreamShape.REFERENCE,
                                      0) {
+            @Override
+            int opFusedKind() {
+                return FusedOps.PEEK;
+            }
+
+            @Override
+            Object opFusedFunction() {
+                return action;
+            }
+
             @Override
             Sink<P_OUT> opWrapSink(int flags, Sink<P_OUT> sink) {
                 return new Sink.ChainedReference<P_OUT, P_OUT>(sink) {
@@ -491,6 +621,8 @@ abstract class ReferencePipeline<P_IN, P_OUT>
     public final Stream<P_OUT> limit(long maxSize) {
         if (maxSize < 0)
             throw new IllegalArgumentException(Long.toString(maxSize));
+        // a directly preceding sorted() only needs to retain maxSize elements
+        SortedOps.limitHint(this, maxSize);
         return SliceOps.makeRef(this, 0, maxSize);
     }
 
@@ -514,6 +646,11 @@ abstract class ReferencePipeline<P_IN, P_OUT>
         return WhileOps.makeDropWhileRef(this, predicate);
     }
 
+    @Override
+    public final <R> Stream<R> gather(Gatherer<? super P_OUT, ?, R> gatherer) {
+        return GathererOps.makeRef(this, gatherer);
+    }
+
     // Terminal operations from Stream
 
     @Override
@@ -538,8 +675,10 @@ abstract class ReferencePipeline<P_IN, P_OUT>
         // super type of U an ArrayStoreException will be thrown.
         @SuppressWarnings("rawtypes")
         IntFunction rawGenerator = (IntFunction) generator;
-        return (A[]) Nodes.flatten((Node<A>) evaluateToArrayNode(rawGenerator), generator)
-                              .asArray(rawGenerator);
+        Node<A> node = (Node<A>) evaluateToArrayNode(rawGenerator);
+        A[] array = (A[]) Nodes.flatten(node, generator).asArray(rawGenerator);
+        Nodes.release(node);
+        return array;
     }
 
     @Override
@@ -547,6 +686,14 @@ abstract class ReferencePipeline<P_IN, P_OUT>
         return toArray(Object[]::new);
     }
 
+    @Override
+    public final List<P_OUT> toList() {
+        // The array is created by the evaluation (for an exactly sized result
+        // it is the array the elements were collected into) and isn't shared,
+        // so the list can take ownership of it
+        return new ImmutableArrayList<>(toArray());
+    }
+
     @Override
     public final boolean anyMatch(Predicate<? super P_OUT> predicate) {
         return evaluate(MatchOps.makeRef(predicate, MatchOps.MatchKind.ANY));
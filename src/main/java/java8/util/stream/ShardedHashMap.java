@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import java8.util.Maps;
+import java8.util.concurrent.ForkJoinPool;
+import java8.util.concurrent.ForkJoinTask;
+import java8.util.concurrent.RecursiveAction;
+import java8.util.function.BiFunction;
+import java8.util.function.BinaryOperator;
+
+/**
+ * A hash map that is partitioned into a fixed number of {@code HashMap}
+ * shards by the hash codes of the keys, used as the intermediate and result
+ * container of {@link Collectors#groupingByPartitioned(java8.util.function.Function,
+ * Collector)}.
+ *
+ * <p>Two sharded maps with the same number of shards are merged shard by
+ * shard.  The shards are independent, so that large merges, and the
+ * application of a function to all values, are divided into one task per
+ * range of shards when performed within a {@code ForkJoinPool}.  Every shard
+ * of the result is then built by exactly one task.
+ *
+ * <p>The shard of a key is selected by the high bits of its (scrambled) hash
+ * code, whereas {@code HashMap} selects buckets by the low bits, so that the
+ * keys of a shard are still distributed over all buckets of the shard.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+final class ShardedHashMap<K, V> extends AbstractMap<K, V> {
+
+    /**
+     * The number of shards used by default, the smallest power of two that
+     * is at least twice the parallelism of the common pool
+     */
+    static final int DEFAULT_SHARDS = Integer.highestOneBit(
+            Math.max(1, ForkJoinPool.getCommonPoolParallelism()) * 4 - 1);
+
+    /**
+     * The minimum number of entries of the right map of a merge for which the
+     * merge is divided into tasks
+     */
+    static final int PARALLEL_MERGE_THRESHOLD = 1 << 13;
+
+    private final HashMap<K, V>[] shards;
+    private final int shift;
+    private transient Set<Map.Entry<K, V>> entrySet;
+
+    /**
+     * Creates an empty map with the given number of shards.
+     *
+     * @param shardCount the number of shards, a power of two
+     */
+    @SuppressWarnings("unchecked")
+    ShardedHashMap(int shardCount) {
+        shards = (HashMap<K, V>[]) new HashMap<?, ?>[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new HashMap<K, V>();
+        }
+        shift = 32 - Integer.numberOfTrailingZeros(shardCount);
+    }
+
+    ShardedHashMap() {
+        this(DEFAULT_SHARDS);
+    }
+
+    /**
+     * Returns the shard that holds the given key.
+     */
+    HashMap<K, V> shard(Object key) {
+        if (shift == 32) {
+            return shards[0];
+        }
+        int h = key == null ? 0 : key.hashCode();
+        // Fibonacci hashing: the high bits of the product depend on all bits of h
+        return shards[(h * 0x9E3779B9) >>> shift];
+    }
+
+    @Override
+    public int size() {
+        long size = 0L;
+        for (HashMap<K, V> shard : shards) {
+            size += shard.size();
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (HashMap<K, V> shard : shards) {
+            if (!shard.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return shard(key).containsKey(key);
+    }
+
+    @Override
+    public V get(Object key) {
+        return shard(key).get(key);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return shard(key).put(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        return shard(key).remove(key);
+    }
+
+    @Override
+    public void clear() {
+        for (HashMap<K, V> shard : shards) {
+            shard.clear();
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> es = entrySet;
+        return es != null ? es : (entrySet = new EntrySet());
+    }
+
+    /**
+     * Merges the entries of the given map, which has the same number of
+     * shards as this map, into this map, using the given function to merge
+     * the values of keys contained in both maps.
+     *
+     * @param other the map to merge into this map
+     * @param mergeFunction the function merging the values of a key
+     * @return this map
+     */
+    ShardedHashMap<K, V> mergeAll(ShardedHashMap<K, V> other, BinaryOperator<V> mergeFunction) {
+        if (other.shards.length != shards.length) {
+            throw new IllegalArgumentException("shard count mismatch");
+        }
+        if (other.size() >= PARALLEL_MERGE_THRESHOLD && ForkJoinTask.inForkJoinPool()) {
+            new ShardTask<K, V>(this, other, mergeFunction, null, 0, shards.length).invoke();
+        } else {
+            for (int i = 0; i < shards.length; i++) {
+                mergeShard(shards[i], other.shards[i], mergeFunction);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Replaces each value of this map with the result of the given function,
+     * the shards being processed in parallel if this map is large and the
+     * current thread is a {@code ForkJoinPool} worker.
+     *
+     * @param function the function to apply to each entry
+     */
+    void replaceAllValues(BiFunction<? super K, ? super V, ? extends V> function) {
+        if (size() >= PARALLEL_MERGE_THRESHOLD && ForkJoinTask.inForkJoinPool()) {
+            new ShardTask<K, V>(this, null, null, function, 0, shards.length).invoke();
+        } else {
+            for (HashMap<K, V> shard : shards) {
+                Maps.replaceAll(shard, function);
+            }
+        }
+    }
+
+    private static <K, V> void mergeShard(HashMap<K, V> to, HashMap<K, V> from,
+                                          BinaryOperator<V> mergeFunction) {
+        if (to.isEmpty()) {
+            to.putAll(from);
+            return;
+        }
+        for (Map.Entry<K, V> e : from.entrySet()) {
+            Maps.merge(to, e.getKey(), e.getValue(), mergeFunction);
+        }
+    }
+
+    /**
+     * Merges, or replaces the values of, a range of shards, dividing the
+     * range into two subtasks while it contains more than one shard.
+     */
+    @SuppressWarnings("serial")
+    private static final class ShardTask<K, V> extends RecursiveAction {
+        private final ShardedHashMap<K, V> map;
+        private final ShardedHashMap<K, V> other; // null when replacing values
+        private final BinaryOperator<V> mergeFunction;
+        private final BiFunction<? super K, ? super V, ? extends V> function;
+        private final int lo, hi;
+
+        ShardTask(ShardedHashMap<K, V> map, ShardedHashMap<K, V> other,
+                  BinaryOperator<V> mergeFunction,
+                  BiFunction<? super K, ? super V, ? extends V> function,
+                  int lo, int hi) {
+            this.map = map;
+            this.other = other;
+            this.mergeFunction = mergeFunction;
+            this.function = function;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo > 1) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new ShardTask<K, V>(map, other, mergeFunction, function, lo, mid),
+                          new ShardTask<K, V>(map, other, mergeFunction, function, mid, hi));
+            } else if (other != null) {
+                mergeShard(map.shards[lo], other.shards[lo], mergeFunction);
+            } else {
+                Maps.replaceAll(map.shards[lo], function);
+            }
+        }
+    }
+
+    final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return ShardedHashMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            ShardedHashMap.this.clear();
+        }
+    }
+
+    final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+        private int index;
+        private Iterator<Map.Entry<K, V>> current = shards[0].entrySet().iterator();
+        private Iterator<Map.Entry<K, V>> last;
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                if (++index >= shards.length) {
+                    index = shards.length - 1;
+                    return false;
+                }
+                current = shards[index].entrySet().iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = current;
+            return current.next();
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            last.remove();
+            last = null;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import java8.util.function.LongFunction;
+
+/**
+ * A {@link Collector} whose result container can be created with a capacity
+ * for an expected number of elements.
+ *
+ * <p>When the number of elements that a reduction accumulates into a result
+ * container is known in advance, which is the case for a {@code SIZED}
+ * stream whose intermediate operations don't change the number of elements
+ * in an unknown way, the library creates the container with
+ * {@link #sizedSupplier()} instead of {@link #supplier()}.  In a parallel
+ * reduction this is the number of elements of the partition whose results
+ * are accumulated into the container.  The container must still accept any
+ * number of elements, the size is only a hint for presizing it, for example
+ * as the initial capacity of an {@code ArrayList} or a {@code HashMap}.
+ *
+ * <p>A container should only be presized where the number of elements is an
+ * upper bound of the size of the result.  The collectors returned by
+ * {@link Collectors#toList()} and {@link Collectors#toMap(java8.util.function.Function,
+ * java8.util.function.Function)}, which rejects duplicate keys, are sized
+ * collectors; the collectors that drop or merge duplicates, like
+ * {@link Collectors#toSet()}, are not, since a few distinct elements would
+ * be collected into a very large table.  Adapting a sized
+ * collector with {@link Collectors#mapping(java8.util.function.Function, Collector)}
+ * or {@link Collectors#collectingAndThen(Collector, java8.util.function.Function)}
+ * yields a sized collector.
+ *
+ * @param <T> the type of input elements to the reduction operation
+ * @param <A> the mutable accumulation type of the reduction operation
+ * @param <R> the result type of the reduction operation
+ */
+public interface SizedCollector<T, A, R> extends Collector<T, A, R> {
+    /**
+     * A function that creates and returns a new mutable result container
+     * for the given expected number of elements.
+     *
+     * @return a function which returns a new, mutable result container for
+     * a given non-negative number of elements
+     */
+    LongFunction<A> sizedSupplier();
+}
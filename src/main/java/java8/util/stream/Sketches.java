@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+/**
+ * Hash functions shared by the sketches ({@link CardinalitySketch},
+ * {@link FrequencySketch}).  Boxed integral and floating-point values hash
+ * like the corresponding primitive values, so that sketches built from
+ * primitive streams and from streams of boxed values can be combined.
+ */
+final class Sketches {
+
+    private Sketches() {
+    }
+
+    /**
+     * Returns a well-distributed 64-bit hash of the given value (the
+     * finalizer of the SplitMix64 generator, which is a bijection).
+     */
+    static long hash(long value) {
+        long z = value + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    static long hash(double value) {
+        return hash(Double.doubleToLongBits(value));
+    }
+
+    /**
+     * Returns a 64-bit hash of the given object.  Objects other than boxed
+     * primitives are hashed from their {@code hashCode}, so that at most
+     * 2<sup>32</sup> distinct hashes are produced for them.
+     */
+    static long hash(Object o) {
+        if (o instanceof Integer || o instanceof Long
+                || o instanceof Short || o instanceof Byte) {
+            return hash(((Number) o).longValue());
+        }
+        if (o instanceof Double || o instanceof Float) {
+            return hash(((Number) o).doubleValue());
+        }
+        return hash((long) (o == null ? 0 : o.hashCode()));
+    }
+}
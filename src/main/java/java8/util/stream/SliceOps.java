@@ -51,7 +51,7 @@ final class SliceOps {
      * @return the sliced size
      */
     private static long calcSize(long size, long skip, long limit) {
-        return size >= 0 ? Math.max(-1, Math.min(size - skip, limit)) : -1;
+        return size >= 0 ? Math.max(0, Math.min(size - skip, limit)) : -1;
     }
 
     /**
@@ -111,8 +111,14 @@ final class SliceOps {
         if (skip < 0)
             throw new IllegalArgumentException("Skip must be non-negative: " + skip);
 
+        final long normalizedLimit = limit >= 0 ? limit : Long.MAX_VALUE;
         return new ReferencePipeline.StatefulOp<T, T>(upstream, StreamShape.REFERENCE,
                                                       flags(limit)) {
+            @Override
+            long exactOutputSize(long previousSize) {
+                return calcSize(previousSize, skip, normalizedLimit);
+            }
+
             Spliterator<T> unorderedSkipLimitSpliterator(Spliterator<T> s,
                                                          long skip, long limit, long sizeIfKnown) {
                 if (skip <= sizeIfKnown) {
@@ -184,7 +190,7 @@ final class SliceOps {
             Sink<T> opWrapSink(int flags, Sink<T> sink) {
                 return new Sink.ChainedReference<T, T>(sink) {
                     long n = skip;
-                    long m = limit >= 0 ? limit : Long.MAX_VALUE;
+                    long m = normalizedLimit;
 
                     @Override
                     public void begin(long size) {
@@ -227,8 +233,14 @@ final class SliceOps {
         if (skip < 0)
             throw new IllegalArgumentException("Skip must be non-negative: " + skip);
 
+        final long normalizedLimit = limit >= 0 ? limit : Long.MAX_VALUE;
         return new IntPipeline.StatefulOp<Integer>(upstream, StreamShape.INT_VALUE,
                                                    flags(limit)) {
+            @Override
+            long exactOutputSize(long previousSize) {
+                return calcSize(previousSize, skip, normalizedLimit);
+            }
+
             Spliterator.OfInt unorderedSkipLimitSpliterator(
                     Spliterator.OfInt s, long skip, long limit, long sizeIfKnown) {
                 if (skip <= sizeIfKnown) {
@@ -293,7 +305,7 @@ final class SliceOps {
             Sink<Integer> opWrapSink(int flags, Sink<Integer> sink) {
                 return new Sink.ChainedInt<Integer>(sink) {
                     long n = skip;
-                    long m = limit >= 0 ? limit : Long.MAX_VALUE;
+                    long m = normalizedLimit;
 
                     @Override
                     public void begin(long size) {
@@ -336,8 +348,14 @@ final class SliceOps {
         if (skip < 0)
             throw new IllegalArgumentException("Skip must be non-negative: " + skip);
 
+        final long normalizedLimit = limit >= 0 ? limit : Long.MAX_VALUE;
         return new LongPipeline.StatefulOp<Long>(upstream, StreamShape.LONG_VALUE,
                                                  flags(limit)) {
+            @Override
+            long exactOutputSize(long previousSize) {
+                return calcSize(previousSize, skip, normalizedLimit);
+            }
+
             Spliterator.OfLong unorderedSkipLimitSpliterator(
                     Spliterator.OfLong s, long skip, long limit, long sizeIfKnown) {
                 if (skip <= sizeIfKnown) {
@@ -402,7 +420,7 @@ final class SliceOps {
             Sink<Long> opWrapSink(int flags, Sink<Long> sink) {
                 return new Sink.ChainedLong<Long>(sink) {
                     long n = skip;
-                    long m = limit >= 0 ? limit : Long.MAX_VALUE;
+                    long m = normalizedLimit;
 
                     @Override
                     public void begin(long size) {
@@ -445,8 +463,14 @@ final class SliceOps {
         if (skip < 0)
             throw new IllegalArgumentException("Skip must be non-negative: " + skip);
 
+        final long normalizedLimit = limit >= 0 ? limit : Long.MAX_VALUE;
         return new DoublePipeline.StatefulOp<Double>(upstream, StreamShape.DOUBLE_VALUE,
                                                      flags(limit)) {
+            @Override
+            long exactOutputSize(long previousSize) {
+                return calcSize(previousSize, skip, normalizedLimit);
+            }
+
             Spliterator.OfDouble unorderedSkipLimitSpliterator(
                     Spliterator.OfDouble s, long skip, long limit, long sizeIfKnown) {
                 if (skip <= sizeIfKnown) {
@@ -511,7 +535,7 @@ final class SliceOps {
             Sink<Double> opWrapSink(int flags, Sink<Double> sink) {
                 return new Sink.ChainedDouble<Double>(sink) {
                     long n = skip;
-                    long m = limit >= 0 ? limit : Long.MAX_VALUE;
+                    long m = normalizedLimit;
 
                     @Override
                     public void begin(long size) {
@@ -541,7 +565,7 @@ final class SliceOps {
     }
 
     private static int flags(long limit) {
-        return StreamOpFlag.NOT_SIZED | ((limit != -1) ? StreamOpFlag.IS_SHORT_CIRCUIT : 0);
+        return StreamOpFlag.IS_SIZE_ADJUSTING | ((limit != -1) ? StreamOpFlag.IS_SHORT_CIRCUIT : 0);
     }
 
     /**
@@ -596,6 +620,11 @@ final class SliceOps {
                 long sizeIfKnown = StreamOpFlag.SIZED.isPreserved(op.sourceOrOpFlags)
                                    ? op.exactOutputSizeIfKnown(spliterator)
                                    : -1L;
+                if (sizeIfKnown != -1L) {
+                    // The spliterator is not sliced yet, adjust for the
+                    // elements the op skips and limits
+                    sizeIfKnown = op.exactOutputSize(sizeIfKnown);
+                }
                 Node.Builder<P_OUT> nb = op.makeNodeBuilder(sizeIfKnown, generator);
                 Sink<P_OUT> opSink = op.opWrapSink(helper.getStreamAndOpFlags(), nb);
                 helper.copyIntoWithCancel(helper.wrapSink(opSink), spliterator);
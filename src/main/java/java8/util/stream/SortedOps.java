@@ -38,6 +38,10 @@ import java8.util.Spliterator;
 /**
  * Factory methods for transforming streams into sorted streams.
  *
+ * <p>Large primitive streams are sorted with a (parallel) radix sort, see
+ * {@link RadixSort} for the size threshold and the system properties that
+ * control this choice.
+ *
  * @since 1.8
  */
 final class SortedOps {
@@ -96,6 +100,36 @@ final class SortedOps {
         return new OfDouble(upstream);
     }
 
+    /**
+     * Largest {@code limit(k)} following a reference {@code sorted()} stage
+     * for which only the first {@code k} elements are retained in a bounded
+     * heap instead of sorting the whole input
+     */
+    static final int MAX_TOP_K = 1 << 16;
+
+    /**
+     * Informs a reference {@code sorted()} stage that it is directly followed
+     * by a {@code limit(maxSize)} stage, in which case it only needs to emit
+     * the first {@code maxSize} elements of the sorted order. This turns
+     * {@code sorted().limit(k)} into a top-k selection that keeps a bounded
+     * heap per leaf task, which takes O(n log k) time and O(k) memory instead
+     * of buffering and sorting the whole input. Has no effect if
+     * {@code stage} isn't a reference {@code sorted()} stage, or if it has
+     * already been linked or consumed.
+     *
+     * <p>Must be called before the {@code limit} stage is linked: an unlinked
+     * stage has no downstream stage yet and hasn't been evaluated, so the
+     * {@code limit} stage will be the only consumer of its output.
+     *
+     * @param stage the stage {@code limit(maxSize)} is about to be appended to
+     * @param maxSize the limit
+     */
+    static void limitHint(AbstractPipeline<?, ?, ?> stage, long maxSize) {
+        if (stage instanceof OfRef && maxSize <= MAX_TOP_K && !stage.isLinkedOrConsumed()) {
+            ((OfRef<?>) stage).topK = (int) maxSize;
+        }
+    }
+
     /**
      * Specialized subtype for sorting reference streams
      */
@@ -105,6 +139,11 @@ final class SortedOps {
          */
         private final boolean isNaturalSort;
         private final Comparator<? super T> comparator;
+        /**
+         * Number of leading elements that are needed downstream, -1 if all
+         * elements are needed
+         */
+        private int topK = -1;
 
         /**
          * Sort using natural order of {@literal <T>} which must be
@@ -140,6 +179,8 @@ final class SortedOps {
             // also naturally sorted then this is a no-op
             if (StreamOpFlag.SORTED.isKnown(flags) && isNaturalSort)
                 return sink;
+            else if (topK >= 0)
+                return new TopKSortingSink<>(sink, comparator, topK);
             else if (StreamOpFlag.SIZED.isKnown(flags))
                 return new SizedRefSortingSink<>(sink, comparator);
             else
@@ -155,6 +196,16 @@ final class SortedOps {
             if (StreamOpFlag.SORTED.isKnown(helper.getStreamAndOpFlags()) && isNaturalSort) {
                 return helper.evaluate(spliterator, false, generator);
             }
+            else if (topK >= 0) {
+                // Bounded heap per leaf, the sorted heaps are merged in
+                // encounter order (which keeps the selection stable)
+                int k = topK;
+                Comparator<? super T> cmp = comparator;
+                TopK<T> topk = ReduceOps.<T, TopK<T>>makeRef(() -> new TopK<T>(cmp, k),
+                                                             TopK::accept, TopK::merge)
+                        .evaluateParallel(helper, spliterator);
+                return Nodes.node(topk.toArray(generator));
+            }
             else {
                 // @@@ Weak two-pass parallel implementation; parallel collect, parallel sort
                 T[] flattenedData = helper.evaluate(spliterator, true, generator).asArray(generator);
@@ -196,7 +247,7 @@ final class SortedOps {
                 Node.OfInt n = (Node.OfInt) helper.evaluate(spliterator, true, generator);
 
                 int[] content = n.asPrimitiveArray();
-                java8.util.J8Arrays.parallelSort(content);
+                RadixSort.parallelSort(content);
 
                 return Nodes.node(content);
             }
@@ -235,7 +286,7 @@ final class SortedOps {
                 Node.OfLong n = (Node.OfLong) helper.evaluate(spliterator, true, generator);
 
                 long[] content = n.asPrimitiveArray();
-                java8.util.J8Arrays.parallelSort(content);
+                RadixSort.parallelSort(content);
 
                 return Nodes.node(content);
             }
@@ -274,7 +325,7 @@ final class SortedOps {
                 Node.OfDouble n = (Node.OfDouble) helper.evaluate(spliterator, true, generator);
 
                 double[] content = n.asPrimitiveArray();
-                java8.util.J8Arrays.parallelSort(content);
+                RadixSort.parallelSort(content);
 
                 return Nodes.node(content);
             }
@@ -414,6 +465,197 @@ final class SortedOps {
         }
     }
 
+    /**
+     * {@link Sink} for implementing {@code sorted().limit(k)} on reference
+     * streams, only the first {@code k} elements of the sorted order are
+     * retained.
+     */
+    private static final class TopKSortingSink<T> extends AbstractRefSortingSink<T> {
+        private final int k;
+        private TopK<T> topk;
+
+        TopKSortingSink(Sink<? super T> sink, Comparator<? super T> comparator, int k) {
+            super(sink, comparator);
+            this.k = k;
+        }
+
+        @Override
+        public void begin(long size) {
+            topk = new TopK<>(comparator, k);
+        }
+
+        @Override
+        public void end() {
+            Object[] array = topk.toArray();
+            int size = topk.size();
+            downstream.begin(size);
+            if (!cancellationRequestedCalled) {
+                for (int i = 0; i < size; i++)
+                    downstream.accept(elementAt(array, i));
+            }
+            else {
+                for (int i = 0; i < size && !downstream.cancellationRequested(); i++)
+                    downstream.accept(elementAt(array, i));
+            }
+            downstream.end();
+            topk = null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T elementAt(Object[] array, int i) {
+            return (T) array[i];
+        }
+
+        @Override
+        public void accept(T t) {
+            topk.accept(t);
+        }
+    }
+
+    /**
+     * Retains the first {@code k} elements, in the order of a comparator, of
+     * the elements it accepts. The elements are kept in a bounded max-heap
+     * whose ties are broken by encounter order, so the result is the same as
+     * the first {@code k} elements of a stable sort.
+     *
+     * <p>Once {@link #toArray()} or {@link #merge} has been called the heap is
+     * replaced by the sorted array of the retained elements and no further
+     * elements can be accepted.
+     */
+    static final class TopK<T> {
+        /**
+         * A retained element and its (local) encounter index
+         */
+        private static final class Entry<T> {
+            T t;
+            long seq;
+
+            Entry(T t, long seq) {
+                this.t = t;
+                this.seq = seq;
+            }
+        }
+
+        private final Comparator<? super T> comparator;
+        private final int k;
+        private final Comparator<Entry<T>> entryOrder;
+        private Entry<T>[] heap;
+        private int size;
+        private long seq;
+        // the retained elements in sorted order, once finished
+        private Object[] sorted;
+
+        @SuppressWarnings("unchecked")
+        TopK(Comparator<? super T> comparator, int k) {
+            this.comparator = comparator;
+            this.k = k;
+            this.entryOrder = (a, b) -> {
+                int c = comparator.compare(a.t, b.t);
+                return (c != 0) ? c : java8.lang.Longs.compare(a.seq, b.seq);
+            };
+            this.heap = (Entry<T>[]) new Entry<?>[Math.min(k, 16)];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void accept(T t) {
+            long s = seq++;
+            if (size < k) {
+                if (size == heap.length) {
+                    heap = Arrays.copyOf(heap, (int) Math.min((long) size << 1, k));
+                }
+                siftUp(size++, new Entry<>(t, s));
+            }
+            else if (k > 0 && comparator.compare(t, heap[0].t) < 0) {
+                // t precedes the largest retained element (a tie would lose
+                // against it since t comes later in encounter order)
+                Entry<T> e = heap[0];
+                e.t = t;
+                e.seq = s;
+                siftDown(0, e);
+            }
+        }
+
+        private void siftUp(int i, Entry<T> e) {
+            Entry<T>[] h = heap;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                Entry<T> p = h[parent];
+                if (entryOrder.compare(e, p) <= 0)
+                    break;
+                h[i] = p;
+                i = parent;
+            }
+            h[i] = e;
+        }
+
+        private void siftDown(int i, Entry<T> e) {
+            Entry<T>[] h = heap;
+            int half = size >>> 1;
+            while (i < half) {
+                int child = (i << 1) + 1;
+                Entry<T> c = h[child];
+                int right = child + 1;
+                if (right < size && entryOrder.compare(c, h[right]) < 0)
+                    c = h[child = right];
+                if (entryOrder.compare(e, c) >= 0)
+                    break;
+                h[i] = c;
+                i = child;
+            }
+            h[i] = e;
+        }
+
+        /**
+         * Returns the retained elements in sorted order.
+         */
+        Object[] toArray() {
+            if (sorted == null) {
+                Entry<T>[] h = heap;
+                Arrays.sort(h, 0, size, entryOrder);
+                Object[] a = new Object[size];
+                for (int i = 0; i < size; i++)
+                    a[i] = h[i].t;
+                sorted = a;
+                heap = null;
+            }
+            return sorted;
+        }
+
+        T[] toArray(IntFunction<T[]> generator) {
+            Object[] a = toArray();
+            T[] array = generator.apply(size);
+            System.arraycopy(a, 0, array, 0, size);
+            return array;
+        }
+
+        /**
+         * Merges the elements retained by {@code right}, which succeed the
+         * elements retained by this instance in encounter order, preferring
+         * the elements of this instance in case of ties.
+         */
+        @SuppressWarnings("unchecked")
+        TopK<T> merge(TopK<T> right) {
+            Object[] a = toArray();
+            Object[] b = right.toArray();
+            int n = Math.min(k, size + right.size);
+            Object[] merged = new Object[n];
+            for (int i = 0, j = 0, m = 0; m < n; m++) {
+                if (j >= b.length
+                        || (i < a.length && comparator.compare((T) b[j], (T) a[i]) >= 0)) {
+                    merged[m] = a[i++];
+                } else {
+                    merged[m] = b[j++];
+                }
+            }
+            sorted = merged;
+            size = n;
+            return this;
+        }
+    }
+
     /**
      * Abstract {@link Sink} for implementing sort on int streams.
      */
@@ -452,7 +694,7 @@ final class SortedOps {
 
         @Override
         public void end() {
-            Arrays.sort(array, 0, offset);
+            RadixSort.sort(array, 0, offset);
             downstream.begin(offset);
             if (!cancellationRequestedCalled) {
                 for (int i = 0; i < offset; i++)
@@ -492,7 +734,8 @@ final class SortedOps {
         @Override
         public void end() {
             int[] ints = b.asPrimitiveArray();
-            Arrays.sort(ints);
+            b.release();
+            RadixSort.sort(ints, 0, ints.length);
             downstream.begin(ints.length);
             if (!cancellationRequestedCalled) {
                 for (int anInt : ints)
@@ -551,7 +794,7 @@ final class SortedOps {
 
         @Override
         public void end() {
-            Arrays.sort(array, 0, offset);
+            RadixSort.sort(array, 0, offset);
             downstream.begin(offset);
             if (!cancellationRequestedCalled) {
                 for (int i = 0; i < offset; i++)
@@ -591,7 +834,8 @@ final class SortedOps {
         @Override
         public void end() {
             long[] longs = b.asPrimitiveArray();
-            Arrays.sort(longs);
+            b.release();
+            RadixSort.sort(longs, 0, longs.length);
             downstream.begin(longs.length);
             if (!cancellationRequestedCalled) {
                 for (long aLong : longs)
@@ -650,7 +894,7 @@ final class SortedOps {
 
         @Override
         public void end() {
-            Arrays.sort(array, 0, offset);
+            RadixSort.sort(array, 0, offset);
             downstream.begin(offset);
             if (!cancellationRequestedCalled) {
                 for (int i = 0; i < offset; i++)
@@ -690,7 +934,8 @@ final class SortedOps {
         @Override
         public void end() {
             double[] doubles = b.asPrimitiveArray();
-            Arrays.sort(doubles);
+            b.release();
+            RadixSort.sort(doubles, 0, doubles.length);
             downstream.begin(doubles.length);
             if (!cancellationRequestedCalled) {
                 for (double aDouble : doubles)
@@ -97,7 +97,7 @@ class SpinedBuffer<E>
     @SuppressWarnings("unchecked")
     SpinedBuffer(int initialCapacity) {
         super(initialCapacity);
-        curChunk = (E[]) new Object[1 << initialChunkPower];
+        curChunk = newChunk(1 << initialChunkPower);
     }
 
     /**
@@ -106,7 +106,7 @@ class SpinedBuffer<E>
     @SuppressWarnings("unchecked")
     SpinedBuffer() {
         super();
-        curChunk = (E[]) new Object[1 << initialChunkPower];
+        curChunk = newChunk(1 << initialChunkPower);
     }
 
     /**
@@ -118,6 +118,58 @@ class SpinedBuffer<E>
                : priorElementCount[spineIndex] + spine[spineIndex].length;
     }
 
+    /**
+     * Allocates a new chunk, borrowing it from the {@link ChunkPool} if chunk
+     * pooling is enabled.
+     */
+    @SuppressWarnings("unchecked")
+    private E[] newChunk(int size) {
+        if (ChunkPool.ENABLED) {
+            Object chunk = ChunkPool.borrow(ChunkPool.REF, size);
+            if (chunk != null) {
+                return (E[]) chunk;
+            }
+        }
+        return (E[]) new Object[size];
+    }
+
+    /**
+     * Gives the chunks {@code spine[from]}, {@code spine[from + 1]}, ... back
+     * to the {@link ChunkPool}, after clearing their used parts.
+     */
+    private void giveBackChunks(int from) {
+        E[][] spine = this.spine;
+        for (int i = from; i < spine.length && spine[i] != null; i++) {
+            E[] chunk = spine[i];
+            int used = (i < spineIndex) ? chunk.length : (i == spineIndex) ? elementIndex : 0;
+            Arrays.fill(chunk, 0, used, null);
+            ChunkPool.giveBack(ChunkPool.REF, chunk, chunk.length);
+            spine[i] = null;
+        }
+    }
+
+    /**
+     * Gives the chunks of this buffer back to the {@link ChunkPool}, if chunk
+     * pooling is enabled. Must only be called once the contents of the buffer
+     * are no longer needed, the buffer must not be used afterwards.
+     */
+    void release() {
+        if (ChunkPool.ENABLED && curChunk != null) {
+            if (spine != null) {
+                giveBackChunks(0);
+            }
+            else {
+                Arrays.fill(curChunk, 0, elementIndex, null);
+                ChunkPool.giveBack(ChunkPool.REF, curChunk, curChunk.length);
+            }
+            curChunk = null;
+            spine = null;
+            priorElementCount = null;
+            elementIndex = 0;
+            spineIndex = 0;
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private void inflateSpine() {
         if (spine == null) {
@@ -142,7 +194,7 @@ class SpinedBuffer<E>
                     priorElementCount = Arrays.copyOf(priorElementCount, newSpineSize);
                 }
                 int nextChunkSize = chunkSize(i);
-                spine[i] = (E[]) new Object[nextChunkSize];
+                spine[i] = newChunk(nextChunkSize);
                 priorElementCount[i] = priorElementCount[i-1] + spine[i-1].length;
                 capacity += nextChunkSize;
             }
@@ -221,6 +273,9 @@ class SpinedBuffer<E>
     @Override
     public void clear() {
         if (spine != null) {
+            if (ChunkPool.ENABLED) {
+                giveBackChunks(1);
+            }
             curChunk = spine[0];
             for (int i=0; i<curChunk.length; i++)
                 curChunk[i] = null;
@@ -468,7 +523,7 @@ class SpinedBuffer<E>
          */
         OfPrimitive(int initialCapacity) {
             super(initialCapacity);
-            curChunk = newArray(1 << initialChunkPower);
+            curChunk = newChunk(1 << initialChunkPower);
         }
 
         /**
@@ -476,7 +531,7 @@ class SpinedBuffer<E>
          */
         OfPrimitive() {
             super();
-            curChunk = newArray(1 << initialChunkPower);
+            curChunk = newChunk(1 << initialChunkPower);
         }
 
         public abstract Iterator<E> iterator();
@@ -492,6 +547,58 @@ class SpinedBuffer<E>
         /** Get the length of an array */
         protected abstract int arrayLength(T_ARR array);
 
+        /** Get the {@link ChunkPool} element type of the chunks */
+        protected abstract int chunkType();
+
+        /**
+         * Allocates a new chunk, borrowing it from the {@link ChunkPool} if
+         * chunk pooling is enabled.
+         */
+        @SuppressWarnings("unchecked")
+        private T_ARR newChunk(int size) {
+            if (ChunkPool.ENABLED) {
+                Object chunk = ChunkPool.borrow(chunkType(), size);
+                if (chunk != null) {
+                    return (T_ARR) chunk;
+                }
+            }
+            return newArray(size);
+        }
+
+        /**
+         * Gives the chunks {@code spine[from]}, {@code spine[from + 1]}, ...
+         * back to the {@link ChunkPool}.
+         */
+        private void giveBackChunks(int from) {
+            T_ARR[] spine = this.spine;
+            for (int i = from; i < spine.length && spine[i] != null; i++) {
+                ChunkPool.giveBack(chunkType(), spine[i], arrayLength(spine[i]));
+                spine[i] = null;
+            }
+        }
+
+        /**
+         * Gives the chunks of this buffer back to the {@link ChunkPool}, if
+         * chunk pooling is enabled. Must only be called once the contents of
+         * the buffer are no longer needed, the buffer must not be used
+         * afterwards.
+         */
+        void release() {
+            if (ChunkPool.ENABLED && curChunk != null) {
+                if (spine != null) {
+                    giveBackChunks(0);
+                }
+                else {
+                    ChunkPool.giveBack(chunkType(), curChunk, arrayLength(curChunk));
+                }
+                curChunk = null;
+                spine = null;
+                priorElementCount = null;
+                elementIndex = 0;
+                spineIndex = 0;
+            }
+        }
+
         /** Iterate an array with the provided consumer */
         protected abstract void arrayForEach(T_ARR array, int from, int to,
                                              T_CONS consumer);
@@ -521,7 +628,7 @@ class SpinedBuffer<E>
                         priorElementCount = Arrays.copyOf(priorElementCount, newSpineSize);
                     }
                     int nextChunkSize = chunkSize(i);
-                    spine[i] = newArray(nextChunkSize);
+                    spine[i] = newChunk(nextChunkSize);
                     priorElementCount[i] = priorElementCount[i-1] + arrayLength(spine[i - 1]);
                     capacity += nextChunkSize;
                 }
@@ -591,6 +698,9 @@ class SpinedBuffer<E>
 
         public void clear() {
             if (spine != null) {
+                if (ChunkPool.ENABLED) {
+                    giveBackChunks(1);
+                }
                 curChunk = spine[0];
                 spine = null;
                 priorElementCount = null;
@@ -769,6 +879,11 @@ class SpinedBuffer<E>
             return array.length;
         }
 
+        @Override
+        protected int chunkType() {
+            return ChunkPool.INT;
+        }
+
         @Override
         protected void arrayForEach(int[] array,
                                     int from, int to,
@@ -905,6 +1020,11 @@ class SpinedBuffer<E>
             return array.length;
         }
 
+        @Override
+        protected int chunkType() {
+            return ChunkPool.LONG;
+        }
+
         @Override
         protected void arrayForEach(long[] array,
                                     int from, int to,
@@ -1043,6 +1163,11 @@ class SpinedBuffer<E>
             return array.length;
         }
 
+        @Override
+        protected int chunkType() {
+            return ChunkPool.DOUBLE;
+        }
+
         @Override
         protected void arrayForEach(double[] array,
                                     int from, int to,
@@ -25,13 +25,17 @@
 package java8.util.stream;
 
 import java.util.Comparator;
+import java.util.List;
 
 import java8.util.function.BiConsumer;
 import java8.util.function.BiFunction;
 import java8.util.function.BinaryOperator;
 import java8.util.function.Consumer;
+import java8.util.function.DoubleConsumer;
 import java8.util.function.Function;
+import java8.util.function.IntConsumer;
 import java8.util.function.IntFunction;
+import java8.util.function.LongConsumer;
 import java8.util.function.Predicate;
 import java8.util.function.Supplier;
 import java8.util.function.ToDoubleFunction;
@@ -333,6 +337,135 @@ public interface Stream<T> extends BaseStream<T, Stream<T>> {
      */
     DoubleStream flatMapToDouble(Function<? super T, ? extends DoubleStream> mapper);
 
+    /**
+     * Returns a stream consisting of the results of replacing each element of
+     * this stream with multiple elements, specifically zero or more elements.
+     * Replacement is performed by applying the provided mapping function to each
+     * element in conjunction with a {@linkplain Consumer consumer} argument
+     * that accepts replacement elements.  The mapping function calls the consumer
+     * zero or more times to provide the replacement elements.
+     *
+     * <p>This is an <a href="package-summary.html#StreamOps">intermediate
+     * operation</a>.
+     *
+     * <p>If the {@linkplain Consumer consumer} argument is used outside the scope of
+     * its application to the mapping function, the results are undefined.
+     *
+     * <p><b>Implementation Note:</b><br>
+     * The consumer passed to the mapping function pushes the replacement
+     * elements directly into the downstream stages of the pipeline, no
+     * intermediate stream or buffer is created per element.
+     *
+     * <p><b>API Note:</b><br>
+     * This method is similar to {@link #flatMap flatMap} in that it applies a one-to-many
+     * transformation to the elements of the stream and flattens the result elements
+     * into a new stream.  This method is preferable to {@code flatMap} in the following
+     * circumstances:
+     * <ul>
+     * <li>When replacing each stream element with a small (possibly zero) number of
+     * elements.  Using this method avoids the overhead of creating a new Stream instance
+     * for every group of result elements, as required by {@code flatMap}.</li>
+     * <li>When it is easier to use an imperative approach for generating result
+     * elements than it is to return them in the form of a Stream.</li>
+     * </ul>
+     *
+     * <p>If a lambda expression is provided as the mapper function argument, additional type
+     * information may be necessary for proper inference of the element type {@code <R>} of
+     * the returned stream.  This can be provided in the form of explicit type declarations for
+     * the lambda parameters or as an explicit type argument to the {@code mapMulti} call.
+     *
+     * <p><b>Examples</b>
+     *
+     * <p>Given a stream of {@code Number} objects, the following
+     * produces a list containing only the {@code Integer} objects:
+     * <pre>{@code
+     *     Stream<Number> numbers = ... ;
+     *     List<Integer> integers = numbers.<Integer>mapMulti((number, consumer) -> {
+     *             if (number instanceof Integer)
+     *                 consumer.accept((Integer) number);
+     *         })
+     *         .collect(Collectors.toList());
+     * }</pre>
+     *
+     * @param <R> The element type of the new stream
+     * @param mapper a <a href="package-summary.html#NonInterference">non-interfering</a>,
+     *               <a href="package-summary.html#Statelessness">stateless</a>
+     *               function that generates replacement elements
+     * @return the new stream
+     * @see #flatMap flatMap
+     * @since 16
+     */
+    <R> Stream<R> mapMulti(BiConsumer<? super T, ? super Consumer<R>> mapper);
+
+    /**
+     * Returns an {@code IntStream} consisting of the results of replacing each
+     * element of this stream with multiple elements, specifically zero or more
+     * elements.  Replacement is performed by applying the provided mapping function
+     * to each element in conjunction with a {@linkplain IntConsumer consumer} argument
+     * that accepts replacement elements.  The mapping function calls the consumer
+     * zero or more times to provide the replacement elements.
+     *
+     * <p>This is an <a href="package-summary.html#StreamOps">intermediate
+     * operation</a>.
+     *
+     * <p>If the {@linkplain IntConsumer consumer} argument is used outside the scope of
+     * its application to the mapping function, the results are undefined.
+     *
+     * @param mapper a <a href="package-summary.html#NonInterference">non-interfering</a>,
+     *               <a href="package-summary.html#Statelessness">stateless</a>
+     *               function that generates replacement elements
+     * @return the new stream
+     * @see #mapMulti mapMulti
+     * @since 16
+     */
+    IntStream mapMultiToInt(BiConsumer<? super T, ? super IntConsumer> mapper);
+
+    /**
+     * Returns an {@code LongStream} consisting of the results of replacing each
+     * element of this stream with multiple elements, specifically zero or more
+     * elements.  Replacement is performed by applying the provided mapping function
+     * to each element in conjunction with a {@linkplain LongConsumer consumer} argument
+     * that accepts replacement elements.  The mapping function calls the consumer
+     * zero or more times to provide the replacement elements.
+     *
+     * <p>This is an <a href="package-summary.html#StreamOps">intermediate
+     * operation</a>.
+     *
+     * <p>If the {@linkplain LongConsumer consumer} argument is used outside the scope of
+     * its application to the mapping function, the results are undefined.
+     *
+     * @param mapper a <a href="package-summary.html#NonInterference">non-interfering</a>,
+     *               <a href="package-summary.html#Statelessness">stateless</a>
+     *               function that generates replacement elements
+     * @return the new stream
+     * @see #mapMulti mapMulti
+     * @since 16
+     */
+    LongStream mapMultiToLong(BiConsumer<? super T, ? super LongConsumer> mapper);
+
+    /**
+     * Returns an {@code DoubleStream} consisting of the results of replacing each
+     * element of this stream with multiple elements, specifically zero or more
+     * elements.  Replacement is performed by applying the provided mapping function
+     * to each element in conjunction with a {@linkplain DoubleConsumer consumer} argument
+     * that accepts replacement elements.  The mapping function calls the consumer
+     * zero or more times to provide the replacement elements.
+     *
+     * <p>This is an <a href="package-summary.html#StreamOps">intermediate
+     * operation</a>.
+     *
+     * <p>If the {@linkplain DoubleConsumer consumer} argument is used outside the scope of
+     * its application to the mapping function, the results are undefined.
+     *
+     * @param mapper a <a href="package-summary.html#NonInterference">non-interfering</a>,
+     *               <a href="package-summary.html#Statelessness">stateless</a>
+     *               function that generates replacement elements
+     * @return the new stream
+     * @see #mapMulti mapMulti
+     * @since 16
+     */
+    DoubleStream mapMultiToDouble(BiConsumer<? super T, ? super DoubleConsumer> mapper);
+
     /**
      * Returns a stream consisting of the distinct elements (according to
      * {@link Object#equals(Object)}) of this stream.
@@ -617,6 +750,50 @@ public interface Stream<T> extends BaseStream<T, Stream<T>> {
      */
     Stream<T> dropWhile(Predicate<? super T> predicate);
 
+    /**
+     * Returns a stream consisting of the results of applying the given
+     * {@link Gatherer} to the elements of this stream.
+     *
+     * <p>This is a <a href="package-summary.html#StreamOps">stateful
+     * intermediate operation</a>.  It is the extension point for custom
+     * intermediate operations, such as windowing or run-length encoding,
+     * that would otherwise have to be expressed with {@code flatMap} or by
+     * collecting into an intermediate collection.
+     *
+     * <p>Gatherers are highly flexible and can describe a vast array of
+     * possibly stateful operations, with support for short-circuiting, and
+     * parallelization.
+     *
+     * <p>When executed in parallel, multiple intermediate results may be
+     * instantiated, populated, and merged so as to maintain isolation of
+     * mutable data structures.  Therefore, even when executed in parallel
+     * with non-thread-safe data structures (such as {@code ArrayList}), no
+     * additional synchronization is needed for a parallel reduction.
+     *
+     * <p><b>Implementation Note:</b><br>
+     * The gatherer is evaluated as a stateful operation.  A gatherer whose
+     * combiner is {@link Gatherers#defaultCombiner()} is applied sequentially,
+     * even if this stream is parallel.
+     *
+     * <p><b>API Note:</b><br>
+     * The following example groups the elements of a stream into batches of
+     * three elements each, without collecting them into an intermediate list
+     * first:
+     * <pre>{@code
+     *     // will contain: [[1, 2, 3], [4, 5, 6], [7]]
+     *     List<List<Integer>> batches = RefStreams.of(1, 2, 3, 4, 5, 6, 7)
+     *         .gather(Gatherers.windowFixed(3))
+     *         .toList();
+     * }</pre>
+     *
+     * @param <R> The element type of the new stream
+     * @param gatherer a gatherer
+     * @return the new stream
+     * @see Gatherers
+     * @since 24
+     */
+    <R> Stream<R> gather(Gatherer<? super T, ?, R> gatherer);
+
     /**
      * Performs an action for each element of this stream.
      *
@@ -695,6 +872,43 @@ public interface Stream<T> extends BaseStream<T, Stream<T>> {
      */
     <A> A[] toArray(IntFunction<A[]> generator);
 
+    /**
+     * Accumulates the elements of this stream into a {@code List}. The elements in
+     * the list will be in this stream's encounter order, if one exists. The returned List
+     * is unmodifiable; calls to any mutator method will always cause
+     * {@code UnsupportedOperationException} to be thrown. There are no
+     * guarantees on the implementation type or serializability of the returned List.
+     *
+     * <p>The returned instance may be <a href="../../lang/package-summary.html#Value-based-Classes">value-based</a>.
+     * Callers should make no assumptions about the identity of the returned instances.
+     * Identity-sensitive operations on these instances (reference equality ({@code ==}),
+     * identity hash code, and synchronization) are unreliable and should be avoided.
+     *
+     * <p>This is a <a href="package-summary.html#StreamOps">terminal operation</a>.
+     *
+     * <p><b>API Note:</b><br>
+     * If more control over the returned object is required, use
+     * {@link Collectors#toCollection(Supplier)}.
+     *
+     * <p><b>Implementation Requirements:</b><br>
+     * The implementation in this interface returns a List produced as if by the following:
+     * <pre>{@code
+     * Collections.unmodifiableList(new ArrayList<>(Arrays.asList(this.toArray())))
+     * }</pre>
+     *
+     * <p><b>Implementation Note:</b><br>
+     * This implementation directly wraps the array that results from the
+     * evaluation of the pipeline, without a further copy, in a
+     * {@code RandomAccess} list that permits {@code null} elements. Streams
+     * created from the list by {@link StreamSupport#stream(java.util.Collection)}
+     * use a {@code SIZED}, {@code SUBSIZED} and {@code IMMUTABLE} spliterator.
+     *
+     * @return a List containing the stream elements
+     *
+     * @since 16
+     */
+    List<T> toList();
+
     /**
      * Performs a <a href="package-summary.html#Reduction">reduction</a> on the
      * elements of this stream, using the provided identity value and an
@@ -54,6 +54,7 @@ import java8.util.Spliterator;
  *       <th>{@code ORDERED}</th>
  *       <th>{@code SIZED}</th>
  *       <th>{@code SHORT_CIRCUIT}</th>
+ *       <th>{@code SIZE_ADJUSTING}</th>
  *     </tr>
  *   </thead>
  *   <tbody>
@@ -64,6 +65,7 @@ import java8.util.Spliterator;
  *        <td>Y</td>
  *        <td>Y</td>
  *        <td>N</td>
+ *        <td>N</td>
  *      </tr>
  *      <tr>
  *        <th colspan="2" class="tableSubHeadingColor">Intermediate operation</th>
@@ -72,6 +74,7 @@ import java8.util.Spliterator;
  *        <td>PCI</td>
  *        <td>PC</td>
  *        <td>PI</td>
+ *        <td>PI</td>
  *      </tr>
  *      <tr>
  *        <th colspan="2" class="tableSubHeadingColor">Terminal operation</th>
@@ -80,17 +83,18 @@ import java8.util.Spliterator;
  *        <td>PC</td>
  *        <td>N</td>
  *        <td>PI</td>
+ *        <td>N</td>
  *      </tr>
  *   </tbody>
  *   <tfoot>
  *       <tr>
  *         <th class="tableSubHeadingColor" colspan="2">Legend</th>
- *         <th colspan="6" rowspan="7">&nbsp;</th>
+ *         <th colspan="7" rowspan="7">&nbsp;</th>
  *       </tr>
  *       <tr>
  *         <th class="tableSubHeadingColor">Flag</th>
  *         <th class="tableSubHeadingColor">Meaning</th>
- *         <th colspan="6"></th>
+ *         <th colspan="7"></th>
  *       </tr>
  *       <tr><td>Y</td><td>Allowed</td></tr>
  *       <tr><td>N</td><td>Invalid</td></tr>
@@ -328,12 +332,25 @@ enum StreamOpFlag {
      */
     // 12, 0x01000000
     SHORT_CIRCUIT(12,
-                  set(Type.OP).set(Type.TERMINAL_OP));
+                  set(Type.OP).set(Type.TERMINAL_OP)),
+
+    /**
+     * Characteristic value signifying that an operation may adjust the
+     * total size of the stream by a fixed amount that can be computed from
+     * the size of its input.
+     * <p>
+     * The flag, if present, is only valid when SIZED is present;
+     * and is only valid for sequential streams.
+     * <p>
+     * An intermediate operation can preserve or inject this value.
+     */
+    // 13, 0x04000000
+    SIZE_ADJUSTING(13,
+                   set(Type.OP));
 
     // The following 2 flags are currently undefined and a free for any further
     // stream flags if/when required
     //
-    // 13, 0x04000000
     // 14, 0x10000000
     // 15, 0x40000000
 
@@ -640,6 +657,11 @@ enum StreamOpFlag {
      */
     static final int IS_SHORT_CIRCUIT = SHORT_CIRCUIT.set;
 
+    /**
+     * The bit value to inject {@link #SIZE_ADJUSTING}.
+     */
+    static final int IS_SIZE_ADJUSTING = SIZE_ADJUSTING.set;
+
     private static int getMask(int flags) {
         return (flags == 0)
                ? FLAG_MASK
@@ -236,7 +236,7 @@ class StreamSpliterators {
         @Override
         public final long getExactSizeIfKnown() {
             init();
-            return StreamOpFlag.SIZED.isKnown(ph.getStreamAndOpFlags())
+            return isSizeKnown(ph.getStreamAndOpFlags())
                    ? spliterator.getExactSizeIfKnown()
                    : -1;
         }
@@ -256,12 +256,22 @@ class StreamSpliterators {
             // but for sub-splits only an estimate is known
             if ((c & Spliterator.SIZED) != 0) {
                 c &= ~(Spliterator.SIZED | Spliterator.SUBSIZED);
-                c |= (spliterator.characteristics() & (Spliterator.SIZED | Spliterator.SUBSIZED));
+                if (isSizeKnown(ph.getStreamAndOpFlags())) {
+                    c |= (spliterator.characteristics() & (Spliterator.SIZED | Spliterator.SUBSIZED));
+                }
             }
 
             return c;
         }
 
+        // A SIZE_ADJUSTING stage (skip or limit) only reports an exact size
+        // for the pipeline as a whole, which is no longer accurate once the
+        // wrapped spliterator has been split or partially traversed
+        private static boolean isSizeKnown(int flags) {
+            return StreamOpFlag.SIZED.isKnown(flags)
+                   && !StreamOpFlag.SIZE_ADJUSTING.isKnown(flags);
+        }
+
         @Override
         public Comparator<? super P_OUT> getComparator() {
             if (!hasCharacteristics(SORTED))
@@ -823,6 +833,13 @@ class StreamSpliterators {
      *
      */
     abstract static class SliceSpliterator<T, T_SPLITR extends Spliterator<T>> {
+        // The maximum depth of the splits used by forEachRemaining to narrow
+        // the traversal to the slice.  Splits of the SUBSIZED spliterator
+        // that lie entirely outside of the slice are dropped untraversed, so
+        // for array-like sources skipping costs O(log n) splits rather than
+        // a traversal of every skipped element.
+        static final int MAX_TRIM_DEPTH = 64;
+
         // The start index of the slice
         final long sliceOrigin;
         // One past the last index of the slice
@@ -949,20 +966,41 @@ class StreamSpliterators {
                 if (index >= fence)
                     return;
 
-                if (index >= sliceOrigin && (index + s.estimateSize()) <= sliceFence) {
-                    // The spliterator is contained within the slice
-                    s.forEachRemaining(action);
-                    index = fence;
-                } else {
-                    // The spliterator intersects with the slice
-                    while (sliceOrigin > index) {
-                        s.tryAdvance(e -> {});
-                        index++;
+                // The spliterator is contained within or intersects with the slice
+                forEachInSlice(s, index, action, 0);
+                index = fence;
+            }
+
+            private void forEachInSlice(Spliterator<T> s, long origin,
+                                        Consumer<? super T> action, int depth) {
+                while (true) {
+                    long end = origin + s.estimateSize();
+                    if (origin >= sliceFence || end <= sliceOrigin)
+                        // The split does not intersect with the slice
+                        return;
+
+                    if (origin >= sliceOrigin && end <= sliceFence) {
+                        // The split is contained within the slice
+                        s.forEachRemaining(action);
+                        return;
                     }
-                    // Traverse elements up to the fence
-                    for (;index < fence; index++) {
-                        s.tryAdvance(action);
+
+                    Spliterator<T> leftSplit;
+                    if (depth >= MAX_TRIM_DEPTH || (leftSplit = s.trySplit()) == null) {
+                        // The split intersects with the slice
+                        for (; origin < sliceOrigin; origin++) {
+                            s.tryAdvance(e -> {});
+                        }
+                        // Traverse elements up to the fence
+                        for (long f = Math.min(end, sliceFence); origin < f; origin++) {
+                            s.tryAdvance(action);
+                        }
+                        return;
                     }
+
+                    long leftSplitFence = origin + leftSplit.estimateSize();
+                    forEachInSlice(leftSplit, origin, action, depth + 1);
+                    origin = leftSplitFence;
                 }
             }
 
@@ -1025,20 +1063,41 @@ class StreamSpliterators {
                 if (index >= fence)
                     return;
 
-                if (index >= sliceOrigin && (index + s.estimateSize()) <= sliceFence) {
-                    // The spliterator is contained within the slice
-                    s.forEachRemaining(action);
-                    index = fence;
-                } else {
-                    // The spliterator intersects with the slice
-                    while (sliceOrigin > index) {
-                        s.tryAdvance(emptyConsumer());
-                        index++;
+                // The spliterator is contained within or intersects with the slice
+                forEachInSlice(s, index, action, 0);
+                index = fence;
+            }
+
+            private void forEachInSlice(T_SPLITR s, long origin, T_CONS action, int depth) {
+                while (true) {
+                    long end = origin + s.estimateSize();
+                    if (origin >= sliceFence || end <= sliceOrigin)
+                        // The split does not intersect with the slice
+                        return;
+
+                    if (origin >= sliceOrigin && end <= sliceFence) {
+                        // The split is contained within the slice
+                        s.forEachRemaining(action);
+                        return;
                     }
-                    // Traverse elements up to the fence
-                    for (;index < fence; index++) {
-                        s.tryAdvance(action);
+
+                    T_SPLITR leftSplit;
+                    if (depth >= MAX_TRIM_DEPTH || (leftSplit = s.trySplit()) == null) {
+                        // The split intersects with the slice
+                        T_CONS empty = emptyConsumer();
+                        for (; origin < sliceOrigin; origin++) {
+                            s.tryAdvance(empty);
+                        }
+                        // Traverse elements up to the fence
+                        for (long f = Math.min(end, sliceFence); origin < f; origin++) {
+                            s.tryAdvance(action);
+                        }
+                        return;
                     }
+
+                    long leftSplitFence = origin + leftSplit.estimateSize();
+                    forEachInSlice(leftSplit, origin, action, depth + 1);
+                    origin = leftSplitFence;
                 }
             }
 
@@ -24,10 +24,20 @@
  */
 package java8.util.stream;
 
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.util.Collection;
 
+import java8.io.UncheckedIOException;
 import java8.util.Objects;
 import java8.util.Spliterators;
+import java8.util.concurrent.ForkJoinPool;
+import java8.util.function.Function;
 import java8.util.function.Supplier;
 import java8.util.Spliterator;
 
@@ -117,7 +127,7 @@ public final class StreamSupport {
      *             if the given collection is {@code null}
      */
     public static <T> Stream<T> stream(Collection<? extends T> c) {
-        return stream(Spliterators.spliterator(c), false);
+        return stream(spliterator(c), false);
     }
 
     /**
@@ -192,7 +202,7 @@ public final class StreamSupport {
      *             if the given collection is {@code null}
      */
     public static <T> Stream<T> parallelStream(Collection<? extends T> c) {
-        return stream(Spliterators.spliterator(c), true);
+        return stream(spliterator(c), true);
     }
 
     /**
@@ -551,7 +561,201 @@ public final class StreamSupport {
                                          parallel);
     }
 
+    /**
+     * Returns an equivalent stream that is parallel and whose parallel
+     * evaluation runs in the given {@code ForkJoinPool} instead of
+     * {@link ForkJoinPool#commonPool()}.  The terminal operation may be
+     * invoked from any thread; if that thread is not a worker of {@code pool}
+     * it waits for the evaluation to complete in {@code pool}.  The
+     * decomposition of the source into tasks is based on the parallelism of
+     * {@code pool}.
+     *
+     * <p>This is an <a href="package-summary.html#StreamOps">intermediate
+     * operation</a> that affects the whole pipeline, like
+     * {@link BaseStream#parallel()}.  A later call of
+     * {@link BaseStream#sequential()} makes the pipeline sequential again.
+     * Elements that are produced lazily by the {@link BaseStream#iterator()}
+     * or {@link BaseStream#spliterator()} of the stream are computed on the
+     * thread that traverses them.
+     *
+     * @param <T> the type of stream elements
+     * @param <S> the type of the stream
+     * @param stream a stream created by this library
+     * @param pool the pool the stream is evaluated in
+     * @return the parallel stream bound to {@code pool}
+     * @throws IllegalArgumentException if {@code stream} was not created by
+     *         this library
+     * @throws IllegalStateException if {@code stream} has already been
+     *         operated upon or closed
+     */
+    public static <T, S extends BaseStream<T, S>> S parallel(S stream, ForkJoinPool pool) {
+        Objects.requireNonNull(pool);
+        return pipeline(stream).parallel(pool);
+    }
+
+    /**
+     * Returns an equivalent stream whose evaluation is instrumented, such that
+     * the given listener receives the {@link PipelineMetrics} of the pipeline
+     * when its terminal operation completes.
+     *
+     * <p>Like {@link BaseStream#parallel()} this affects the whole pipeline,
+     * no matter at which stage it is called.
+     *
+     * @param <T> the type of stream elements
+     * @param <S> the type of the stream
+     * @param stream a stream created by this library
+     * @param listener the listener receiving the metrics
+     * @return the instrumented stream
+     * @throws IllegalArgumentException if {@code stream} was not created by
+     *         this library
+     * @throws IllegalStateException if {@code stream} has already been
+     *         operated upon or closed
+     * @see PipelineMetrics
+     */
+    public static <T, S extends BaseStream<T, S>> S instrument(S stream, PipelineMetrics.Listener listener) {
+        Objects.requireNonNull(listener);
+        return pipeline(stream).instrument(listener);
+    }
+
+    /**
+     * Compiles the intermediate operations that {@code ops} appends to a
+     * sequential stream into a {@link PipelineTemplate}, which can then be
+     * evaluated over many sources without building the pipeline again.
+     *
+     * <p>{@code ops} is invoked once, with a stream that has no elements.  It
+     * must only append intermediate operations to that stream and return the
+     * resulting stream.
+     *
+     * @param <T> the type of the source elements
+     * @param <R> the type of the elements of the resulting stream
+     * @param ops the function appending the intermediate operations
+     * @return the compiled template
+     * @throws IllegalArgumentException if {@code ops} returns a stream that
+     *         was not derived from the stream passed to it, or a parallel
+     *         stream
+     * @throws IllegalStateException if {@code ops} returns a stream that has
+     *         already been operated upon or closed
+     */
+    public static <T, R> PipelineTemplate<T, R> compile(Function<? super Stream<T>, ? extends Stream<R>> ops) {
+        Objects.requireNonNull(ops);
+        // an ordered source, otherwise unordered() would be a no-op and
+        // dropped from the template
+        Stream<T> source = stream(Spliterators.<T>spliterator(new Object[0], Spliterator.ORDERED), false);
+        Stream<R> stream = ops.apply(source);
+        AbstractPipeline<?, R, Stream<R>> pipeline = pipeline(stream);
+        if (pipeline.isParallel()) {
+            throw new IllegalArgumentException("Not a sequential pipeline");
+        }
+        AbstractPipeline<?, ?, ?>[] stages = pipeline.compileStages();
+        if (stages[0] != source) {
+            throw new IllegalArgumentException("Not derived from the template source");
+        }
+        return new PipelineTemplate<>(stages);
+    }
+
+    /**
+     * Reads all lines from a file as a {@code Stream}.  Bytes from the file
+     * are decoded into characters using the {@code UTF-8} charset.
+     *
+     * <p>This method works as if invoking it were equivalent to evaluating
+     * the expression:
+     * <pre>{@code
+     * StreamSupport.lines(file, Charset.forName("UTF-8"))
+     * }</pre>
+     *
+     * @param file the file
+     * @return the lines from the file as a {@code Stream}
+     * @throws IOException if an I/O error occurs opening the file
+     * @see #lines(File, Charset)
+     */
+    public static Stream<String> lines(File file) throws IOException {
+        return lines(file, Charset.forName("UTF-8"));
+    }
+
+    /**
+     * Reads all lines from a file as a {@code Stream}.  Unlike reading the
+     * lines of a {@link java.io.BufferedReader}, the returned stream can be
+     * split efficiently for parallel evaluation.
+     *
+     * <p>A line is considered to be terminated by any one of a line feed
+     * ({@code '\n'}), a carriage return ({@code '\r'}), or a carriage return
+     * followed immediately by a line feed.  The lines do not include the
+     * line terminators.
+     *
+     * <p>The returned stream contains a reference to an open file, which is
+     * closed by closing the stream.  The file contents should not be
+     * modified during the execution of the terminal stream operation.
+     * Otherwise, the result of the terminal stream operation is undefined.
+     *
+     * <p>For the {@code UTF-8}, {@code ISO-8859-1} and {@code US-ASCII}
+     * charsets, the stream splits the file at line terminators found near
+     * the middle of the remaining bytes, reading only the bytes around the
+     * split point; the lines are decoded by the thread that traverses the
+     * split.  Files encoded with other charsets are read sequentially, in
+     * which case the stream parallelizes poorly.
+     *
+     * <p>If an {@link IOException} is thrown when reading from the file, it
+     * is wrapped in an {@link UncheckedIOException} which will be thrown
+     * from the method that caused the read to take place.
+     *
+     * @param file the file
+     * @param cs the charset to use for decoding
+     * @return the lines from the file as a {@code Stream}
+     * @throws IOException if an I/O error occurs opening the file
+     */
+    public static Stream<String> lines(File file, Charset cs) throws IOException {
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(cs);
+        final FileChannel fc = new FileInputStream(file).getChannel();
+        boolean ok = false;
+        try {
+            Spliterator<String> spliterator;
+            if (FileChannelLinesSpliterator.isSupported(cs)) {
+                long size = fc.size();
+                spliterator = new FileChannelLinesSpliterator(fc, cs, 0L, size);
+            } else {
+                BufferedReader br = new BufferedReader(Channels.newReader(fc, cs.newDecoder(), -1));
+                spliterator = Spliterators.spliteratorUnknownSize(
+                        FileChannelLinesSpliterator.linesIterator(br),
+                        Spliterator.ORDERED | Spliterator.NONNULL);
+            }
+            Stream<String> lines = stream(spliterator, false).onClose(() -> {
+                try {
+                    fc.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            ok = true;
+            return lines;
+        } finally {
+            if (!ok) {
+                fc.close();
+            }
+        }
+    }
+
     static Runnable closeHandler(BaseStream<?, ?> stream) {
         return stream::close;
     }
+
+    private static <T, S extends BaseStream<T, S>> AbstractPipeline<?, T, S> pipeline(S stream) {
+        Objects.requireNonNull(stream);
+        if (!(stream instanceof AbstractPipeline)) {
+            throw new IllegalArgumentException("Not a streamsupport pipeline: " + stream.getClass().getName());
+        }
+        @SuppressWarnings("unchecked")
+        AbstractPipeline<?, T, S> pipeline = (AbstractPipeline<?, T, S>) stream;
+        return pipeline;
+    }
+
+    private static <T> Spliterator<T> spliterator(Collection<? extends T> c) {
+        if (c instanceof ImmutableArrayList) {
+            // the result of Stream.toList()
+            @SuppressWarnings("unchecked")
+            ImmutableArrayList<T> list = (ImmutableArrayList<T>) c;
+            return list.arraySpliterator();
+        }
+        return Spliterators.spliterator(c);
+    }
 }
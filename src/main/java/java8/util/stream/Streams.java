@@ -955,6 +955,245 @@ final class Streams {
         }
     }
 
+    /**
+     * A spliterator over the concatenation of any number of spliterators.
+     * The parts are held in a flat array, so that traversal does not depend
+     * on the number of parts, and {@code trySplit} divides the remaining parts
+     * into two halves, so that a parallel evaluation sees a balanced tree.
+     * Once a single part remains, {@code trySplit} splits that part.
+     */
+    abstract static class MultiConcatSpliterator<T, T_SPLITR extends Spliterator<T>>
+            implements Spliterator<T> {
+        protected final T_SPLITR[] parts;
+        // the index of the current part
+        protected int index;
+        // one past the index of the last part
+        protected final int fence;
+        // fixed until the next split, see characteristics()
+        private int characteristics;
+
+        MultiConcatSpliterator(T_SPLITR[] parts, int origin, int fence) {
+            this.parts = parts;
+            this.index = origin;
+            this.fence = fence;
+            this.characteristics = computeCharacteristics();
+        }
+
+        private int computeCharacteristics() {
+            int n = fence - index;
+            if (n <= 1) {
+                return n == 1 ? parts[index].characteristics()
+                              : Spliterator.SIZED | Spliterator.SUBSIZED;
+            }
+            // Concatenation loses DISTINCT and SORTED characteristics
+            int c = ~(Spliterator.DISTINCT | Spliterator.SORTED);
+            long size = 0L;
+            for (int i = index; i < fence; i++) {
+                c &= parts[i].characteristics();
+                size += parts[i].estimateSize();
+                if (size < 0L) {
+                    // The spliterator is unsized if the sum of the estimates
+                    // overflows
+                    c &= ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+                    size = Long.MAX_VALUE;
+                }
+            }
+            return c;
+        }
+
+        /**
+         * Creates a spliterator over the parts from {@code origin}
+         * (inclusive) to {@code fence} (exclusive).
+         */
+        abstract T_SPLITR makeSpliterator(T_SPLITR[] parts, int origin, int fence);
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T_SPLITR trySplit() {
+            int lo = index, n = fence - lo;
+            if (n <= 1) {
+                if (n == 0) {
+                    return null;
+                }
+                // the part may change its characteristics when it splits
+                T_SPLITR prefix = (T_SPLITR) parts[lo].trySplit();
+                characteristics = computeCharacteristics();
+                return prefix;
+            }
+            int mid = lo + (n >>> 1);
+            index = mid;
+            characteristics = computeCharacteristics();
+            return mid - lo == 1 ? parts[lo] : makeSpliterator(parts, lo, mid);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> consumer) {
+            Objects.requireNonNull(consumer);
+            for (; index < fence; index++) {
+                if (parts[index].tryAdvance(consumer)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> consumer) {
+            Objects.requireNonNull(consumer);
+            int i = index, hi = fence;
+            index = hi;
+            for (; i < hi; i++) {
+                parts[i].forEachRemaining(consumer);
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            long size = 0L;
+            for (int i = index; i < fence; i++) {
+                size += parts[i].estimateSize();
+                if (size < 0L) {
+                    // If one or more estimates are Long.MAX_VALUE then the
+                    // sum will overflow to a negative value
+                    return Long.MAX_VALUE;
+                }
+            }
+            return size;
+        }
+
+        @Override
+        public int characteristics() {
+            return characteristics;
+        }
+
+        @Override
+        public long getExactSizeIfKnown() {
+            return Spliterators.getExactSizeIfKnown(this);
+        }
+
+        @Override
+        public boolean hasCharacteristics(int characteristics) {
+            return Spliterators.hasCharacteristics(this, characteristics);
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            if (!hasCharacteristics(Spliterator.SORTED))
+                throw new IllegalStateException();
+            return parts[fence - 1].getComparator();
+        }
+
+        static final class OfRef<T> extends MultiConcatSpliterator<T, Spliterator<T>> {
+            OfRef(Spliterator<T>[] parts, int origin, int fence) {
+                super(parts, origin, fence);
+            }
+
+            @Override
+            Spliterator<T> makeSpliterator(Spliterator<T>[] parts, int origin, int fence) {
+                return new OfRef<>(parts, origin, fence);
+            }
+        }
+
+        private abstract static class OfPrimitive<T, T_CONS, T_SPLITR extends Spliterator.OfPrimitive<T, T_CONS, T_SPLITR>>
+                extends MultiConcatSpliterator<T, T_SPLITR>
+                implements Spliterator.OfPrimitive<T, T_CONS, T_SPLITR> {
+            private OfPrimitive(T_SPLITR[] parts, int origin, int fence) {
+                super(parts, origin, fence);
+            }
+
+            @Override
+            public boolean tryAdvance(T_CONS action) {
+                Objects.requireNonNull(action);
+                for (; index < fence; index++) {
+                    if (parts[index].tryAdvance(action)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            @Override
+            public void forEachRemaining(T_CONS action) {
+                Objects.requireNonNull(action);
+                int i = index, hi = fence;
+                index = hi;
+                for (; i < hi; i++) {
+                    parts[i].forEachRemaining(action);
+                }
+            }
+        }
+
+        static final class OfInt
+                extends MultiConcatSpliterator.OfPrimitive<Integer, IntConsumer, Spliterator.OfInt>
+                implements Spliterator.OfInt {
+            OfInt(Spliterator.OfInt[] parts, int origin, int fence) {
+                super(parts, origin, fence);
+            }
+
+            @Override
+            Spliterator.OfInt makeSpliterator(Spliterator.OfInt[] parts, int origin, int fence) {
+                return new MultiConcatSpliterator.OfInt(parts, origin, fence);
+            }
+        }
+
+        static final class OfLong
+                extends MultiConcatSpliterator.OfPrimitive<Long, LongConsumer, Spliterator.OfLong>
+                implements Spliterator.OfLong {
+            OfLong(Spliterator.OfLong[] parts, int origin, int fence) {
+                super(parts, origin, fence);
+            }
+
+            @Override
+            Spliterator.OfLong makeSpliterator(Spliterator.OfLong[] parts, int origin, int fence) {
+                return new MultiConcatSpliterator.OfLong(parts, origin, fence);
+            }
+        }
+
+        static final class OfDouble
+                extends MultiConcatSpliterator.OfPrimitive<Double, DoubleConsumer, Spliterator.OfDouble>
+                implements Spliterator.OfDouble {
+            OfDouble(Spliterator.OfDouble[] parts, int origin, int fence) {
+                super(parts, origin, fence);
+            }
+
+            @Override
+            Spliterator.OfDouble makeSpliterator(Spliterator.OfDouble[] parts, int origin, int fence) {
+                return new MultiConcatSpliterator.OfDouble(parts, origin, fence);
+            }
+        }
+    }
+
+    /**
+     * Given any number of streams, return a Runnable that executes their
+     * {@link BaseStream#close} methods in sequence, even if some of them throw
+     * an exception, and then rethrows the first exception thrown (if any).
+     */
+    static Runnable composedClose(BaseStream<?, ?>[] streams) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                Throwable first = null;
+                for (BaseStream<?, ?> s : streams) {
+                    try {
+                        s.close();
+                    }
+                    catch (Throwable e) {
+                        if (first == null) {
+                            first = e;
+                        }
+                    }
+                }
+                if (first instanceof RuntimeException) {
+                    throw (RuntimeException) first;
+                } else if (first instanceof Error) {
+                    throw (Error) first;
+                } else if (first != null) {
+                    throw new IllegalStateException(first);
+                }
+            }
+        };
+    }
+
     /**
      * Given two Runnables, return a Runnable that executes both in sequence,
      * even if the first throws an exception, and if both throw exceptions, add
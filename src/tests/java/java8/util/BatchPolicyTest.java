@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import java8.util.Spliterators.BatchPolicy;
+import java8.util.function.Consumer;
+import java8.util.stream.IntStreams;
+import java8.util.stream.StreamSupport;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the batch sizes of spliterators over sources of unknown size
+ */
+@Test
+public class BatchPolicyTest {
+
+    private static final int SIZE = 100_000;
+
+    private static List<Integer> list() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private static List<Long> batchSizes(Spliterator<?> s) {
+        List<Long> sizes = new ArrayList<>();
+        Spliterator<?> prefix;
+        while ((prefix = s.trySplit()) != null) {
+            sizes.add(prefix.estimateSize());
+        }
+        return sizes;
+    }
+
+    public void testArithmetic() {
+        List<Long> sizes = batchSizes(Spliterators.spliteratorUnknownSize(list().iterator(), 0,
+                                                                          BatchPolicy.ARITHMETIC));
+        assertEquals(sizes.get(0), Long.valueOf(1024L));
+        assertEquals(sizes.get(1), Long.valueOf(2048L));
+        assertEquals(sizes.get(2), Long.valueOf(3072L));
+    }
+
+    public void testAdaptiveBatchSizes() {
+        BatchPolicy p = BatchPolicy.ADAPTIVE;
+        int parallelism = BatchPolicy.Adaptive.PARALLELISM;
+        assertEquals(p.batchSize(0, 0, 0L), 1024);
+        // filled quickly, doubled
+        assertEquals(p.batchSize(1024, 1, 0L), 2048);
+        // filled slowly, not increased
+        assertEquals(p.batchSize(4096, parallelism, BatchPolicy.Adaptive.MAX_FILL_NANOS + 1), 4096);
+        // doubled after each round
+        long moderate = BatchPolicy.Adaptive.MIN_FILL_NANOS + 1;
+        assertEquals(p.batchSize(1024, parallelism, moderate), 2048);
+        if (parallelism > 1) {
+            assertEquals(p.batchSize(1024, parallelism + 1, moderate), 1024);
+        }
+        assertEquals(p.batchSize(BatchPolicy.MAX_BATCH, 5 * parallelism, 0L), BatchPolicy.MAX_BATCH);
+    }
+
+    public void testAdaptiveIsDefault() {
+        List<Long> sizes = batchSizes(Spliterators.spliteratorUnknownSize(list().iterator(), 0));
+        long total = 0;
+        for (long size : sizes) {
+            total += size;
+        }
+        assertEquals(total, SIZE);
+        assertEquals(sizes.get(0), Long.valueOf(1024L));
+        for (int i = 1; i < sizes.size() - 1; i++) {
+            assertTrue(sizes.get(i) >= sizes.get(i - 1));
+        }
+    }
+
+    public void testContents() {
+        List<Integer> list = list();
+        SpliteratorTestHelper.testSpliterator(() -> Spliterators.spliteratorUnknownSize(list.iterator(), 0));
+        SpliteratorTestHelper.testIntSpliterator(() -> Spliterators.spliteratorUnknownSize(
+                Spliterators.iterator(IntStreams.range(0, SIZE).spliterator()), 0));
+        SpliteratorTestHelper.testLongSpliterator(() -> Spliterators.spliteratorUnknownSize(
+                Spliterators.iterator(IntStreams.range(0, SIZE).asLongStream().spliterator()), 0));
+        SpliteratorTestHelper.testDoubleSpliterator(() -> Spliterators.spliteratorUnknownSize(
+                Spliterators.iterator(IntStreams.range(0, SIZE).asDoubleStream().spliterator()), 0));
+
+        long sum = StreamSupport.stream(Spliterators.spliteratorUnknownSize(list.iterator(), 0), true)
+                .mapToLong(i -> i).sum();
+        assertEquals(sum, (long) SIZE * (SIZE - 1) / 2);
+    }
+
+    public void testAbstractSpliterator() {
+        class Counting extends Spliterators.AbstractSpliterator<Integer> {
+            int next;
+
+            Counting(BatchPolicy policy) {
+                super(Long.MAX_VALUE, Spliterator.ORDERED, policy);
+            }
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Integer> action) {
+                if (next < SIZE) {
+                    action.accept(next++);
+                    return true;
+                }
+                return false;
+            }
+        }
+        assertEquals(batchSizes(new Counting(BatchPolicy.ARITHMETIC)).get(1), Long.valueOf(2048L));
+        SpliteratorTestHelper.testSpliterator(() -> new Counting(BatchPolicy.ADAPTIVE));
+    }
+}
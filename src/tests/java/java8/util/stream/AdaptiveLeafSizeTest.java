@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import java.util.Comparator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import java8.util.J8Arrays;
+import java8.util.Spliterator;
+import java8.util.concurrent.ForkJoinWorkerThread;
+import java8.util.function.Consumer;
+import java8.util.function.Supplier;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the adaptive leaf sizing of AbstractTask
+ */
+@Test
+public class AdaptiveLeafSizeTest {
+
+    public void testNotSampled() {
+        AbstractTask.LeafCost lc = new AbstractTask.LeafCost();
+        assertTrue(lc.isSampling());
+        assertEquals(lc.minLeafSize, Long.MAX_VALUE);
+        // empty leaves and unknown sizes are ignored
+        lc.sample(0L, 1_000L);
+        lc.sample(Long.MAX_VALUE, 1_000L);
+        assertEquals(lc.minLeafSize, Long.MAX_VALUE);
+    }
+
+    public void testCheapElements() {
+        AbstractTask.LeafCost lc = new AbstractTask.LeafCost();
+        // 1 ns per element
+        lc.sample(1_000L, 1_000L);
+        assertEquals(lc.minLeafSize, AbstractTask.LeafCost.MIN_LEAF_NANOS);
+    }
+
+    public void testExpensiveElements() {
+        AbstractTask.LeafCost lc = new AbstractTask.LeafCost();
+        // 1 ms per element
+        lc.sample(10L, 10_000_000L);
+        assertEquals(lc.minLeafSize, 1L);
+    }
+
+    public void testSampleLimit() {
+        AbstractTask.LeafCost lc = new AbstractTask.LeafCost();
+        for (int i = 0; i < AbstractTask.LeafCost.SAMPLES; i++) {
+            assertTrue(lc.isSampling());
+            lc.sample(100L, 100L * AbstractTask.LeafCost.MIN_LEAF_NANOS);
+        }
+        assertFalse(lc.isSampling());
+        assertEquals(lc.minLeafSize, 1L);
+        // further samples don't change the outcome
+        lc.sample(1_000_000L, 1L);
+        assertEquals(lc.minLeafSize, 1L);
+    }
+
+    public void testResults() {
+        // results of the default, non-adaptive, leaf sizing
+        checkResults();
+    }
+
+    public void testAdaptiveResults() {
+        // whether or not leaf sizes are adaptive, results must not change
+        adaptive(() -> {
+            checkResults();
+            return null;
+        });
+    }
+
+    public void testAdaptiveMinLeafSize() {
+        int n = 1 << 20;
+        long minLeafSize = 256L;
+        AbstractTask.LeafCost lc = new AbstractTask.LeafCost();
+        for (int i = 0; i < AbstractTask.LeafCost.SAMPLES; i++) {
+            lc.sample(minLeafSize, AbstractTask.LeafCost.MIN_LEAF_NANOS);
+        }
+        assertFalse(lc.isSampling());
+        assertEquals(lc.minLeafSize, minLeafSize);
+
+        Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = i;
+        }
+        LeafRecordingSpliterator<Integer> s = new LeafRecordingSpliterator<>(J8Arrays.spliterator(a));
+        AbstractTask.LEAF_COST.set(lc);
+        try {
+            assertEquals(StreamSupport.stream(s, true).reduce(0L, (r, i) -> r + i, (r1, r2) -> r1 + r2),
+                         Long.valueOf((long) n * (n - 1) / 2));
+        } finally {
+            AbstractTask.LEAF_COST.remove();
+        }
+
+        // no task at most minLeafSize in size was split
+        long targetSize = AbstractTask.suggestTargetSize(n);
+        long total = 0L;
+        for (Leaf leaf : s.leaves) {
+            total += leaf.size;
+            assertTrue(leaf.size > minLeafSize / 2, "leaf of size " + leaf.size);
+            if (!leaf.onWorker) {
+                // the surplus of queued tasks is meaningless outside a worker
+                assertTrue(leaf.size > targetSize / 2, "leaf of size " + leaf.size
+                           + " outside a worker, target size " + targetSize);
+            }
+        }
+        assertEquals(total, n);
+    }
+
+    private static <T> T adaptive(Supplier<T> computation) {
+        AbstractTask.LEAF_COST.set(new AbstractTask.LeafCost());
+        try {
+            return computation.get();
+        } finally {
+            AbstractTask.LEAF_COST.remove();
+        }
+    }
+
+    private static void checkResults() {
+        int n = 200_000;
+        assertEquals(IntStreams.range(0, n).parallel().asLongStream().sum(), (long) n * (n - 1) / 2);
+        assertEquals(IntStreams.range(0, n).parallel().filter(i -> i % 7 == 0).count(), (n + 6) / 7);
+        assertEquals(IntStreams.range(0, n).parallel().boxed().filter(i -> i > n / 2).findFirst().get(),
+                     Integer.valueOf(n / 2 + 1));
+        assertEquals(IntStreams.range(0, 500).parallel().map(i -> {
+            long s = 0;
+            for (int j = 0; j < 20_000; j++) {
+                s += j ^ i;
+            }
+            return (int) (s & 1) + i;
+        }).limit(300).toArray().length, 300);
+    }
+
+    static final class Leaf {
+        final long size;
+        final boolean onWorker;
+
+        Leaf(long size) {
+            this.size = size;
+            this.onWorker = Thread.currentThread() instanceof ForkJoinWorkerThread;
+        }
+    }
+
+    // A Spliterator that records the size of each leaf it is split into
+    static final class LeafRecordingSpliterator<T> implements Spliterator<T> {
+        final Spliterator<T> s;
+        final Queue<Leaf> leaves;
+
+        LeafRecordingSpliterator(Spliterator<T> s) {
+            this(s, new ConcurrentLinkedQueue<Leaf>());
+        }
+
+        LeafRecordingSpliterator(Spliterator<T> s, Queue<Leaf> leaves) {
+            this.s = s;
+            this.leaves = leaves;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            throw new AssertionError("leaves are expected to be traversed in bulk");
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            leaves.add(new Leaf(s.estimateSize()));
+            s.forEachRemaining(action);
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Spliterator<T> split = s.trySplit();
+            return split != null ? new LeafRecordingSpliterator<>(split, leaves) : null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return s.estimateSize();
+        }
+
+        @Override
+        public long getExactSizeIfKnown() {
+            return s.getExactSizeIfKnown();
+        }
+
+        @Override
+        public int characteristics() {
+            return s.characteristics();
+        }
+
+        @Override
+        public boolean hasCharacteristics(int characteristics) {
+            return s.hasCharacteristics(characteristics);
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return s.getComparator();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import java8.util.Spliterator;
+import java8.util.Spliterators;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests primitive streams over NIO buffers
+ */
+@Test
+public class BufferStreamsTest {
+
+    private static final int SIZE = 10_000;
+
+    private static ByteBuffer direct(int bytes, ByteOrder order) {
+        return ByteBuffer.allocateDirect(bytes).order(order);
+    }
+
+    public void testIntBuffers() {
+        for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+            IntBuffer view = direct(SIZE * 4, order).asIntBuffer();
+            for (int i = 0; i < SIZE; i++) {
+                view.put(i, i * 31);
+            }
+            assertIntBuffer(view);
+            assertIntBuffer(IntBuffer.wrap(IntStreams.range(0, SIZE).toArray()));
+        }
+    }
+
+    private static void assertIntBuffer(IntBuffer b) {
+        b.position(7).limit(SIZE - 3);
+        int[] expected = new int[b.remaining()];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = b.get(7 + i);
+        }
+        assertEquals(IntStreams.of(b).toArray(), expected);
+        assertEquals(IntStreams.of(b).parallel().toArray(), expected);
+        assertEquals(IntStreams.of(b).parallel().asLongStream().sum(),
+                     IntStreams.of(expected).asLongStream().sum());
+        assertEquals(b.position(), 7);
+
+        SpliteratorTestHelper.testIntSpliterator(() -> Spliterators.spliterator(b, Spliterator.ORDERED));
+        assertTrue(Spliterators.spliterator(b, 0).hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+    }
+
+    public void testLongBuffers() {
+        LongBuffer view = direct(SIZE * 8, ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+        for (int i = 0; i < SIZE; i++) {
+            view.put(i, (long) i << 33);
+        }
+        view.position(5);
+        long[] expected = new long[SIZE - 5];
+        view.duplicate().get(expected);
+
+        assertEquals(LongStreams.of(view).toArray(), expected);
+        assertEquals(LongStreams.of(view).parallel().toArray(), expected);
+        assertEquals(LongStreams.of(view).parallel().sum(), LongStreams.of(expected).sum());
+        SpliteratorTestHelper.testLongSpliterator(() -> Spliterators.spliterator(view, Spliterator.ORDERED));
+        SpliteratorTestHelper.testLongSpliterator(
+                () -> Spliterators.spliterator(LongBuffer.wrap(expected), Spliterator.ORDERED));
+    }
+
+    public void testDoubleBuffers() {
+        DoubleBuffer view = direct(SIZE * 8, ByteOrder.nativeOrder()).asDoubleBuffer();
+        for (int i = 0; i < SIZE; i++) {
+            view.put(i, i / 4.0);
+        }
+        view.limit(SIZE / 2);
+        double[] expected = new double[SIZE / 2];
+        view.duplicate().get(expected);
+
+        assertEquals(DoubleStreams.of(view).toArray(), expected);
+        assertEquals(DoubleStreams.of(view).parallel().toArray(), expected);
+        assertEquals(DoubleStreams.of(view).parallel().max().getAsDouble(), (SIZE / 2 - 1) / 4.0);
+        SpliteratorTestHelper.testDoubleSpliterator(() -> Spliterators.spliterator(view, Spliterator.ORDERED));
+    }
+
+    public void testEmptyBuffer() {
+        IntBuffer b = IntBuffer.allocate(10);
+        b.position(10);
+        assertEquals(IntStreams.of(b).count(), 0L);
+        assertEquals(Spliterators.spliterator(b, 0).trySplit(), null);
+    }
+
+    public void testMappedByteBuffer() throws IOException {
+        File f = File.createTempFile("buffers", ".bin");
+        try {
+            RandomAccessFile raf = new RandomAccessFile(f, "rw");
+            try {
+                MappedByteBuffer mapped = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, SIZE * 4);
+                IntBuffer view = mapped.asIntBuffer();
+                for (int i = 0; i < SIZE; i++) {
+                    view.put(i, SIZE - i);
+                }
+                assertEquals(IntStreams.of(view).parallel().asLongStream().sum(), (long) SIZE * (SIZE + 1) / 2);
+                assertEquals(IntStreams.of(view).parallel().min().getAsInt(), 1);
+            } finally {
+                raf.close();
+            }
+        } finally {
+            f.delete();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import java8.util.J8Arrays;
+import java8.util.Spliterators;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the SpinedBuffer chunk pool
+ */
+@Test
+public class ChunkPoolTest {
+
+    public void testBorrowGiveBack() {
+        int length = 1 << (AbstractSpinedBuffer.MIN_CHUNK_POWER + 1);
+        // drain whatever other tests left behind
+        while (ChunkPool.borrow(ChunkPool.LONG, length) != null) {
+        }
+        assertNull(ChunkPool.borrow(ChunkPool.LONG, length));
+
+        long[] chunk = new long[length];
+        ChunkPool.giveBack(ChunkPool.LONG, chunk, length);
+        // other element types and sizes don't match
+        assertNull(ChunkPool.borrow(ChunkPool.DOUBLE, length));
+        assertNull(ChunkPool.borrow(ChunkPool.LONG, length << 1));
+        assertSame(ChunkPool.borrow(ChunkPool.LONG, length), chunk);
+        assertNull(ChunkPool.borrow(ChunkPool.LONG, length));
+    }
+
+    public void testBounded() {
+        int length = 1 << ChunkPool.MAX_POOLED_POWER;
+        while (ChunkPool.borrow(ChunkPool.INT, length) != null) {
+        }
+        for (int i = 0; i < ChunkPool.MAX_PER_CLASS + 3; i++) {
+            ChunkPool.giveBack(ChunkPool.INT, new int[length], length);
+        }
+        int count = 0;
+        while (ChunkPool.borrow(ChunkPool.INT, length) != null) {
+            count++;
+        }
+        // the chunks were given back by a single thread
+        assertEquals(count, ChunkPool.MAX_PER_CLASS);
+    }
+
+    public void testNotPoolable() {
+        // too large
+        int length = 1 << (ChunkPool.MAX_POOLED_POWER + 1);
+        ChunkPool.giveBack(ChunkPool.REF, new Object[length], length);
+        assertNull(ChunkPool.borrow(ChunkPool.REF, length));
+        // not a power of 2
+        ChunkPool.giveBack(ChunkPool.REF, new Object[100], 100);
+        assertNull(ChunkPool.borrow(ChunkPool.REF, 100));
+    }
+
+    public void testReleasedChunksAreCleared() {
+        if (!ChunkPool.ENABLED) {
+            return;
+        }
+        SpinedBuffer<String> sb = new SpinedBuffer<>();
+        for (int i = 0; i < 1000; i++) {
+            sb.accept("s" + i);
+        }
+        sb.release();
+        for (int power = AbstractSpinedBuffer.MIN_CHUNK_POWER; power <= ChunkPool.MAX_POOLED_POWER; power++) {
+            Object[] chunk;
+            while ((chunk = (Object[]) ChunkPool.borrow(ChunkPool.REF, 1 << power)) != null) {
+                for (Object o : chunk) {
+                    assertNull(o);
+                }
+            }
+        }
+    }
+
+    public void testReuse() {
+        // repeated unsized evaluations must give the same results whether
+        // or not their buffers are recycled
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            list.add(i);
+        }
+        int[] ints = IntStreams.range(0, 50_000).toArray();
+        for (int round = 0; round < 10; round++) {
+            int r = round;
+            Object[] a = StreamSupport.stream(Spliterators.spliteratorUnknownSize(list.iterator(), 0), false)
+                    .filter(i -> i % 3 != r % 3).toArray();
+            assertEquals(a.length, 50_000 - 50_000 / 3 - ((r % 3 < 50_000 % 3) ? 1 : 0));
+            for (int i = 1; i < a.length; i++) {
+                assertTrue((Integer) a[i - 1] < (Integer) a[i]);
+                assertTrue((Integer) a[i] % 3 != r % 3);
+            }
+            assertEquals(J8Arrays.stream(ints).parallel().filter(i -> i % 2 == 0).map(i -> 50_000 - i).sorted().toArray(),
+                         IntStreams.rangeClosed(1, 25_000).map(i -> 2 * i).toArray());
+            assertEquals(J8Arrays.stream(ints).filter(i -> i >= r).mapToLong(i -> i).toArray(),
+                         LongStreams.range(r, 50_000).toArray());
+            double[] d = J8Arrays.stream(ints).parallel().filter(i -> i >= r).asDoubleStream().toArray();
+            assertEquals(d.length, 50_000 - r);
+        }
+    }
+}
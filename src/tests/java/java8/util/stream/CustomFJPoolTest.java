@@ -34,12 +34,17 @@ package java8.util.stream;
 
 import org.testng.annotations.Test;
 
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import java8.util.Comparators;
 import java8.util.Spliterator;
 import java8.util.concurrent.ForkJoinPool;
 import java8.util.concurrent.ForkJoinTask;
+import java8.util.concurrent.ForkJoinWorkerThread;
 import java8.util.function.Consumer;
 import java8.util.stream.IntStreams;
 import java8.util.stream.StreamSupport;
@@ -146,6 +151,69 @@ public class CustomFJPoolTest {
         return fInteger.get();
     }
 
+    public void testBoundPools() throws Exception {
+        assertEquals(countSplitsBound(new ForkJoinPool(1)), countSplits(new ForkJoinPool(1)));
+        assertEquals(countSplitsBound(new ForkJoinPool(2)), countSplits(new ForkJoinPool(2)));
+    }
+
+    public void testBoundPoolThreads() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Set<Thread> threads = Collections.newSetFromMap(new ConcurrentHashMap<Thread, Boolean>());
+            long sum = StreamSupport.parallel(IntStreams.range(0, 100_000).boxed(), pool)
+                    .peek(i -> threads.add(Thread.currentThread()))
+                    .mapToLong(i -> i).sum();
+            assertEquals(sum, 100_000L * 99_999L / 2);
+            assertWorkersOf(threads, pool);
+
+            // stateful last operation evaluated to an array
+            threads.clear();
+            Object[] a = StreamSupport.parallel(IntStreams.range(0, 100_000).boxed(), pool)
+                    .peek(i -> threads.add(Thread.currentThread()))
+                    .sorted(Comparators.reverseOrder()).toArray();
+            assertEquals(a.length, 100_000);
+            assertEquals(a[0], 99_999);
+            assertWorkersOf(threads, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public void testBoundPoolSequential() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Set<Thread> threads = Collections.newSetFromMap(new ConcurrentHashMap<Thread, Boolean>());
+            IntStream s = StreamSupport.parallel(IntStreams.range(0, 1_000), pool);
+            assertTrue(s.isParallel());
+            s.sequential().forEach(i -> threads.add(Thread.currentThread()));
+            assertEquals(threads.size(), 1);
+            assertTrue(threads.contains(Thread.currentThread()));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testBoundPoolLinked() {
+        IntStream s = IntStreams.range(0, 10);
+        s.map(i -> i);
+        StreamSupport.parallel(s, ForkJoinPool.commonPool());
+    }
+
+    static void assertWorkersOf(Set<Thread> threads, ForkJoinPool pool) {
+        assertTrue(!threads.isEmpty());
+        for (Thread t : threads) {
+            assertTrue(t instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) t).getPool() == pool, t.getName());
+        }
+    }
+
+    static int countSplitsBound(ForkJoinPool fjp) {
+        Spliterator<Integer> s = IntStreams.range(0, 1024).boxed().parallel().spliterator();
+        SplitCountingSpliterator<Integer> cs = new SplitCountingSpliterator<>(s);
+        StreamSupport.parallel(StreamSupport.stream(cs, false), fjp).forEach(e -> {});
+        return cs.splits();
+    }
+
     static int nearestPowerOfTwo(int i) {
         return (i & (i - 1)) == 0
                ? i
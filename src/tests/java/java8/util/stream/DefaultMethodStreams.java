@@ -28,6 +28,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import java8.util.DoubleSummaryStatistics;
@@ -228,6 +229,26 @@ public final class DefaultMethodStreams {
             return s.flatMapToDouble(mapper);
         }
 
+        @Override
+        public <R> Stream<R> mapMulti(BiConsumer<? super T, ? super Consumer<R>> mapper) {
+            return s.mapMulti(mapper);
+        }
+
+        @Override
+        public IntStream mapMultiToInt(BiConsumer<? super T, ? super IntConsumer> mapper) {
+            return s.mapMultiToInt(mapper);
+        }
+
+        @Override
+        public LongStream mapMultiToLong(BiConsumer<? super T, ? super LongConsumer> mapper) {
+            return s.mapMultiToLong(mapper);
+        }
+
+        @Override
+        public DoubleStream mapMultiToDouble(BiConsumer<? super T, ? super DoubleConsumer> mapper) {
+            return s.mapMultiToDouble(mapper);
+        }
+
         @Override
         public Stream<T> distinct() {
             return s.distinct();
@@ -268,6 +289,11 @@ public final class DefaultMethodStreams {
             return s.dropWhile(predicate);
         }
 
+        @Override
+        public <R> Stream<R> gather(Gatherer<? super T, ?, R> gatherer) {
+            return s.gather(gatherer);
+        }
+
         @Override
         public void forEach(Consumer<? super T> action) {
             s.forEach(action);
@@ -288,6 +314,11 @@ public final class DefaultMethodStreams {
             return s.toArray(generator);
         }
 
+        @Override
+        public List<T> toList() {
+            return s.toList();
+        }
+
         @Override
         public T reduce(T identity, BinaryOperator<T> accumulator) {
             return s.reduce(identity, accumulator);
@@ -434,6 +465,11 @@ public final class DefaultMethodStreams {
             return s.flatMap(mapper);
         }
 
+        @Override
+        public IntStream mapMulti(IntStream.IntMapMultiConsumer mapper) {
+            return s.mapMulti(mapper);
+        }
+
         @Override
         public IntStream distinct() {
             return s.distinct();
@@ -655,6 +691,11 @@ public final class DefaultMethodStreams {
             return s.flatMap(mapper);
         }
 
+        @Override
+        public LongStream mapMulti(LongStream.LongMapMultiConsumer mapper) {
+            return s.mapMulti(mapper);
+        }
+
         @Override
         public LongStream distinct() {
             return s.distinct();
@@ -858,6 +899,11 @@ public final class DefaultMethodStreams {
             return s.flatMap(mapper);
         }
 
+        @Override
+        public DoubleStream mapMulti(DoubleStream.DoubleMapMultiConsumer mapper) {
+            return s.mapMulti(mapper);
+        }
+
         @Override
         public DoubleStream distinct() {
             return s.distinct();
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import java8.util.Spliterator;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the lines of a file read by {@code StreamSupport.lines}
+ */
+@Test
+public class FileLinesTest {
+
+    private static final String[] TERMINATORS = { "\n", "\r\n", "\r" };
+
+    private File dir;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        dir = File.createTempFile("lines", "");
+        assertTrue(dir.delete());
+        assertTrue(dir.mkdir());
+    }
+
+    @AfterClass
+    public void tearDown() {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    private File write(String name, String content, Charset cs) throws IOException {
+        File f = new File(dir, name);
+        Writer w = new OutputStreamWriter(new FileOutputStream(f), cs);
+        try {
+            w.write(content);
+        } finally {
+            w.close();
+        }
+        return f;
+    }
+
+    private static String content(int lines, boolean lastTerminated) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            // vary the line lengths, with some empty lines and non-ASCII characters
+            for (int j = 0; j < (i * 7) % 23; j++) {
+                sb.append(j % 5 == 4 ? '\u00e9' : (char) ('a' + j));
+            }
+            if (i < lines - 1 || lastTerminated) {
+                sb.append(TERMINATORS[i % TERMINATORS.length]);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static List<String> readLines(File f, Charset cs) throws IOException {
+        List<String> lines = new ArrayList<>();
+        BufferedReader br = new BufferedReader(new InputStreamReader(new FileInputStream(f), cs));
+        try {
+            String line;
+            while ((line = br.readLine()) != null) {
+                lines.add(line);
+            }
+        } finally {
+            br.close();
+        }
+        return lines;
+    }
+
+    private static void assertLines(File f, Charset cs) throws IOException {
+        List<String> expected = readLines(f, cs);
+
+        Stream<String> s = StreamSupport.lines(f, cs);
+        try {
+            assertEquals(s.collect(Collectors.toList()), expected);
+        } finally {
+            s.close();
+        }
+
+        s = StreamSupport.lines(f, cs);
+        try {
+            assertEquals(s.parallel().collect(Collectors.toList()), expected);
+        } finally {
+            s.close();
+        }
+    }
+
+    public void testLines() throws IOException {
+        Charset utf8 = Charset.forName("UTF-8");
+        for (int n : new int[] { 0, 1, 2, 3, 10, 1000, 20000 }) {
+            assertLines(write("t" + n, content(n, true), utf8), utf8);
+            assertLines(write("u" + n, content(n, false), utf8), utf8);
+        }
+        assertLines(write("latin1", content(1000, true), Charset.forName("ISO-8859-1")),
+                    Charset.forName("ISO-8859-1"));
+        File f = write("default", content(1000, false), utf8);
+        assertEquals(StreamSupport.lines(f).count(), (long) readLines(f, utf8).size());
+    }
+
+    public void testTerminatorsOnly() throws IOException {
+        Charset utf8 = Charset.forName("UTF-8");
+        assertLines(write("crlf", "\r\n\r\n\r\n\n\r\r\r\n", utf8), utf8);
+        assertLines(write("cr", "\r\r\r\r\r\r\r\r", utf8), utf8);
+    }
+
+    public void testUnsupportedCharset() throws IOException {
+        Charset utf16 = Charset.forName("UTF-16");
+        assertLines(write("utf16", content(1000, true), utf16), utf16);
+    }
+
+    public void testSplitsCoverAllLines() throws IOException {
+        Charset utf8 = Charset.forName("UTF-8");
+        File f = write("split", content(5000, false), utf8);
+        List<String> expected = readLines(f, utf8);
+
+        FileChannel fc = new FileInputStream(f).getChannel();
+        try {
+            List<Spliterator<String>> leaves = new ArrayList<>();
+            split(new FileChannelLinesSpliterator(fc, utf8, 0L, fc.size()), leaves);
+            assertTrue(leaves.size() > 1);
+
+            List<String> actual = new ArrayList<>();
+            for (Spliterator<String> leaf : leaves) {
+                leaf.forEachRemaining(actual::add);
+            }
+            assertEquals(actual, expected);
+        } finally {
+            fc.close();
+        }
+    }
+
+    private static void split(Spliterator<String> s, List<Spliterator<String>> leaves) {
+        Spliterator<String> prefix = s.trySplit();
+        if (prefix == null) {
+            leaves.add(s);
+        } else {
+            split(prefix, leaves);
+            split(s, leaves);
+        }
+    }
+
+    public void testNoSplitAfterTraversal() throws IOException {
+        Charset utf8 = Charset.forName("UTF-8");
+        File f = write("traverse", content(100, true), utf8);
+        FileChannel fc = new FileInputStream(f).getChannel();
+        try {
+            Spliterator<String> s = new FileChannelLinesSpliterator(fc, utf8, 0L, fc.size());
+            assertNotNull(s.trySplit());
+            assertTrue(s.tryAdvance(x -> { }));
+            assertEquals(s.trySplit(), null);
+            assertEquals(s.getExactSizeIfKnown(), -1L);
+            assertFalse(s.hasCharacteristics(Spliterator.SIZED));
+        } finally {
+            fc.close();
+        }
+    }
+
+    public void testClose() throws IOException {
+        File f = write("close", content(10, true), Charset.forName("UTF-8"));
+        Stream<String> s = StreamSupport.lines(f);
+        s.close();
+        try {
+            s.count();
+        } catch (IllegalStateException expected) {
+            return;
+        }
+        throw new AssertionError("stream was not closed");
+    }
+}
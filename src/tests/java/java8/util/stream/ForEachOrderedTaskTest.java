@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import java8.util.Spliterator;
+import java8.util.function.Consumer;
+import java8.util.function.IntConsumer;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the parallel forEachOrdered with a limited number of buffered elements
+ */
+@Test
+public class ForEachOrderedTaskTest {
+
+    private static final int SIZE = 100_000;
+
+    @DataProvider(name = "limits")
+    public Object[][] limits() {
+        return new Object[][] { { 0L }, { 1L }, { 100L }, { 5_000L }, { (long) SIZE } };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void forEachOrdered(Stream<T> stream, Spliterator<?> source,
+                                           Consumer<? super T> action, long bufferLimit) {
+        Sink<T> sink = (Sink<T>) ForEachOps.makeRef(action, true);
+        new ForEachOps.ForEachOrderedTask<>((PipelineHelper<T>) stream, source, sink, bufferLimit).invoke();
+    }
+
+    @Test(dataProvider = "limits")
+    public void testEncounterOrder(long limit) {
+        Spliterator<Integer> source = IntStreams.range(0, SIZE).boxed().spliterator();
+        List<Integer> out = new ArrayList<>();
+        forEachOrdered(StreamSupport.stream(source, true).map(i -> i * 2), source, out::add, limit);
+        assertEquals(out.size(), SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals((int) out.get(i), i * 2);
+        }
+    }
+
+    @Test(dataProvider = "limits")
+    public void testFlatMapEncounterOrder(long limit) {
+        // each upstream element expands beyond the smaller limits
+        Spliterator<Integer> source = IntStreams.range(0, SIZE / 100).boxed().spliterator();
+        List<Integer> out = new ArrayList<>();
+        forEachOrdered(StreamSupport.stream(source, true).flatMap(i -> IntStreams.range(i * 100, i * 100 + 100).boxed()),
+                       source, out::add, limit);
+        assertEquals(out.size(), SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals((int) out.get(i), i);
+        }
+    }
+
+    @Test(dataProvider = "limits")
+    public void testIntEncounterOrder(long limit) {
+        Spliterator.OfInt source = IntStreams.range(0, SIZE).spliterator();
+        int[] out = new int[SIZE];
+        AtomicInteger index = new AtomicInteger();
+        IntConsumer action = i -> out[index.getAndIncrement()] = i;
+        @SuppressWarnings("unchecked")
+        Sink<Integer> sink = (Sink<Integer>) ForEachOps.makeInt(action, true);
+        PipelineHelper<Integer> helper = (PipelineHelper<Integer>) StreamSupport.intStream(source, true).filter(i -> i % 3 != 0);
+        new ForEachOps.ForEachOrderedTask<>(helper, source, sink, limit).invoke();
+        assertEquals(index.get(), SIZE - (SIZE + 2) / 3);
+        for (int i = 1; i < index.get(); i++) {
+            assertTrue(out[i - 1] < out[i]);
+            assertTrue(out[i] % 3 != 0);
+        }
+    }
+
+    public void testBufferedElementsAreBounded() {
+        long limit = 100L;
+        Spliterator<Integer> source = IntStreams.range(0, SIZE).boxed().spliterator();
+        AtomicInteger passed = new AtomicInteger();
+        AtomicInteger delivered = new AtomicInteger();
+        int[] inFlight = new int[1];
+        forEachOrdered(StreamSupport.stream(source, true).peek(i -> passed.incrementAndGet()), source, i -> {
+            if (delivered.getAndIncrement() == 0) {
+                // stall the leftmost leaf so that the other leaves run ahead
+                try {
+                    Thread.sleep(200L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                // everything that passed the pipeline but wasn't delivered
+                // yet must have been buffered
+                inFlight[0] = passed.get() - delivered.get();
+            }
+        }, limit);
+        assertEquals(delivered.get(), SIZE);
+        assertTrue(inFlight[0] <= limit, "buffered: " + inFlight[0]);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import java8.util.J8Arrays;
+
+import static java8.util.stream.LambdaTestHelpers.*;
+
+/**
+ * Tests the fusion of adjacent stateless stages into a single Sink
+ */
+@Test
+public class FusedOpsTest extends OpTestCase {
+
+    public void testRefResults() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 1; i <= 1000; i++) {
+            if (i % 2 == 0 && (i * 3) % 4 == 0) {
+                expected.add(i * 3 + 1);
+            }
+        }
+        exerciseOps(countTo(1000),
+                    s -> s.filter(pEven).map(i -> i * 3).filter(i -> i % 4 == 0).map(i -> i + 1),
+                    expected);
+        exerciseOps(countTo(1000),
+                    s -> s.map(mDoubler).peek(i -> { }).map(mDoubler).map(i -> i / 4),
+                    countTo(1000));
+    }
+
+    @Test(dataProvider = "StreamTestData<Integer>", dataProviderClass = StreamTestDataProvider.class)
+    public void testOps(String name, TestData.OfRef<Integer> data) {
+        exerciseOps(data, s -> s.filter(pEven).map(mDoubler).filter(pTrue));
+        exerciseOps(data, s -> s.map(mDoubler).peek(i -> { }).map(mId));
+        exerciseOps(data, s -> s.filter(pOdd).sorted().map(mDoubler).filter(pEven));
+        exerciseOps(data, s -> s.map(mId).filter(pEven).mapToInt(imDoubler).map(irDoubler).filter(ipTrue));
+    }
+
+    @Test(dataProvider = "IntStreamTestData", dataProviderClass = IntStreamTestDataProvider.class)
+    public void testOps(String name, TestData.OfInt data) {
+        exerciseOps(data, s -> s.filter(ipEven).map(i -> i * 3).filter(i -> i % 4 == 0).peek(i -> { }));
+        exerciseOps(data, s -> s.map(irDoubler).map(i -> i - 1).distinct().filter(ipOdd).map(irDoubler));
+    }
+
+    @Test(dataProvider = "LongStreamTestData", dataProviderClass = LongStreamTestDataProvider.class)
+    public void testOps(String name, TestData.OfLong data) {
+        exerciseOps(data, s -> s.filter(lpEven).map(i -> i * 3).filter(i -> i % 4 == 0).peek(i -> { }));
+        exerciseOps(data, s -> s.map(i -> i * 2).map(i -> i - 1).limit(10).filter(lpOdd));
+    }
+
+    @Test(dataProvider = "DoubleStreamTestData", dataProviderClass = DoubleStreamTestDataProvider.class)
+    public void testOps(String name, TestData.OfDouble data) {
+        exerciseOps(data, s -> s.filter(dpEven).map(i -> i * 3).filter(i -> i > 10.0).peek(i -> { }));
+        exerciseOps(data, s -> s.map(i -> i * 2).map(i -> i - 1).skip(1).filter(dpOdd));
+    }
+
+    public void testPeekOrder() {
+        List<String> log = new ArrayList<>();
+        List<Integer> result = StreamSupport.stream(Arrays.asList(1, 2, 3, 4))
+                .peek(i -> log.add("a" + i))
+                .filter(i -> i % 2 == 0)
+                .peek(i -> log.add("b" + i))
+                .map(i -> i * 10)
+                .peek(i -> log.add("c" + i))
+                .collect(Collectors.toList());
+        assertEquals(result, Arrays.asList(20, 40));
+        assertEquals(log, Arrays.asList("a1", "a2", "b2", "c20", "a3", "a4", "b4", "c40"));
+    }
+
+    public void testShortCircuit() {
+        AtomicInteger count = new AtomicInteger();
+        int[] result = J8Arrays.stream(new int[] { 1, 2, 3, 4, 5, 6, 7, 8 })
+                .peek(i -> count.incrementAndGet())
+                .map(i -> i * 2)
+                .filter(i -> i > 4)
+                .limit(2)
+                .toArray();
+        assertEquals(result, new int[] { 6, 8 });
+        assertEquals(count.get(), 4);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public void testSinkChainIsFused() {
+        Stream<Integer> s = StreamSupport.stream(countTo(10))
+                .filter(pEven).map(mDoubler).peek(i -> { }).filter(pTrue);
+        Sink terminal = Nodes.builder(-1, Integer[]::new);
+        Sink wrapped = ((AbstractPipeline) s).wrapSink(terminal);
+        assertEquals(chainLength(wrapped), FusedOps.ENABLED ? 1 : 4);
+
+        // runs are split by stateful and shape-changing stages
+        IntStream is = StreamSupport.stream(countTo(10))
+                .filter(pEven).map(mDoubler).sorted().map(mId).filter(pTrue)
+                .mapToInt(imDoubler).map(irDoubler).filter(ipTrue);
+        wrapped = ((AbstractPipeline) is).wrapSink(Nodes.intBuilder(-1));
+        assertEquals(chainLength(wrapped), FusedOps.ENABLED ? 5 : 8);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static int chainLength(Sink sink) {
+        int length = 0;
+        for (;;) {
+            if (sink instanceof Sink.ChainedReference) {
+                sink = ((Sink.ChainedReference) sink).downstream;
+            } else if (sink instanceof Sink.ChainedInt) {
+                sink = ((Sink.ChainedInt) sink).downstream;
+            } else if (sink instanceof Sink.ChainedLong) {
+                sink = ((Sink.ChainedLong) sink).downstream;
+            } else if (sink instanceof Sink.ChainedDouble) {
+                sink = ((Sink.ChainedDouble) sink).downstream;
+            } else {
+                return length;
+            }
+            length++;
+        }
+    }
+}
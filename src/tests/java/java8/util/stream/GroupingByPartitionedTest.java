@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import java8.util.function.Function;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests {@code Collectors.groupingByPartitioned}
+ */
+@Test
+public class GroupingByPartitionedTest {
+
+    private static List<Integer> data(int size) {
+        List<Integer> data = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            data.add((i * 7919) % size);
+        }
+        return data;
+    }
+
+    private static <K, D> void assertSameAsGroupingBy(List<Integer> data,
+                                                      Function<Integer, K> classifier,
+                                                      Collector<Integer, ?, D> downstream) {
+        Map<K, D> expected = StreamSupport.stream(data).collect(Collectors.groupingBy(classifier, downstream));
+        Map<K, D> sequential = StreamSupport.stream(data)
+                .collect(Collectors.groupingByPartitioned(classifier, downstream));
+        Map<K, D> parallel = StreamSupport.parallelStream(data)
+                .collect(Collectors.groupingByPartitioned(classifier, downstream));
+        assertEquals(sequential, expected);
+        assertEquals(parallel, expected);
+        assertEquals(new HashMap<>(parallel), expected);
+        assertEquals(parallel.size(), expected.size());
+    }
+
+    public void testLowCardinality() {
+        List<Integer> data = data(10_000);
+        assertSameAsGroupingBy(data, i -> i % 3, Collectors.toList());
+        assertSameAsGroupingBy(data, i -> i % 17, Collectors.counting());
+        assertEquals(StreamSupport.parallelStream(data).collect(Collectors.groupingByPartitioned(i -> i % 5)),
+                     StreamSupport.stream(data).collect(Collectors.groupingBy(i -> i % 5)));
+    }
+
+    public void testHighCardinality() {
+        // enough distinct keys for the shards to be merged by separate tasks
+        List<Integer> data = data(200_000);
+        assertSameAsGroupingBy(data, i -> i / 2, Collectors.toList());
+        assertSameAsGroupingBy(data, i -> "k" + (i / 3), Collectors.summingInt(i -> i));
+        assertSameAsGroupingBy(data, i -> i / 4,
+                               Collectors.collectingAndThen(Collectors.toList(), List::size));
+    }
+
+    public void testEmpty() {
+        Map<Integer, List<Integer>> m = StreamSupport.stream(new ArrayList<Integer>())
+                .collect(Collectors.groupingByPartitioned(i -> i));
+        assertTrue(m.isEmpty());
+        assertFalse(m.entrySet().iterator().hasNext());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void testNullKey() {
+        StreamSupport.stream(data(10)).collect(Collectors.groupingByPartitioned(i -> null));
+    }
+
+    public void testMapView() {
+        ShardedHashMap<String, Integer> m = new ShardedHashMap<>(8);
+        for (int i = 0; i < 1000; i++) {
+            assertNull(m.put("k" + i, i));
+        }
+        assertEquals(m.size(), 1000);
+        assertEquals(m.get("k42"), Integer.valueOf(42));
+        assertTrue(m.containsKey("k999"));
+        assertEquals(m.remove("k999"), Integer.valueOf(999));
+        assertFalse(m.containsKey("k999"));
+        m.put(null, -1);
+        assertEquals(m.get(null), Integer.valueOf(-1));
+
+        for (Iterator<Map.Entry<String, Integer>> it = m.entrySet().iterator(); it.hasNext(); ) {
+            if (it.next().getValue() % 2 == 0) {
+                it.remove();
+            }
+        }
+        assertEquals(m.size(), 500);
+        for (Map.Entry<String, Integer> e : m.entrySet()) {
+            assertTrue(e.getValue() % 2 != 0);
+        }
+        Set<String> keys = m.keySet();
+        assertEquals(keys.size(), 500);
+        m.clear();
+        assertTrue(m.isEmpty());
+    }
+
+    public void testShardDistribution() {
+        ShardedHashMap<Integer, Integer> m = new ShardedHashMap<>(16);
+        Map<Object, Integer> counts = new IdentityHashMap<>();
+        for (int i = 0; i < 16_000; i++) {
+            Object shard = m.shard(i * 16);
+            Integer c = counts.get(shard);
+            counts.put(shard, c == null ? 1 : c + 1);
+        }
+        // hash codes that are multiples of the shard count still spread
+        assertEquals(counts.size(), 16);
+    }
+
+    public void testMergeAll() {
+        ShardedHashMap<Integer, Integer> m1 = new ShardedHashMap<>(4);
+        ShardedHashMap<Integer, Integer> m2 = new ShardedHashMap<>(4);
+        for (int i = 0; i < 100; i++) {
+            m1.put(i, 1);
+            m2.put(i + 50, 1);
+        }
+        m1.mergeAll(m2, (a, b) -> a + b);
+        assertEquals(m1.size(), 150);
+        assertEquals(m1.get(75), Integer.valueOf(2));
+        assertEquals(m1.get(125), Integer.valueOf(1));
+    }
+}
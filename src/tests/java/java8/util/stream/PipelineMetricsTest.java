@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the per-stage metrics of instrumented pipelines
+ */
+@Test
+public class PipelineMetricsTest {
+
+    /**
+     * A listener that can be configured through the
+     * {@code java8.util.stream.PipelineMetrics.listener} system property
+     */
+    public static final class CountingListener implements PipelineMetrics.Listener {
+        static final AtomicInteger COUNT = new AtomicInteger();
+
+        @Override
+        public void onEvaluated(PipelineMetrics metrics) {
+            COUNT.incrementAndGet();
+        }
+    }
+
+    private static final class Capture implements PipelineMetrics.Listener {
+        final AtomicReference<PipelineMetrics> metrics = new AtomicReference<>();
+
+        @Override
+        public void onEvaluated(PipelineMetrics m) {
+            assertNull(metrics.getAndSet(m));
+        }
+
+        PipelineMetrics get() {
+            PipelineMetrics m = metrics.get();
+            assertNotNull(m);
+            return m;
+        }
+    }
+
+    private static List<Integer> range(int n) {
+        List<Integer> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private static void assertStage(PipelineMetrics.Stage s, String name, long in, long out) {
+        assertEquals(s.getName(), name);
+        assertEquals(s.getElementsIn(), in, name);
+        assertEquals(s.getElementsOut(), out, name);
+        assertTrue(s.getNanos() >= 0L, name);
+    }
+
+    public void testSequential() {
+        Capture c = new Capture();
+        List<Integer> result = StreamSupport.instrument(StreamSupport.stream(range(100)), c)
+                .filter(i -> i % 2 == 0)
+                .map(i -> i * 3)
+                .collect(Collectors.toList());
+        assertEquals(result.size(), 50);
+
+        PipelineMetrics m = c.get();
+        assertFalse(m.isParallel());
+        assertEquals(m.getSplits(), 0L);
+        assertEquals(m.getLeafCount(), 0L);
+        List<PipelineMetrics.Stage> stages = m.getStages();
+        assertEquals(stages.size(), 4);
+        assertStage(stages.get(0), "source", 0, 100);
+        assertStage(stages.get(1), "ReferencePipeline.filter", 100, 50);
+        assertStage(stages.get(2), "ReferencePipeline.map", 50, 50);
+        assertStage(stages.get(3), "ReduceOps.makeRef", 50, 0);
+        assertTrue(m.getElapsedNanos() > 0L);
+    }
+
+    public void testStatefulAndShortCircuit() {
+        Capture c = new Capture();
+        // the instrumentation applies to the whole pipeline
+        int[] a = StreamSupport.instrument(IntStreams.range(0, 1_000).map(i -> 999 - i).sorted(), c)
+                .limit(10).toArray();
+        assertEquals(a, IntStreams.range(0, 10).toArray());
+
+        List<PipelineMetrics.Stage> stages = c.get().getStages();
+        assertEquals(stages.size(), 5);
+        assertStage(stages.get(1), "IntPipeline.map", 1_000, 1_000);
+        assertStage(stages.get(2), "SortedOps.OfInt", 1_000, 10);
+        assertStage(stages.get(3), "SliceOps.makeInt", 10, 10);
+        assertStage(stages.get(4), "toArray", 10, 0);
+        // the sorted elements are pushed downstream until the limit is reached
+        assertTrue(stages.get(3).getCancellationChecks() > 0L);
+    }
+
+    public void testParallel() {
+        Capture c = new Capture();
+        long sum = StreamSupport.instrument(IntStreams.range(0, 100_000).parallel(), c)
+                .filter(i -> i % 4 != 0)
+                .asLongStream()
+                .sum();
+        assertEquals(sum, LongStreams.range(0, 100_000).filter(i -> i % 4 != 0).sum());
+
+        PipelineMetrics m = c.get();
+        assertTrue(m.isParallel());
+        assertEquals(m.getLeafCount(), m.getSplits() + 1);
+        assertEquals(m.getLeafSizes().getCount(), m.getLeafCount());
+        assertEquals(m.getLeafSizes().getSum(), 100_000L);
+        List<PipelineMetrics.Stage> stages = m.getStages();
+        assertStage(stages.get(1), "IntPipeline.filter", 100_000, 75_000);
+        assertStage(stages.get(2), "IntPipeline.asLongStream", 75_000, 75_000);
+        assertEquals(stages.get(3).getElementsIn(), 75_000L);
+    }
+
+    public void testParallelForEach() {
+        Capture c = new Capture();
+        AtomicInteger count = new AtomicInteger();
+        StreamSupport.instrument(StreamSupport.parallelStream(range(50_000)), c)
+                .map(i -> i + 1)
+                .forEach(i -> count.incrementAndGet());
+        assertEquals(count.get(), 50_000);
+
+        PipelineMetrics m = c.get();
+        assertEquals(m.getLeafSizes().getSum(), 50_000L);
+        assertStage(m.getStages().get(1), "ReferencePipeline.map", 50_000, 50_000);
+        assertStage(m.getStages().get(2), "ForEachOp.OfRef", 50_000, 0);
+    }
+
+    public void testListenerProperty() {
+        PipelineMetrics.Listener l = MetricsRecorder.newListener(" " + CountingListener.class.getName() + " ");
+        assertTrue(l instanceof CountingListener);
+        assertNull(MetricsRecorder.newListener(null));
+        assertNull(MetricsRecorder.newListener(""));
+        assertNull(MetricsRecorder.newListener("no.such.Listener"));
+        // not a listener
+        assertNull(MetricsRecorder.newListener(String.class.getName()));
+
+        int before = CountingListener.COUNT.get();
+        assertEquals(StreamSupport.instrument(StreamSupport.stream(range(10)), l).count(), 10L);
+        assertEquals(CountingListener.COUNT.get(), before + 1);
+    }
+
+    public void testParallelForEachShortCircuit() {
+        Capture c = new Capture();
+        AtomicInteger count = new AtomicInteger();
+        StreamSupport.instrument(StreamSupport.parallelStream(range(50_000)), c)
+                .takeWhile(i -> i < 1_000)
+                .map(i -> i + 1)
+                .forEach(i -> count.incrementAndGet());
+        assertEquals(count.get(), 1_000);
+
+        // every leaf flushed the counts of its own sinks
+        PipelineMetrics m = c.get();
+        assertStage(m.getStages().get(2), "ReferencePipeline.map", 1_000, 1_000);
+        assertStage(m.getStages().get(3), "ForEachOp.OfRef", 1_000, 0);
+    }
+
+    public void testNotInstrumented() {
+        Capture c = new Capture();
+        Stream<Integer> s = StreamSupport.stream(range(10));
+        assertEquals(s.count(), 10L);
+        assertNull(c.metrics.get());
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testLinked() {
+        Stream<Integer> s = StreamSupport.stream(range(10));
+        s.map(i -> i);
+        StreamSupport.instrument(s, new Capture());
+    }
+}
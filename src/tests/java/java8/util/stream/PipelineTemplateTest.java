@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.TreeSet;
+
+import java8.util.Comparators;
+import java8.util.Spliterators;
+import java8.util.function.Function;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests pipelines compiled into a {@code PipelineTemplate}
+ */
+@Test
+public class PipelineTemplateTest {
+
+    private static List<Collection<Integer>> sources() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            list.add((i * 37) % 101);
+        }
+        List<Collection<Integer>> sources = new ArrayList<>();
+        sources.add(list);
+        sources.add(new LinkedList<>(list));
+        sources.add(new HashSet<>(list));
+        sources.add(new TreeSet<>(list));
+        sources.add(new ArrayList<Integer>());
+        sources.add(list);
+        return sources;
+    }
+
+    private static <R> void assertSameAsStream(Function<Stream<Integer>, Stream<R>> ops) {
+        PipelineTemplate<Integer, R> template = StreamSupport.compile(ops);
+        for (Collection<Integer> c : sources()) {
+            List<R> expected = ops.apply(StreamSupport.stream(c)).collect(Collectors.toList());
+            assertEquals(template.collect(Spliterators.spliterator(c), Collectors.toList()), expected);
+
+            List<R> actual = new ArrayList<>();
+            template.forEach(Spliterators.spliterator(c), actual::add);
+            assertEquals(actual, expected);
+        }
+    }
+
+    public void testStateless() {
+        assertSameAsStream(s -> s);
+        assertSameAsStream(s -> s.filter(i -> i % 3 != 0).map(i -> i * 2).peek(i -> { }));
+        assertSameAsStream(s -> s.map(i -> "" + i).filter(x -> x.length() > 1).map(String::length));
+        assertSameAsStream(s -> s.flatMap(i -> RefStreams.of(i, -i)).filter(i -> i > 50));
+    }
+
+    public void testStateful() {
+        assertSameAsStream(s -> s.distinct().sorted());
+        assertSameAsStream(s -> s.sorted().skip(10).limit(20));
+        assertSameAsStream(s -> s.filter(i -> i % 2 == 0).sorted(Comparators.<Integer>reverseOrder())
+                .limit(5).map(i -> i + 1));
+        assertSameAsStream(s -> s.takeWhile(i -> i != 42).map(i -> -i));
+    }
+
+    public void testUnordered() {
+        int sourceFlags = StreamOpFlag.fromCharacteristics(Spliterators.spliterator(Arrays.asList(1, 2, 3)));
+        assertTrue(StreamOpFlag.ORDERED.isKnown(sourceFlags));
+
+        PipelineTemplate<Integer, Integer> ordered = StreamSupport.compile(s -> s.map(i -> i + 1));
+        assertTrue(StreamOpFlag.ORDERED.isKnown(ordered.getStreamAndOpFlags(sourceFlags, 0)));
+
+        PipelineTemplate<Integer, Integer> unordered = StreamSupport.compile(s -> s.unordered().map(i -> i + 1));
+        assertFalse(StreamOpFlag.ORDERED.isKnown(unordered.getStreamAndOpFlags(sourceFlags, 0)));
+        assertEquals(unordered.collect(Spliterators.spliterator(Arrays.asList(1, 2, 3)), Collectors.toSet()),
+                     new HashSet<>(Arrays.asList(2, 3, 4)));
+        assertSameAsStream(s -> s.unordered().distinct().sorted());
+    }
+
+    public void testCollectorWithFinisher() {
+        PipelineTemplate<Integer, String> template = StreamSupport.compile(s -> s.limit(3).map(String::valueOf));
+        assertEquals(template.collect(Spliterators.spliterator(Arrays.asList(1, 2, 3, 4)), Collectors.joining(",")),
+                     "1,2,3");
+        assertEquals(template.collect(Spliterators.spliterator(Arrays.asList(5)), Collectors.counting()),
+                     Long.valueOf(1L));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testParallel() {
+        StreamSupport.compile((Stream<Integer> s) -> s.parallel().map(i -> i));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testNotDerived() {
+        StreamSupport.compile((Stream<Integer> s) -> RefStreams.of(1, 2, 3));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testConsumed() {
+        StreamSupport.compile((Stream<Integer> s) -> {
+            s.count();
+            return s;
+        });
+    }
+}
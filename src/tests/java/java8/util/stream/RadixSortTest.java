@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import java8.util.J8Arrays;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests the radix sorts used by SortedOps for primitive streams
+ */
+@Test
+public class RadixSortTest {
+
+    private static final int[] SIZES = { 0, 1, 2, 31, 1000, 20_000, 100_003 };
+    private static final int[] CHUNKS = { 2, 3, 8 };
+
+    private static int[] ints(Random r, int size, int bound) {
+        int[] a = new int[size];
+        for (int i = 0; i < size; i++) {
+            a[i] = (bound == 0) ? r.nextInt() : r.nextInt(bound) - bound / 2;
+        }
+        return a;
+    }
+
+    private static long[] longs(Random r, int size, boolean timestamps) {
+        long[] a = new long[size];
+        long base = 1_600_000_000_000L;
+        for (int i = 0; i < size; i++) {
+            // timestamps share their high order bytes which lets passes be skipped
+            a[i] = timestamps ? base + r.nextInt(1 << 20) : r.nextLong();
+        }
+        return a;
+    }
+
+    private static double[] doubles(Random r, int size) {
+        double[] special = { Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY,
+                             Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE,
+                             Double.longBitsToDouble(0xfff8000000000001L) /* negative NaN */ };
+        double[] a = new double[size];
+        for (int i = 0; i < size; i++) {
+            a[i] = (i % 97 == 0) ? special[r.nextInt(special.length)] : (r.nextDouble() - 0.5) * 1e6;
+        }
+        return a;
+    }
+
+    private static void assertSortedLike(double[] actual, double[] input) {
+        double[] expected = input.clone();
+        Arrays.sort(expected);
+        assertEquals(actual.length, expected.length);
+        for (int i = 0; i < actual.length; i++) {
+            assertEquals(Double.doubleToLongBits(actual[i]), Double.doubleToLongBits(expected[i]), "index " + i);
+        }
+    }
+
+    public void testInts() {
+        Random r = new Random(42);
+        for (int size : SIZES) {
+            for (int bound : new int[] { 0, 1 << 10 }) {
+                int[] input = ints(r, size, bound);
+                int[] expected = input.clone();
+                Arrays.sort(expected);
+
+                int[] a = input.clone();
+                RadixSort.radixSort(a, 0, a.length);
+                assertEquals(a, expected);
+                for (int chunks : CHUNKS) {
+                    a = input.clone();
+                    RadixSort.parallelRadixSort(a, 0, a.length, chunks);
+                    assertEquals(a, expected);
+                }
+            }
+        }
+    }
+
+    public void testIntRange() {
+        int[] input = ints(new Random(7), 5000, 0);
+        int[] a = input.clone();
+        RadixSort.radixSort(a, 100, 4000);
+        int[] expected = input.clone();
+        Arrays.sort(expected, 100, 4000);
+        assertEquals(a, expected);
+    }
+
+    public void testLongs() {
+        Random r = new Random(4711);
+        for (int size : SIZES) {
+            for (boolean timestamps : new boolean[] { false, true }) {
+                long[] input = longs(r, size, timestamps);
+                long[] expected = input.clone();
+                Arrays.sort(expected);
+
+                long[] a = input.clone();
+                RadixSort.radixSort(a, 0, a.length);
+                assertEquals(a, expected);
+                for (int chunks : CHUNKS) {
+                    a = input.clone();
+                    RadixSort.parallelRadixSort(a, 0, a.length, chunks);
+                    assertEquals(a, expected);
+                }
+            }
+        }
+    }
+
+    public void testDoubles() {
+        Random r = new Random(13);
+        for (int size : SIZES) {
+            double[] input = doubles(r, size);
+
+            double[] a = input.clone();
+            RadixSort.radixSort(a, 0, a.length);
+            assertSortedLike(a, input);
+
+            a = input.clone();
+            RadixSort.parallelSort(a);
+            assertSortedLike(a, input);
+        }
+    }
+
+    public void testStreams() {
+        int size = Math.max(RadixSort.THRESHOLD, 1) * 4;
+        int[] ints = ints(new Random(1), size, 0);
+        int[] expected = ints.clone();
+        Arrays.sort(expected);
+        assertEquals(J8Arrays.stream(ints).sorted().toArray(), expected);
+        assertEquals(J8Arrays.stream(ints).parallel().sorted().toArray(), expected);
+        // not SIZED
+        assertEquals(J8Arrays.stream(ints).filter(i -> true).sorted().toArray(), expected);
+
+        long[] longs = longs(new Random(2), size, true);
+        long[] lexpected = longs.clone();
+        Arrays.sort(lexpected);
+        assertEquals(J8Arrays.stream(longs).sorted().toArray(), lexpected);
+        assertEquals(J8Arrays.stream(longs).parallel().sorted().toArray(), lexpected);
+
+        double[] doubles = doubles(new Random(3), size);
+        assertSortedLike(J8Arrays.stream(doubles).sorted().toArray(), doubles);
+        assertSortedLike(J8Arrays.stream(doubles).parallel().sorted().toArray(), doubles);
+        assertSortedLike(J8Arrays.stream(doubles).filter(d -> true).sorted().toArray(), doubles);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import java8.util.function.BiConsumer;
+import java8.util.function.BinaryOperator;
+import java8.util.function.Function;
+import java8.util.function.Functions;
+import java8.util.function.LongFunction;
+import java8.util.function.Supplier;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests that the number of elements is passed to {@code SizedCollector}s
+ */
+@Test
+public class SizedCollectorTest {
+
+    /** A sized collector into a list recording the sizes it is created for */
+    static final class Recording implements SizedCollector<Integer, List<Integer>, List<Integer>> {
+        final ConcurrentLinkedQueue<Long> sizes = new ConcurrentLinkedQueue<>();
+        final AtomicInteger unsized = new AtomicInteger();
+
+        @Override
+        public LongFunction<List<Integer>> sizedSupplier() {
+            return size -> {
+                sizes.add(size);
+                return new ArrayList<>((int) size);
+            };
+        }
+
+        @Override
+        public Supplier<List<Integer>> supplier() {
+            return () -> {
+                unsized.incrementAndGet();
+                return new ArrayList<>();
+            };
+        }
+
+        @Override
+        public BiConsumer<List<Integer>, Integer> accumulator() {
+            return List::add;
+        }
+
+        @Override
+        public BinaryOperator<List<Integer>> combiner() {
+            return (l, r) -> { l.addAll(r); return l; };
+        }
+
+        @Override
+        public Function<List<Integer>, List<Integer>> finisher() {
+            return Functions.identity();
+        }
+
+        @Override
+        public Set<Characteristics> characteristics() {
+            return Collectors.CH_ID;
+        }
+    }
+
+    private static List<Integer> data() {
+        List<Integer> data = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            data.add(i);
+        }
+        return data;
+    }
+
+    public void testSequential() {
+        Recording c = new Recording();
+        List<Integer> result = StreamSupport.stream(data()).map(i -> i + 1).collect(c);
+        assertEquals(result.size(), 10_000);
+        assertEquals(new ArrayList<>(c.sizes), java.util.Arrays.asList(10_000L));
+        assertEquals(c.unsized.get(), 0);
+
+        c = new Recording();
+        result = StreamSupport.stream(data()).skip(10).limit(100).collect(c);
+        assertEquals(result.size(), 100);
+        assertEquals(new ArrayList<>(c.sizes), java.util.Arrays.asList(100L));
+    }
+
+    public void testUnknownSize() {
+        Recording c = new Recording();
+        List<Integer> result = StreamSupport.stream(data()).filter(i -> i % 2 == 0).collect(c);
+        assertEquals(result.size(), 5_000);
+        assertTrue(c.sizes.isEmpty());
+        assertEquals(c.unsized.get(), 1);
+    }
+
+    public void testParallel() {
+        Recording c = new Recording();
+        List<Integer> result = StreamSupport.parallelStream(data()).collect(c);
+        assertEquals(result, data());
+        long total = 0;
+        for (long size : c.sizes) {
+            total += size;
+        }
+        // every leaf container is presized for the elements of its leaf
+        assertEquals(total, 10_000L);
+        assertEquals(c.unsized.get(), 0);
+    }
+
+    public void testSizedCollectors() {
+        assertTrue(Collectors.toList() instanceof SizedCollector);
+        assertTrue(Collectors.toUnmodifiableList() instanceof SizedCollector);
+        assertTrue(Collectors.toMap(Functions.identity(), Functions.identity()) instanceof SizedCollector);
+        // duplicates are expected, the number of elements is no bound of the size
+        assertTrue(!(Collectors.toSet() instanceof SizedCollector));
+        assertTrue(!(Collectors.toUnmodifiableSet() instanceof SizedCollector));
+        assertTrue(!(Collectors.toMap(Functions.identity(), Functions.identity(), (a, b) -> a)
+                     instanceof SizedCollector));
+        assertTrue(Collectors.mapping(Functions.identity(), Collectors.toList()) instanceof SizedCollector);
+        assertTrue(Collectors.collectingAndThen(Collectors.toList(), List::size) instanceof SizedCollector);
+        assertTrue(!(Collectors.counting() instanceof SizedCollector));
+
+        List<Integer> data = data();
+        assertEquals(StreamSupport.stream(data).collect(Collectors.toList()), data);
+        assertEquals(StreamSupport.parallelStream(data).collect(Collectors.toList()), data);
+        assertEquals(StreamSupport.parallelStream(data).collect(Collectors.toSet()).size(), data.size());
+        assertEquals(StreamSupport.parallelStream(data)
+                .collect(Collectors.toMap(Functions.identity(), i -> -i)).get(42), Integer.valueOf(-42));
+        assertEquals(StreamSupport.stream(data)
+                .collect(Collectors.mapping(i -> i % 10, Collectors.toSet())).size(), 10);
+        assertEquals(StreamSupport.stream(new ArrayList<Integer>()).collect(Collectors.toList()).size(), 0);
+    }
+
+    public void testHashCapacity() {
+        assertEquals(Collectors.hashCapacity(0), 1);
+        assertEquals(Collectors.hashCapacity(2), 3);
+        assertEquals(Collectors.hashCapacity(12), 17);
+        assertEquals(Collectors.hashCapacity(Long.MAX_VALUE), 1 << 30);
+    }
+}
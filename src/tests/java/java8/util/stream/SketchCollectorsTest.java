@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package java8.util.stream;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the approximate aggregation sketches and their collectors
+ */
+@Test
+public class SketchCollectorsTest {
+
+    private static void assertWithin(double actual, double expected, double tolerance) {
+        assertTrue(Math.abs(actual - expected) <= tolerance,
+                   actual + " is not within " + tolerance + " of " + expected);
+    }
+
+    private static List<Integer> shuffled(int n) {
+        List<Integer> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            list.add(i);
+        }
+        Collections.shuffle(list, new Random(42));
+        return list;
+    }
+
+    public void testCardinality() {
+        assertEquals(new CardinalitySketch().estimate(), 0L);
+        for (int n : new int[] { 1, 10, 1000, 100000, 2000000 }) {
+            long estimate = LongStreams.range(0, n).collect(CardinalitySketch::new,
+                    CardinalitySketch::accept, CardinalitySketch::combine).estimate();
+            // about four standard errors
+            assertWithin(estimate, n, Math.max(1.0, 0.033 * n));
+        }
+        long estimate = IntStreams.range(0, 100000).map(i -> i % 1000)
+                .collect(CardinalitySketch::new, CardinalitySketch::accept, CardinalitySketch::combine)
+                .estimate();
+        assertWithin(estimate, 1000, 33);
+    }
+
+    public void testCardinalityParallel() {
+        List<Integer> list = shuffled(200000);
+        CardinalitySketch sequential = StreamSupport.stream(list).collect(Collectors.toCardinalitySketch());
+        CardinalitySketch parallel = StreamSupport.parallelStream(list).collect(Collectors.toCardinalitySketch());
+        CardinalitySketch primitive = IntStreams.range(0, 200000).parallel()
+                .collect(CardinalitySketch::new, CardinalitySketch::accept, CardinalitySketch::combine);
+        assertEquals(parallel.estimate(), sequential.estimate());
+        assertEquals(primitive.estimate(), sequential.estimate());
+        assertEquals(StreamSupport.stream(list).map(String::valueOf)
+                .collect(Collectors.toCardinalitySketch(10)).getPrecision(), 10);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testCardinalityIncompatible() {
+        new CardinalitySketch(10).combine(new CardinalitySketch(11));
+    }
+
+    public void testQuantiles() {
+        int n = 1000000;
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i : shuffled(n)) {
+            sketch.accept(i);
+        }
+        assertEquals(sketch.getCount(), n);
+        assertEquals(sketch.getMin(), 0.0);
+        assertEquals(sketch.getMax(), n - 1.0);
+        assertEquals(sketch.quantile(0.0), 0.0);
+        assertEquals(sketch.quantile(1.0), n - 1.0);
+        assertTrue(sketch.getRetained() < 1000, "retained " + sketch.getRetained());
+        for (double rank : new double[] { 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99 }) {
+            assertWithin(sketch.quantile(rank), rank * n, 0.02 * n);
+        }
+
+        QuantileSketch empty = new QuantileSketch();
+        empty.accept(Double.NaN);
+        assertEquals(empty.getCount(), 0L);
+        assertTrue(Double.isNaN(empty.quantile(0.5)));
+    }
+
+    public void testQuantilesParallel() {
+        int n = 500000;
+        List<Integer> list = shuffled(n);
+        QuantileSketch parallel = StreamSupport.parallelStream(list)
+                .collect(Collectors.toQuantileSketch(Integer::doubleValue));
+        QuantileSketch primitive = DoubleStreams.iterate(0.0, d -> d + 1.0).limit(n).parallel()
+                .collect(QuantileSketch::new, QuantileSketch::accept, QuantileSketch::combine);
+        for (QuantileSketch sketch : new QuantileSketch[] { parallel, primitive }) {
+            assertEquals(sketch.getCount(), n);
+            for (double rank : new double[] { 0.05, 0.5, 0.95 }) {
+                assertWithin(sketch.quantile(rank), rank * n, 0.02 * n);
+            }
+        }
+        parallel.combine(parallel);
+        assertEquals(parallel.getCount(), 2L * n);
+        assertWithin(parallel.quantile(0.5), 0.5 * n, 0.02 * n);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testQuantileRange() {
+        new QuantileSketch().quantile(1.5);
+    }
+
+    /** Values 0 to 9 occur 20000 / (value + 1) times, among 100000 distinct others */
+    private static List<Integer> skewed() {
+        List<Integer> list = new ArrayList<>();
+        for (int v = 0; v < 10; v++) {
+            for (int i = 0; i < 20000 / (v + 1); i++) {
+                list.add(v);
+            }
+        }
+        for (int i = 0; i < 100000; i++) {
+            list.add(1000 + i);
+        }
+        Collections.shuffle(list, new Random(7));
+        return list;
+    }
+
+    public void testFrequency() {
+        List<Integer> list = skewed();
+        FrequencySketch sequential = new FrequencySketch();
+        for (int i : list) {
+            sequential.accept(i);
+        }
+        FrequencySketch parallel = StreamSupport.parallelStream(list).collect(Collectors.toFrequencySketch());
+        for (FrequencySketch sketch : new FrequencySketch[] { sequential, parallel }) {
+            assertEquals(sketch.getCount(), list.size());
+            for (int v = 0; v < 10; v++) {
+                long actual = 20000 / (v + 1);
+                assertTrue(sketch.estimate(v) >= actual);
+                assertWithin(sketch.estimate(v), actual, 0.002 * list.size());
+                assertEquals(sketch.estimate(Integer.valueOf(v)), sketch.estimate(v));
+            }
+            Map<Object, Long> top = sketch.heavyHitters();
+            assertTrue(top.size() <= FrequencySketch.DEFAULT_CAPACITY);
+            List<Object> keys = new ArrayList<>(top.keySet()).subList(0, 5);
+            assertEquals(keys, Arrays.<Object>asList(0, 1, 2, 3, 4));
+        }
+    }
+
+    public void testFrequencyCombine() {
+        FrequencySketch a = new FrequencySketch(1024, 4, 2);
+        FrequencySketch b = new FrequencySketch(1024, 4, 2);
+        for (int i = 0; i < 100; i++) {
+            a.accept("x");
+            b.accept("y");
+            a.accept(i);
+        }
+        b.accept("x");
+        a.combine(b);
+        assertEquals(new ArrayList<>(a.heavyHitters().keySet()), Arrays.<Object>asList("x", "y"));
+        assertEquals(a.estimate("x"), 101L);
+        a.combine(a);
+        assertEquals(a.estimate("y"), 200L);
+        assertEquals(a.getCount(), 2L * 301);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testFrequencyIncompatible() {
+        new FrequencySketch(1024, 4, 2).combine(new FrequencySketch(1024, 5, 2));
+    }
+}
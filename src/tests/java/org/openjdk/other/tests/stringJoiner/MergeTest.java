@@ -168,4 +168,23 @@ public class MergeTest {
             assertEquals(sj.merge(sj).toString(), fixes.pre0 + "a,b,a,b,a,b,a,b" + fixes.suf0);
         });
     }
+
+    public void testMergeMany() {
+        fixesStream().forEach(fixes -> {
+            StringJoiner sj = new StringJoiner(",", fixes.pre0, fixes.suf0);
+            StringBuilder expected = new StringBuilder();
+            for (int i = 0; i < 50; i++) {
+                StringJoiner other = new StringJoiner(",", fixes.pre1, fixes.suf1);
+                for (int j = 0; j < i % 7; j++) {
+                    other.add(i + "." + j);
+                    expected.append(expected.length() == 0 ? "" : ",").append(i + "." + j);
+                }
+                sj.merge(other);
+                // the other joiner is not affected by the merge, nor by later changes
+                other.add("x");
+                assertEquals(sj.toString(), fixes.pre0 + expected + fixes.suf0);
+                assertEquals(sj.length(), sj.toString().length());
+            }
+        });
+    }
 }
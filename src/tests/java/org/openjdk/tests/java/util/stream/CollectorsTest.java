@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -817,4 +818,44 @@ public class CollectorsTest extends OpTestCase {
                 new GroupingByAssertion<>(classifier, Map.class,
                         new TeeingAssertion<>(summing, counting, Maps::entry)));
     }
+
+    @Test(dataProvider = "StreamTestData<Integer>", dataProviderClass = StreamTestDataProvider.class)
+    public void testTeeingList(String name, TestData.OfRef<Integer> data) throws Exception {
+        Collector<Integer, ?, Long> summing = Collectors.summingLong(Integer::valueOf);
+        Collector<Integer, ?, Long> counting = Collectors.counting();
+        Collector<Integer, ?, Optional<Integer>> min = Collectors.minBy(Comparators.naturalOrder());
+        Collector<Integer, ?, Optional<Integer>> max = Collectors.maxBy(Comparators.naturalOrder());
+        Collector<Integer, ?, List<Integer>> list = toList();
+        Collector<Integer, ?, String> joining = mapping(String::valueOf, Collectors.joining(", ", "[", "]"));
+
+        Collector<Integer, ?, List<Object>> all = Collectors.teeing(
+                Arrays.asList(summing, counting, min, max, list, joining), r -> r);
+        assertCollect(data, all, stream -> {
+            List<Integer> l = stream.collect(toList());
+            return Arrays.<Object>asList(StreamSupport.stream(l).mapToLong(Integer::intValue).sum(),
+                    (long) l.size(),
+                    StreamSupport.stream(l).min(Comparators.naturalOrder()),
+                    StreamSupport.stream(l).max(Comparators.naturalOrder()),
+                    l, l.toString());
+        });
+        assertCollect(data, Collectors.teeing(Collections.<Collector<Integer, ?, ?>>emptyList(), List::size),
+                stream -> 0);
+
+        Function<Integer, Integer> classifier = i -> i % 3;
+        exerciseMapCollection(data, groupingBy(classifier,
+                Collectors.teeing(Arrays.asList(summing, counting), r -> Maps.entry((Long) r.get(0), (Long) r.get(1)))),
+                new GroupingByAssertion<>(classifier, Map.class,
+                        new TeeingAssertion<>(summing, counting, Maps::entry)));
+    }
+
+    public void testTeeingListCharacteristics() {
+        Collector<Integer, ?, Set<Integer>> set = Collectors.toSet();
+        Collector<Integer, ?, ?> concurrent = Collectors.groupingByConcurrent(i -> i);
+        assertEquals(Collectors.teeing(Arrays.asList(set, set), r -> r).characteristics(),
+                EnumSet.of(Collector.Characteristics.UNORDERED));
+        assertEquals(Collectors.teeing(Arrays.asList(concurrent, concurrent), r -> r).characteristics(),
+                EnumSet.of(Collector.Characteristics.CONCURRENT, Collector.Characteristics.UNORDERED));
+        assertEquals(Collectors.teeing(Arrays.asList(set, concurrent, toList()), r -> r).characteristics(),
+                Collections.emptySet());
+    }
 }
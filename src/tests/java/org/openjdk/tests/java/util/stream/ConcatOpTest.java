@@ -22,8 +22,17 @@
  */
 package org.openjdk.tests.java.util.stream;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import java8.util.Spliterator;
 import java8.util.stream.BaseStream;
+import java8.util.stream.Collectors;
+import java8.util.stream.IntStream;
+import java8.util.stream.SpliteratorTestHelper;
+import java8.util.stream.Stream;
 import java8.util.stream.OpTestCase;
 import java8.util.stream.StreamTestDataProvider;
 
@@ -123,6 +132,80 @@ public class ConcatOpTest extends OpTestCase {
                 LongStreams.range(0, Long.MAX_VALUE).mapToDouble(i -> i)));
     }
 
+    @Test(dataProvider = "StreamTestData<Integer>", dataProviderClass = StreamTestDataProvider.class)
+    public void testOpsMulti(String name, TestData.OfRef<Integer> data) {
+        exerciseOpsInt(data,
+                       s -> RefStreams.concat(data.stream(), s, data.stream()),
+                       s -> IntStreams.concat(data.stream().mapToInt(Integer::intValue), s,
+                                              data.stream().mapToInt(Integer::intValue)),
+                       s -> LongStreams.concat(data.stream().mapToLong(Integer::longValue), s,
+                                               data.stream().mapToLong(Integer::longValue)),
+                       s -> DoubleStreams.concat(data.stream().mapToDouble(Integer::doubleValue), s,
+                                                 data.stream().mapToDouble(Integer::doubleValue)));
+    }
+
+    public void testMultiSpliterator() {
+        SpliteratorTestHelper.testSpliterator(
+                () -> RefStreams.concat(RefStreams.of(1, 2), RefStreams.<Integer>empty(),
+                                        RefStreams.of(3, 4, 5), RefStreams.of(6)).spliterator());
+        SpliteratorTestHelper.testIntSpliterator(
+                () -> IntStreams.concat(IntStreams.range(0, 10), IntStreams.range(10, 15),
+                                        IntStreams.empty(), IntStreams.range(15, 100)).spliterator());
+        SpliteratorTestHelper.testLongSpliterator(
+                () -> LongStreams.concat(LongStreams.range(0, 7), LongStreams.range(7, 8),
+                                         LongStreams.range(8, 30)).spliterator());
+        SpliteratorTestHelper.testDoubleSpliterator(
+                () -> DoubleStreams.concat(DoubleStreams.of(1, 2, 3), DoubleStreams.of(4),
+                                           DoubleStreams.of(5, 6)).spliterator());
+    }
+
+    public void testManyStreams() {
+        List<IntStream> streams = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            streams.add(IntStreams.of(i));
+        }
+        Spliterator.OfInt sp = IntStreams.concat(streams).spliterator();
+        assertTrue(sp.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        assertEquals(sp.getExactSizeIfKnown(), 100_000L);
+        // the parts are divided evenly
+        Spliterator.OfInt prefix = sp.trySplit();
+        assertEquals(prefix.getExactSizeIfKnown(), 50_000L);
+        assertEquals(sp.getExactSizeIfKnown(), 50_000L);
+
+        List<Stream<Integer>> refs = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            refs.add(RefStreams.of(i));
+        }
+        assertEquals(RefStreams.concat(refs).parallel().reduce(0, Integer::sum).intValue(),
+                     IntStreams.range(0, 100_000).sum());
+    }
+
+    public void testMultiCloseAndSize() {
+        AtomicInteger closed = new AtomicInteger();
+        Stream<Integer> s = RefStreams.concat(
+                RefStreams.of(1, 2).onClose(closed::incrementAndGet),
+                RefStreams.of(3).parallel().onClose(closed::incrementAndGet),
+                RefStreams.of(4).onClose(closed::incrementAndGet));
+        assertTrue(s.isParallel());
+        assertEquals(s.collect(Collectors.toList()), Arrays.asList(1, 2, 3, 4));
+        s.close();
+        assertEquals(closed.get(), 3);
+
+        assertSized(LongStreams.concat(
+                LongStreams.range(0, Long.MAX_VALUE / 4),
+                LongStreams.range(0, Long.MAX_VALUE / 4),
+                LongStreams.range(0, Long.MAX_VALUE / 4)));
+        assertUnsized(LongStreams.concat(
+                LongStreams.range(0, Long.MAX_VALUE / 2),
+                LongStreams.range(0, Long.MAX_VALUE / 2),
+                LongStreams.range(0, Long.MAX_VALUE / 2)));
+        assertUnsized(RefStreams.concat(
+                RefStreams.of(1),
+                RefStreams.iterate(0, i -> i + 1),
+                RefStreams.of(2)));
+        assertEquals(IntStreams.concat().count(), 0L);
+    }
+
     void assertUnsized(BaseStream<?, ?> s) {
         Spliterator<?> sp = s.spliterator();
 
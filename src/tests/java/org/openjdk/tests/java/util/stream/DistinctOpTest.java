@@ -31,6 +31,7 @@ import java.util.List;
 
 import java8.lang.Iterables;
 
+import java8.util.J8Arrays;
 import java8.util.Lists;
 import java8.util.Optional;
 import java8.util.Spliterator;
@@ -198,4 +199,64 @@ public class DistinctOpTest extends OpTestCase {
                 })
                 .exercise();
     }
+
+    public void testOrderedParallelDistinctLarge() {
+        // many duplicates spread across all leaf tasks, with nulls mixed in
+        int n = 50_000;
+        List<Integer> input = IntStreams.range(0, 4 * n)
+                .mapToObj(i -> (i % 1000 == 7) ? null : (Integer) ((i * 17) % n))
+                .collect(Collectors.toList());
+        List<Integer> expected = StreamSupport.stream(input).distinct().collect(Collectors.toList());
+        List<Integer> actual = StreamSupport.parallelStream(input).distinct().collect(Collectors.toList());
+        assertEquals(actual, expected);
+        assertEquals(StreamSupport.parallelStream(input).distinct().toArray(), expected.toArray());
+        assertEquals(StreamSupport.parallelStream(input).distinct().limit(100).collect(Collectors.toList()),
+                     expected.subList(0, 100));
+    }
+
+    public void testPrimitiveDistinctLarge() {
+        // enough distinct values to force several resizes of the primitive sets
+        int n = 100_000;
+        int[] ints = IntStreams.range(0, 4 * n).map(i -> (i * 31) % n).toArray();
+        long[] longs = IntStreams.range(0, 4 * n).mapToLong(i -> ((long) (i % n)) << 32).toArray();
+        double[] doubles = IntStreams.range(0, 4 * n).mapToDouble(i -> (i % n) / 4.0).toArray();
+        for (boolean parallel : new boolean[] { false, true }) {
+            IntStream is = J8Arrays.stream(ints);
+            LongStream ls = J8Arrays.stream(longs);
+            DoubleStream ds = J8Arrays.stream(doubles);
+            if (parallel) {
+                is = is.parallel();
+                ls = ls.parallel();
+                ds = ds.parallel();
+            }
+            assertEquals(is.distinct().toArray(), IntStreams.range(0, n).map(i -> (i * 31) % n).toArray());
+            assertEquals(ls.distinct().toArray(), LongStreams.range(0, n).map(i -> i << 32).toArray());
+            assertEquals(ds.distinct().toArray(), IntStreams.range(0, n).mapToDouble(i -> i / 4.0).toArray());
+
+            is = J8Arrays.stream(ints).unordered();
+            assertEquals((parallel ? is.parallel() : is).distinct().count(), n);
+            ls = J8Arrays.stream(longs).unordered();
+            assertEquals((parallel ? ls.parallel() : ls).distinct().sum(), LongStreams.range(0, n).map(i -> i << 32).sum());
+            ds = J8Arrays.stream(doubles).unordered();
+            assertEquals((parallel ? ds.parallel() : ds).distinct().count(), n);
+        }
+    }
+
+    public void testDoubleDistinctEquality() {
+        // consistent with Double.equals: NaN equals NaN, 0.0 does not equal -0.0
+        double[] input = { Double.NaN, 0.0, -0.0, 0.0 / 0.0, 1.0, -0.0, Double.NaN, 1.0 };
+        double[] expected = { Double.NaN, 0.0, -0.0, 1.0 };
+        assertEquals(J8Arrays.stream(input).distinct().toArray(), expected);
+        assertEquals(J8Arrays.stream(input).parallel().distinct().toArray(), expected);
+        assertEquals(J8Arrays.stream(input).sorted().distinct().toArray(),
+                     new double[] { -0.0, 0.0, 1.0, Double.NaN });
+        assertEquals(J8Arrays.stream(input).parallel().sorted().distinct().toArray(),
+                     new double[] { -0.0, 0.0, 1.0, Double.NaN });
+    }
+
+    public void testPrimitiveSortedDistinct() {
+        assertEquals(IntStreams.of(3, 1, 0, 3, 0, 2, 1).sorted().distinct().toArray(), new int[] { 0, 1, 2, 3 });
+        assertEquals(LongStreams.of(3, 1, 0, 3, 0, 2, 1).sorted().distinct().toArray(), new long[] { 0, 1, 2, 3 });
+        assertEquals(IntStreams.of(0, 0, 0).distinct().toArray(), new int[] { 0 });
+    }
 }
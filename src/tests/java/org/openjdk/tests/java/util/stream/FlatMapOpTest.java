@@ -62,6 +62,17 @@ public class FlatMapOpTest extends OpTestCase {
         checkNPE(() -> DoubleStreams.of(1).flatMap(null));
     }
 
+    @Test
+    public void testNullMapMultiMapper() {
+        checkNPE(() -> RefStreams.of(1).mapMulti(null));
+        checkNPE(() -> RefStreams.of(1).mapMultiToInt(null));
+        checkNPE(() -> RefStreams.of(1).mapMultiToLong(null));
+        checkNPE(() -> RefStreams.of(1).mapMultiToDouble(null));
+        checkNPE(() -> IntStreams.of(1).mapMulti(null));
+        checkNPE(() -> LongStreams.of(1).mapMulti(null));
+        checkNPE(() -> DoubleStreams.of(1).mapMulti(null));
+    }
+
     static final Function<Integer, Stream<Integer>> integerRangeMapper
             = e -> IntStreams.range(0, e).boxed();
 
@@ -160,6 +171,28 @@ public class FlatMapOpTest extends OpTestCase {
         assertEquals(count.get(), 10);
     }
 
+    @Test(dataProvider = "StreamTestData<Integer>.small", dataProviderClass = StreamTestDataProvider.class)
+    public void testMapMulti(String name, TestData.OfRef<Integer> data) {
+        Collection<Integer> result = exerciseOps(data, s -> s.<Integer>mapMulti((e, sink) -> {
+            for (int i = 0; i < e; i++) {
+                sink.accept(i);
+            }
+        }));
+        assertEquals(result.size(), exerciseOps(data, s -> s.flatMap(integerRangeMapper)).size());
+
+        result = exerciseOps(data, s -> s.<Integer>mapMulti((e, sink) -> { }));
+        assertEquals(0, result.size());
+
+        exerciseOpsMulti(data, s -> s.flatMap(integerRangeMapper),
+                         s -> s.<Integer>mapMulti((e, sink) -> IntStreams.range(0, e).forEach(sink::accept)));
+        exerciseOpsMulti(data, s -> s.flatMapToInt(e -> IntStreams.range(0, e)),
+                         s -> s.mapMultiToInt((e, sink) -> IntStreams.range(0, e).forEach(sink)));
+        exerciseOpsMulti(data, s -> s.flatMapToLong(e -> LongStreams.range(0, e)),
+                         s -> s.mapMultiToLong((e, sink) -> LongStreams.range(0, e).forEach(sink)));
+        exerciseOpsMulti(data, s -> s.flatMapToDouble(e -> IntStreams.range(0, e).asDoubleStream()),
+                         s -> s.mapMultiToDouble((e, sink) -> IntStreams.range(0, e).asDoubleStream().forEach(sink)));
+    }
+
     //
 
     @Test(dataProvider = "IntStreamTestData", dataProviderClass = IntStreamTestDataProvider.class)
@@ -185,6 +218,16 @@ public class FlatMapOpTest extends OpTestCase {
         exerciseOps(data, s -> s.boxed().flatMapToInt(e -> IntStreams.range(0, e).limit(10)));
     }
 
+    @Test(dataProvider = "IntStreamTestData.small", dataProviderClass = IntStreamTestDataProvider.class)
+    public void testIntMapMulti(String name, TestData.OfInt data) {
+        Collection<Integer> result = exerciseOps(data, s -> s.mapMulti((e, sink) -> sink.accept(e)));
+        assertEquals(data.size(), result.size());
+        assertContents(data, result);
+
+        exerciseOpsMulti(data, s -> s.flatMap(e -> IntStreams.range(0, e)),
+                         s -> s.mapMulti((e, sink) -> IntStreams.range(0, e).forEach(sink)));
+    }
+
     @Test
     public void testIntOpsShortCircuit() {
         AtomicInteger count = new AtomicInteger();
@@ -222,6 +265,16 @@ public class FlatMapOpTest extends OpTestCase {
         exerciseOps(data, s -> s.flatMap(e -> LongStreams.range(0, e).limit(10)));
     }
 
+    @Test(dataProvider = "LongStreamTestData.small", dataProviderClass = LongStreamTestDataProvider.class)
+    public void testLongMapMulti(String name, TestData.OfLong data) {
+        Collection<Long> result = exerciseOps(data, s -> s.mapMulti((e, sink) -> sink.accept(e)));
+        assertEquals(data.size(), result.size());
+        assertContents(data, result);
+
+        exerciseOpsMulti(data, s -> s.flatMap(e -> LongStreams.range(0, e)),
+                         s -> s.mapMulti((e, sink) -> LongStreams.range(0, e).forEach(sink)));
+    }
+
     @Test
     public void testLongOpsShortCircuit() {
         AtomicInteger count = new AtomicInteger();
@@ -259,6 +312,16 @@ public class FlatMapOpTest extends OpTestCase {
         exerciseOps(data, s -> s.flatMap(e -> IntStreams.range(0, (int) e).limit(10).asDoubleStream()));
     }
 
+    @Test(dataProvider = "DoubleStreamTestData.small", dataProviderClass = DoubleStreamTestDataProvider.class)
+    public void testDoubleMapMulti(String name, TestData.OfDouble data) {
+        Collection<Double> result = exerciseOps(data, s -> s.mapMulti((e, sink) -> sink.accept(e)));
+        assertEquals(data.size(), result.size());
+        assertContents(data, result);
+
+        exerciseOpsMulti(data, s -> s.flatMap(e -> IntStreams.range(0, (int) e).asDoubleStream()),
+                         s -> s.mapMulti((e, sink) -> IntStreams.range(0, (int) e).asDoubleStream().forEach(sink)));
+    }
+
     @Test
     public void testDoubleOpsShortCircuit() {
         AtomicInteger count = new AtomicInteger();
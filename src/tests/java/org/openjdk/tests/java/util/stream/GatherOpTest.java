@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.tests.java.util.stream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import java8.util.stream.Gatherer;
+import java8.util.stream.Gatherers;
+import java8.util.stream.OpTestCase;
+import java8.util.stream.RefStreams;
+import java8.util.stream.Stream;
+import java8.util.stream.StreamSupport;
+import java8.util.stream.StreamTestDataProvider;
+import java8.util.stream.TestData;
+import static java8.util.stream.LambdaTestHelpers.*;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * GatherOpTest
+ */
+@Test
+public class GatherOpTest extends OpTestCase {
+
+    @Test(dataProvider = "StreamTestData<Integer>", dataProviderClass = StreamTestDataProvider.class)
+    public void testWindowFixed(String name, TestData.OfRef<Integer> data) {
+        for (int size : new int[] {1, 2, 3, 10}) {
+            Collection<List<Integer>> result = exerciseOps(data, s -> s.gather(Gatherers.<Integer>windowFixed(size)));
+            assertEquals(result.size(), (data.size() + size - 1) / size);
+            assertEquals(flatten(result), new ArrayList<>(data.into(new ArrayList<Integer>())));
+        }
+    }
+
+    @Test(dataProvider = "StreamTestData<Integer>", dataProviderClass = StreamTestDataProvider.class)
+    public void testWindowSliding(String name, TestData.OfRef<Integer> data) {
+        for (int size : new int[] {1, 2, 3, 10}) {
+            Collection<List<Integer>> result = exerciseOps(data, s -> s.gather(Gatherers.<Integer>windowSliding(size)));
+            int n = data.size();
+            assertEquals(result.size(), n == 0 ? 0 : n < size ? 1 : n - size + 1);
+        }
+    }
+
+    @Test(dataProvider = "StreamTestData<Integer>", dataProviderClass = StreamTestDataProvider.class)
+    public void testStatelessParallelizable(String name, TestData.OfRef<Integer> data) {
+        Gatherer<Integer, Void, Integer> doubler = Gatherers.of((Void v, Integer e, Gatherer.Downstream<? super Integer> d)
+                                                                -> d.push(e) && d.push(e));
+        Collection<Integer> result = exerciseOps(data, s -> s.gather(doubler));
+        assertEquals(result.size(), 2 * data.size());
+    }
+
+    @Test(dataProvider = "StreamTestData<Integer>", dataProviderClass = StreamTestDataProvider.class)
+    public void testCombinerAndFinisher(String name, TestData.OfRef<Integer> data) {
+        Gatherer<Integer, long[], Long> counting = Gatherers.of(
+                () -> new long[1],
+                (long[] state, Integer e, Gatherer.Downstream<? super Long> d) -> { state[0]++; return true; },
+                (l, r) -> { l[0] += r[0]; return l; },
+                (state, d) -> d.push(state[0]));
+        withData(data).stream(s -> s.gather(counting))
+                .expectedResult(Collections.singletonList((long) data.size()))
+                .exercise();
+    }
+
+    public void testWindowFixedContents() {
+        List<List<Integer>> windows = RefStreams.of(1, 2, 3, 4, 5, 6, 7, 8)
+                .gather(Gatherers.<Integer>windowFixed(3)).toList();
+        assertEquals(windows, Arrays.asList(Arrays.asList(1, 2, 3), Arrays.asList(4, 5, 6), Arrays.asList(7, 8)));
+
+        List<List<String>> withNulls = RefStreams.of("a", null, null, "b", null)
+                .gather(Gatherers.<String>windowFixed(2)).toList();
+        assertEquals(withNulls, Arrays.asList(Arrays.asList("a", null), Arrays.asList(null, "b"),
+                                              Collections.singletonList((String) null)));
+    }
+
+    public void testWindowSlidingContents() {
+        List<List<Integer>> windows = RefStreams.of(1, 2, 3, 4, 5)
+                .gather(Gatherers.<Integer>windowSliding(3)).toList();
+        assertEquals(windows, Arrays.asList(Arrays.asList(1, 2, 3), Arrays.asList(2, 3, 4), Arrays.asList(3, 4, 5)));
+
+        assertEquals(RefStreams.of(1, 2).gather(Gatherers.<Integer>windowSliding(3)).toList(),
+                     Collections.singletonList(Arrays.asList(1, 2)));
+        assertEquals(RefStreams.<Integer>empty().gather(Gatherers.<Integer>windowSliding(3)).count(), 0L);
+    }
+
+    public void testWindowsAreUnmodifiable() {
+        List<Integer> window = RefStreams.of(1, 2, 3).gather(Gatherers.<Integer>windowFixed(3)).findFirst().get();
+        try {
+            window.set(0, 42);
+            fail("UnsupportedOperationException expected");
+        } catch (UnsupportedOperationException expected) {
+        }
+    }
+
+    public void testIllegalWindowSize() {
+        for (int size : new int[] {0, -1}) {
+            try {
+                Gatherers.windowFixed(size);
+                fail("IllegalArgumentException expected");
+            } catch (IllegalArgumentException expected) {
+            }
+            try {
+                Gatherers.windowSliding(size);
+                fail("IllegalArgumentException expected");
+            } catch (IllegalArgumentException expected) {
+            }
+        }
+    }
+
+    public void testShortCircuit() {
+        Gatherer<Integer, Void, Integer> takeWhile = Gatherers.of(
+                (Void v, Integer e, Gatherer.Downstream<? super Integer> d) -> e < 50 && d.push(e));
+        List<Integer> expected = countTo(49);
+        assertEquals(StreamSupport.stream(countTo(1000)).gather(takeWhile).toList(), expected);
+        assertEquals(StreamSupport.parallelStream(countTo(1000)).gather(takeWhile).toList(), expected);
+        assertEquals(RefStreams.iterate(1, i -> i + 1).gather(takeWhile).toList(), expected);
+        assertEquals(RefStreams.iterate(1, i -> i + 1).parallel().gather(takeWhile).toList(), expected);
+
+        Gatherer<Integer, Void, Integer> sequentialTakeWhile = Gatherers.ofSequential(
+                (Void v, Integer e, Gatherer.Downstream<? super Integer> d) -> e < 50 && d.push(e));
+        assertEquals(RefStreams.iterate(1, i -> i + 1).parallel().gather(sequentialTakeWhile).toList(), expected);
+    }
+
+    public void testDownstreamShortCircuit() {
+        List<List<Integer>> windows = RefStreams.iterate(1, i -> i + 1)
+                .gather(Gatherers.<Integer>windowFixed(2)).limit(3).toList();
+        assertEquals(windows, Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Arrays.asList(5, 6)));
+    }
+
+    public void testSequentialGathererInParallel() {
+        // A running sum is only correct if the gatherer sees every element in order
+        Gatherer<Integer, long[], Long> runningSum = Gatherers.ofSequential(
+                () -> new long[1],
+                (long[] state, Integer e, Gatherer.Downstream<? super Long> d) -> d.push(state[0] += e));
+        List<Long> sequential = StreamSupport.stream(countTo(10000)).gather(runningSum).toList();
+        List<Long> parallel = StreamSupport.parallelStream(countTo(10000)).map(i -> i).gather(runningSum).toList();
+        assertEquals(parallel, sequential);
+        assertEquals(sequential.get(sequential.size() - 1).longValue(), 10000L * 10001L / 2);
+    }
+
+    private static <T> List<T> flatten(Collection<List<T>> windows) {
+        List<T> list = new ArrayList<>();
+        for (List<T> w : windows) {
+            assertTrue(!w.isEmpty());
+            list.addAll(w);
+        }
+        return list;
+    }
+}
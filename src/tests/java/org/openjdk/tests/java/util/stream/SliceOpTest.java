@@ -363,6 +363,48 @@ public class SliceOpTest extends OpTestCase {
         }
     }
 
+    public void testSkipLimitCountWithoutTraversal() {
+        for (boolean parallel : new boolean[] {false, true}) {
+            for (long[] sl : new long[][] {{0, 50}, {10, 20}, {90, 50}, {150, 10}, {10, 0}}) {
+                setContext("parallel", parallel);
+                setContext("skip", sl[0]);
+                setContext("limit", sl[1]);
+                AtomicInteger ai = new AtomicInteger();
+                IntStream s = IntStreams.range(0, 100);
+                long count = (parallel ? s.parallel() : s)
+                        .peek(i -> ai.getAndIncrement())
+                        .skip(sl[0]).limit(sl[1]).map(i -> i * 2)
+                        .count();
+                assertEquals(count, Math.max(0, Math.min(100 - sl[0], sl[1])));
+                assertEquals(ai.get(), 0, "size should be computed without traversal");
+            }
+        }
+    }
+
+    public void testParallelSkipLimitSizedSource() {
+        int n = 1 << 20;
+        Integer[] array = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            array[i] = i;
+        }
+        for (int skip : new int[] {0, 1, n / 3, n / 2, n - 10}) {
+            setContext("skip", skip);
+            AtomicInteger ai = new AtomicInteger();
+            Object[] page = J8Arrays.stream(array).parallel()
+                    .peek(i -> ai.getAndIncrement())
+                    .skip(skip).limit(5).toArray();
+            assertEquals(page, new Object[] {skip, skip + 1, skip + 2, skip + 3, skip + 4});
+            assertEquals(ai.get(), 5, "elements outside of the slice were traversed");
+
+            ai.set(0);
+            int[] intPage = IntStreams.range(0, n).parallel()
+                    .peek(i -> ai.getAndIncrement())
+                    .skip(skip).limit(5).toArray();
+            assertEquals(intPage, new int[] {skip, skip + 1, skip + 2, skip + 3, skip + 4});
+            assertEquals(ai.get(), 5, "elements outside of the slice were traversed");
+        }
+    }
+
     public void testLimitParallelHugeInput() {
         for (int n : new int[] {10, 100, 1000, 10000}) {
             long[] actual = LongStreams.range(0, Long.MAX_VALUE)
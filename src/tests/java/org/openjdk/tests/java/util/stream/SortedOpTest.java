@@ -22,16 +22,19 @@
  */
 package org.openjdk.tests.java.util.stream;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java8.util.J8Arrays;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.testng.annotations.Test;
 
 import java8.util.Comparators;
+import java8.util.Lists;
 import java8.util.Optional;
 import java8.util.OptionalDouble;
 import java8.util.OptionalInt;
@@ -205,6 +208,55 @@ public class SortedOpTest extends OpTestCase {
         assertContentsUnordered(data, result);
     }
 
+    @Test(dataProvider = "StreamTestData<Integer>", dataProviderClass = StreamTestDataProvider.class)
+    public void testSortedLimit(String name, TestData.OfRef<Integer> data) {
+        List<Integer> all = new ArrayList<>();
+        data.into(all);
+        Lists.sort(all, Comparators.reversed(cInteger));
+        for (int k : new int[] { 0, 1, 10, 100, data.size() + 1 }) {
+            List<Integer> expected = all.subList(0, Math.min(k, all.size()));
+            Collection<Integer> result = exerciseOps(data, s -> s.sorted(Comparators.reversed(cInteger)).limit(k));
+            assertEquals(result, expected);
+
+            result = exerciseOps(data, s -> s.sorted().limit(k));
+            assertSorted(result);
+            assertEquals(result.size(), expected.size());
+        }
+    }
+
+    public void testSortedLimitLinked() {
+        List<Integer> input = Arrays.asList(5, 3, 9, 1, 7);
+        Stream<Integer> sorted = StreamSupport.stream(input).sorted();
+        Stream<Integer> branch = sorted.map(i -> i * 10);
+        try {
+            sorted.limit(2);
+            fail("Expecting IllegalStateException");
+        }
+        catch (IllegalStateException ignored) { }
+        // the linked sorted stage still emits all elements
+        assertEquals(branch.collect(Collectors.toList()), Arrays.asList(10, 30, 50, 70, 90));
+    }
+
+    public void testSortedLimitStable() {
+        // many ties: the selection must keep the encounter order of equal keys
+        List<int[]> input = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            input.add(new int[] { (i * 7919) % 50, i });
+        }
+        Comparator<int[]> byKey = (a, b) -> java8.lang.Integers.compare(a[0], b[0]);
+        List<int[]> expected = StreamSupport.stream(input).sorted(byKey).collect(Collectors.toList());
+        for (int k : new int[] { 1, 100, 5000 }) {
+            for (boolean parallel : new boolean[] { false, true }) {
+                Stream<int[]> s = parallel ? StreamSupport.parallelStream(input) : StreamSupport.stream(input);
+                List<int[]> actual = s.sorted(byKey).limit(k).collect(Collectors.toList());
+                assertEquals(actual.size(), k);
+                for (int i = 0; i < k; i++) {
+                    assertTrue(actual.get(i) == expected.get(i), "k=" + k + " index " + i);
+                }
+            }
+        }
+    }
+
     //
 
     @Test(groups = { "serialization-hostile" })
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.tests.java.util.stream;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+import org.testng.annotations.Test;
+
+import java8.util.Spliterator;
+import java8.util.stream.OpTestCase;
+import java8.util.stream.RefStreams;
+import java8.util.stream.StreamSupport;
+import java8.util.stream.StreamTestDataProvider;
+import java8.util.stream.TestData;
+import static java8.util.stream.LambdaTestHelpers.*;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * ToListOpTest
+ */
+@Test
+public class ToListOpTest extends OpTestCase {
+
+    @Test(dataProvider = "StreamTestData<Integer>", dataProviderClass = StreamTestDataProvider.class)
+    public void testOps(String name, TestData.OfRef<Integer> data) {
+        List<Integer> list = exerciseTerminalOps(data, s -> s.toList());
+        assertEquals(list.size(), data.size());
+    }
+
+    @Test(dataProvider = "StreamTestData<Integer>", dataProviderClass = StreamTestDataProvider.class)
+    public void testOpsWithFilter(String name, TestData.OfRef<Integer> data) {
+        exerciseTerminalOps(data, s -> s.filter(pEven), s -> s.toList());
+    }
+
+    public void testMatchesToArray() {
+        Object[] expected = StreamSupport.stream(countTo(1000)).toArray();
+        assertEquals(StreamSupport.stream(countTo(1000)).toList().toArray(), expected);
+        assertEquals(StreamSupport.parallelStream(countTo(1000)).toList().toArray(), expected);
+    }
+
+    public void testNulls() {
+        List<String> list = RefStreams.of("a", null, "b", null).toList();
+        assertEquals(list, Arrays.asList("a", null, "b", null));
+    }
+
+    public void testUnmodifiable() {
+        List<Integer> list = StreamSupport.stream(countTo(10)).toList();
+        assertUnsupported(() -> list.add(11));
+        assertUnsupported(() -> list.set(0, 42));
+        assertUnsupported(() -> list.remove(0));
+        assertUnsupported(() -> list.clear());
+        assertUnsupported(() -> list.subList(0, 5).clear());
+        assertUnsupported(() -> {
+            Iterator<Integer> it = list.iterator();
+            it.next();
+            it.remove();
+        });
+        assertUnsupported(() -> {
+            ListIterator<Integer> it = list.listIterator();
+            it.next();
+            it.set(42);
+        });
+        assertEquals(list.size(), 10);
+    }
+
+    public void testSpliteratorCharacteristics() {
+        List<Integer> list = StreamSupport.stream(countTo(100)).toList();
+        Spliterator<Integer> s = StreamSupport.stream(list).spliterator();
+        assertTrue(s.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(s.hasCharacteristics(Spliterator.SUBSIZED));
+        assertTrue(s.hasCharacteristics(Spliterator.IMMUTABLE));
+        assertEquals(StreamSupport.parallelStream(list).toList(), list);
+    }
+
+    private static void assertUnsupported(Runnable r) {
+        try {
+            r.run();
+            fail("UnsupportedOperationException expected");
+        } catch (UnsupportedOperationException expected) {
+        }
+    }
+}